@@ -68,6 +68,16 @@ public final class ClientProperties {
    */
   public static final String JOB_WORKER_EXECUTION_THREADS = "zeebe.client.worker.threads";
 
+  /**
+   * @see ZeebeClientBuilder#useVirtualThreadsForJobWorkers(boolean)
+   */
+  public static final String JOB_WORKER_VIRTUAL_THREADS = "zeebe.client.worker.virtualThreads";
+
+  /**
+   * @see ZeebeClientBuilder#useDirectPartitionRouting(boolean)
+   */
+  public static final String DIRECT_PARTITION_ROUTING = "zeebe.client.directPartitionRouting";
+
   /**
    * @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int)
    */
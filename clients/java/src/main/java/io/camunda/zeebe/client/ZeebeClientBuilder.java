@@ -123,6 +123,37 @@ public interface ZeebeClientBuilder {
   ZeebeClientBuilder jobWorkerExecutor(
       final ScheduledExecutorService executor, final boolean takeOwnership);
 
+  /**
+   * If enabled, job workers handle each job on a new virtual thread instead of on the job worker
+   * executor, which is then only used for polling and streaming jobs. This lets handlers which
+   * block, e.g. on I/O, handle many jobs concurrently with a small amount of memory. The amount of
+   * jobs a worker handles concurrently is still bounded by its {@link
+   * JobWorkerBuilderStep3#maxJobsActive(int) maxJobsActive}.
+   *
+   * <p>Requires a Java 21 or newer runtime. Default value is false.
+   *
+   * @param useVirtualThreads if true, jobs are handled on virtual threads
+   */
+  ZeebeClientBuilder useVirtualThreadsForJobWorkers(boolean useVirtualThreads);
+
+  /**
+   * If enabled, the client sends commands which target a known partition directly to the gateway
+   * embedded in the broker leading that partition, instead of to the configured gateway. This saves
+   * the hop from the gateway to the partition leader. Currently, this applies to publishing
+   * messages with a correlation key, whose partition is derived from the correlation key in the
+   * same way the gateway does it; all other requests are still sent to the configured gateway.
+   *
+   * <p>The client learns the partition leaders from the topology of the configured gateway. It
+   * expects each broker to run an embedded gateway on the same port as the configured gateway
+   * address, reachable under the broker's advertised host, and it uses the same connection security
+   * and credentials for them. This is meant for trusted clients running inside the cluster's
+   * network. If a leader is unknown, the request is sent to the configured gateway. Default value
+   * is false.
+   *
+   * @param useDirectPartitionRouting if true, commands are routed directly to partition leaders
+   */
+  ZeebeClientBuilder useDirectPartitionRouting(boolean useDirectPartitionRouting);
+
   /**
    * The name of the worker which is used when none is set for a job worker. Default is 'default'.
    */
@@ -149,6 +149,16 @@ public interface ZeebeClientConfiguration {
    */
   boolean ownsJobWorkerExecutor();
 
+  /**
+   * @see ZeebeClientBuilder#useVirtualThreadsForJobWorkers(boolean)
+   */
+  boolean useVirtualThreadsForJobWorkers();
+
+  /**
+   * @see ZeebeClientBuilder#useDirectPartitionRouting(boolean)
+   */
+  boolean useDirectPartitionRouting();
+
   /**
    * @see ZeebeClientBuilder#defaultJobWorkerStreamEnabled(boolean)
    */
@@ -104,5 +104,24 @@ public interface StreamJobsCommandStep1 {
      *     it to the broker.
      */
     StreamJobsCommandStep3 fetchVariables(String... fetchVariables);
+
+    /**
+     * Set the maximum number of jobs which each broker may push to the gateway for this stream
+     * before the gateway has written them to the client's stream.
+     *
+     * <p>This is flow control between the brokers and the gateway: a job counts against the
+     * prefetch until the gateway has written it to the stream, not until the client has handled it.
+     * While the gateway cannot write to the stream, e.g. as the client does not read the jobs fast
+     * enough, no more jobs are pushed to this stream until it is writable again. Jobs which are not
+     * pushed remain activatable by other streams or by polling.
+     *
+     * <p>If no prefetch is set, or it is 0, then the stream is unbounded. Job workers do not set
+     * one, as the jobs they work on are limited by their max jobs active instead.
+     *
+     * @param prefetch the maximum number of jobs in flight from each broker to the gateway
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    StreamJobsCommandStep3 prefetch(int prefetch);
   }
 }
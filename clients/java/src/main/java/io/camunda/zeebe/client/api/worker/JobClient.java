@@ -19,7 +19,9 @@ import io.camunda.zeebe.client.api.ExperimentalApi;
 import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
@@ -114,6 +116,46 @@ public interface JobClient {
    */
   FailJobCommandStep1 newFailCommand(ActivatedJob job);
 
+  /**
+   * Command to complete several jobs at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey, variables)
+   *  .addJob(otherJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is completed as with {@link #newCompleteCommand(long)}, but all jobs are sent with
+   * a single request. The jobs are completed independently of each other: the response contains one
+   * result per job, and a job which cannot be completed does not fail the command. The gateway
+   * rejects commands with more than 1000 jobs.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
+  /**
+   * Command to mark several jobs as failed at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newFailJobsCommand()
+   *  .addJob(jobKey, 3, "error")
+   *  .addJob(otherJobKey, 0, "error")
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is failed as with {@link #newFailCommand(long)}, but all jobs are sent with a
+   * single request. The jobs are failed independently of each other: the response contains one
+   * result per job, and a job which cannot be failed does not fail the command. The gateway rejects
+   * commands with more than 1000 jobs.
+   *
+   * @return a builder for the command
+   */
+  FailJobsCommandStep1 newFailJobsCommand();
+
   /**
    * Command to report a business error (i.e. non-technical) that occurs while processing a job.
    *
@@ -60,6 +60,34 @@ public interface JobWorkerBuilderStep1 {
      * @return the builder for this worker
      */
     JobWorkerBuilderStep3 handler(JobHandler handler);
+
+    /**
+     * Set an asynchronous handler to process the jobs. Instead of processing the job on the calling
+     * thread, the handler returns a stage which completes once the job is processed, e.g. once the
+     * job is completed or marked as failed. Use this to handle jobs via non-blocking I/O, without
+     * occupying a job worker thread per job.
+     *
+     * <p>Example AsyncJobHandler implementation:
+     *
+     * <pre>
+     * public final class PaymentHandler implements AsyncJobHandler
+     * {
+     *   &#64;Override
+     *   public CompletionStage&lt;?&gt; handle(JobClient client, ActivatedJob job)
+     *   {
+     *     return paymentService
+     *       .chargeAsync(job.getVariablesAsMap())
+     *       .thenCompose(receipt -&gt; client.newCompleteCommand(job).variables(receipt).send());
+     *   }
+     * };
+     * </pre>
+     *
+     * The handler must be thread-safe.
+     *
+     * @param handler the handle to process the jobs
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 asyncHandler(AsyncJobHandler handler);
   }
 
   interface JobWorkerBuilderStep3 extends CommandWithOneOrMoreTenantsStep<JobWorkerBuilderStep3> {
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl;
+
+import io.camunda.zeebe.client.api.response.BrokerInfo;
+import io.camunda.zeebe.client.api.response.PartitionInfo;
+import io.camunda.zeebe.client.api.response.Topology;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.grpc.ManagedChannel;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Picks the gateway to send a request for a given partition to: the gateway embedded in the broker
+ * leading the partition, if it is known, otherwise the configured gateway.
+ *
+ * <p>The partition leaders are taken from the topology, which is refreshed in the background once
+ * it is older than the refresh interval. A stale topology only costs performance, not correctness:
+ * an embedded gateway forwards requests for partitions it does not lead to their leader, like any
+ * other gateway does.
+ *
+ * @see io.camunda.zeebe.client.ZeebeClientBuilder#useDirectPartitionRouting(boolean)
+ */
+public final class PartitionRouter implements Closeable {
+
+  static final Duration TOPOLOGY_REFRESH_INTERVAL = Duration.ofSeconds(10);
+  private static final int START_PARTITION_ID = 1;
+
+  private final GatewayStub gatewayStub;
+  private final Supplier<CompletionStage<Topology>> topologySupplier;
+  private final Function<String, ManagedChannel> channelFactory;
+  private final Function<ManagedChannel, GatewayStub> stubFactory;
+  private final Map<String, ManagedChannel> channels = new ConcurrentHashMap<>();
+  private final Map<String, GatewayStub> stubs = new ConcurrentHashMap<>();
+  private final AtomicBoolean isRefreshing = new AtomicBoolean();
+
+  private volatile Map<Integer, String> leaders = new HashMap<>();
+  private volatile int partitionsCount;
+  private volatile long lastRefreshNanos;
+
+  /**
+   * @param gatewayStub the stub of the configured gateway
+   * @param topologySupplier requests the current topology from the configured gateway
+   * @param channelFactory creates a channel to the gateway embedded in the broker with the given
+   *     host
+   * @param stubFactory creates a stub for the given channel
+   */
+  public PartitionRouter(
+      final GatewayStub gatewayStub,
+      final Supplier<CompletionStage<Topology>> topologySupplier,
+      final Function<String, ManagedChannel> channelFactory,
+      final Function<ManagedChannel, GatewayStub> stubFactory) {
+    this.gatewayStub = gatewayStub;
+    this.topologySupplier = topologySupplier;
+    this.channelFactory = channelFactory;
+    this.stubFactory = stubFactory;
+    refreshTopology();
+  }
+
+  /**
+   * @return the stub to publish a message with the given correlation key
+   */
+  public GatewayStub forCorrelationKey(final String correlationKey) {
+    if (System.nanoTime() - lastRefreshNanos > TOPOLOGY_REFRESH_INTERVAL.toNanos()) {
+      refreshTopology();
+    }
+
+    final int currentPartitionsCount = partitionsCount;
+    if (currentPartitionsCount == 0) {
+      return gatewayStub;
+    }
+
+    return forPartition(getSubscriptionPartitionId(correlationKey, currentPartitionsCount));
+  }
+
+  /**
+   * @return the stub to send a request for the given partition to
+   */
+  GatewayStub forPartition(final int partitionId) {
+    final String leaderHost = leaders.get(partitionId);
+    if (leaderHost == null) {
+      return gatewayStub;
+    }
+
+    return stubs.computeIfAbsent(
+        leaderHost, host -> stubFactory.apply(channels.computeIfAbsent(host, channelFactory)));
+  }
+
+  @Override
+  public void close() {
+    channels.values().forEach(ManagedChannel::shutdownNow);
+  }
+
+  /**
+   * Determines the partition of a message in the same way as the gateway does, which in turn
+   * mirrors the broker's {@code SubscriptionUtil}: the hash code of the UTF-8 encoded correlation
+   * key, modulo the partition count.
+   */
+  static int getSubscriptionPartitionId(final String correlationKey, final int partitionCount) {
+    int hashCode = 0;
+    for (final byte b : correlationKey.getBytes(StandardCharsets.UTF_8)) {
+      hashCode = 31 * hashCode + b;
+    }
+
+    return Math.abs(hashCode % partitionCount) + START_PARTITION_ID;
+  }
+
+  private void refreshTopology() {
+    if (!isRefreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    lastRefreshNanos = System.nanoTime();
+    topologySupplier
+        .get()
+        .whenComplete(
+            (topology, error) -> {
+              if (error == null) {
+                updateLeaders(topology);
+              } else {
+                Loggers.LOGGER.debug(
+                    "Failed to refresh topology for direct partition routing; will retry", error);
+              }
+              isRefreshing.set(false);
+            });
+  }
+
+  private void updateLeaders(final Topology topology) {
+    final Map<Integer, String> newLeaders = new HashMap<>();
+    for (final BrokerInfo broker : topology.getBrokers()) {
+      for (final PartitionInfo partition : broker.getPartitions()) {
+        if (partition.isLeader()) {
+          newLeaders.put(partition.getPartitionId(), broker.getHost());
+        }
+      }
+    }
+
+    leaders = newLeaders;
+    partitionsCount = topology.getPartitionsCount();
+  }
+}
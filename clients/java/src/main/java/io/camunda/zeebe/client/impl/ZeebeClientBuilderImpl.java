@@ -24,10 +24,12 @@ import static io.camunda.zeebe.client.ClientProperties.DEFAULT_JOB_WORKER_TENANT
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_MESSAGE_TIME_TO_LIVE;
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_TENANT_ID;
+import static io.camunda.zeebe.client.ClientProperties.DIRECT_PARTITION_ROUTING;
 import static io.camunda.zeebe.client.ClientProperties.GATEWAY_ADDRESS;
 import static io.camunda.zeebe.client.ClientProperties.GRPC_ADDRESS;
 import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_EXECUTION_THREADS;
 import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE;
+import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_VIRTUAL_THREADS;
 import static io.camunda.zeebe.client.ClientProperties.KEEP_ALIVE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_METADATA_SIZE;
@@ -69,6 +71,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   public static final String OVERRIDE_AUTHORITY_VAR = "ZEEBE_OVERRIDE_AUTHORITY";
   public static final String CAMUNDA_CLIENT_WORKER_STREAM_ENABLED =
       "ZEEBE_CLIENT_WORKER_STREAM_ENABLED";
+  public static final String JOB_WORKER_VIRTUAL_THREADS_VAR = "ZEEBE_CLIENT_WORKER_VIRTUAL_THREADS";
+  public static final String DIRECT_PARTITION_ROUTING_VAR = "ZEEBE_CLIENT_DIRECT_PARTITION_ROUTING";
   public static final String DEFAULT_GATEWAY_ADDRESS = "0.0.0.0:26500";
   public static final URI DEFAULT_GRPC_ADDRESS =
       getURIFromString("https://" + DEFAULT_GATEWAY_ADDRESS);
@@ -114,6 +118,8 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private boolean grpcAddressUsed = false;
   private ScheduledExecutorService jobWorkerExecutor;
   private boolean ownsJobWorkerExecutor;
+  private boolean useVirtualThreadsForJobWorkers;
+  private boolean useDirectPartitionRouting;
   private boolean useDefaultRetryPolicy;
 
   @Override
@@ -236,6 +242,16 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return ownsJobWorkerExecutor;
   }
 
+  @Override
+  public boolean useVirtualThreadsForJobWorkers() {
+    return useVirtualThreadsForJobWorkers;
+  }
+
+  @Override
+  public boolean useDirectPartitionRouting() {
+    return useDirectPartitionRouting;
+  }
+
   @Override
   public boolean getDefaultJobWorkerStreamEnabled() {
     return streamEnabled;
@@ -286,6 +302,16 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
         JOB_WORKER_EXECUTION_THREADS,
         value -> numJobWorkerExecutionThreads(Integer.parseInt(value)));
 
+    BuilderUtils.applyIfNotNull(
+        properties,
+        JOB_WORKER_VIRTUAL_THREADS,
+        value -> useVirtualThreadsForJobWorkers(Boolean.parseBoolean(value)));
+
+    BuilderUtils.applyIfNotNull(
+        properties,
+        DIRECT_PARTITION_ROUTING,
+        value -> useDirectPartitionRouting(Boolean.parseBoolean(value)));
+
     BuilderUtils.applyIfNotNull(
         properties,
         JOB_WORKER_MAX_JOBS_ACTIVE,
@@ -413,6 +439,18 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder useVirtualThreadsForJobWorkers(final boolean useVirtualThreads) {
+    useVirtualThreadsForJobWorkers = useVirtualThreads;
+    return this;
+  }
+
+  @Override
+  public ZeebeClientBuilder useDirectPartitionRouting(final boolean useDirectPartitionRouting) {
+    this.useDirectPartitionRouting = useDirectPartitionRouting;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     if (workerName != null) {
@@ -582,6 +620,14 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
         CAMUNDA_CLIENT_WORKER_STREAM_ENABLED,
         value -> defaultJobWorkerStreamEnabled(Boolean.parseBoolean(value)));
 
+    BuilderUtils.applyIfNotNull(
+        JOB_WORKER_VIRTUAL_THREADS_VAR,
+        value -> useVirtualThreadsForJobWorkers(Boolean.parseBoolean(value)));
+
+    BuilderUtils.applyIfNotNull(
+        DIRECT_PARTITION_ROUTING_VAR,
+        value -> useDirectPartitionRouting(Boolean.parseBoolean(value)));
+
     BuilderUtils.applyIfNotNull(
         USE_DEFAULT_RETRY_POLICY_VAR, value -> useDefaultRetryPolicy(Boolean.parseBoolean(value)));
   }
@@ -606,6 +652,9 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     BuilderUtils.appendProperty(sb, "maxMetadataSize", maxMetadataSize);
     BuilderUtils.appendProperty(sb, "jobWorkerExecutor", jobWorkerExecutor);
     BuilderUtils.appendProperty(sb, "ownsJobWorkerExecutor", ownsJobWorkerExecutor);
+    BuilderUtils.appendProperty(
+        sb, "useVirtualThreadsForJobWorkers", useVirtualThreadsForJobWorkers);
+    BuilderUtils.appendProperty(sb, "useDirectPartitionRouting", useDirectPartitionRouting);
     BuilderUtils.appendProperty(sb, "streamEnabled", streamEnabled);
     BuilderUtils.appendProperty(sb, "preferRestOverGrpc", preferRestOverGrpc);
 
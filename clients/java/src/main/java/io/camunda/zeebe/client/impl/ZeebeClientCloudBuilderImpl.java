@@ -169,6 +169,18 @@ public class ZeebeClientCloudBuilderImpl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder useVirtualThreadsForJobWorkers(final boolean useVirtualThreads) {
+    innerBuilder.useVirtualThreadsForJobWorkers(useVirtualThreads);
+    return this;
+  }
+
+  @Override
+  public ZeebeClientBuilder useDirectPartitionRouting(final boolean useDirectPartitionRouting) {
+    innerBuilder.useDirectPartitionRouting(useDirectPartitionRouting);
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     innerBuilder.defaultJobWorkerName(workerName);
@@ -30,6 +30,7 @@ import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.command.ClockPinCommandStep1;
 import io.camunda.zeebe.client.api.command.ClockResetCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteUserTaskCommandStep1;
 import io.camunda.zeebe.client.api.command.CorrelateMessageCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
@@ -39,6 +40,7 @@ import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.EvaluateDecisionCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.MigrateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ModifyProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1;
@@ -96,6 +98,7 @@ import io.camunda.zeebe.client.impl.search.query.ProcessInstanceQueryImpl;
 import io.camunda.zeebe.client.impl.search.query.UserTaskQueryImpl;
 import io.camunda.zeebe.client.impl.util.ExecutorResource;
 import io.camunda.zeebe.client.impl.util.VersionUtil;
+import io.camunda.zeebe.client.impl.util.VirtualThreads;
 import io.camunda.zeebe.client.impl.worker.JobClientImpl;
 import io.camunda.zeebe.client.impl.worker.JobWorkerBuilderImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
@@ -115,6 +118,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -125,10 +130,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
   private final GatewayStub asyncStub;
   private final ManagedChannel channel;
   private final ExecutorResource executorResource;
+  private final ExecutorService virtualThreadExecutor;
   private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
   private final JobClient jobClient;
   private final CredentialsProvider credentialsProvider;
   private final HttpClient httpClient;
+  private final PartitionRouter partitionRouter;
 
   public ZeebeClientImpl(final ZeebeClientConfiguration configuration) {
     this(configuration, buildChannel(configuration));
@@ -178,6 +185,10 @@ public final class ZeebeClientImpl implements ZeebeClient {
     asyncStub = gatewayStub;
     this.executorResource = executorResource;
     this.httpClient = httpClient;
+    virtualThreadExecutor =
+        config.useVirtualThreadsForJobWorkers()
+            ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+            : null;
 
     if (config.getCredentialsProvider() != null) {
       credentialsProvider = config.getCredentialsProvider();
@@ -186,6 +197,17 @@ public final class ZeebeClientImpl implements ZeebeClient {
     }
     jobClient = newJobClient();
     this.httpClient.start();
+    partitionRouter = config.useDirectPartitionRouting() ? buildPartitionRouter() : null;
+  }
+
+  private PartitionRouter buildPartitionRouter() {
+    // the brokers' embedded gateways are expected to listen on the same port as the configured one
+    final int gatewayPort = config.getGrpcAddress().getPort();
+    return new PartitionRouter(
+        asyncStub,
+        () -> newTopologyRequest().send(),
+        host -> buildChannel(config, host, gatewayPort),
+        channel -> buildGatewayStub(channel, config));
   }
 
   private static HttpClient buildHttpClient(final ZeebeClientConfiguration config) {
@@ -196,8 +218,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
     final URI address;
     address = config.getGrpcAddress();
 
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(address.getHost(), address.getPort());
+    return buildChannel(config, address.getHost(), address.getPort());
+  }
+
+  private static ManagedChannel buildChannel(
+      final ZeebeClientConfiguration config, final String host, final int port) {
+    final NettyChannelBuilder channelBuilder = NettyChannelBuilder.forAddress(host, port);
 
     configureConnectionSecurity(config, channelBuilder);
     channelBuilder.keepAliveTime(config.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
@@ -271,7 +297,8 @@ public final class ZeebeClientImpl implements ZeebeClient {
         ClassLoader.getSystemClassLoader().getResource("gateway-service-config.json");
     if (defaultServiceConfig == null) {
       Loggers.LOGGER.info(
-          "No default service config found on classpath; will not configure a default retry policy");
+          "No default service config found on classpath; will not configure a default retry"
+              + " policy");
       return new HashMap<>();
     }
 
@@ -280,7 +307,8 @@ public final class ZeebeClientImpl implements ZeebeClient {
           defaultServiceConfig, new TypeReference<Map<String, Object>>() {});
     } catch (final IOException e) {
       Loggers.LOGGER.warn(
-          "Failed to read default service config from classpath; will not configure a default retry policy",
+          "Failed to read default service config from classpath; will not configure a default retry"
+              + " policy",
           e);
       return new HashMap<>();
     }
@@ -325,6 +353,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         });
 
     executorResource.close();
+    if (partitionRouter != null) {
+      partitionRouter.close();
+    }
+    if (virtualThreadExecutor != null) {
+      virtualThreadExecutor.shutdownNow();
+    }
     channel.shutdownNow();
 
     try {
@@ -410,6 +444,14 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   @Override
   public PublishMessageCommandStep1 newPublishMessageCommand() {
+    if (partitionRouter != null) {
+      return new PublishMessageCommandImpl(
+          partitionRouter::forCorrelationKey,
+          config,
+          jsonMapper,
+          credentialsProvider::shouldRetryRequest);
+    }
+
     return new PublishMessageCommandImpl(
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
   }
@@ -472,7 +514,10 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   @Override
   public JobWorkerBuilderStep1 newWorker() {
-    return new JobWorkerBuilderImpl(config, jobClient, executorResource.executor(), closeables);
+    final Executor jobHandlingExecutor =
+        virtualThreadExecutor != null ? virtualThreadExecutor : executorResource.executor();
+    return new JobWorkerBuilderImpl(
+        config, jobClient, executorResource.executor(), jobHandlingExecutor, closeables);
   }
 
   @Override
@@ -585,6 +630,16 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return newFailCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
+  @Override
+  public FailJobsCommandStep1 newFailJobsCommand() {
+    return jobClient.newFailJobsCommand();
+  }
+
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(final long jobKey) {
     return jobClient.newThrowErrorCommand(jobKey);
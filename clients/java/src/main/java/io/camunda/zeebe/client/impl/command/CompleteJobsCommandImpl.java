@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.JobBatchResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.http.HttpClient;
+import io.camunda.zeebe.client.impl.http.HttpZeebeFuture;
+import io.camunda.zeebe.client.impl.response.JobBatchResponseImpl;
+import io.camunda.zeebe.client.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.client.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.hc.client5.http.config.RequestConfig;
+
+public final class CompleteJobsCommandImpl implements CompleteJobsCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final CompleteJobsRequest.Builder grpcRequestObjectBuilder;
+  private final Predicate<StatusCode> retryPredicate;
+  private Duration requestTimeout;
+  private final HttpClient httpClient;
+  private final RequestConfig.Builder httpRequestConfig;
+  private final JobBatchCompletionRequest httpRequestObject;
+  private final boolean useRest;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    grpcRequestObjectBuilder = CompleteJobsRequest.newBuilder();
+    this.httpClient = httpClient;
+    httpRequestConfig = httpClient.newRequestConfig();
+    httpRequestObject = new JobBatchCompletionRequest();
+    useRest = preferRestOverGrpc;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey) {
+    grpcRequestObjectBuilder.addJobs(CompleteJobRequest.newBuilder().setJobKey(jobKey));
+    httpRequestObject.addJobsItem(new JobBatchCompletionItem().jobKey(jobKey));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final String variables) {
+    final String json = jsonMapper.validateJson("variables", variables);
+    grpcRequestObjectBuilder.addJobs(
+        CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(json));
+    // see CompleteJobCommandImpl: REST requires the variables to be a JSON object
+    final JobBatchCompletionItem item = new JobBatchCompletionItem().jobKey(jobKey);
+    if (useRest) {
+      item.variables(jsonMapper.fromJsonAsMap(json));
+    }
+    httpRequestObject.addJobsItem(item);
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final Map<String, Object> variables) {
+    grpcRequestObjectBuilder.addJobs(
+        CompleteJobRequest.newBuilder()
+            .setJobKey(jobKey)
+            .setVariables(jsonMapper.toJson(variables)));
+    httpRequestObject.addJobsItem(new JobBatchCompletionItem().jobKey(jobKey).variables(variables));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<JobBatchResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    httpRequestConfig.setResponseTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<JobBatchResponse> send() {
+    if (useRest) {
+      return sendRestRequest();
+    } else {
+      return sendGrpcRequest();
+    }
+  }
+
+  private ZeebeFuture<JobBatchResponse> sendRestRequest() {
+    final HttpZeebeFuture<JobBatchResponse> result = new HttpZeebeFuture<>();
+    httpClient.post(
+        "/jobs/completion",
+        jsonMapper.toJson(httpRequestObject),
+        httpRequestConfig.build(),
+        io.camunda.zeebe.client.protocol.rest.JobBatchResponse.class,
+        JobBatchResponseImpl::ofRest,
+        result);
+    return result;
+  }
+
+  private ZeebeFuture<JobBatchResponse> sendGrpcRequest() {
+    final CompleteJobsRequest request = grpcRequestObjectBuilder.build();
+
+    final RetriableClientFutureImpl<JobBatchResponse, GatewayOuterClass.CompleteJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                response -> JobBatchResponseImpl.ofGrpc(response.getResultsList()),
+                retryPredicate,
+                streamObserver -> sendGrpcRequest(request, streamObserver));
+
+    sendGrpcRequest(request, future);
+    return future;
+  }
+
+  private void sendGrpcRequest(
+      final CompleteJobsRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+}
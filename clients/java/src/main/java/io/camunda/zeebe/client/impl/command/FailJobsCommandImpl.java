@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.command;
+
+import io.camunda.zeebe.client.CredentialsProvider.StatusCode;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.FailJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.JobBatchResponse;
+import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
+import io.camunda.zeebe.client.impl.http.HttpClient;
+import io.camunda.zeebe.client.impl.http.HttpZeebeFuture;
+import io.camunda.zeebe.client.impl.response.JobBatchResponseImpl;
+import io.camunda.zeebe.client.protocol.rest.JobBatchFailItem;
+import io.camunda.zeebe.client.protocol.rest.JobBatchFailRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.hc.client5.http.config.RequestConfig;
+
+public final class FailJobsCommandImpl implements FailJobsCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final FailJobsRequest.Builder grpcRequestObjectBuilder;
+  private final Predicate<StatusCode> retryPredicate;
+  private Duration requestTimeout;
+  private final HttpClient httpClient;
+  private final RequestConfig.Builder httpRequestConfig;
+  private final JobBatchFailRequest httpRequestObject;
+  private final boolean useRest;
+
+  public FailJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    grpcRequestObjectBuilder = FailJobsRequest.newBuilder();
+    this.httpClient = httpClient;
+    httpRequestConfig = httpClient.newRequestConfig();
+    httpRequestObject = new JobBatchFailRequest();
+    useRest = preferRestOverGrpc;
+  }
+
+  @Override
+  public FailJobsCommandStep1 addJob(
+      final long jobKey, final int remainingRetries, final String errorMessage) {
+    return addJob(jobKey, remainingRetries, errorMessage, Duration.ZERO);
+  }
+
+  @Override
+  public FailJobsCommandStep1 addJob(
+      final long jobKey,
+      final int remainingRetries,
+      final String errorMessage,
+      final Duration retryBackoff) {
+    grpcRequestObjectBuilder.addJobs(
+        FailJobRequest.newBuilder()
+            .setJobKey(jobKey)
+            .setRetries(remainingRetries)
+            .setErrorMessage(errorMessage == null ? "" : errorMessage)
+            .setRetryBackOff(retryBackoff.toMillis()));
+    httpRequestObject.addJobsItem(
+        new JobBatchFailItem()
+            .jobKey(jobKey)
+            .retries(remainingRetries)
+            .errorMessage(errorMessage)
+            .retryBackOff(retryBackoff.toMillis()));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<JobBatchResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    httpRequestConfig.setResponseTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<JobBatchResponse> send() {
+    if (useRest) {
+      return sendRestRequest();
+    } else {
+      return sendGrpcRequest();
+    }
+  }
+
+  private ZeebeFuture<JobBatchResponse> sendRestRequest() {
+    final HttpZeebeFuture<JobBatchResponse> result = new HttpZeebeFuture<>();
+    httpClient.post(
+        "/jobs/failure",
+        jsonMapper.toJson(httpRequestObject),
+        httpRequestConfig.build(),
+        io.camunda.zeebe.client.protocol.rest.JobBatchResponse.class,
+        JobBatchResponseImpl::ofRest,
+        result);
+    return result;
+  }
+
+  private ZeebeFuture<JobBatchResponse> sendGrpcRequest() {
+    final FailJobsRequest request = grpcRequestObjectBuilder.build();
+
+    final RetriableClientFutureImpl<JobBatchResponse, GatewayOuterClass.FailJobsResponse> future =
+        new RetriableClientFutureImpl<>(
+            response -> JobBatchResponseImpl.ofGrpc(response.getResultsList()),
+            retryPredicate,
+            streamObserver -> sendGrpcRequest(request, streamObserver));
+
+    sendGrpcRequest(request, future);
+    return future;
+  }
+
+  private void sendGrpcRequest(
+      final FailJobsRequest request,
+      final StreamObserver<GatewayOuterClass.FailJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .failJobs(request, streamObserver);
+  }
+}
@@ -32,12 +32,13 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public final class PublishMessageCommandImpl extends CommandWithVariables<PublishMessageCommandImpl>
     implements PublishMessageCommandStep1, PublishMessageCommandStep2, PublishMessageCommandStep3 {
 
-  private final GatewayStub asyncStub;
+  private final Function<String, GatewayStub> stubForCorrelationKey;
   private final Predicate<StatusCode> retryPredicate;
   private final PublishMessageRequest.Builder builder;
   private Duration requestTimeout;
@@ -47,8 +48,20 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
       final ZeebeClientConfiguration configuration,
       final JsonMapper jsonMapper,
       final Predicate<StatusCode> retryPredicate) {
+    this(correlationKey -> asyncStub, configuration, jsonMapper, retryPredicate);
+  }
+
+  /**
+   * @param stubForCorrelationKey picks the stub to publish a message with the given correlation
+   *     key, e.g. to send it to the leader of the message's partition directly
+   */
+  public PublishMessageCommandImpl(
+      final Function<String, GatewayStub> stubForCorrelationKey,
+      final ZeebeClientConfiguration configuration,
+      final JsonMapper jsonMapper,
+      final Predicate<StatusCode> retryPredicate) {
     super(jsonMapper);
-    this.asyncStub = asyncStub;
+    this.stubForCorrelationKey = stubForCorrelationKey;
     this.retryPredicate = retryPredicate;
     builder = PublishMessageRequest.newBuilder();
     requestTimeout = configuration.getDefaultRequestTimeout();
@@ -121,7 +134,8 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
   private void send(
       final PublishMessageRequest request,
       final StreamObserver<GatewayOuterClass.PublishMessageResponse> streamObserver) {
-    asyncStub
+    stubForCorrelationKey
+        .apply(request.getCorrelationKey())
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .publishMessage(request, streamObserver);
   }
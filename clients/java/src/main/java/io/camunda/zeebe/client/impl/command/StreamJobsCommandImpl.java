@@ -148,6 +148,12 @@ public final class StreamJobsCommandImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public StreamJobsCommandStep3 prefetch(final int prefetch) {
+    builder.setPrefetch(prefetch);
+    return this;
+  }
+
   @Override
   public StreamJobsCommandStep3 tenantId(final String tenantId) {
     customTenantIds.add(tenantId);
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.response;
+
+import io.camunda.zeebe.client.api.response.JobBatchResponse;
+import io.camunda.zeebe.client.api.response.JobCommandResult;
+import io.camunda.zeebe.client.protocol.rest.JobBatchResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.grpc.Status.Code;
+import java.util.List;
+
+public final class JobBatchResponseImpl implements JobBatchResponse {
+
+  private final List<JobCommandResult> results;
+
+  private JobBatchResponseImpl(final List<JobCommandResult> results) {
+    this.results = results;
+  }
+
+  @Override
+  public List<JobCommandResult> getResults() {
+    return results;
+  }
+
+  public static JobBatchResponseImpl ofGrpc(
+      final List<GatewayOuterClass.JobCommandResult> results) {
+    return new JobBatchResponseImpl(
+        results.stream()
+            .<JobCommandResult>map(
+                result ->
+                    new JobCommandResultImpl(
+                        result.getJobKey(),
+                        result.getCode() == Code.OK.value(),
+                        result.getMessage()))
+            .toList());
+  }
+
+  public static JobBatchResponseImpl ofRest(
+      final io.camunda.zeebe.client.protocol.rest.JobBatchResponse response) {
+    final List<JobBatchResult> results =
+        response.getResults() == null ? List.of() : response.getResults();
+    return new JobBatchResponseImpl(
+        results.stream()
+            .<JobCommandResult>map(
+                result ->
+                    new JobCommandResultImpl(
+                        result.getJobKey(),
+                        result.getStatus() != null && result.getStatus() / 100 == 2,
+                        result.getDetail() == null ? "" : result.getDetail()))
+            .toList());
+  }
+
+  private record JobCommandResultImpl(long jobKey, boolean success, String message)
+      implements JobCommandResult {
+
+    @Override
+    public long getJobKey() {
+      return jobKey;
+    }
+
+    @Override
+    public boolean isSuccess() {
+      return success;
+    }
+
+    @Override
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.util;
+
+import io.camunda.zeebe.client.api.command.ClientException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors backed by virtual threads. The client is compiled for older Java versions, so
+ * these are looked up reflectively, and only available when running on Java 21 or newer.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  /**
+   * @return an executor which runs each task on a new virtual thread
+   * @throws ClientException if the current runtime does not support virtual threads
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    final Method factory;
+    try {
+      factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (final NoSuchMethodException e) {
+      throw new ClientException(
+          String.format(
+              "Expected to use virtual threads, but they are not supported by the current Java"
+                  + " runtime '%s'; use Java 21 or newer, or disable virtual threads",
+              System.getProperty("java.version")),
+          e);
+    }
+
+    try {
+      return (ExecutorService) factory.invoke(null);
+    } catch (final IllegalAccessException | InvocationTargetException e) {
+      throw new ClientException("Failed to create virtual thread executor", e);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A runnable whose work is not necessarily done once {@link #run()} returns, e.g. because it
+ * handles a job asynchronously. Executors which bound the amount of in-flight work should consider
+ * it done only once the stage returned by {@link #runAsync()} completes.
+ */
+@FunctionalInterface
+interface AsyncRunnable extends Runnable {
+
+  /**
+   * @return a stage which completes once the work is done; never completes exceptionally
+   */
+  CompletionStage<Void> runAsync();
+
+  @Override
+  default void run() {
+    runAsync();
+  }
+}
@@ -16,6 +16,7 @@
 package io.camunda.zeebe.client.impl.worker;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
@@ -44,16 +45,30 @@ final class BlockingExecutor implements Executor {
                 "Not able to acquire lease in %d%s", timeoutMillis, TIMEOUT_UNIT.toString()));
       }
 
-      wrappedExecutor.execute(
-          () -> {
-            try {
-              command.run();
-            } finally {
-              semaphore.release();
-            }
-          });
+      wrappedExecutor.execute(() -> runAndRelease(command));
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
     }
   }
+
+  private void runAndRelease(final Runnable command) {
+    if (!(command instanceof AsyncRunnable)) {
+      try {
+        command.run();
+      } finally {
+        semaphore.release();
+      }
+      return;
+    }
+
+    // asynchronous work holds on to its lease until it's done, not only until it returns
+    final CompletionStage<Void> completion;
+    try {
+      completion = ((AsyncRunnable) command).runAsync();
+    } catch (final RuntimeException | Error e) {
+      semaphore.release();
+      throw e;
+    }
+    completion.whenComplete((ignored, error) -> semaphore.release());
+  }
 }
@@ -16,11 +16,16 @@
 package io.camunda.zeebe.client.impl.worker;
 
 import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.AsyncJobHandler;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
 import io.camunda.zeebe.client.impl.Loggers;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 
 public final class JobRunnableFactoryImpl implements JobRunnableFactory {
@@ -29,14 +34,26 @@ public final class JobRunnableFactoryImpl implements JobRunnableFactory {
 
   private final JobClient jobClient;
   private final JobHandler handler;
+  private final AsyncJobHandler asyncHandler;
 
   public JobRunnableFactoryImpl(final JobClient jobClient, final JobHandler handler) {
     this.jobClient = jobClient;
     this.handler = handler;
+    asyncHandler = null;
+  }
+
+  public JobRunnableFactoryImpl(final JobClient jobClient, final AsyncJobHandler asyncHandler) {
+    this.jobClient = jobClient;
+    this.asyncHandler = asyncHandler;
+    handler = null;
   }
 
   @Override
   public Runnable create(final ActivatedJob job, final Runnable doneCallback) {
+    if (asyncHandler != null) {
+      return (AsyncRunnable) () -> executeJobAsync(job, doneCallback);
+    }
+
     return () -> executeJob(job, doneCallback);
   }
 
@@ -44,23 +61,63 @@ public final class JobRunnableFactoryImpl implements JobRunnableFactory {
     try {
       handler.handle(jobClient, job);
     } catch (final Exception e) {
-      LOG.warn(
-          "Worker {} failed to handle job with key {} of type {}, sending fail command to broker",
-          job.getWorker(),
-          job.getKey(),
-          job.getType(),
-          e);
-      final StringWriter stringWriter = new StringWriter();
-      final PrintWriter printWriter = new PrintWriter(stringWriter);
-      e.printStackTrace(printWriter);
-      final String message = stringWriter.toString();
-      jobClient
-          .newFailCommand(job.getKey())
-          .retries(job.getRetries() - 1)
-          .errorMessage(message)
-          .send();
+      failJob(job, e);
     } finally {
       doneCallback.run();
     }
   }
+
+  private CompletionStage<Void> executeJobAsync(
+      final ActivatedJob job, final Runnable doneCallback) {
+    final CompletionStage<?> result;
+    try {
+      result =
+          Objects.requireNonNull(
+              asyncHandler.handle(jobClient, job),
+              "Expected the job handler to return a completion stage, but it returned null");
+    } catch (final Exception e) {
+      try {
+        failJob(job, e);
+      } finally {
+        doneCallback.run();
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return result.handle(
+        (ignored, error) -> {
+          try {
+            if (error != null) {
+              failJob(job, unwrap(error));
+            }
+          } finally {
+            doneCallback.run();
+          }
+          return null;
+        });
+  }
+
+  private void failJob(final ActivatedJob job, final Throwable error) {
+    LOG.warn(
+        "Worker {} failed to handle job with key {} of type {}, sending fail command to broker",
+        job.getWorker(),
+        job.getKey(),
+        job.getType(),
+        error);
+    final StringWriter stringWriter = new StringWriter();
+    final PrintWriter printWriter = new PrintWriter(stringWriter);
+    error.printStackTrace(printWriter);
+    final String message = stringWriter.toString();
+    jobClient
+        .newFailCommand(job.getKey())
+        .retries(job.getRetries() - 1)
+        .errorMessage(message)
+        .send();
+  }
+
+  private static Throwable unwrap(final Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
 }
@@ -21,6 +21,7 @@ import static io.camunda.zeebe.client.impl.command.ArgumentUtil.ensureNotNullNor
 import static io.camunda.zeebe.client.impl.command.ArgumentUtil.ensurePositive;
 
 import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.worker.AsyncJobHandler;
 import io.camunda.zeebe.client.api.worker.BackoffSupplier;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.api.worker.JobHandler;
@@ -45,9 +46,11 @@ public final class JobWorkerBuilderImpl
   public static final Duration DEFAULT_STREAMING_TIMEOUT = Duration.ofHours(8);
   private final JobClient jobClient;
   private final ScheduledExecutorService executorService;
+  private final Executor jobHandlingExecutor;
   private final List<Closeable> closeables;
   private String jobType;
   private JobHandler handler;
+  private AsyncJobHandler asyncHandler;
   private Duration timeout;
   private String workerName;
   private int maxJobsActive;
@@ -66,8 +69,18 @@ public final class JobWorkerBuilderImpl
       final JobClient jobClient,
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables) {
+    this(configuration, jobClient, executorService, executorService, closeables);
+  }
+
+  public JobWorkerBuilderImpl(
+      final ZeebeClientConfiguration configuration,
+      final JobClient jobClient,
+      final ScheduledExecutorService executorService,
+      final Executor jobHandlingExecutor,
+      final List<Closeable> closeables) {
     this.jobClient = jobClient;
     this.executorService = executorService;
+    this.jobHandlingExecutor = jobHandlingExecutor;
     this.closeables = closeables;
 
     timeout = configuration.getDefaultJobTimeout();
@@ -91,6 +104,14 @@ public final class JobWorkerBuilderImpl
   @Override
   public JobWorkerBuilderStep3 handler(final JobHandler handler) {
     this.handler = handler;
+    asyncHandler = null;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 asyncHandler(final AsyncJobHandler handler) {
+    asyncHandler = handler;
+    this.handler = null;
     return this;
   }
 
@@ -167,13 +188,16 @@ public final class JobWorkerBuilderImpl
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
-    ensureNotNull("jobHandler", handler);
+    ensureNotNull("jobHandler", handler != null ? handler : asyncHandler);
     ensurePositive("timeout", timeout);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final JobRunnableFactory jobRunnableFactory =
+        handler != null
+            ? new JobRunnableFactoryImpl(jobClient, handler)
+            : new JobRunnableFactoryImpl(jobClient, asyncHandler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -202,10 +226,10 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      jobExecutor = new BlockingExecutor(jobHandlingExecutor, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      jobExecutor = jobHandlingExecutor;
     }
 
     final JobWorkerImpl jobWorker =
@@ -20,6 +20,7 @@ import static io.camunda.zeebe.client.ClientProperties.DEFAULT_JOB_WORKER_TENANT
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.client.ClientProperties.DEFAULT_TENANT_ID;
 import static io.camunda.zeebe.client.ClientProperties.GRPC_ADDRESS;
+import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_VIRTUAL_THREADS;
 import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.MAX_METADATA_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.PREFER_REST_OVER_GRPC;
@@ -193,6 +194,21 @@ public final class ZeebeClientTest extends ClientTest {
     assertThat(builder.getDefaultJobWorkerStreamEnabled()).isTrue();
   }
 
+  @Test
+  public void shouldUseVirtualThreadsForJobWorkersWithProperty() {
+    // given
+    final Properties properties = new Properties();
+    properties.putIfAbsent(JOB_WORKER_VIRTUAL_THREADS, "true");
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    builder.withProperties(properties);
+
+    // when
+    builder.build();
+
+    // then
+    assertThat(builder.useVirtualThreadsForJobWorkers()).isTrue();
+  }
+
   @Test
   public void shouldEnableStreamingWithEnvironmentVariableWhenApplied() {
     // given
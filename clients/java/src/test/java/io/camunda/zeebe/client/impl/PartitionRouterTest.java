@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.client.api.response.Topology;
+import io.camunda.zeebe.client.impl.response.TopologyImpl;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class PartitionRouterTest {
+
+  private final ManagedChannel gatewayChannel = InProcessChannelBuilder.forName("gateway").build();
+  private final GatewayStub gatewayStub = GatewayGrpc.newStub(gatewayChannel);
+  private final List<String> connectedHosts = new CopyOnWriteArrayList<>();
+  private final CompletableFuture<Topology> topology = new CompletableFuture<>();
+  private final PartitionRouter router =
+      new PartitionRouter(gatewayStub, () -> topology, this::connect, GatewayGrpc::newStub);
+
+  @AfterEach
+  void tearDown() {
+    router.close();
+    gatewayChannel.shutdownNow();
+  }
+
+  @Test
+  void shouldRouteToGatewayWithoutTopology() {
+    // when
+    final GatewayStub stub = router.forCorrelationKey("order-1");
+
+    // then
+    assertThat(stub).isSameAs(gatewayStub);
+    assertThat(connectedHosts).isEmpty();
+  }
+
+  @Test
+  void shouldRouteToPartitionLeader() {
+    // given
+    topology.complete(topology(broker("broker-0", 1, 3), broker("broker-1", 2)));
+    final String correlationKey = correlationKeyOnPartition(2, 3);
+
+    // when
+    final GatewayStub stub = router.forCorrelationKey(correlationKey);
+
+    // then
+    assertThat(stub).isNotSameAs(gatewayStub).isSameAs(router.forCorrelationKey(correlationKey));
+    assertThat(connectedHosts).containsExactly("broker-1");
+  }
+
+  @Test
+  void shouldRouteToGatewayIfLeaderIsUnknown() {
+    // given - no leader for partition 3
+    topology.complete(topology(broker("broker-0", 1), broker("broker-1", 2)));
+
+    // when
+    final GatewayStub stub = router.forCorrelationKey(correlationKeyOnPartition(3, 3));
+
+    // then
+    assertThat(stub).isSameAs(gatewayStub);
+  }
+
+  @Test
+  void shouldDeterminePartitionLikeTheGateway() {
+    // then - for ASCII keys, the hash equals String#hashCode
+    IntStream.range(0, 100)
+        .mapToObj(i -> "key-" + i)
+        .forEach(
+            key ->
+                assertThat(PartitionRouter.getSubscriptionPartitionId(key, 3))
+                    .isEqualTo(Math.abs(key.hashCode() % 3) + 1));
+  }
+
+  private ManagedChannel connect(final String host) {
+    connectedHosts.add(host);
+    return InProcessChannelBuilder.forName(host).build();
+  }
+
+  private static String correlationKeyOnPartition(final int partitionId, final int partitions) {
+    return IntStream.range(0, 100)
+        .mapToObj(i -> "key-" + i)
+        .filter(key -> PartitionRouter.getSubscriptionPartitionId(key, partitions) == partitionId)
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  private static Topology topology(final BrokerInfo... brokers) {
+    final TopologyResponse.Builder builder =
+        TopologyResponse.newBuilder().setPartitionsCount(3).setClusterSize(brokers.length);
+    for (final BrokerInfo broker : brokers) {
+      builder.addBrokers(broker);
+    }
+    return new TopologyImpl(builder.build());
+  }
+
+  private static BrokerInfo broker(final String host, final int... leadingPartitions) {
+    final BrokerInfo.Builder builder = BrokerInfo.newBuilder().setHost(host).setPort(26501);
+    for (final int partitionId : leadingPartitions) {
+      builder.addPartitions(
+          Partition.newBuilder().setPartitionId(partitionId).setRole(PartitionBrokerRole.LEADER));
+    }
+    return builder.build();
+  }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -81,4 +82,20 @@ public class BlockingExecutorTest {
       wrappedExecutor.shutdownNow();
     }
   }
+
+  @Test
+  public void shouldHoldLeaseUntilAsyncRunnableIsDone() {
+    // given
+    final BlockingExecutor executor = new BlockingExecutor(Runnable::run, 1, Duration.ofMillis(10));
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    executor.execute((AsyncRunnable) () -> done);
+
+    // when - then
+    assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class);
+    done.complete(null);
+    final AtomicBoolean atomicBoolean = new AtomicBoolean(false);
+    executor.execute(() -> atomicBoolean.set(true));
+    assertThat(atomicBoolean).isTrue();
+  }
 }
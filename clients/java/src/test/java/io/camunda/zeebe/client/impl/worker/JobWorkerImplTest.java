@@ -49,6 +49,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -242,6 +244,41 @@ public final class JobWorkerImplTest {
     }
   }
 
+  @Test
+  public void shouldHandleOnlyCapacityWithAsyncHandler() {
+    // given
+    final List<io.camunda.zeebe.client.api.response.ActivatedJob> jobs =
+        new CopyOnWriteArrayList<>();
+    final CompletableFuture<Void> firstJobDone = new CompletableFuture<>();
+
+    try (final JobWorker jobWorker =
+        client
+            .newWorker()
+            .jobType("t")
+            .asyncHandler(
+                (c, j) -> {
+                  jobs.add(j);
+                  return firstJobDone;
+                })
+            .pollInterval(Duration.ofHours(1))
+            .maxJobsActive(1)
+            .timeout(Duration.ofSeconds(5))
+            .streamEnabled(true)
+            .open()) {
+
+      Awaitility.await("We need to wait until the streams have been opened")
+          .until(() -> !gateway.openStreams.isEmpty());
+
+      // when
+      new Thread(() -> gateway.pushJobs(TestData.jobs(2))).start();
+      Awaitility.await("Handler returns after one").until(() -> jobs, Matchers.hasSize(1));
+      firstJobDone.complete(null);
+
+      // then
+      Awaitility.await("Handler should see both").until(() -> jobs, Matchers.hasSize(2));
+    }
+  }
+
   @Test
   public void shouldCloseIfExecutorIsClosed() {
     // given
@@ -150,6 +150,16 @@ public final class StreamJobsTest extends ClientTest {
     assertThat(request.getTimeout()).isEqualTo(timeout.toMillis());
   }
 
+  @Test
+  public void shouldSetPrefetch() {
+    // when
+    client.newStreamJobsCommand().jobType("foo").consumer(ignored -> {}).prefetch(16).send().join();
+
+    // then
+    final StreamActivatedJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getPrefetch()).isEqualTo(16);
+  }
+
   @Test
   public void shouldSetFetchVariables() {
     // given
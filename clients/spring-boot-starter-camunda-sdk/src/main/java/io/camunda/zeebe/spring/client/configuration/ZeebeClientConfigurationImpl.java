@@ -309,6 +309,20 @@ public class ZeebeClientConfigurationImpl implements ZeebeClientConfiguration {
         configCache);
   }
 
+  @Override
+  public boolean useVirtualThreadsForJobWorkers() {
+    return getOrDefault(
+        "UseVirtualThreadsForJobWorkers",
+        () -> camundaClientProperties.getZeebe().getVirtualThreads(),
+        DEFAULT.useVirtualThreadsForJobWorkers(),
+        configCache);
+  }
+
+  @Override
+  public boolean useDirectPartitionRouting() {
+    return false;
+  }
+
   @Override
   public boolean getDefaultJobWorkerStreamEnabled() {
     return getOrLegacyOrDefault(
@@ -22,6 +22,7 @@ import java.util.Map;
 
 public class ZeebeClientProperties extends ApiProperties {
   private Integer executionThreads;
+  private Boolean virtualThreads;
   private Duration messageTimeToLive;
   private Integer maxMessageSize;
   private Integer maxMetadataSize;
@@ -59,6 +60,14 @@ public class ZeebeClientProperties extends ApiProperties {
     this.executionThreads = executionThreads;
   }
 
+  public Boolean getVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public void setVirtualThreads(final Boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
   public Duration getMessageTimeToLive() {
     return messageTimeToLive;
   }
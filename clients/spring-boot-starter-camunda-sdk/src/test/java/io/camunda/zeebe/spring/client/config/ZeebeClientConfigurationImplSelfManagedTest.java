@@ -71,6 +71,12 @@ public class ZeebeClientConfigurationImplSelfManagedTest {
         .isEqualTo(DEFAULT.getDefaultJobWorkerTenantIds());
   }
 
+  @Test
+  void shouldNotUseVirtualThreadsForJobWorkers() {
+    assertThat(zeebeClientConfiguration.useVirtualThreadsForJobWorkers())
+        .isEqualTo(DEFAULT.useVirtualThreadsForJobWorkers());
+  }
+
   @Test
   void shouldHaveNumJobWorkerExecutionThreads() {
     assertThat(zeebeClientConfiguration.getNumJobWorkerExecutionThreads())
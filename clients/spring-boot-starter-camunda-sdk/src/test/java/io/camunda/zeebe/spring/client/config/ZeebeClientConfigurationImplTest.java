@@ -24,6 +24,7 @@ import io.camunda.zeebe.spring.client.configuration.ZeebeClientConfigurationImpl
 import io.camunda.zeebe.spring.client.jobhandling.ZeebeClientExecutorService;
 import io.camunda.zeebe.spring.client.properties.CamundaClientProperties;
 import io.camunda.zeebe.spring.client.properties.ZeebeClientConfigurationProperties;
+import io.camunda.zeebe.spring.client.properties.common.ZeebeClientProperties;
 import io.grpc.ClientInterceptor;
 import java.util.List;
 import org.apache.hc.client5.http.async.AsyncExecChainHandler;
@@ -72,4 +73,15 @@ public class ZeebeClientConfigurationImplTest {
     final CredentialsProvider credentialsProvider2 = configuration.getCredentialsProvider();
     assertThat(credentialsProvider1).isSameAs(credentialsProvider2);
   }
+
+  @Test
+  void shouldUseVirtualThreadsForJobWorkers() {
+    final CamundaClientProperties properties = properties();
+    properties.setZeebe(new ZeebeClientProperties());
+    properties.getZeebe().setVirtualThreads(true);
+    final ZeebeClientConfigurationImpl configuration =
+        configuration(
+            legacyProperties(), properties, jsonMapper(), List.of(), List.of(), executorService());
+    assertThat(configuration.useVirtualThreadsForJobWorkers()).isTrue();
+  }
 }
@@ -11,12 +11,15 @@ import io.camunda.search.clients.CamundaSearchClient;
 import io.camunda.service.security.auth.Authentication;
 import io.camunda.service.transformers.ServiceTransformers;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender.JobCommandResult;
 import io.camunda.zeebe.gateway.impl.job.ResponseObserver;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import java.util.List;
@@ -96,12 +99,50 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
     return sendBrokerRequest(new BrokerCompleteJobRequest(jobKey, getDocumentOrEmpty(variables)));
   }
 
+  /**
+   * Completes the given jobs independently of each other. The returned future completes once every
+   * job has been answered, with one result per job in the given order; a rejected job does not fail
+   * the future.
+   */
+  public CompletableFuture<List<JobCommandResult>> completeJobs(final List<JobCompletion> jobs) {
+    final var requests =
+        jobs.stream()
+            .map(
+                job ->
+                    new BrokerCompleteJobRequest(job.jobKey(), getDocumentOrEmpty(job.variables())))
+            .toList();
+    return sendJobCommands(requests);
+  }
+
+  /**
+   * Fails the given jobs independently of each other. The returned future completes once every job
+   * has been answered, with one result per job in the given order; a rejected job does not fail the
+   * future.
+   */
+  public CompletableFuture<List<JobCommandResult>> failJobs(final List<JobFailure> jobs) {
+    final var requests =
+        jobs.stream()
+            .map(
+                job ->
+                    new BrokerFailJobRequest(job.jobKey(), job.retries(), job.retryBackOff())
+                        .setVariables(getDocumentOrEmpty(job.variables()))
+                        .setErrorMessage(job.errorMessage()))
+            .toList();
+    return sendJobCommands(requests);
+  }
+
   public CompletableFuture<JobRecord> updateJob(
       final long jobKey, final UpdateJobChangeset changeset) {
     return sendBrokerRequest(
         new BrokerUpdateJobRequest(jobKey, changeset.retries(), changeset.timeout()));
   }
 
+  private CompletableFuture<List<JobCommandResult>> sendJobCommands(
+      final List<? extends BrokerExecuteCommand<JobRecord>> requests) {
+    requests.forEach(request -> request.setAuthorization(authentication.token()));
+    return new JobBatchCommandSender(brokerClient).send(requests);
+  }
+
   public record ActivateJobsRequest(
       String type,
       int maxJobsToActivate,
@@ -112,4 +153,13 @@ public final class JobServices<T> extends ApiServices<JobServices<T>> {
       long requestTimeout) {}
 
   public record UpdateJobChangeset(Integer retries, Long timeout) {}
+
+  public record JobCompletion(long jobKey, Map<String, Object> variables) {}
+
+  public record JobFailure(
+      long jobKey,
+      int retries,
+      String errorMessage,
+      Long retryBackOff,
+      Map<String, Object> variables) {}
 }
@@ -19,6 +19,7 @@ package io.atomix.cluster.messaging;
 import io.atomix.utils.config.Config;
 import java.io.File;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +36,9 @@ public class MessagingConfig implements Config {
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
   private File keyStore;
   private String keyStorePassword;
+  private boolean messageCoalescingEnabled = false;
+  private Duration messageCoalescingWindow = Duration.of(200, ChronoUnit.MICROS);
+  private int messageCoalescingMaxBatchSize = 64 * 1024;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -149,6 +153,65 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * @return true if messages written to the same connection are coalesced into batches
+   */
+  public boolean isMessageCoalescingEnabled() {
+    return messageCoalescingEnabled;
+  }
+
+  /**
+   * Sets whether messages written to the same connection are coalesced into batches, which are
+   * written and flushed at once. This reduces the number of writes and packets when sending many
+   * small messages, at the cost of delaying messages by up to the coalescing window. Batches are
+   * only sent to nodes which support them; connections to other nodes are not coalesced.
+   *
+   * @param messageCoalescingEnabled true to coalesce messages, false otherwise
+   * @return this config for chaining
+   */
+  public MessagingConfig setMessageCoalescingEnabled(final boolean messageCoalescingEnabled) {
+    this.messageCoalescingEnabled = messageCoalescingEnabled;
+    return this;
+  }
+
+  /**
+   * @return the maximum time a message waits for further messages to coalesce with
+   */
+  public Duration getMessageCoalescingWindow() {
+    return messageCoalescingWindow;
+  }
+
+  /**
+   * Sets the maximum time a message waits for further messages to coalesce with, before the batch
+   * is written.
+   *
+   * @param messageCoalescingWindow the coalescing window
+   * @return this config for chaining
+   */
+  public MessagingConfig setMessageCoalescingWindow(final Duration messageCoalescingWindow) {
+    this.messageCoalescingWindow = messageCoalescingWindow;
+    return this;
+  }
+
+  /**
+   * @return the payload size in bytes after which a batch is written without further waiting
+   */
+  public int getMessageCoalescingMaxBatchSize() {
+    return messageCoalescingMaxBatchSize;
+  }
+
+  /**
+   * Sets the payload size in bytes after which a batch is written without waiting for the end of
+   * the coalescing window.
+   *
+   * @param messageCoalescingMaxBatchSize the maximum batch size in bytes
+   * @return this config for chaining
+   */
+  public MessagingConfig setMessageCoalescingMaxBatchSize(final int messageCoalescingMaxBatchSize) {
+    this.messageCoalescingMaxBatchSize = messageCoalescingMaxBatchSize;
+    return this;
+  }
+
   /**
    * The certificate chain to use for inter-cluster communication. This certificate is used for both
    * the server and the client.
@@ -16,10 +16,8 @@
  */
 package io.atomix.cluster.messaging.impl;
 
-import com.google.common.collect.Maps;
 import io.atomix.cluster.messaging.MessagingException;
 import io.camunda.zeebe.util.StringUtil;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
@@ -30,9 +28,9 @@ abstract class AbstractClientConnection implements ClientConnection {
   private final Logger log = LoggerFactory.getLogger(getClass());
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
-  // since all messages go through the same entry point, we keep a map of message IDs -> response
+  // since all messages go through the same entry point, we keep a table of message IDs -> response
   // futures to allow dynamic dispatch of messages to the right response future
-  private final Map<Long, CompletableFuture<byte[]>> responseFutures = Maps.newConcurrentMap();
+  private final ResponseCorrelationTable responseFutures = new ResponseCorrelationTable();
 
   @Override
   public void dispatch(final ProtocolReply message) {
@@ -70,17 +68,18 @@ abstract class AbstractClientConnection implements ClientConnection {
   @Override
   public void close() {
     if (closed.compareAndSet(false, true)) {
-      for (final CompletableFuture<byte[]> responseFuture : responseFutures.values()) {
-        responseFuture.completeExceptionally(
-            new MessagingException.ConnectionClosed(
-                String.format("Connection %s was closed", this)));
-      }
+      responseFutures.removeAll(
+          responseFuture ->
+              responseFuture.completeExceptionally(
+                  new MessagingException.ConnectionClosed(
+                      String.format("Connection %s was closed", this))));
     }
   }
 
   /**
-   * Registers a request to await a response. The future returned is already set up to remove itself
-   * from the registry to ensure cleanup.
+   * Registers a request to await a response. The request is removed from the registry once its
+   * response is dispatched, it is failed via {@link #failRequestWithId(long, Throwable)}, or the
+   * connection is closed.
    *
    * <p>Will return the same future if there already exists one for a given ID.
    *
@@ -88,10 +87,20 @@ abstract class AbstractClientConnection implements ClientConnection {
    * @return the response future for the given request ID
    */
   protected CompletableFuture<byte[]> awaitResponseForRequestWithId(final long id) {
-    final CompletableFuture<byte[]> responseFuture =
-        responseFutures.computeIfAbsent(id, ignored -> new CompletableFuture<>());
-    responseFuture.whenComplete((result, error) -> responseFutures.remove(id));
+    return responseFutures.register(id);
+  }
 
-    return responseFuture;
+  /**
+   * Fails the request with the given ID, e.g. because it could not be sent, and stops awaiting its
+   * response.
+   *
+   * @param id the request ID
+   * @param error the cause of the failure
+   */
+  protected void failRequestWithId(final long id, final Throwable error) {
+    final CompletableFuture<byte[]> responseFuture = responseFutures.remove(id);
+    if (responseFuture != null) {
+      responseFuture.completeExceptionally(error);
+    }
   }
 }
@@ -155,24 +155,33 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
 
   // Effectively same result as one generated by MessageToByteEncoder<InternalMessage>
   @Override
-  public final boolean acceptOutboundMessage(final Object msg) throws Exception {
+  public boolean acceptOutboundMessage(final Object msg) throws Exception {
     return msg instanceof ProtocolMessage;
   }
 
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
+    encodeAddressOnce((ProtocolMessage) rawMessage, out);
+    encodeProtocolMessage((ProtocolMessage) rawMessage, out);
+  }
+
+  /** Encodes the sender address, if it was not yet written to this connection. */
+  protected final void encodeAddressOnce(final ProtocolMessage message, final ByteBuf out) {
     if (!addressWritten) {
-      encodeAddress((ProtocolMessage) rawMessage, out);
+      encodeAddress(message, out);
       addressWritten = true;
     }
+  }
 
-    encodeMessage((ProtocolMessage) rawMessage, out);
+  /** Encodes a single message, without the sender address. */
+  protected final void encodeProtocolMessage(final ProtocolMessage message, final ByteBuf out) {
+    encodeMessage(message, out);
 
-    if (rawMessage instanceof ProtocolRequest) {
-      encodeRequest((ProtocolRequest) rawMessage, out);
-    } else if (rawMessage instanceof ProtocolReply) {
-      encodeReply((ProtocolReply) rawMessage, out);
+    if (message instanceof ProtocolRequest) {
+      encodeRequest((ProtocolRequest) message, out);
+    } else if (message instanceof ProtocolReply) {
+      encodeReply((ProtocolReply) message, out);
     }
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the messages written to a connection into {@link ProtocolMessageBatch batches}, such
+ * that many small messages result in a single write and flush instead of one per message.
+ *
+ * <p>Flushing the first pending message is delayed by at most the coalescing window, in which
+ * further messages are added to the same batch. The batch is written right away once the payloads
+ * of its messages exceed the maximum batch size. Batches with a single message are written as plain
+ * messages.
+ *
+ * <p>Must only be added to the pipeline of connections whose protocol {@link
+ * MessagingProtocol#supportsMessageBatches() supports message batches}, after the encoder. Like all
+ * channel handlers, it's only accessed from the channel's event loop, so it isn't thread safe.
+ */
+final class MessageCoalescingHandler extends ChannelOutboundHandlerAdapter {
+
+  private final long windowNanos;
+  private final int maxBatchSize;
+  private final MessagingMetrics metrics;
+
+  private final List<ProtocolMessage> messages = new ArrayList<>();
+  private final List<ChannelPromise> promises = new ArrayList<>();
+  private int batchSize;
+  private long batchStartNanos;
+  private ScheduledFuture<?> scheduledFlush;
+
+  MessageCoalescingHandler(
+      final Duration window, final int maxBatchSize, final MessagingMetrics metrics) {
+    windowNanos = window.toNanos();
+    this.maxBatchSize = maxBatchSize;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+      throws Exception {
+    if (!(msg instanceof final ProtocolMessage message)) {
+      // keep the order of everything written to the connection
+      writeBatch(ctx);
+      ctx.write(msg, promise);
+      return;
+    }
+
+    if (messages.isEmpty()) {
+      batchStartNanos = System.nanoTime();
+    }
+
+    messages.add(message);
+    promises.add(promise);
+    batchSize += message.payload().length;
+
+    if (batchSize >= maxBatchSize) {
+      writeBatch(ctx);
+      ctx.flush();
+    }
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) throws Exception {
+    if (messages.isEmpty()) {
+      ctx.flush();
+    } else if (scheduledFlush == null) {
+      scheduledFlush =
+          ctx.executor().schedule(() -> flushBatch(ctx), windowNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void close(final ChannelHandlerContext ctx, final ChannelPromise promise)
+      throws Exception {
+    flushBatch(ctx);
+    ctx.close(promise);
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) throws Exception {
+    flushBatch(ctx);
+  }
+
+  private void flushBatch(final ChannelHandlerContext ctx) {
+    writeBatch(ctx);
+    ctx.flush();
+  }
+
+  private void writeBatch(final ChannelHandlerContext ctx) {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    metrics.observeCoalescedBatch(messages.size(), System.nanoTime() - batchStartNanos);
+    if (messages.size() == 1) {
+      ctx.write(messages.getFirst(), promises.getFirst());
+    } else {
+      final var batchPromises = promises.toArray(ChannelPromise[]::new);
+      ctx.write(new ProtocolMessageBatch(List.copyOf(messages)))
+          .addListener(
+              future -> {
+                for (final ChannelPromise promise : batchPromises) {
+                  if (future.isSuccess()) {
+                    promise.trySuccess();
+                  } else {
+                    promise.tryFailure(future.cause());
+                  }
+                }
+              });
+    }
+
+    messages.clear();
+    promises.clear();
+    batchSize = 0;
+  }
+}
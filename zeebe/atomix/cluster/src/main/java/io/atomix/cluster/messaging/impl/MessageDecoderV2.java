@@ -64,6 +64,9 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         senderAddress = Address.from(senderHost, senderPort);
         currentState = DecoderState.READ_TYPE;
       case READ_TYPE:
+        if (!readBatchHeader(buffer)) {
+          return;
+        }
         if (buffer.readableBytes() < Byte.BYTES) {
           return;
         }
@@ -153,6 +156,17 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  /**
+   * Reads the header of a message batch, if the next message is the first one of a batch. The V2
+   * protocol does not support batches, so there is nothing to read.
+   *
+   * @param buffer the buffer positioned at the start of the next message
+   * @return false if more bytes are needed to read the header, true otherwise
+   */
+  boolean readBatchHeader(final ByteBuf buffer) {
+    return true;
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
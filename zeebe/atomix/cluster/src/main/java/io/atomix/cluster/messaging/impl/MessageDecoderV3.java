@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Protocol version 3 message decoder. The messages of a batch are encoded one after the other, so
+ * after skipping the batch header they are decoded like single messages.
+ */
+class MessageDecoderV3 extends MessageDecoderV2 {
+
+  @Override
+  boolean readBatchHeader(final ByteBuf buffer) {
+    if (!buffer.isReadable()
+        || buffer.getByte(buffer.readerIndex()) != ProtocolMessageBatch.TYPE_ID) {
+      return true;
+    }
+
+    final int headerStart = buffer.readerIndex();
+    buffer.skipBytes(Byte.BYTES);
+    final int messageCount;
+    try {
+      messageCount = readInt(buffer);
+    } catch (final Escape e) {
+      buffer.readerIndex(headerStart);
+      return false;
+    }
+
+    checkState(
+        messageCount > 0,
+        "Expected a message batch to contain at least one message, but it contains %s",
+        messageCount);
+    return true;
+  }
+}
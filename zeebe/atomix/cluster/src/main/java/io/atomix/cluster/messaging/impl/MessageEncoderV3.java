@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * V3 message encoder. Encodes single messages like the V2 encoder, and {@link ProtocolMessageBatch
+ * message batches} as a frame header with the number of messages, followed by the messages.
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  MessageEncoderV3(final Address address) {
+    super(address);
+  }
+
+  @Override
+  public boolean acceptOutboundMessage(final Object msg) throws Exception {
+    return msg instanceof ProtocolMessageBatch || super.acceptOutboundMessage(msg);
+  }
+
+  @Override
+  protected void encode(
+      final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
+    if (!(rawMessage instanceof final ProtocolMessageBatch batch)) {
+      super.encode(context, rawMessage, out);
+      return;
+    }
+
+    final var messages = batch.messages();
+    encodeAddressOnce(messages.getFirst(), out);
+    out.writeByte(ProtocolMessageBatch.TYPE_ID);
+    writeInt(out, messages.size());
+    for (final ProtocolMessage message : messages) {
+      encodeProtocolMessage(message, out);
+    }
+  }
+}
@@ -26,4 +26,12 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  /**
+   * Observes a batch of coalesced messages which is written to a connection.
+   *
+   * @param messageCount the number of messages in the batch
+   * @param delayNanos how long the first message of the batch waited for the batch to be written
+   */
+  void observeCoalescedBatch(int messageCount, long delayNanos);
 }
@@ -60,6 +60,22 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Histogram COALESCED_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_coalesced_batch_size")
+          .help("The number of messages which were coalesced into a single write")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
+  private static final Histogram COALESCING_DELAY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_coalescing_delay")
+          .help("The time the first message of a coalesced batch waited before being written")
+          .buckets(0.00001, 0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +116,10 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeCoalescedBatch(final int messageCount, final long delayNanos) {
+    COALESCED_BATCH_SIZE.observe(messageCount);
+    COALESCING_DELAY.observe(delayNanos / 1_000_000_000d);
+  }
 }
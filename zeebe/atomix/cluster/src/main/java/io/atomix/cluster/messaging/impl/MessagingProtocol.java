@@ -42,4 +42,14 @@ public interface MessagingProtocol {
    * @return a new message decoder
    */
   ByteToMessageDecoder newDecoder();
+
+  /**
+   * Returns whether the encoder of this protocol can write {@link ProtocolMessageBatch message
+   * batches}, and its decoder can read them.
+   *
+   * @return true if message batches are supported, false otherwise
+   */
+  default boolean supportsMessageBatches() {
+    return false;
+  }
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import java.util.List;
+
+/**
+ * Several messages which are written to a connection as a single frame. Only connections using a
+ * protocol which {@link MessagingProtocol#supportsMessageBatches() supports message batches} can
+ * send them.
+ *
+ * @param messages the batched messages, in the order in which they were written
+ */
+record ProtocolMessageBatch(List<ProtocolMessage> messages) {
+
+  /** Identifies a batch frame; distinct from the {@link ProtocolMessage.Type} IDs. */
+  static final byte TYPE_ID = 3;
+}
@@ -55,7 +55,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
-                responseFuture.completeExceptionally(channelFuture.cause());
+                failRequestWithId(message.id(), channelFuture.cause());
               }
             });
     return responseFuture;
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Correlates replies with the requests awaiting them, keyed by message ID.
+ *
+ * <p>Message IDs are generated sequentially, so the requests in flight on a connection map to
+ * distinct slots of a fixed, pre-allocated array most of the time. Registering and removing a
+ * request is then a single compare-and-set on its slot, without boxing the ID or allocating a map
+ * entry. Only if the slot of a request is still occupied by an older one, e.g. because the older
+ * request is slow or was never answered, the request is kept in an overflow map instead.
+ *
+ * <p>This class is thread safe: requests are registered by the sending threads, and removed by the
+ * event loop receiving the replies.
+ */
+final class ResponseCorrelationTable {
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private final AtomicReferenceArray<PendingResponse> slots;
+  private final int mask;
+  private final Map<Long, PendingResponse> overflow = new ConcurrentHashMap<>();
+
+  ResponseCorrelationTable() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  ResponseCorrelationTable(final int capacity) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be a power of two, but was %d".formatted(capacity));
+    }
+
+    slots = new AtomicReferenceArray<>(capacity);
+    mask = capacity - 1;
+  }
+
+  /**
+   * Registers a request to await a reply.
+   *
+   * @param id the request ID
+   * @return the response future for the given ID; if there already is one, it is returned instead
+   *     of a new one
+   */
+  PendingResponse register(final long id) {
+    final int index = index(id);
+    final var existing = slots.get(index);
+    if (existing == null) {
+      final var response = new PendingResponse(id);
+      if (slots.compareAndSet(index, null, response)) {
+        return response;
+      }
+    } else if (existing.id == id) {
+      return existing;
+    }
+
+    return overflow.computeIfAbsent(id, PendingResponse::new);
+  }
+
+  /**
+   * Removes the request with the given ID, such that it is not correlated anymore.
+   *
+   * @param id the request ID
+   * @return the response future of the request, or null if there is none
+   */
+  PendingResponse remove(final long id) {
+    final int index = index(id);
+    final var response = slots.get(index);
+    if (response != null && response.id == id && slots.compareAndSet(index, response, null)) {
+      return response;
+    }
+
+    return overflow.remove(id);
+  }
+
+  /**
+   * Removes all requests, passing each of them to the given consumer.
+   *
+   * @param consumer called for each removed request
+   */
+  void removeAll(final Consumer<PendingResponse> consumer) {
+    for (int i = 0; i < slots.length(); i++) {
+      final var response = slots.getAndSet(i, null);
+      if (response != null) {
+        consumer.accept(response);
+      }
+    }
+
+    for (final var id : overflow.keySet()) {
+      final var response = overflow.remove(id);
+      if (response != null) {
+        consumer.accept(response);
+      }
+    }
+  }
+
+  /**
+   * @return the number of requests currently awaiting a reply
+   */
+  int size() {
+    int size = overflow.size();
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+
+    return size;
+  }
+
+  private int index(final long id) {
+    return (int) (id & mask);
+  }
+
+  /** The response future of a single request, which knows the ID of the request. */
+  static final class PendingResponse extends CompletableFuture<byte[]> {
+    private final long id;
+
+    private PendingResponse(final long id) {
+      this.id = id;
+    }
+
+    long id() {
+      return id;
+    }
+  }
+}
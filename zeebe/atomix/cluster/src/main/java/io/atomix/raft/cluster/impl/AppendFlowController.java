@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Decides how many bytes the leader may append to a single follower per request, and how many
+ * requests may be in flight at the same time.
+ *
+ * <p>If adaptive batching is disabled, the configured max batch size and max in-flight appends are
+ * used as they are. If it is enabled, these configured values are only the starting point: the
+ * controller estimates the bandwidth-delay product (BDP) of the follower from the highest delivery
+ * rate and the lowest round trip time observed over the last {@value #SAMPLE_WINDOW} appends. The
+ * in-flight window is twice the estimated BDP, so it keeps growing as long as the follower
+ * acknowledges faster, and stops growing once the round trip time increases instead. The window
+ * grows up to the max batch size times the max adaptive in-flight appends, which may be higher than
+ * the static in-flight limit. When the window shrinks, the batch size shrinks first, down to an
+ * eighth of the max batch size.
+ *
+ * <p>The delivery rate of an append is the number of bytes acknowledged by the follower between
+ * sending the request and receiving its response, divided by its round trip time. It is tracked in
+ * both modes, such that the catch up rate of a follower can be observed either way.
+ *
+ * <p>This class is not thread safe, and must only be accessed from the raft thread.
+ */
+public final class AppendFlowController {
+
+  private static final int SAMPLE_WINDOW = 16;
+  private static final int MIN_ESTIMATE_SAMPLES = 4;
+  private static final int WINDOW_GAIN = 2;
+  private static final int MIN_BATCH_SIZE_DIVISOR = 8;
+
+  private final boolean adaptive;
+  private final int maxBatchSize;
+  private final int maxInflightAppends;
+  private final int maxAdaptiveInflightAppends;
+  private final int minBatchSize;
+  private final long initialWindowSize;
+  private final long maxWindowSize;
+
+  private final long[] roundTripSamples = new long[SAMPLE_WINDOW];
+  private final double[] deliveryRateSamples = new double[SAMPLE_WINDOW];
+  private int sampleCount;
+  private int nextSample;
+
+  private long inflightBytes;
+  private long deliveredBytes;
+  private double deliveryRate;
+  private long windowSize;
+  private int batchSize;
+  private int inflightAppendLimit;
+
+  public AppendFlowController(
+      final int maxBatchSize, final int maxInflightAppends, final boolean adaptive) {
+    this(maxBatchSize, maxInflightAppends, maxInflightAppends, adaptive);
+  }
+
+  public AppendFlowController(
+      final int maxBatchSize,
+      final int maxInflightAppends,
+      final int maxAdaptiveInflightAppends,
+      final boolean adaptive) {
+    this.adaptive = adaptive;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxInflightAppends = Math.max(1, maxInflightAppends);
+    this.maxAdaptiveInflightAppends = Math.max(this.maxInflightAppends, maxAdaptiveInflightAppends);
+    minBatchSize = Math.max(1, this.maxBatchSize / MIN_BATCH_SIZE_DIVISOR);
+    initialWindowSize = (long) this.maxBatchSize * this.maxInflightAppends;
+    maxWindowSize = (long) this.maxBatchSize * this.maxAdaptiveInflightAppends;
+    reset();
+  }
+
+  /**
+   * Forgets all samples and in-flight data, e.g. when the replication context is reset, and starts
+   * over with the configured limits.
+   */
+  public void reset() {
+    clearSamples();
+    inflightBytes = 0;
+    windowSize = initialWindowSize;
+    updateLimits();
+  }
+
+  /**
+   * @return the max number of bytes which should be added to the next append request
+   */
+  public int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @return the max number of append requests which may be in flight to the follower
+   */
+  public int inflightAppendLimit() {
+    return inflightAppendLimit;
+  }
+
+  /**
+   * @return true if the bytes currently in flight do not exhaust the window yet
+   */
+  public boolean hasInflightCapacity() {
+    return inflightBytes < windowSize;
+  }
+
+  /**
+   * @return the number of bytes sent to the follower which were not acknowledged yet
+   */
+  public long inflightBytes() {
+    return inflightBytes;
+  }
+
+  /**
+   * @return the total number of bytes acknowledged by the follower so far; capture this when
+   *     sending a request and pass it to {@link #onAppendAcknowledged(int, long, long)}
+   */
+  public long deliveredBytes() {
+    return deliveredBytes;
+  }
+
+  /**
+   * @return the highest recently observed delivery rate, in bytes per second
+   */
+  public double deliveryRate() {
+    return deliveryRate * 1000;
+  }
+
+  public void onAppendSent(final int bytes) {
+    inflightBytes += bytes;
+  }
+
+  /**
+   * Called when the follower acknowledged an append request.
+   *
+   * @param bytes the size of the acknowledged request
+   * @param deliveredAtSend the value of {@link #deliveredBytes()} when the request was sent
+   * @param roundTripTime the round trip time of the request in milliseconds
+   */
+  public void onAppendAcknowledged(
+      final int bytes, final long deliveredAtSend, final long roundTripTime) {
+    inflightBytes = Math.max(0, inflightBytes - bytes);
+    deliveredBytes += bytes;
+
+    if (bytes > 0) {
+      // clock granularity is in milliseconds, so a zero round trip time is possible
+      final long rtt = Math.max(1, roundTripTime);
+      roundTripSamples[nextSample] = rtt;
+      deliveryRateSamples[nextSample] = (double) (deliveredBytes - deliveredAtSend) / rtt;
+      nextSample = (nextSample + 1) % SAMPLE_WINDOW;
+      sampleCount = Math.min(sampleCount + 1, SAMPLE_WINDOW);
+      updateLimits();
+    }
+  }
+
+  /**
+   * Called when an append request failed, was rejected or timed out. The previous estimates are
+   * most likely not valid anymore, so the controller halves the window and collects new samples,
+   * instead of starting over with the smallest window on a single failure.
+   *
+   * @param bytes the size of the failed request
+   */
+  public void onAppendFailed(final int bytes) {
+    inflightBytes = Math.max(0, inflightBytes - bytes);
+    clearSamples();
+    windowSize = Math.max(minBatchSize, windowSize / 2);
+    updateLimits();
+  }
+
+  private void clearSamples() {
+    sampleCount = 0;
+    nextSample = 0;
+  }
+
+  private void updateLimits() {
+    long minRoundTripTime = Long.MAX_VALUE;
+    double maxDeliveryRate = 0;
+    for (int i = 0; i < sampleCount; i++) {
+      minRoundTripTime = Math.min(minRoundTripTime, roundTripSamples[i]);
+      maxDeliveryRate = Math.max(maxDeliveryRate, deliveryRateSamples[i]);
+    }
+    deliveryRate = maxDeliveryRate;
+
+    if (!adaptive) {
+      windowSize = Long.MAX_VALUE;
+      batchSize = maxBatchSize;
+      inflightAppendLimit = maxInflightAppends;
+      return;
+    }
+
+    // a few samples of small appends would underestimate the BDP, so keep the current window
+    if (sampleCount >= MIN_ESTIMATE_SAMPLES) {
+      final long estimatedWindow = (long) (WINDOW_GAIN * maxDeliveryRate * minRoundTripTime);
+      windowSize = Math.clamp(estimatedWindow, minBatchSize, maxWindowSize);
+    }
+
+    batchSize =
+        (int) Math.clamp(Math.ceilDiv(windowSize, maxInflightAppends), minBatchSize, maxBatchSize);
+    inflightAppendLimit =
+        (int) Math.clamp(Math.ceilDiv(windowSize, batchSize), 1, maxAdaptiveInflightAppends);
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("adaptive", adaptive)
+        .add("windowSize", windowSize)
+        .add("batchSize", batchSize)
+        .add("inflightAppendLimit", inflightAppendLimit)
+        .add("inflightBytes", inflightBytes)
+        .add("deliveryRate", deliveryRate())
+        .toString();
+  }
+}
@@ -375,7 +375,11 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
                 new RaftMemberContext(
                     new DefaultRaftMember(memberId, member.getType(), time),
                     this,
-                    raft.getMaxAppendsPerFollower()));
+                    new AppendFlowController(
+                        raft.getMaxAppendBatchSize(),
+                        raft.getMaxAppendsPerFollower(),
+                        raft.getMaxAdaptiveAppendsPerFollower(),
+                        raft.isAdaptiveAppendBatchingEnabled())));
 
     // If the member type has changed, update the member type and reset its state.
     if (context.getMember().getType() != member.getType()) {
@@ -34,7 +34,7 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendFlowController appendFlowController;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -58,9 +58,10 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final AppendFlowController appendFlowController) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    this.appendFlowController =
+        checkNotNull(appendFlowController, "appendFlowController cannot be null");
   }
 
   /** Resets the member state. */
@@ -73,6 +74,7 @@ public final class RaftMemberContext {
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
+    appendFlowController.reset();
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -149,14 +151,26 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int maxAppends = appendFlowController.inflightAppendLimit();
     return open
         && (inFlightAppendCount == 0
             || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
+                && inFlightAppendCount < maxAppends
+                && appendFlowController.hasInflightCapacity()
+                && System.currentTimeMillis() - (timeStats.getMean() / maxAppends)
                     >= appendTime));
   }
 
+  /**
+   * Returns the flow controller which limits the size and number of in-flight append requests to
+   * the member.
+   *
+   * @return the append flow controller of the member
+   */
+  public AppendFlowController getAppendFlowController() {
+    return appendFlowController;
+  }
+
   /**
    * Returns whether a heartbeat can be sent to the member.
    *
@@ -402,6 +402,18 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return partitionConfig.getMaxAdaptiveAppendsPerFollower();
+  }
+
+  public boolean isAdaptiveAppendBatchingEnabled() {
+    return partitionConfig.isAdaptiveAppendBatchingEnabled();
+  }
+
+  public boolean isDirectJournalReplicationEnabled() {
+    return partitionConfig.isDirectJournalReplicationEnabled();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
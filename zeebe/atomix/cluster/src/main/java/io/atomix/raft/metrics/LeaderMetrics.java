@@ -54,6 +54,27 @@ public class LeaderMetrics extends RaftMetrics {
           .help("The number of non-replicated entries for a given followers")
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
+  private static final Gauge APPEND_INFLIGHT_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_inflight_bytes")
+          .help("The number of bytes sent to a follower which were not acknowledged yet")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+  private static final Gauge APPEND_BATCH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("append_batch_size_bytes")
+          .help("The current max size in bytes of an append request sent to a follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+  private static final Gauge FOLLOWER_CATCH_UP_RATE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("follower_catch_up_rate")
+          .help("The rate in bytes per second at which a follower recently acknowledged appends")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
   private static final Counter COMMIT_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -88,6 +109,16 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeAppendFlow(
+      final String memberId,
+      final long inflightBytes,
+      final int batchSize,
+      final double catchUpRate) {
+    APPEND_INFLIGHT_BYTES.labels(memberId, partitionGroupName, partition).set(inflightBytes);
+    APPEND_BATCH_SIZE.labels(memberId, partitionGroupName, partition).set(batchSize);
+    FOLLOWER_CATCH_UP_RATE.labels(memberId, partitionGroupName, partition).set(catchUpRate);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -35,6 +35,9 @@ public class RaftPartitionConfig {
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private int maxAdaptiveAppendsPerFollower = 8;
+  private boolean adaptiveAppendBatchingEnabled = false;
+  private boolean directJournalReplicationEnabled = false;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -102,6 +105,53 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  /**
+   * Sets the upper bound of in-flight appends per follower if adaptive append batching is enabled.
+   * The adaptive window starts at {@link #getMaxAppendsPerFollower()} appends, and may grow up to
+   * this many appends of {@link #getMaxAppendBatchSize()} bytes while the follower keeps up. Values
+   * lower than {@link #getMaxAppendsPerFollower()} are ignored.
+   *
+   * @param maxAdaptiveAppendsPerFollower the max in-flight appends per follower when adaptive
+   */
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public boolean isAdaptiveAppendBatchingEnabled() {
+    return adaptiveAppendBatchingEnabled;
+  }
+
+  /**
+   * Enables adapting the append batch size and the number of in-flight appends per follower to the
+   * observed throughput and latency of the follower. If enabled, {@link #getMaxAppendBatchSize()}
+   * and {@link #getMaxAppendsPerFollower()} are the starting point, {@link
+   * #getMaxAppendBatchSize()} and {@link #getMaxAdaptiveAppendsPerFollower()} the upper bounds.
+   *
+   * @param adaptiveAppendBatchingEnabled true to enable adaptive append batching
+   */
+  public void setAdaptiveAppendBatchingEnabled(final boolean adaptiveAppendBatchingEnabled) {
+    this.adaptiveAppendBatchingEnabled = adaptiveAppendBatchingEnabled;
+  }
+
+  public boolean isDirectJournalReplicationEnabled() {
+    return directJournalReplicationEnabled;
+  }
+
+  /**
+   * Enables replicating serialized journal records directly from the journal segments, without
+   * copying each record before serializing the append request. Followers must support this, so it
+   * must only be enabled once all members are on a version which does.
+   *
+   * @param directJournalReplicationEnabled true to replicate journal records directly
+   */
+  public void setDirectJournalReplicationEnabled(final boolean directJournalReplicationEnabled) {
+    this.directJournalReplicationEnabled = directJournalReplicationEnabled;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -220,6 +270,12 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
+        + ", adaptiveAppendBatchingEnabled="
+        + adaptiveAppendBatchingEnabled
+        + ", directJournalReplicationEnabled="
+        + directJournalReplicationEnabled
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
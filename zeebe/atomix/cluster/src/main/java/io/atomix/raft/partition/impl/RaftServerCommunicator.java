@@ -43,6 +43,7 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.storage.serializer.AppendRequestSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +54,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final AppendRequestSBESerializer appendRequestSerializer =
+      new AppendRequestSBESerializer();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -137,6 +140,16 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
+    if (request.version() == VersionedAppendRequest.SERIALIZED_RECORDS_VERSION) {
+      metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+      return clusterCommunicator.send(
+          context.appendSerializedRecordsSubject,
+          request,
+          appendRequestSerializer::encode,
+          serializer::decode,
+          memberId,
+          requestTimeout);
+    }
     return sendAndReceive(context.appendV2subject, request, memberId);
   }
 
@@ -293,12 +306,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendSerializedRecordsSubject,
+        appendRequestSerializer::decode,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendSerializedRecordsSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
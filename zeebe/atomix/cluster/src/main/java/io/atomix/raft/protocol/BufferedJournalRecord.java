@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * A serialized journal record which is replicated as is, similar to {@link
+ * ReplicatableJournalRecord}, but which only references the serialized record instead of owning a
+ * copy of it.
+ *
+ * <p>On the leader, {@code serializedJournalRecord} is a view on the journal segment, and on the
+ * follower it is a view on the received request. The record must therefore be consumed before the
+ * underlying memory is released or reused: the leader encodes it before the segment can be
+ * compacted or truncated, and the follower appends it while handling the request.
+ */
+public record BufferedJournalRecord(
+    long term, long index, long checksum, DirectBuffer serializedJournalRecord)
+    implements ReplicatableRaftRecord {
+
+  @Override
+  public int approximateSize() {
+    // serializedJournalRecord + index + term + checksum
+    return serializedJournalRecord.capacity() + (3 * Long.BYTES);
+  }
+
+  @Override
+  public String toString() {
+    return "BufferedJournalRecord{"
+        + "term="
+        + term
+        + ", index="
+        + index
+        + ", checksum="
+        + checksum
+        + ", length="
+        + serializedJournalRecord.capacity()
+        + '}';
+  }
+}
@@ -75,4 +75,10 @@ public class PersistedRaftRecord implements JournalRecord, ReplicatableRaftRecor
   public long term() {
     return term;
   }
+
+  @Override
+  public int approximateSize() {
+    // serializedRaftLogEntry + index + asqn + checksum + term
+    return serializedRaftLogEntry.length + (4 * Long.BYTES);
+  }
 }
@@ -68,12 +68,7 @@ public record ReplicatableJournalRecord(
         + '}';
   }
 
-  /**
-   * Returns the approximate size needed when serializing this class. The exact size depends on the
-   * serializer.
-   *
-   * @return approximate size
-   */
+  @Override
   public int approximateSize() {
     // serializedJournalRecord + index + term + checksum
     return serializedJournalRecord.length + (3 * Long.BYTES);
@@ -32,6 +32,13 @@ import java.util.List;
  */
 public class VersionedAppendRequest extends AbstractRaftRequest {
 
+  /**
+   * Requests of this version contain {@link BufferedJournalRecord} entries, and are encoded with
+   * SBE instead of the generic serializer, so that the serialized journal records can be written
+   * to and read from the message without intermediate copies.
+   */
+  public static final int SERIALIZED_RECORDS_VERSION = 3;
+
   private static final int CURRENT_VERSION = 2;
 
   private final int version;
@@ -40,6 +47,9 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
   private final long prevLogIndex;
   private final long prevLogTerm;
   private final List<ReplicatableJournalRecord> entries;
+  // transient, as requests with buffered entries are never encoded by the generic serializer, and
+  // the serialized form of the other requests must not change
+  private final transient List<BufferedJournalRecord> bufferedEntries;
   private final long commitIndex;
 
   public VersionedAppendRequest(
@@ -50,12 +60,25 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
       final long prevLogTerm,
       final List<ReplicatableJournalRecord> entries,
       final long commitIndex) {
+    this(version, term, leader, prevLogIndex, prevLogTerm, entries, null, commitIndex);
+  }
+
+  private VersionedAppendRequest(
+      final int version,
+      final long term,
+      final String leader,
+      final long prevLogIndex,
+      final long prevLogTerm,
+      final List<ReplicatableJournalRecord> entries,
+      final List<BufferedJournalRecord> bufferedEntries,
+      final long commitIndex) {
     this.version = version;
     this.term = term;
     this.leader = leader;
     this.prevLogIndex = prevLogIndex;
     this.prevLogTerm = prevLogTerm;
     this.entries = entries;
+    this.bufferedEntries = bufferedEntries;
     this.commitIndex = commitIndex;
   }
 
@@ -109,8 +132,8 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
    *
    * @return A list of log entries.
    */
-  public List<ReplicatableJournalRecord> entries() {
-    return entries;
+  public List<? extends ReplicatableRaftRecord> entries() {
+    return bufferedEntries != null ? bufferedEntries : entries;
   }
 
   /**
@@ -129,7 +152,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
     result = 31 * result + leader.hashCode();
     result = 31 * result + (int) (prevLogIndex ^ (prevLogIndex >>> 32));
     result = 31 * result + (int) (prevLogTerm ^ (prevLogTerm >>> 32));
-    result = 31 * result + entries.hashCode();
+    result = 31 * result + entries().hashCode();
     result = 31 * result + (int) (commitIndex ^ (commitIndex >>> 32));
     return result;
   }
@@ -163,7 +186,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
     if (!leader.equals(that.leader)) {
       return false;
     }
-    return entries.equals(that.entries);
+    return entries().equals(that.entries());
   }
 
   @Override
@@ -174,7 +197,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
         .add("leader", leader)
         .add("prevLogIndex", prevLogIndex)
         .add("prevLogTerm", prevLogTerm)
-        .add("entries", entries.size())
+        .add("entries", entries().size())
         .add("commitIndex", commitIndex)
         .toString();
   }
@@ -197,6 +220,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
     private long logIndex;
     private long logTerm;
     private List<ReplicatableJournalRecord> entries;
+    private List<BufferedJournalRecord> bufferedEntries;
     private long commitIndex = -1;
     private int version = CURRENT_VERSION;
 
@@ -273,6 +297,22 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
      */
     public Builder withEntries(final List<ReplicatableJournalRecord> entries) {
       this.entries = checkNotNull(entries, NULL_ENTRIES_ERR);
+      bufferedEntries = null;
+      return this;
+    }
+
+    /**
+     * Sets the request entries as buffered records, which also sets the request version to {@link
+     * #SERIALIZED_RECORDS_VERSION}.
+     *
+     * @param bufferedEntries The request entries.
+     * @return The append request builder.
+     * @throws NullPointerException if {@code bufferedEntries} is null
+     */
+    public Builder withBufferedEntries(final List<BufferedJournalRecord> bufferedEntries) {
+      this.bufferedEntries = checkNotNull(bufferedEntries, NULL_ENTRIES_ERR);
+      entries = List.of();
+      version = SERIALIZED_RECORDS_VERSION;
       return this;
     }
 
@@ -297,7 +337,7 @@ public class VersionedAppendRequest extends AbstractRaftRequest {
     public VersionedAppendRequest build() {
       validate();
       return new VersionedAppendRequest(
-          version, term, leader, logIndex, logTerm, entries, commitIndex);
+          version, term, leader, logIndex, logTerm, entries, bufferedEntries, commitIndex);
     }
 
     @Override
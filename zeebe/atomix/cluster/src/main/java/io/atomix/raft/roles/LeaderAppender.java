@@ -28,6 +28,7 @@ import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
@@ -35,6 +36,7 @@ import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableRaftRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
@@ -64,7 +66,6 @@ final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
 
-  private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
@@ -85,7 +86,6 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -169,8 +169,12 @@ final class LeaderAppender {
             .withLeader(leader.memberId())
             .withCommitIndex(raft.getCommitIndex());
 
-    // Build a list of entries to send to the member.
+    // Build a list of entries to send to the member. With direct journal replication, the entries
+    // reference the serialized records in the journal instead of copying them, and are only
+    // copied once when the request is encoded, which happens on this thread.
+    final boolean directJournalReplication = raft.isDirectJournalReplicationEnabled();
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
+    final List<BufferedJournalRecord> bufferedEntries = new ArrayList<>();
 
     // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
@@ -178,22 +182,33 @@ final class LeaderAppender {
     // counted towards the size of the batch.
     // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
     // entry will be sent in a batch of size one
+    // The batch size is given by the member's flow controller, and is either the configured max
+    // batch size or, if adaptive batching is enabled, adapted to the member's throughput.
+    final int maxBatchSize = member.getAppendFlowController().batchSize();
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (hasMoreEntries(member)) {
       // Otherwise, read the next entry and add it to the batch.
       final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
-      entries.add(replicatableRecord);
-      size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (directJournalReplication) {
+        final var bufferedRecord = entry.getBufferedJournalRecord();
+        bufferedEntries.add(bufferedRecord);
+        size += bufferedRecord.approximateSize();
+      } else {
+        final var replicatableRecord = entry.getReplicatableJournalRecord();
+        entries.add(replicatableRecord);
+        size += replicatableRecord.approximateSize();
+      }
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
 
     // Add the entries to the request builder and build the request.
-    return builder.withEntries(entries).build();
+    return directJournalReplication
+        ? builder.withBufferedEntries(bufferedEntries).build()
+        : builder.withEntries(entries).build();
   }
 
   /** Connects to the member and sends a commit message. */
@@ -206,6 +221,10 @@ final class LeaderAppender {
 
     // Start the append to the member.
     member.startAppend();
+    final var flowController = member.getAppendFlowController();
+    final int requestSize = approximateSize(request);
+    final long deliveredAtSend = flowController.deliveredBytes();
+    flowController.onAppendSent(requestSize);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -224,6 +243,19 @@ final class LeaderAppender {
                   member.completeAppend();
                 }
 
+                if (error == null
+                    && response.status() == RaftResponse.Status.OK
+                    && response.succeeded()) {
+                  flowController.onAppendAcknowledged(requestSize, deliveredAtSend, appendLatency);
+                } else {
+                  flowController.onAppendFailed(requestSize);
+                }
+                metrics.observeAppendFlow(
+                    member.getMember().memberId().id(),
+                    flowController.inflightBytes(),
+                    flowController.batchSize(),
+                    flowController.deliveryRate());
+
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
                   handleAppendResponse(member, request, response, timestamp);
@@ -696,9 +728,7 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), approximateSize(request));
 
       commitEntries();
 
@@ -792,6 +822,14 @@ final class LeaderAppender {
     }
   }
 
+  private static int approximateSize(final VersionedAppendRequest request) {
+    int size = 0;
+    for (final ReplicatableRaftRecord entry : request.entries()) {
+      size += entry.approximateSize();
+    }
+    return size;
+  }
+
   private boolean hasMoreEntries(final RaftMemberContext member) {
     // If the member's nextIndex is an entry in the local log then more entries can be sent.
     return !member.hasReplicationContext() || member.hasNextEntry();
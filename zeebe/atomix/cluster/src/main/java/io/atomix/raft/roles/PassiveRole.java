@@ -22,6 +22,7 @@ import io.atomix.raft.RaftServer;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.ForceConfigureRequest;
 import io.atomix.raft.protocol.ForceConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
@@ -860,9 +861,11 @@ public class PassiveRole extends InactiveRole {
         indexed = raft.getLog().append(raftRecord);
       } else if (entry instanceof final ReplicatableJournalRecord serializedJournalRecord) {
         indexed = raft.getLog().append(serializedJournalRecord);
+      } else if (entry instanceof final BufferedJournalRecord bufferedJournalRecord) {
+        indexed = raft.getLog().append(bufferedJournalRecord);
       } else {
         throw new IllegalStateException(
-            "Expected to append PersistedRaftRecord or ReplicatableJournalRecord, but found record of type %s"
+            "Expected to append PersistedRaftRecord, ReplicatableJournalRecord or BufferedJournalRecord, but found record of type %s"
                 .formatted(entry.getClass()));
       }
 
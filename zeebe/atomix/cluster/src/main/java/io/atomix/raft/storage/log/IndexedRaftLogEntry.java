@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.storage.log;
 
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
@@ -65,4 +66,13 @@ public interface IndexedRaftLogEntry {
    * @return a record to replicate
    */
   ReplicatableJournalRecord getReplicatableJournalRecord();
+
+  /**
+   * Returns a record to replicate which references the serialized journal record instead of
+   * copying it. The returned record is only valid as long as the underlying journal segment is not
+   * compacted or truncated.
+   *
+   * @return a record to replicate
+   */
+  BufferedJournalRecord getBufferedJournalRecord();
 }
@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.storage.log;
 
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
@@ -54,4 +55,9 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
     record.serializedRecord().getBytes(0, serializedRecord);
     return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
   }
+
+  @Override
+  public BufferedJournalRecord getBufferedJournalRecord() {
+    return new BufferedJournalRecord(term, index, record.checksum(), record.serializedRecord());
+  }
 }
@@ -18,6 +18,7 @@ package io.atomix.raft.storage.log;
 
 import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
@@ -166,6 +167,14 @@ public final class RaftLog implements Closeable {
     return lastAppendedEntry;
   }
 
+  public IndexedRaftLogEntry append(final BufferedJournalRecord entry) {
+    final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
+
+    final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
+    lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
+    return lastAppendedEntry;
+  }
+
   public void reset(final long index) {
     journal.reset(index);
     lastAppendedEntry = null;
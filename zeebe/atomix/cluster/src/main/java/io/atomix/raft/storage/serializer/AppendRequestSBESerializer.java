@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.BufferedJournalRecord;
+import io.atomix.raft.protocol.ReplicatableRaftRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.storage.serializer.SerializedAppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.storage.serializer.SerializedAppendRequestEncoder.EntriesEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes and decodes {@link VersionedAppendRequest} of version {@link
+ * VersionedAppendRequest#SERIALIZED_RECORDS_VERSION}. The serialized journal records of the
+ * entries are written directly from their buffers into the message, and the decoded entries are
+ * {@link BufferedJournalRecord} views on the message, so there are no copies besides writing the
+ * message itself.
+ *
+ * <p>This class is thread safe, as the messages are encoded on the raft thread but decoded on the
+ * messaging threads.
+ */
+public final class AppendRequestSBESerializer {
+
+  public byte[] encode(final VersionedAppendRequest request) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var requestEncoder = new SerializedAppendRequestEncoder();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final byte[] bytes = new byte[getEncodedLength(request, leader.length)];
+    final var writeBuffer = new UnsafeBuffer(bytes);
+
+    headerEncoder
+        .wrap(writeBuffer, 0)
+        .blockLength(requestEncoder.sbeBlockLength())
+        .templateId(requestEncoder.sbeTemplateId())
+        .schemaId(requestEncoder.sbeSchemaId())
+        .version(requestEncoder.sbeSchemaVersion());
+    requestEncoder
+        .wrap(writeBuffer, headerEncoder.encodedLength())
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final EntriesEncoder entriesEncoder = requestEncoder.entriesCount(request.entries().size());
+    for (final ReplicatableRaftRecord entry : request.entries()) {
+      final BufferedJournalRecord record = asBufferedRecord(entry);
+      final DirectBuffer serializedRecord = record.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(record.term())
+          .index(record.index())
+          .checksum(record.checksum())
+          .putSerializedRecord(serializedRecord, 0, serializedRecord.capacity());
+    }
+    requestEncoder.putLeader(leader, 0, leader.length);
+
+    return bytes;
+  }
+
+  /**
+   * Decodes the given message. The entries of the returned request are views on {@code bytes},
+   * which must therefore not be modified afterward.
+   */
+  public VersionedAppendRequest decode(final byte[] bytes) {
+    final var headerDecoder = new MessageHeaderDecoder();
+    final var requestDecoder = new SerializedAppendRequestDecoder();
+    final var readBuffer = new UnsafeBuffer(bytes);
+    headerDecoder.wrap(readBuffer, 0);
+    if (headerDecoder.templateId() != requestDecoder.sbeTemplateId()
+        || headerDecoder.schemaId() != requestDecoder.sbeSchemaId()) {
+      throw new IllegalArgumentException(
+          "Expected to decode an append request with template id %d and schema id %d, but got template id %d and schema id %d"
+              .formatted(
+                  requestDecoder.sbeTemplateId(),
+                  requestDecoder.sbeSchemaId(),
+                  headerDecoder.templateId(),
+                  headerDecoder.schemaId()));
+    }
+
+    requestDecoder.wrap(
+        readBuffer,
+        headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final long term = requestDecoder.term();
+    final long prevLogIndex = requestDecoder.prevLogIndex();
+    final long prevLogTerm = requestDecoder.prevLogTerm();
+    final long commitIndex = requestDecoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = requestDecoder.entries();
+    final var entries = new ArrayList<BufferedJournalRecord>(entriesDecoder.count());
+    for (final EntriesDecoder entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      final var serializedRecord = new UnsafeBuffer();
+      entry.wrapSerializedRecord(serializedRecord);
+      entries.add(new BufferedJournalRecord(entryTerm, index, checksum, serializedRecord));
+    }
+    final String leader = requestDecoder.leader();
+
+    return VersionedAppendRequest.builder()
+        .withTerm(term)
+        .withLeader(MemberId.from(leader))
+        .withPrevLogIndex(prevLogIndex)
+        .withPrevLogTerm(prevLogTerm)
+        .withCommitIndex(commitIndex)
+        .withBufferedEntries(entries)
+        .build();
+  }
+
+  private static int getEncodedLength(
+      final VersionedAppendRequest request, final int leaderLength) {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + SerializedAppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + SerializedAppendRequestEncoder.leaderHeaderLength()
+            + leaderLength;
+    for (final ReplicatableRaftRecord entry : request.entries()) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedRecordHeaderLength()
+              + asBufferedRecord(entry).serializedJournalRecord().capacity();
+    }
+    return length;
+  }
+
+  private static BufferedJournalRecord asBufferedRecord(final ReplicatableRaftRecord entry) {
+    if (entry instanceof final BufferedJournalRecord record) {
+      return record;
+    }
+
+    throw new IllegalArgumentException(
+        "Expected to encode entries of type BufferedJournalRecord, but found %s"
+            .formatted(entry.getClass()));
+  }
+}
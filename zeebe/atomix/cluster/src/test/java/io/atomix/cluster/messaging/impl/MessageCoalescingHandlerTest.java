@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.atomix.cluster.messaging.impl.ProtocolReply.Status;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class MessageCoalescingHandlerTest {
+  private static final Duration WINDOW = Duration.ofMillis(1);
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+
+  private final EmbeddedChannel channel =
+      new EmbeddedChannel(
+          new MessageCoalescingHandler(WINDOW, MAX_BATCH_SIZE, new MessagingMetricsImpl()));
+
+  @AfterEach
+  void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void shouldCoalesceMessagesWithinWindow() {
+    // given
+    final var first = request(1, 10);
+    final var second = request(2, 10);
+    final var third = reply(3, 10);
+
+    // when
+    final var firstWrite = channel.writeAndFlush(first);
+    final var secondWrite = channel.writeAndFlush(second);
+    final var thirdWrite = channel.writeAndFlush(third);
+    channel.advanceTimeBy(WINDOW.toNanos(), TimeUnit.NANOSECONDS);
+    channel.runPendingTasks();
+
+    // then
+    final ProtocolMessageBatch batch = channel.readOutbound();
+    assertThat(batch.messages()).containsExactly(first, second, third);
+    assertThat((Object) channel.readOutbound()).isNull();
+    assertThat(List.of(firstWrite, secondWrite, thirdWrite)).allMatch(ChannelFuture::isSuccess);
+  }
+
+  @Test
+  void shouldNotWriteBeforeEndOfWindow() {
+    // when
+    final var write = channel.writeAndFlush(request(1, 10));
+    channel.runPendingTasks();
+
+    // then
+    assertThat((Object) channel.readOutbound()).isNull();
+    assertThat(write.isDone()).isFalse();
+  }
+
+  @Test
+  void shouldWriteBatchOnceMaxBatchSizeIsExceeded() {
+    // given
+    final var first = request(1, MAX_BATCH_SIZE / 2);
+    final var second = request(2, MAX_BATCH_SIZE / 2);
+
+    // when - without advancing the time
+    channel.writeAndFlush(first);
+    channel.writeAndFlush(second);
+
+    // then
+    final ProtocolMessageBatch batch = channel.readOutbound();
+    assertThat(batch.messages()).containsExactly(first, second);
+  }
+
+  @Test
+  void shouldWriteSingleMessageWithoutBatch() {
+    // given
+    final var message = request(1, 10);
+
+    // when
+    final var write = channel.writeAndFlush(message);
+    channel.advanceTimeBy(WINDOW.toNanos(), TimeUnit.NANOSECONDS);
+    channel.runPendingTasks();
+
+    // then
+    assertThat((Object) channel.readOutbound()).isSameAs(message);
+    assertThat(write.isSuccess()).isTrue();
+  }
+
+  @Test
+  void shouldWritePendingMessagesBeforeOtherWrites() {
+    // given
+    final var message = request(1, 10);
+    final var other = new Object();
+
+    // when
+    channel.writeAndFlush(message);
+    channel.writeAndFlush(other);
+
+    // then
+    assertThat((Object) channel.readOutbound()).isSameAs(message);
+    assertThat((Object) channel.readOutbound()).isSameAs(other);
+  }
+
+  @Test
+  void shouldWritePendingMessagesOnClose() {
+    // given
+    final var message = request(1, 10);
+    channel.writeAndFlush(message);
+
+    // when
+    channel.close();
+
+    // then
+    assertThat((Object) channel.readOutbound()).isSameAs(message);
+  }
+
+  @Test
+  void shouldDecodeEncodedBatch() {
+    // given
+    final var encoder = new EmbeddedChannel(new MessageEncoderV3(ADDRESS));
+    final var decoder = new EmbeddedChannel(new MessageDecoderV3());
+    final var request = request(1, 10);
+    final var reply = reply(2, 20);
+
+    // when
+    encoder.writeAndFlush(new ProtocolMessageBatch(List.of(request, reply)));
+    encoder.writeAndFlush(request(3, 30));
+    ByteBuf encoded;
+    while ((encoded = encoder.readOutbound()) != null) {
+      decoder.writeInbound(encoded);
+    }
+
+    // then
+    final List<ProtocolMessage> decoded = new ArrayList<>();
+    ProtocolMessage message;
+    while ((message = decoder.readInbound()) != null) {
+      decoded.add(message);
+    }
+    assertThat(decoded)
+        .extracting(ProtocolMessage::id, ProtocolMessage::type, m -> m.payload().length)
+        .containsExactly(
+            tuple(1L, ProtocolMessage.Type.REQUEST, 10),
+            tuple(2L, ProtocolMessage.Type.REPLY, 20),
+            tuple(3L, ProtocolMessage.Type.REQUEST, 30));
+    assertThat(((ProtocolRequest) decoded.getFirst()).sender()).isEqualTo(ADDRESS);
+    assertThat(((ProtocolReply) decoded.get(1)).status()).isEqualTo(Status.OK);
+
+    encoder.finishAndReleaseAll();
+    decoder.finishAndReleaseAll();
+  }
+
+  private ProtocolRequest request(final long id, final int payloadSize) {
+    return new ProtocolRequest(id, ADDRESS, "subject", new byte[payloadSize]);
+  }
+
+  private ProtocolReply reply(final long id, final int payloadSize) {
+    return new ProtocolReply(id, new byte[payloadSize], Status.OK);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.junit.AutoCloseResources;
+import io.camunda.zeebe.test.util.junit.AutoCloseResources.AutoCloseResource;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@AutoCloseResources
+final class NettyMessagingServiceCoalescingTest {
+  private static final String CLUSTER_NAME = "zeebe";
+  private static final String SUBJECT = "echo";
+
+  @AutoCloseResource
+  private final NettyMessagingService receiver =
+      new NettyMessagingService(CLUSTER_NAME, newAddress(), coalescingConfig());
+
+  @AutoCloseResource
+  private final NettyMessagingService sender =
+      new NettyMessagingService(CLUSTER_NAME, newAddress(), coalescingConfig());
+
+  @AutoCloseResource
+  private final NettyMessagingService senderWithoutBatchSupport =
+      new NettyMessagingService(CLUSTER_NAME, newAddress(), coalescingConfig(), ProtocolVersion.V2);
+
+  @BeforeEach
+  void beforeEach() {
+    startMessagingServices(receiver, sender, senderWithoutBatchSupport);
+    receiver.registerHandler(SUBJECT, (address, payload) -> payload, Runnable::run);
+  }
+
+  @Test
+  void shouldReplyToCoalescedRequests() {
+    // when
+    final var responses = sendRequests(sender, 100);
+
+    // then
+    assertResponses(responses);
+  }
+
+  @Test
+  void shouldReplyToRequestsFromPeerWithoutBatchSupport() {
+    // when
+    final var responses = sendRequests(senderWithoutBatchSupport, 100);
+
+    // then
+    assertResponses(responses);
+  }
+
+  private List<CompletableFuture<byte[]>> sendRequests(
+      final NettyMessagingService sender, final int count) {
+    final List<CompletableFuture<byte[]>> responses = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      responses.add(
+          sender.sendAndReceive(receiver.address(), SUBJECT, String.valueOf(i).getBytes()));
+    }
+    return responses;
+  }
+
+  private void assertResponses(final List<CompletableFuture<byte[]>> responses) {
+    CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+    for (int i = 0; i < responses.size(); i++) {
+      assertThat(new String(responses.get(i).join())).isEqualTo(String.valueOf(i));
+    }
+  }
+
+  private void startMessagingServices(final NettyMessagingService... services) {
+    CompletableFuture.allOf(
+            Stream.of(services)
+                .map(NettyMessagingService::start)
+                .toArray(CompletableFuture[]::new))
+        .join();
+  }
+
+  private static MessagingConfig coalescingConfig() {
+    return new MessagingConfig()
+        .setShutdownQuietPeriod(Duration.ofMillis(50))
+        .setMessageCoalescingEnabled(true)
+        .setMessageCoalescingWindow(Duration.ofMillis(1))
+        .setMessageCoalescingMaxBatchSize(1024);
+  }
+
+  private static Address newAddress() {
+    return Address.from(SocketUtil.getNextAddress().getPort());
+  }
+}
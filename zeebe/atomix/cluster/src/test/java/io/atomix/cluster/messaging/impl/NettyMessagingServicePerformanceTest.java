@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the request-response throughput between two messaging services over loopback. Each
+ * invocation sends {@link #REQUESTS_IN_FLIGHT} requests before awaiting their replies, such that
+ * many requests are correlated concurrently. The GC profiler additionally reports the allocation
+ * rate per request.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NettyMessagingServicePerformanceTest {
+  private static final String CLUSTER_NAME = "zeebe";
+  private static final String SUBJECT = "echo";
+  private static final int REQUESTS_IN_FLIGHT = 256;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private final byte[] payload = new byte[128];
+  private final CompletableFuture<?>[] responses = new CompletableFuture<?>[REQUESTS_IN_FLIGHT];
+
+  private NettyMessagingService sender;
+  private NettyMessagingService receiver;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    sender = new NettyMessagingService(CLUSTER_NAME, newAddress(), newConfig());
+    receiver = new NettyMessagingService(CLUSTER_NAME, newAddress(), newConfig());
+    CompletableFuture.allOf(sender.start(), receiver.start()).join();
+    receiver.registerHandler(SUBJECT, (address, request) -> request, Runnable::run);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    CompletableFuture.allOf(sender.stop(), receiver.stop()).join();
+  }
+
+  @JMHTest("measureRequestResponse")
+  void shouldSendRequestsWithinDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 50_000.0;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.addProfiler(GCProfiler.class)).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS_IN_FLIGHT)
+  public void measureRequestResponse() {
+    final var address = receiver.address();
+    for (int i = 0; i < REQUESTS_IN_FLIGHT; i++) {
+      responses[i] = sender.sendAndReceive(address, SUBJECT, payload, true, REQUEST_TIMEOUT);
+    }
+
+    CompletableFuture.allOf(responses).join();
+  }
+
+  private static MessagingConfig newConfig() {
+    return new MessagingConfig().setShutdownQuietPeriod(Duration.ofMillis(50));
+  }
+
+  private static Address newAddress() {
+    return Address.from(SocketUtil.getNextAddress().getPort());
+  }
+}
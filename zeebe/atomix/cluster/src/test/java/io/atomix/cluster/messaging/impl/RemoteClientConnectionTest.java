@@ -205,6 +205,9 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeCoalescedBatch(final int messageCount, final long delayNanos) {}
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
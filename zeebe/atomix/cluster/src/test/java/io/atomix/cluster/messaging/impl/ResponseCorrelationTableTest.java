@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.messaging.impl.ResponseCorrelationTable.PendingResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class ResponseCorrelationTableTest {
+
+  private final ResponseCorrelationTable table = new ResponseCorrelationTable(4);
+
+  @Test
+  void shouldRemoveRegisteredResponse() {
+    // given
+    final var response = table.register(1);
+
+    // when
+    final var removed = table.remove(1);
+
+    // then
+    assertThat(removed).isSameAs(response);
+    assertThat(removed.id()).isOne();
+    assertThat(table.size()).isZero();
+  }
+
+  @Test
+  void shouldReturnExistingResponseForSameId() {
+    // given
+    final var response = table.register(1);
+
+    // when
+    final var registeredAgain = table.register(1);
+
+    // then
+    assertThat(registeredAgain).isSameAs(response);
+    assertThat(table.size()).isOne();
+  }
+
+  @Test
+  void shouldNotRemoveUnknownResponse() {
+    // given
+    table.register(1);
+
+    // when
+    final var removed = table.remove(5);
+
+    // then
+    assertThat(removed).isNull();
+    assertThat(table.size()).isOne();
+  }
+
+  @Test
+  void shouldCorrelateResponsesMappingToSameSlot() {
+    // given - with a capacity of 4, the IDs 1, 5 and 9 map to the same slot
+    final var first = table.register(1);
+    final var second = table.register(5);
+    final var third = table.register(9);
+
+    // when
+    final var removedSecond = table.remove(5);
+    final var removedFirst = table.remove(1);
+    final var removedThird = table.remove(9);
+
+    // then
+    assertThat(removedFirst).isSameAs(first);
+    assertThat(removedSecond).isSameAs(second);
+    assertThat(removedThird).isSameAs(third);
+    assertThat(table.size()).isZero();
+  }
+
+  @Test
+  void shouldRemoveAllResponses() {
+    // given
+    final var responses = List.of(table.register(1), table.register(2), table.register(5));
+
+    // when
+    final List<PendingResponse> removed = new ArrayList<>();
+    table.removeAll(removed::add);
+
+    // then
+    assertThat(removed).containsExactlyInAnyOrderElementsOf(responses);
+    assertThat(table.size()).isZero();
+  }
+
+  @Test
+  void shouldRejectCapacityWhichIsNotPowerOfTwo() {
+    assertThatThrownBy(() -> new ResponseCorrelationTable(3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldCorrelateConcurrentRequests() throws Exception {
+    // given
+    final int threads = 4;
+    final int requestsPerThread = 10_000;
+    final var idGenerator = new AtomicLong();
+    final var startLatch = new CountDownLatch(1);
+    final List<Future<Integer>> results = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    // when
+    try {
+      for (int i = 0; i < threads; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  startLatch.await();
+                  int correlated = 0;
+                  for (int j = 0; j < requestsPerThread; j++) {
+                    final long id = idGenerator.incrementAndGet();
+                    final var response = table.register(id);
+                    if (table.remove(id) == response) {
+                      correlated++;
+                    }
+                  }
+                  return correlated;
+                }));
+      }
+      startLatch.countDown();
+
+      // then
+      for (final var result : results) {
+        assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo(requestsPerThread);
+      }
+      assertThat(table.size()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a follower which was disconnected for a while catches up with the leader once
+ * it is reconnected. Each invocation lets the follower lag behind by {@link #LAGGING_ENTRIES}
+ * entries, which are then replicated to it.
+ *
+ * <p>The benchmark runs with static and with adaptive append batching, and the test compares both:
+ * adaptive batching starts with the static limits, so it must catch up at least as fast.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RaftFollowerCatchUpPerformanceTest {
+  private static final int LAGGING_ENTRIES = 1_000;
+  private static final long CATCH_UP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  @Param({"false", "true"})
+  public boolean adaptiveAppendBatching;
+
+  private RaftRule raftRule;
+  private RaftServer follower;
+
+  @Setup(Level.Trial)
+  public void setup() throws Throwable {
+    raftRule = RaftRule.withBootstrappedNodes(3, new CatchUpConfigurator(adaptiveAppendBatching));
+    raftRule.temporaryFolder.create();
+    raftRule.before();
+    raftRule.awaitNewLeader();
+    follower = raftRule.getFollower().orElseThrow();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    raftRule.after();
+    raftRule.temporaryFolder.delete();
+  }
+
+  @Setup(Level.Invocation)
+  public void letFollowerLag() throws Exception {
+    raftRule.partition(follower);
+    raftRule.appendEntries(LAGGING_ENTRIES);
+  }
+
+  @JMHTest("measureFollowerCatchUp")
+  void shouldCatchUpAtLeastAsFastWithAdaptiveBatching(final JMHTestCase testCase) {
+    // given
+    final var staticScore =
+        JMHTestCase.of(
+                getClass(),
+                "measureFollowerCatchUp",
+                options -> options.param("adaptiveAppendBatching", "false"))
+            .run()
+            .score();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("adaptiveAppendBatching", "true")).run();
+
+    // then
+    assertResult.isAtLeast(staticScore, 0.1);
+  }
+
+  @Benchmark
+  public long measureFollowerCatchUp() throws Exception {
+    // given
+    raftRule.reconnect(follower);
+
+    // when - a new entry triggers the replication to the follower right away
+    final var lastIndex = raftRule.appendEntry();
+
+    // then - the follower's log is read outside of its raft thread, which is fine to poll progress
+    final var deadline = System.nanoTime() + CATCH_UP_TIMEOUT_NANOS;
+    final var followerLog = follower.getContext().getLog();
+    long followerIndex;
+    while ((followerIndex = followerLog.getLastIndex()) < lastIndex) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException(
+            "Expected follower %s to catch up to %d, but it is still at %d"
+                .formatted(follower.name(), lastIndex, followerIndex));
+      }
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+
+    return followerIndex;
+  }
+
+  private record CatchUpConfigurator(boolean adaptiveAppendBatching)
+      implements RaftRule.Configurator {
+
+    @Override
+    public void configure(final MemberId id, final Builder builder) {
+      final var partitionConfig =
+          new RaftPartitionConfig()
+              .setElectionTimeout(Duration.ofSeconds(1))
+              .setHeartbeatInterval(Duration.ofMillis(100));
+      partitionConfig.setMaxAppendBatchSize(256 * 1024);
+      partitionConfig.setMaxAppendsPerFollower(4);
+      partitionConfig.setMaxAdaptiveAppendsPerFollower(16);
+      partitionConfig.setAdaptiveAppendBatchingEnabled(adaptiveAppendBatching);
+      builder.withPartitionConfig(partitionConfig);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class RaftJournalReplicationTest {
+
+  @Rule @Parameter public RaftRule raftRule;
+
+  @Parameters(name = "{index}: {0}")
+  public static Object[][] raftConfigurations() {
+    return new Object[][] {
+      new Object[] {RaftRule.withBootstrappedNodes(3)},
+      new Object[] {RaftRule.withBootstrappedNodes(3).withDirectJournalReplication()}
+    };
+  }
+
+  @Test
+  public void shouldReplicateSameJournalToFollowers() throws Exception {
+    // given
+    final var entryCount = 50;
+
+    // when
+    final var lastIndex = raftRule.appendEntries(entryCount);
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+    assertSameJournalOnAllNodes(lastIndex);
+  }
+
+  @Test
+  public void shouldCatchUpFollowerWithSameJournal() throws Exception {
+    // given
+    final var follower = raftRule.getFollower().orElseThrow();
+    raftRule.appendEntries(10);
+
+    // when - the follower misses entries spanning several segments
+    raftRule.partition(follower);
+    final var lastIndex = raftRule.appendEntries(100);
+    raftRule.reconnect(follower);
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+    assertSameJournalOnAllNodes(lastIndex);
+  }
+
+  @Test
+  public void shouldReplicateSameJournalToRestartedFollower() throws Exception {
+    // given
+    raftRule.appendEntries(10);
+    final var follower = raftRule.shutdownFollower();
+    raftRule.appendEntries(50);
+
+    // when
+    raftRule.joinCluster(follower);
+    final var lastIndex = raftRule.appendEntries(10);
+
+    // then
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+    assertSameJournalOnAllNodes(lastIndex);
+  }
+
+  private void assertSameJournalOnAllNodes(final long lastIndex) {
+    final Map<String, List<IndexedRaftLogEntry>> memberLogs = raftRule.getMemberLogs();
+    final var leader = raftRule.getLeader().orElseThrow().name();
+    final var leaderLog = memberLogs.get(leader);
+    assertThat(leaderLog).last().extracting(IndexedRaftLogEntry::index).isEqualTo(lastIndex);
+
+    // the copied entries are equal only if their serialized journal records and checksums are
+    for (final var member : memberLogs.keySet()) {
+      assertThat(memberLogs.get(member))
+          .describedAs("Journal of %s compared to leader %s", member, leader)
+          .containsExactlyElementsOf(leaderLog);
+      assertThat(memberLogs.get(member))
+          .extracting(entry -> entry.getBufferedJournalRecord().checksum())
+          .describedAs("Checksums of %s compared to leader %s", member, leader)
+          .containsExactlyElementsOf(
+              leaderLog.stream()
+                  .map(entry -> entry.getBufferedJournalRecord().checksum())
+                  .toList());
+    }
+  }
+}
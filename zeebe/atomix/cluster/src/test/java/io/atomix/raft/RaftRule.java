@@ -26,6 +26,7 @@ import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.primitive.TestMember;
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.TestRaftProtocolFactory;
@@ -92,6 +93,7 @@ public final class RaftRule extends ExternalResource {
   private final AtomicReference<CommitAwaiter> commitAwaiterRef = new AtomicReference<>();
   private long position;
   private EntryValidator entryValidator = new NoopEntryValidator();
+  private boolean directJournalReplication;
   // Keep a reference to the snapshots to ensure they are persisted across the restarts.
   private Map<String, AtomicReference<InMemorySnapshot>> snapshots;
   private Map<String, TestSnapshotStore> snapshotStores;
@@ -120,6 +122,15 @@ public final class RaftRule extends ExternalResource {
     return this;
   }
 
+  /**
+   * Replicates serialized journal records directly, i.e. append requests are sent on the
+   * "append-serialized-records" subject, encoded with SBE.
+   */
+  public RaftRule withDirectJournalReplication() {
+    directJournalReplication = true;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     final var statement = super.apply(base, description);
@@ -500,13 +511,15 @@ public final class RaftRule extends ExternalResource {
   private RaftServer createServer(final MemberId memberId, final Configurator configurator) {
     final TestRaftServerProtocol protocol = protocolFactory.newServerProtocol(memberId);
     final var storage = createStorage(memberId, configurator);
+    final var partitionConfig =
+        new RaftPartitionConfig()
+            .setElectionTimeout(Duration.ofSeconds(1))
+            .setHeartbeatInterval(Duration.ofMillis(100));
+    partitionConfig.setDirectJournalReplicationEnabled(directJournalReplication);
 
     final RaftServer.Builder builder =
         RaftServer.builder(memberId)
-            .withPartitionConfig(
-                new RaftPartitionConfig()
-                    .setElectionTimeout(Duration.ofSeconds(1))
-                    .setHeartbeatInterval(Duration.ofMillis(100)))
+            .withPartitionConfig(partitionConfig)
             .withMembershipService(mock(ClusterMembershipService.class))
             .withProtocol(protocol)
             .withEntryValidator(entryValidator)
@@ -584,7 +597,10 @@ public final class RaftRule extends ExternalResource {
 
   @Override
   public String toString() {
-    return "RaftRule with " + nodeCount + " nodes.";
+    return "RaftRule with "
+        + nodeCount
+        + " nodes"
+        + (directJournalReplication ? " and direct journal replication." : ".");
   }
 
   public void triggerDataLossOnNode(final String node) throws IOException {
@@ -687,7 +703,13 @@ public final class RaftRule extends ExternalResource {
     }
   }
 
-  private record CopiedRaftLogEntry(long index, long term, RaftEntry entry)
+  /**
+   * A copy of a log entry, including its serialized journal record, such that the logs of the
+   * members can be compared after their readers were closed. Two copies are equal if their entries
+   * and their serialized journal records, including the checksums, are equal.
+   */
+  private record CopiedRaftLogEntry(
+      long index, long term, RaftEntry entry, BufferedJournalRecord journalRecord)
       implements IndexedRaftLogEntry {
     private static CopiedRaftLogEntry of(final IndexedRaftLogEntry entry) {
       final RaftEntry copiedEntry;
@@ -700,7 +722,15 @@ public final class RaftRule extends ExternalResource {
         copiedEntry = entry.entry();
       }
 
-      return new CopiedRaftLogEntry(entry.index(), entry.term(), copiedEntry);
+      final var journalRecord = entry.getBufferedJournalRecord();
+      final var copiedJournalRecord =
+          new BufferedJournalRecord(
+              journalRecord.term(),
+              journalRecord.index(),
+              journalRecord.checksum(),
+              BufferUtil.cloneBuffer(journalRecord.serializedJournalRecord()));
+
+      return new CopiedRaftLogEntry(entry.index(), entry.term(), copiedEntry, copiedJournalRecord);
     }
 
     @Override
@@ -715,7 +745,16 @@ public final class RaftRule extends ExternalResource {
 
     @Override
     public ReplicatableJournalRecord getReplicatableJournalRecord() {
-      throw new UnsupportedOperationException();
+      return new ReplicatableJournalRecord(
+          term,
+          index,
+          journalRecord.checksum(),
+          BufferUtil.bufferAsArray(journalRecord.serializedJournalRecord()));
+    }
+
+    @Override
+    public BufferedJournalRecord getBufferedJournalRecord() {
+      return journalRecord;
     }
   }
 
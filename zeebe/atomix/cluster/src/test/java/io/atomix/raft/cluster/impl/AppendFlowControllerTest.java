@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendFlowControllerTest {
+
+  private static final int MAX_BATCH_SIZE = 32 * 1024;
+  private static final int MAX_INFLIGHT_APPENDS = 2;
+  private static final int MAX_ADAPTIVE_INFLIGHT_APPENDS = 8;
+
+  @Test
+  void shouldUseConfiguredLimitsIfNotAdaptive() {
+    // given
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, false);
+
+    // when
+    controller.onAppendSent(10 * MAX_BATCH_SIZE);
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_INFLIGHT_APPENDS);
+    assertThat(controller.hasInflightCapacity()).isTrue();
+  }
+
+  @Test
+  void shouldTrackDeliveryRateIfNotAdaptive() {
+    // given
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, false);
+
+    // when
+    sendAndAcknowledgeWindow(controller, 10);
+
+    // then - two batches were acknowledged within 10ms
+    assertThat(controller.deliveryRate()).isCloseTo(2 * MAX_BATCH_SIZE * 100, within(1.0));
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_INFLIGHT_APPENDS);
+  }
+
+  @Test
+  void shouldStartWithConfiguredLimitsIfAdaptive() {
+    // given
+    final var controller = newAdaptiveController();
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_INFLIGHT_APPENDS);
+    controller.onAppendSent(MAX_BATCH_SIZE * MAX_INFLIGHT_APPENDS - 1);
+    assertThat(controller.hasInflightCapacity()).isTrue();
+  }
+
+  @Test
+  void shouldGrowWindowBeyondStaticLimitsWhileDeliveryRateIncreases() {
+    // given
+    final var controller = newAdaptiveController();
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      sendAndAcknowledgeWindow(controller, 1);
+    }
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isGreaterThan(MAX_INFLIGHT_APPENDS);
+    assertThat(controller.deliveryRate()).isPositive();
+  }
+
+  @Test
+  void shouldNotExceedAdaptiveLimits() {
+    // given
+    final var controller = newAdaptiveController();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      sendAndAcknowledgeWindow(controller, 1);
+    }
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_ADAPTIVE_INFLIGHT_APPENDS);
+  }
+
+  @Test
+  void shouldNotExceedStaticLimitsWithoutAdaptiveLimit() {
+    // given
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, true);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      sendAndAcknowledgeWindow(controller, 1);
+    }
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_INFLIGHT_APPENDS);
+  }
+
+  @Test
+  void shouldKeepWindowUntilEnoughSamplesWereCollected() {
+    // given
+    final var controller = newAdaptiveController();
+
+    // when - a single small append is acknowledged
+    controller.onAppendSent(1024);
+    controller.onAppendAcknowledged(1024, controller.deliveredBytes(), 1);
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_INFLIGHT_APPENDS);
+  }
+
+  @Test
+  void shouldLimitWindowToBandwidthDelayProduct() {
+    // given - a follower which acknowledges at most 16KB per 10ms
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, 8, true);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      final var deliveredAtSend = controller.deliveredBytes();
+      controller.onAppendSent(4 * 1024);
+      controller.onAppendAcknowledged(4 * 1024, deliveredAtSend - 12 * 1024, 10);
+    }
+
+    // then - the window is twice the BDP of 16KB
+    assertThat(controller.deliveryRate()).isCloseTo(16 * 1024 * 100, within(1.0));
+    assertThat(controller.batchSize()).isEqualTo(4 * 1024);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(8);
+    controller.onAppendSent(32 * 1024);
+    assertThat(controller.hasInflightCapacity()).isFalse();
+  }
+
+  @Test
+  void shouldTrackInflightBytes() {
+    // given
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, true);
+
+    // when
+    controller.onAppendSent(1024);
+    controller.onAppendSent(2048);
+    controller.onAppendAcknowledged(1024, 0, 1);
+
+    // then
+    assertThat(controller.inflightBytes()).isEqualTo(2048);
+    assertThat(controller.deliveredBytes()).isEqualTo(1024);
+  }
+
+  @Test
+  void shouldHalveWindowOnFailure() {
+    // given
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, true);
+    for (int i = 0; i < 100; i++) {
+      sendAndAcknowledgeWindow(controller, 1);
+    }
+    controller.onAppendSent(1024);
+    controller.onAppendSent(2048);
+
+    // when
+    controller.onAppendFailed(1024);
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+    assertThat(controller.inflightAppendLimit()).isEqualTo(MAX_INFLIGHT_APPENDS);
+    assertThat(controller.inflightBytes()).isEqualTo(2048);
+  }
+
+  @Test
+  void shouldNotShrinkWindowBelowMinBatchSizeOnFailures() {
+    // given
+    final var controller = newAdaptiveController();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      controller.onAppendSent(1024);
+      controller.onAppendFailed(1024);
+    }
+
+    // then
+    assertThat(controller.batchSize()).isEqualTo(MAX_BATCH_SIZE / 8);
+    assertThat(controller.inflightAppendLimit()).isOne();
+    assertThat(controller.inflightBytes()).isZero();
+  }
+
+  @Test
+  void shouldResetInflightBytes() {
+    // given
+    final var controller = new AppendFlowController(MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, true);
+    controller.onAppendSent(MAX_BATCH_SIZE);
+
+    // when
+    controller.reset();
+
+    // then
+    assertThat(controller.inflightBytes()).isZero();
+    assertThat(controller.hasInflightCapacity()).isTrue();
+  }
+
+  private AppendFlowController newAdaptiveController() {
+    return new AppendFlowController(
+        MAX_BATCH_SIZE, MAX_INFLIGHT_APPENDS, MAX_ADAPTIVE_INFLIGHT_APPENDS, true);
+  }
+
+  private void sendAndAcknowledgeWindow(
+      final AppendFlowController controller, final long roundTripTime) {
+    final var batchSize = controller.batchSize();
+    final var appends = controller.inflightAppendLimit();
+    final var deliveredAtSend = controller.deliveredBytes();
+
+    for (int i = 0; i < appends; i++) {
+      controller.onAppendSent(batchSize);
+    }
+
+    for (int i = 0; i < appends; i++) {
+      controller.onAppendAcknowledged(batchSize, deliveredAtSend, roundTripTime);
+    }
+  }
+}
@@ -18,6 +18,7 @@ package io.atomix.raft.protocol;
 
 import com.google.common.collect.Sets;
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.storage.serializer.AppendRequestSBESerializer;
 import java.net.ConnectException;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +34,8 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
 
   private static final long REQUEST_TIMEOUT_MS = 1000;
   private static final long CONFIGURATION_REQUEST_TIMEOUT_MS = 4000;
+  private static final AppendRequestSBESerializer APPEND_REQUEST_SERIALIZER =
+      new AppendRequestSBESerializer();
 
   private Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> configureHandler;
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
@@ -171,9 +174,10 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
+    final var sentRequest = encodeSerializedRecords(request);
     return getServer(memberId)
-        .thenCompose(listener -> intercept(listener, request, VersionedAppendRequest.class))
-        .thenCompose(listener -> listener.append(request))
+        .thenCompose(listener -> intercept(listener, sentRequest, VersionedAppendRequest.class))
+        .thenCompose(listener -> listener.append(sentRequest))
         .thenCompose(response -> transformResponse(response, AppendResponse.class))
         .orTimeout(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
   }
@@ -294,6 +298,19 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
     appendHandler = null;
   }
 
+  /**
+   * Requests with serialized records reference the leader's journal, so they are encoded right
+   * away, as they would be when sent on the "append-serialized-records" subject. The receiver then
+   * appends the records decoded from the message, like a remote follower would.
+   */
+  private static VersionedAppendRequest encodeSerializedRecords(
+      final VersionedAppendRequest request) {
+    if (request.version() != VersionedAppendRequest.SERIALIZED_RECORDS_VERSION) {
+      return request;
+    }
+    return APPEND_REQUEST_SERIALIZER.decode(APPEND_REQUEST_SERIALIZER.encode(request));
+  }
+
   private CompletableFuture<TestRaftServerProtocol> getServer(final MemberId memberId) {
     final TestRaftServerProtocol server = server(memberId);
     if (server != null) {
@@ -31,6 +31,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.impl.LogCompactor;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.RaftStorage;
@@ -407,5 +408,10 @@ public class LeaderRoleTest {
     public ReplicatableJournalRecord getReplicatableJournalRecord() {
       return null;
     }
+
+    @Override
+    public BufferedJournalRecord getBufferedJournalRecord() {
+      return null;
+    }
   }
 }
@@ -37,6 +37,7 @@ import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -171,6 +172,32 @@ class RaftLogTest {
     raftlogFollower.close();
   }
 
+  @Test
+  void shouldAppendBufferedJournalRecord(@TempDir final File directory) {
+    // given
+    final RaftLogEntry entry = new RaftLogEntry(1, firstApplicationEntry);
+    final var bufferedRecord = raftlog.append(entry).getBufferedJournalRecord();
+    final var raftlogFollower =
+        RaftLog.builder()
+            .withDirectory(directory)
+            .withName("test-follower")
+            .withMetaStore(new InMemory())
+            .build();
+
+    // when
+    final var appended = raftlogFollower.append(bufferedRecord);
+
+    // then
+    assertThat(raftlogFollower.getLastEntry()).isEqualTo(appended);
+    assertThat(appended.index()).isEqualTo(1);
+    assertThat(appended.term()).isEqualTo(1);
+    assertThat(appended.entry()).isEqualTo(firstApplicationEntry);
+    assertThat(appended.getReplicatableJournalRecord().serializedJournalRecord())
+        .isEqualTo(BufferUtil.bufferAsArray(bufferedRecord.serializedJournalRecord()));
+
+    raftlogFollower.close();
+  }
+
   @Test
   void shouldDeleteAfter() {
     // given
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.protocol.BufferedJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class AppendRequestSBESerializerTest {
+
+  private final AppendRequestSBESerializer serializer = new AppendRequestSBESerializer();
+
+  @Test
+  void shouldEncodeAndDecodeRequest() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(3)
+            .withLeader(MemberId.from("leader-1"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(2)
+            .withCommitIndex(9)
+            .withBufferedEntries(
+                List.of(
+                    new BufferedJournalRecord(2, 11, 123L, new UnsafeBuffer("foo".getBytes())),
+                    new BufferedJournalRecord(3, 12, 456L, new UnsafeBuffer("barbaz".getBytes()))))
+            .build();
+
+    // when
+    final var decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.version()).isEqualTo(VersionedAppendRequest.SERIALIZED_RECORDS_VERSION);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("leader-1"));
+  }
+
+  @Test
+  void shouldEncodeEntriesFromBufferSlices() {
+    // given
+    final byte[] segment = "xxrecordyy".getBytes();
+    final var slice = new UnsafeBuffer(segment, 2, 6);
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("0"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(0)
+            .withBufferedEntries(List.of(new BufferedJournalRecord(1, 1, 1L, slice)))
+            .build();
+
+    // when
+    final var decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    final var entry = (BufferedJournalRecord) decoded.entries().getFirst();
+    assertThat(entry.serializedJournalRecord()).isEqualTo(new UnsafeBuffer("record".getBytes()));
+  }
+
+  @Test
+  void shouldEncodeRequestWithoutEntries() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("0"))
+            .withPrevLogIndex(5)
+            .withPrevLogTerm(1)
+            .withCommitIndex(5)
+            .withBufferedEntries(List.of())
+            .build();
+
+    // when
+    final var decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.entries()).isEmpty();
+  }
+
+  @Test
+  void shouldRejectRequestWithCopiedEntries() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("0"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(0)
+            .withEntries(List.of(new ReplicatableJournalRecord(1, 1, 1L, new byte[1])))
+            .build();
+
+    // when - then
+    assertThatThrownBy(() -> serializer.encode(request))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
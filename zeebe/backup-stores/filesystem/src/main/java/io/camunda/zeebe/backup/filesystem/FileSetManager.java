@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class FileSetManager {
+  private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
+  // The path format is constructed by contents/partitionId/checkpointId/nodeId/nameOfFileSet
+  private static final String PATH_FORMAT = "contents/%s/%s/%s/%s";
+  private final Path basePath;
+  private final Executor executor;
+
+  FileSetManager(final Path basePath, final Executor executor) {
+    this.basePath = basePath;
+    this.executor = executor;
+  }
+
+  /**
+   * Stores all files of the given file set. If {@code tryLink} is set, files are hard linked into
+   * the store when possible and only copied if the store resides on another filesystem. This must
+   * only be used for files which are never modified in place, like the files of a persisted
+   * snapshot.
+   */
+  void save(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFileSet fileSet,
+      final boolean tryLink) {
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    try {
+      Files.createDirectories(fileSetPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var transfers =
+        fileSet.namedFiles().entrySet().stream()
+            .map(
+                namedFile ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          final var target = fileSetPath.resolve(namedFile.getKey());
+                          if (tryLink) {
+                            linkOrCopy(namedFile.getValue(), target);
+                          } else {
+                            copy(namedFile.getValue(), target);
+                          }
+                        },
+                        executor))
+            .toArray(CompletableFuture[]::new);
+    join(CompletableFuture.allOf(transfers));
+
+    try {
+      FileUtil.flushDirectory(fileSetPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void delete(final BackupIdentifier id, final String fileSetName) {
+    try {
+      FileUtil.deleteFolderIfExists(fileSetPath(id, fileSetName));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  NamedFileSet restore(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    final var pathByName =
+        fileSet.files().stream()
+            .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
+
+    final var transfers =
+        pathByName.entrySet().stream()
+            .map(
+                entry ->
+                    CompletableFuture.runAsync(
+                        () -> copy(fileSetPath.resolve(entry.getKey()), entry.getValue()),
+                        executor))
+            .toArray(CompletableFuture[]::new);
+    join(CompletableFuture.allOf(transfers));
+
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  private void linkOrCopy(final Path source, final Path target) {
+    try {
+      Files.createLink(target, source);
+      return;
+    } catch (final NoSuchFileException | FileAlreadyExistsException e) {
+      throw new UncheckedIOException(e);
+    } catch (final FileSystemException | UnsupportedOperationException e) {
+      // most likely the store is on a different filesystem than the source
+      LOG.trace("Failed to link {} to {}, falling back to copying it", source, target, e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    copy(source, target);
+  }
+
+  private void copy(final Path source, final Path target) {
+    try {
+      Files.copy(source, target);
+      FileUtil.flush(target);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path fileSetPath(final BackupIdentifier id, final String fileSetName) {
+    return basePath.resolve(
+        PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName));
+  }
+
+  private static void join(final CompletableFuture<Void> future) {
+    try {
+      future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.Manifest;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BackupStore} for a local or mounted filesystem. Stores all backups in a given base
+ * directory, using the same manifest format as the object storage based stores.
+ *
+ * <p>Snapshot files are immutable, so they are hard linked into the store if it resides on the
+ * same filesystem, and copied otherwise. Segment files are always copied, as the journal may still
+ * modify them after the backup was taken. All files of a file set are transferred in parallel.
+ *
+ * <p>The manifest and the file sets of a backup are stored in separate directories, both
+ * identified by the {@link BackupIdentifier}:
+ *
+ * <ul>
+ *   <li>{@code basePath/manifests/partitionId/checkpointId/nodeId/manifest.json}
+ *   <li>{@code basePath/contents/partitionId/checkpointId/nodeId/fileSetName/}
+ * </ul>
+ */
+public final class FilesystemBackupStore implements BackupStore {
+  public static final String ERROR_MSG_BACKUP_NOT_FOUND =
+      "Expected to restore from backup with id '%s', but does not exist.";
+  public static final String ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE =
+      "Expected to restore from completed backup with id '%s', but was in state '%s'";
+  public static final String SNAPSHOT_FILESET_NAME = "snapshot";
+  public static final String SEGMENTS_FILESET_NAME = "segments";
+  private static final Logger LOG = LoggerFactory.getLogger(FilesystemBackupStore.class);
+  private final ExecutorService executor;
+  private final FileSetManager fileSetManager;
+  private final ManifestManager manifestManager;
+
+  public FilesystemBackupStore(final FilesystemBackupConfig config) {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    final var basePath = Path.of(config.basePath());
+
+    fileSetManager = new FileSetManager(basePath, executor);
+    manifestManager = new ManifestManager(basePath);
+  }
+
+  @Override
+  public CompletableFuture<Void> save(final Backup backup) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var manifest = manifestManager.createInitialManifest(backup);
+          try {
+            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot(), true);
+            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments(), false);
+            manifestManager.completeManifest(manifest);
+          } catch (final Exception e) {
+            manifestManager.markAsFailed(manifest.id(), e.getMessage());
+            throw e;
+          }
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return BackupStatusImpl.doesNotExist(id);
+          }
+          return Manifest.toStatus(manifest);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Collection<BackupStatus>> list(final BackupIdentifierWildcard wildcard) {
+    return CompletableFuture.supplyAsync(
+        () -> manifestManager.listManifests(wildcard).stream().map(Manifest::toStatus).toList(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(final BackupIdentifier id) {
+    return CompletableFuture.runAsync(
+        () -> {
+          manifestManager.deleteManifest(id);
+          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
+          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            throw new UnexpectedManifestState(ERROR_MSG_BACKUP_NOT_FOUND.formatted(id));
+          }
+          return switch (manifest.statusCode()) {
+            case FAILED, IN_PROGRESS ->
+                throw new UnexpectedManifestState(
+                    ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE.formatted(id, manifest.statusCode()));
+            case COMPLETED -> {
+              final var completed = manifest.asCompleted();
+              final var snapshot =
+                  fileSetManager.restore(
+                      id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
+              final var segments =
+                  fileSetManager.restore(
+                      id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
+              yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
+            }
+          };
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatusCode> markFailed(
+      final BackupIdentifier id, final String failureReason) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          manifestManager.markAsFailed(id, failureReason);
+          return BackupStatusCode.FAILED;
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              LOG.warn("Failed to orderly shutdown Filesystem Store Executor within one minute.");
+              executor.shutdownNow();
+            }
+          } catch (final Exception e) {
+            LOG.error("Failed to shutdown of Filesystem Store Executor.");
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
+  public static void validateConfig(final FilesystemBackupConfig config) {
+    if (config.basePath() == null || config.basePath().isBlank()) {
+      throw new IllegalArgumentException("Base path cannot be null or empty.");
+    }
+  }
+}
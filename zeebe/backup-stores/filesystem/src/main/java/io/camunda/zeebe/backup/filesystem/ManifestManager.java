@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class ManifestManager {
+  /**
+   * The path format consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code "manifests"}
+   *   <li>{@code partitionId}
+   *   <li>{@code checkpointId}
+   *   <li>{@code nodeId}
+   *   <li>{@code "manifest.json"}
+   * </ul>
+   */
+  private static final String MANIFEST_PATH_FORMAT = "manifests/%s/%s/%s/manifest.json";
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .disable(WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(Include.NON_ABSENT);
+  private final Path basePath;
+
+  ManifestManager(final Path basePath) {
+    this.basePath = basePath;
+  }
+
+  InProgressManifest createInitialManifest(final Backup backup) {
+    final var manifest = Manifest.createInProgress(backup);
+    final var path = manifestPath(manifest.id());
+
+    try {
+      Files.createDirectories(path.getParent());
+      final var temporary = writeTemporary(path, manifest);
+      try {
+        // moving without REPLACE_EXISTING fails if the manifest exists already
+        FileUtil.moveDurably(temporary, path);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (final FileAlreadyExistsException e) {
+      throw new UnexpectedManifestState("Manifest already exists.", e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return manifest;
+  }
+
+  void completeManifest(final InProgressManifest inProgressManifest) {
+    final Manifest manifest = getManifest(inProgressManifest.id());
+    if (manifest == null) {
+      throw new UnexpectedManifestState("Manifest does not exist.");
+    } else if (manifest.statusCode() != StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(
+          "Expected manifest to be in progress but was in %s"
+              .formatted(manifest.statusCode().name()));
+    }
+
+    replace(inProgressManifest.complete());
+  }
+
+  void markAsFailed(final BackupIdentifier manifestId, final String failureReason) {
+    Manifest manifest = getManifest(manifestId);
+    if (manifest == null) {
+      manifest = Manifest.createFailed(manifestId);
+    }
+
+    final var updatedManifest =
+        switch (manifest.statusCode()) {
+          case FAILED -> manifest.asFailed();
+          case COMPLETED -> manifest.asCompleted().fail(failureReason);
+          case IN_PROGRESS -> manifest.asInProgress().fail(failureReason);
+        };
+
+    if (manifest != updatedManifest) {
+      replace(updatedManifest);
+    }
+  }
+
+  void deleteManifest(final BackupIdentifier id) {
+    final Manifest manifest = getManifest(id);
+    if (manifest == null) {
+      return;
+    } else if (manifest.statusCode() == StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(
+          "Cannot delete Backup with id '%s' while saving is in progress."
+              .formatted(id.toString()));
+    }
+
+    try {
+      Files.deleteIfExists(manifestPath(id));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Manifest getManifest(final BackupIdentifier id) {
+    return readManifest(manifestPath(id));
+  }
+
+  Collection<Manifest> listManifests(final BackupIdentifierWildcard wildcard) {
+    final var prefix = basePath.resolve(wildcardPrefix(wildcard));
+    if (!Files.isDirectory(prefix)) {
+      return List.of();
+    }
+
+    final var pattern = wildcardPattern(wildcard);
+    try (final var files = Files.walk(prefix)) {
+      return files
+          .filter(path -> pattern.test(basePath.relativize(path).toString()))
+          .map(this::readManifest)
+          .filter(Objects::nonNull)
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Path manifestPath(final BackupIdentifier id) {
+    return basePath.resolve(
+        MANIFEST_PATH_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId()));
+  }
+
+  private Manifest readManifest(final Path path) {
+    try {
+      return MAPPER.readValue(Files.readAllBytes(path), Manifest.class);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Atomically replaces the persisted manifest, so readers never observe a partial write. */
+  private void replace(final Manifest manifest) {
+    final var path = manifestPath(manifest.id());
+    try {
+      Files.createDirectories(path.getParent());
+      final var temporary = writeTemporary(path, manifest);
+      FileUtil.moveDurably(
+          temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path writeTemporary(final Path manifestPath, final Manifest manifest)
+      throws IOException {
+    final byte[] serializedManifest;
+    try {
+      serializedManifest = MAPPER.writeValueAsBytes(manifest);
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+
+    final var temporary =
+        Files.createTempFile(manifestPath.getParent(), manifestPath.getFileName().toString(), null);
+    try {
+      Files.write(temporary, serializedManifest);
+      FileUtil.flush(temporary);
+    } catch (final IOException e) {
+      Files.deleteIfExists(temporary);
+      throw e;
+    }
+    return temporary;
+  }
+
+  private static Predicate<String> wildcardPattern(
+      final BackupIdentifierWildcard wildcard) {
+    return Pattern.compile(
+            MANIFEST_PATH_FORMAT.formatted(
+                wildcard.partitionId().map(Number::toString).orElse("\\d+"),
+                wildcard.checkpointId().map(Number::toString).orElse("\\d+"),
+                wildcard.nodeId().map(Number::toString).orElse("\\d+")))
+        .asMatchPredicate();
+  }
+
+  /**
+   * Builds the longest possible directory prefix based on the given wildcard, so that only the
+   * matching part of the manifest tree has to be walked.
+   */
+  private static String wildcardPrefix(final BackupIdentifierWildcard wildcard) {
+    //noinspection OptionalGetWithoutIsPresent -- checked by takeWhile
+    return Stream.of(wildcard.partitionId(), wildcard.checkpointId(), wildcard.nodeId())
+        .takeWhile(Optional::isPresent)
+        .map(Optional::get)
+        .map(Number::toString)
+        .collect(Collectors.joining("/", "manifests/", ""));
+  }
+}
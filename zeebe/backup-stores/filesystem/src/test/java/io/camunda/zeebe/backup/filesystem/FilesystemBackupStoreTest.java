@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map.Entry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+final class FilesystemBackupStoreTest implements BackupStoreTestKit {
+
+  @TempDir private Path basePath;
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new FilesystemBackupStore(new FilesystemBackupConfig(basePath.toString()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public FilesystemBackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return UnexpectedManifestState.class;
+  }
+
+  @Override
+  public Class<? extends Exception> getFileNotFoundExceptionClass() {
+    return NoSuchFileException.class;
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void backupShouldExistAfterStoreIsClosed(final Backup backup) {
+    // given
+    getStore().save(backup).join();
+    final var firstStatus = getStore().getStatus(backup.id()).join();
+
+    // when
+    getStore().closeAsync().join();
+    setUp();
+
+    // then
+    final var status = getStore().getStatus(backup.id()).join();
+    assertThat(status.statusCode()).isEqualTo(BackupStatusCode.COMPLETED);
+    assertThat(status.lastModified()).isEqualTo(firstStatus.lastModified());
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void shouldNotLinkSegmentFiles(final Backup backup) throws IOException {
+    // given
+    getStore().save(backup).join();
+    final var segment = backup.segments().namedFiles().entrySet().iterator().next();
+
+    final var modifiedContent = new byte[] {1, 2, 3};
+
+    // when - the journal keeps writing to the segment after the backup was taken
+    Files.write(segment.getValue(), modifiedContent);
+
+    // then
+    final var stored = storedFile(backup, FilesystemBackupStore.SEGMENTS_FILESET_NAME, segment);
+    assertThat(Files.readAllBytes(stored)).isNotEqualTo(modifiedContent);
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void shouldLinkSnapshotFiles(final Backup backup) throws IOException {
+    // when
+    getStore().save(backup).join();
+
+    // then
+    for (final var snapshotFile : backup.snapshot().namedFiles().entrySet()) {
+      assumeThat(Files.getFileStore(snapshotFile.getValue()))
+          .describedAs("hard links are only possible on the same filesystem")
+          .isEqualTo(Files.getFileStore(basePath));
+      final var stored =
+          storedFile(backup, FilesystemBackupStore.SNAPSHOT_FILESET_NAME, snapshotFile);
+      assertThat(Files.isSameFile(stored, snapshotFile.getValue())).isTrue();
+    }
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void cannotDeleteBackupInProgress(final Backup backup) {
+    // given
+    new ManifestManager(basePath).createInitialManifest(backup);
+
+    // then
+    Assertions.assertThat(getStore().delete(backup.id()))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Throwable.class)
+        .withRootCauseInstanceOf(UnexpectedManifestState.class)
+        .withMessageContaining(
+            "Cannot delete Backup with id "
+                + "'BackupIdentifierImpl[nodeId=1, partitionId=2, checkpointId=3]' "
+                + "while saving is in progress.");
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void cannotRestoreBackupInProgress(final Backup backup, @TempDir final Path targetDir) {
+    // given
+    new ManifestManager(basePath).createInitialManifest(backup);
+
+    // then
+    Assertions.assertThat(getStore().restore(backup.id(), targetDir))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Throwable.class)
+        .withRootCauseInstanceOf(UnexpectedManifestState.class)
+        .withMessageContaining(
+            "Expected to restore from completed backup with id "
+                + "'BackupIdentifierImpl[nodeId=1, partitionId=2, checkpointId=3]', "
+                + "but was in state 'IN_PROGRESS'");
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void shouldWriteManifestInCommonFormat(final Backup backup) {
+    // when
+    getStore().save(backup).join();
+
+    // then
+    final Manifest manifest = new ManifestManager(basePath).getManifest(backup.id());
+    assertThat(manifest.statusCode()).isEqualTo(Manifest.StatusCode.COMPLETED);
+    assertThat(manifest.asCompleted().segments().files())
+        .hasSize(backup.segments().namedFiles().size());
+  }
+
+  private Path storedFile(
+      final Backup backup, final String fileSetName, final Entry<String, Path> file) {
+    final var id = backup.id();
+    return basePath
+        .resolve("contents")
+        .resolve(String.valueOf(id.partitionId()))
+        .resolve(String.valueOf(id.checkpointId()))
+        .resolve(String.valueOf(id.nodeId()))
+        .resolve(fileSetName)
+        .resolve(file.getKey());
+  }
+}
@@ -222,7 +222,8 @@ public class Starter extends App {
             .gatewayAddress(appCfg.getBrokerUrl())
             .numJobWorkerExecutionThreads(0)
             .withProperties(System.getProperties())
-            .withInterceptors(monitoringInterceptor);
+            .withInterceptors(monitoringInterceptor)
+            .useDirectPartitionRouting(appCfg.getStarter().isDirectPartitionRouting());
 
     if (!appCfg.isTls()) {
       builder.usePlaintext();
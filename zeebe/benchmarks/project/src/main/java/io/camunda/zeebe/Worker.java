@@ -17,8 +17,11 @@ package io.camunda.zeebe;
 
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.ZeebeClientBuilder;
+import io.camunda.zeebe.client.api.worker.AsyncJobHandler;
 import io.camunda.zeebe.client.api.worker.JobHandler;
 import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
+import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
 import io.camunda.zeebe.config.AppCfg;
 import io.camunda.zeebe.config.WorkerCfg;
@@ -27,6 +30,8 @@ import io.micrometer.core.instrument.Tags;
 import java.time.Duration;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -59,14 +64,21 @@ public class Worker extends App {
             .build();
     printTopology(client);
 
-    final JobWorker worker =
-        client
-            .newWorker()
-            .jobType(jobType)
-            .handler(handleJob(client, variables, completionDelay, requestFutures))
-            .streamEnabled(isStreamEnabled)
-            .metrics(metrics)
-            .open();
+    final JobWorkerBuilderStep2 workerBuilder = client.newWorker().jobType(jobType);
+    final JobWorkerBuilderStep3 handlerBuilder;
+    if (workerCfg.isAsyncHandler()) {
+      if (workerCfg.isSendMessage()) {
+        throw new IllegalArgumentException(
+            "Expected either an async handler or sending messages, but both were enabled");
+      }
+      handlerBuilder =
+          workerBuilder.asyncHandler(handleJobAsync(variables, completionDelay, requestFutures));
+    } else {
+      handlerBuilder =
+          workerBuilder.handler(handleJob(client, variables, completionDelay, requestFutures));
+    }
+
+    final JobWorker worker = handlerBuilder.streamEnabled(isStreamEnabled).metrics(metrics).open();
 
     final ResponseChecker responseChecker = new ResponseChecker(requestFutures);
     responseChecker.start();
@@ -117,6 +129,21 @@ public class Worker extends App {
     };
   }
 
+  private AsyncJobHandler handleJobAsync(
+      final String variables,
+      final long completionDelay,
+      final BlockingQueue<Future<?>> requestFutures) {
+    // waits for the completion delay without occupying a thread, unlike the blocking handler
+    final Executor delayedExecutor =
+        CompletableFuture.delayedExecutor(completionDelay, TimeUnit.MILLISECONDS);
+    return (jobClient, job) ->
+        CompletableFuture.runAsync(
+            () ->
+                requestFutures.add(
+                    jobClient.newCompleteCommand(job.getKey()).variables(variables).send()),
+            delayedExecutor);
+  }
+
   private boolean publishMessage(final ZeebeClient client, final String correlationKey) {
     final var messageName = workerCfg.getMessageName();
 
@@ -170,6 +197,7 @@ public class Worker extends App {
         ZeebeClient.newClientBuilder()
             .gatewayAddress(appCfg.getBrokerUrl())
             .numJobWorkerExecutionThreads(workerCfg.getThreads())
+            .useVirtualThreadsForJobWorkers(workerCfg.isVirtualThreads())
             .defaultJobWorkerName(workerCfg.getWorkerName())
             .defaultJobTimeout(timeout)
             .defaultJobWorkerMaxJobsActive(workerCfg.getCapacity())
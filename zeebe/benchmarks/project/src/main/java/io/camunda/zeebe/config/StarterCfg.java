@@ -39,6 +39,7 @@ public class StarterCfg {
 
   private boolean startViaMessage;
   private String msgName;
+  private boolean directPartitionRouting;
 
   public boolean isStartViaMessage() {
     return startViaMessage;
@@ -48,6 +49,14 @@ public class StarterCfg {
     this.startViaMessage = startViaMessage;
   }
 
+  public boolean isDirectPartitionRouting() {
+    return directPartitionRouting;
+  }
+
+  public void setDirectPartitionRouting(final boolean directPartitionRouting) {
+    this.directPartitionRouting = directPartitionRouting;
+  }
+
   public String getMsgName() {
     return msgName;
   }
@@ -27,6 +27,8 @@ public class WorkerCfg {
   private Duration completionDelay;
   private String payloadPath;
   private boolean isStreamEnabled;
+  private boolean virtualThreads;
+  private boolean asyncHandler;
   private Duration timeout;
   private boolean sendMessage = false;
   private String messageName = "defaultMessage";
@@ -96,6 +98,22 @@ public class WorkerCfg {
     this.isStreamEnabled = isStreamEnabled;
   }
 
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public void setVirtualThreads(final boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
+  public boolean isAsyncHandler() {
+    return asyncHandler;
+  }
+
+  public void setAsyncHandler(final boolean asyncHandler) {
+    this.asyncHandler = asyncHandler;
+  }
+
   public Duration getTimeout() {
     return timeout;
   }
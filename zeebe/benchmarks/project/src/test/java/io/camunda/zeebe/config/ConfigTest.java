@@ -49,6 +49,7 @@ public class ConfigTest {
     assertThat(starterCfg.getDurationLimit()).isEqualTo(0);
     assertThat(starterCfg.getMsgName()).isEqualTo("msg");
     assertThat(starterCfg.isStartViaMessage()).isFalse();
+    assertThat(starterCfg.isDirectPartitionRouting()).isFalse();
 
     // worker
     final var workerCfg = appCfg.getWorker();
@@ -62,6 +63,8 @@ public class ConfigTest {
     assertThat(workerCfg.getCompletionDelay()).hasMillis(300);
     assertThat(workerCfg.getPayloadPath()).isEqualTo("bpmn/big_payload.json");
     assertThat(workerCfg.isStreamEnabled()).isTrue();
+    assertThat(workerCfg.isVirtualThreads()).isFalse();
+    assertThat(workerCfg.isAsyncHandler()).isFalse();
     assertThat(workerCfg.getTimeout()).hasSeconds(0);
     assertThat(workerCfg.getMessageName()).isEqualTo("messageName");
     assertThat(workerCfg.isSendMessage()).isFalse();
@@ -101,6 +104,7 @@ public class ConfigTest {
     assertThat(starterCfg.getDurationLimit()).isEqualTo(0);
     assertThat(starterCfg.getMsgName()).isEqualTo("msg");
     assertThat(starterCfg.isStartViaMessage()).isFalse();
+    assertThat(starterCfg.isDirectPartitionRouting()).isTrue();
 
     // worker
     final var workerCfg = appCfg.getWorker();
@@ -114,6 +118,8 @@ public class ConfigTest {
     assertThat(workerCfg.getCompletionDelay()).hasMillis(300);
     assertThat(workerCfg.getPayloadPath()).isEqualTo("bpmn/big_payload.json");
     assertThat(workerCfg.isStreamEnabled()).isTrue();
+    assertThat(workerCfg.isVirtualThreads()).isFalse();
+    assertThat(workerCfg.isAsyncHandler()).isFalse();
     assertThat(workerCfg.getTimeout()).hasSeconds(0);
     assertThat(workerCfg.getMessageName()).isEqualTo("msg");
     assertThat(workerCfg.isSendMessage()).isTrue();
@@ -78,6 +78,10 @@ public final class ClusterConfigFactory {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setMessageCoalescingEnabled(cluster.getMessageCoalescing().isEnabled())
+            .setMessageCoalescingWindow(cluster.getMessageCoalescing().getWindow())
+            .setMessageCoalescingMaxBatchSize(
+                (int) cluster.getMessageCoalescing().getMaxBatchSize().toBytes())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort());
 
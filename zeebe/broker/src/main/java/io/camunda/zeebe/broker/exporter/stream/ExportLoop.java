@@ -0,0 +1,270 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+
+/**
+ * Reads the log stream and exports its records to the containers, either one by one or in batches.
+ * It is shared by the {@link ExporterDirector}, which exports to all exporters at once, and the
+ * {@link ExporterPipeline}, which exports to a single one, and runs on the actor of its owner.
+ */
+final class ExportLoop {
+
+  // bounds how many records are skipped in a single actor job, to not block the actor
+  static final int MAX_SKIPPED_RECORDS_PER_READ = 1_000;
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_BATCH_EXPORTING_ABORTED =
+      "Expected to export batch of records up to position {} successfully, but exception was thrown.";
+
+  private final ActorControl actor;
+  private final List<ExporterContainer> containers;
+  private final RecordExporter recordExporter;
+  private final ExporterMetrics metrics;
+  private final SkippedRecords skippedRecords;
+  private final int exportBatchSize;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final BooleanSupplier mayExport;
+  private final BooleanSupplier isClosed;
+  private final LongConsumer onExported;
+  private final Consumer<Throwable> onFailure;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private ExporterRecordFilter recordFilter;
+  private boolean inExportingPhase;
+  // the record which could not be added to the batch yet, it is added first when retrying
+  private LoggedEvent unbatchedEvent;
+  private int batchReadCount;
+  private long batchLastPosition;
+
+  /**
+   * @param containers the containers to export to; may be modified by the owner
+   * @param mayExport whether the owner allows exporting, e.g. as it is open and not paused
+   * @param isClosed whether the owner is closed, which stops retrying
+   * @param onExported called with the position up to which the records were exported or skipped
+   * @param onFailure called when exporting failed irrecoverably
+   */
+  ExportLoop(
+      final ActorControl actor,
+      final List<ExporterContainer> containers,
+      final RecordExporter recordExporter,
+      final ExporterMetrics metrics,
+      final int exportBatchSize,
+      final BooleanSupplier mayExport,
+      final BooleanSupplier isClosed,
+      final LongConsumer onExported,
+      final Consumer<Throwable> onFailure) {
+    this.actor = actor;
+    this.containers = containers;
+    this.recordExporter = recordExporter;
+    this.metrics = metrics;
+    this.exportBatchSize = exportBatchSize;
+    this.mayExport = mayExport;
+    this.isClosed = isClosed;
+    this.onExported = onExported;
+    this.onFailure = onFailure;
+    skippedRecords = new SkippedRecords(metrics);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  void setLogStreamReader(final LogStreamReader logStreamReader) {
+    this.logStreamReader = logStreamReader;
+  }
+
+  void setFilters(final EventFilter eventFilter, final ExporterRecordFilter recordFilter) {
+    this.eventFilter = eventFilter;
+    this.recordFilter = recordFilter;
+  }
+
+  /**
+   * Exports the next record, or the next batch of records, if the owner allows it and no export is
+   * in progress. Reading continues on its own until the end of the log is reached.
+   */
+  void readNextEvent() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    if (exportBatchSize > 1) {
+      readNextBatch();
+      return;
+    }
+
+    final LoggedEvent currentEvent = skipToNextAcceptedEvent();
+    if (currentEvent != null) {
+      inExportingPhase = true;
+      exportEvent(currentEvent);
+    } else {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  private boolean shouldExport() {
+    return mayExport.getAsBoolean() && logStreamReader.hasNext() && !inExportingPhase;
+  }
+
+  /**
+   * Skips the records which no container accepts in bulk, without decoding them, up to the next
+   * record which a container accepts.
+   *
+   * @return the next accepted record, or null if there is none yet or too many records were skipped
+   *     at once; in the latter case, reading continues in a new job to not block the actor
+   */
+  private LoggedEvent skipToNextAcceptedEvent() {
+    LoggedEvent acceptedEvent = null;
+    for (int read = 0; read < MAX_SKIPPED_RECORDS_PER_READ && logStreamReader.hasNext(); read++) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (isAccepted(currentEvent)) {
+        acceptedEvent = currentEvent;
+        break;
+      }
+
+      skippedRecords.add(recordFilter.readValueType(currentEvent), currentEvent.getPosition());
+    }
+
+    if (!skippedRecords.isEmpty()) {
+      final long lastSkippedPosition = skippedRecords.flush();
+      // increase position of all up to date exporters - an up to date exporter is one which has
+      // acknowledged the last record we passed to it
+      for (final ExporterContainer container : containers) {
+        container.updatePositionOnSkipIfUpToDate(lastSkippedPosition);
+      }
+      onExported.accept(lastSkippedPosition);
+    }
+
+    return acceptedEvent;
+  }
+
+  /**
+   * Reads up to {@code exportBatchSize} records and exports the accepted ones as one batch. Adding
+   * a record to the batch is retried like wrapping a single record is.
+   */
+  private void readNextBatch() {
+    inExportingPhase = true;
+    batchReadCount = 0;
+    batchLastPosition = -1;
+
+    final ActorFuture<Boolean> readRetryFuture =
+        recordWrapStrategy.runWithRetry(this::readBatch, isClosed);
+
+    actor.runOnCompletion(
+        readRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+          exportBatch(batchLastPosition);
+        });
+  }
+
+  private boolean readBatch() {
+    if (unbatchedEvent != null) {
+      addToBatch(unbatchedEvent);
+    }
+
+    while (batchReadCount < exportBatchSize && logStreamReader.hasNext()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      batchReadCount++;
+      batchLastPosition = currentEvent.getPosition();
+      if (isAccepted(currentEvent)) {
+        addToBatch(currentEvent);
+      } else {
+        skippedRecords.add(recordFilter.readValueType(currentEvent), batchLastPosition);
+      }
+    }
+    skippedRecords.flush();
+    return true;
+  }
+
+  private void addToBatch(final LoggedEvent event) {
+    unbatchedEvent = event;
+    recordExporter.addToBatch(event);
+    unbatchedEvent = null;
+  }
+
+  private void exportBatch(final long lastPosition) {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::exportBatch, isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_BATCH_EXPORTING_ABORTED, lastPosition, throwable);
+            onFailure.accept(throwable);
+          } else {
+            // a single position update per batch for the exporters which were passed no record of
+            // it, or which already acknowledged all of them
+            for (final ExporterContainer container : containers) {
+              container.updatePositionOnSkipIfUpToDate(lastPosition);
+            }
+            onExported.accept(lastPosition);
+            recordExporter
+                .getBatch()
+                .forEach(record -> metrics.eventExported(record.getValueType()));
+            recordExporter.resetBatch();
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  onFailure.accept(throwable);
+                } else {
+                  onExported.accept(recordExporter.getTypedEvent().getPosition());
+                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private boolean isAccepted(final LoggedEvent event) {
+    return eventFilter == null || eventFilter.applies(event);
+  }
+}
@@ -17,6 +17,9 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -24,6 +27,8 @@ import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -204,9 +209,15 @@ final class ExporterContainer implements Controller {
   }
 
   private boolean acceptRecord(final RecordMetadata metadata) {
+    return acceptRecord(metadata.getRecordType(), metadata.getValueType(), metadata.getIntent());
+  }
+
+  private boolean acceptRecord(
+      final RecordType recordType, final ValueType valueType, final Intent intent) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    return filter.acceptType(recordType)
+        && filter.acceptValue(valueType)
+        && filter.acceptIntent(intent);
   }
 
   void configureExporter() throws Exception {
@@ -231,6 +242,41 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Passes the records of the batch which this exporter accepts, and did not acknowledge yet, at
+   * once to the exporter. Positions of records which it doesn't accept are not updated here, see
+   * {@link #updatePositionOnSkipIfUpToDate(long)}.
+   */
+  boolean exportBatch(final List<Record<?>> records) {
+    final List<Record<?>> acceptedRecords = new ArrayList<>(records.size());
+    for (final Record<?> record : records) {
+      if (position < record.getPosition()
+          && acceptRecord(record.getRecordType(), record.getValueType(), record.getIntent())) {
+        acceptedRecords.add(record);
+      }
+    }
+
+    if (acceptedRecords.isEmpty()) {
+      return true;
+    }
+
+    try {
+      ThreadContextUtil.runWithClassLoader(
+          () -> exporter.exportBatch(acceptedRecords), exporter.getClass().getClassLoader());
+      lastUnacknowledgedPosition = acceptedRecords.getLast().getPosition();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records starting with key {}",
+              acceptedRecords.size(),
+              acceptedRecords.getFirst().getKey(),
+              ex);
+      return false;
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
@@ -12,14 +12,9 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
-import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
@@ -27,8 +22,6 @@ import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
-import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -38,25 +31,24 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
-  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  // how often flow control is updated with the lowest position which the pipelines have passed
+  private static final Duration PIPELINE_POSITION_INTERVAL = Duration.ofMillis(100);
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -68,17 +60,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
   private final Set<FailureListener> listeners = new HashSet<>();
+  private final boolean parallelExporting;
+  private final int exportBatchSize;
+  private final Map<String, ExporterPipeline> pipelines = new HashMap<>();
+  private ActorSchedulingService actorSchedulingService;
   private LogStreamReader logStreamReader;
-  private EventFilter eventFilter;
+  private LogStreamReader lagReader;
+  private final ExportLoop exportLoop;
   private ExportersState state;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
 
-  private boolean inExportingPhase;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -86,6 +80,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final Duration distributionInterval;
   private ExporterStateDistributionService exporterDistributionService;
   private ScheduledTimer exporterDistributionTimer;
+  private ScheduledTimer pipelinePositionTimer;
+  private long lowestPipelinePosition = -1;
   private final int partitionId;
   private final EventFilter positionsToSkipFilter;
   private final MeterRegistry meterRegistry;
@@ -116,8 +112,6 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
     recordExporter = new RecordExporter(metrics, containers, partitionId, clock);
-    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
     this.exporterPhase = exporterPhase;
     partitionMessagingService = context.getPartitionMessagingService();
@@ -125,9 +119,24 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    // only the leader reads the log to export it, followers just replicate the exporter state
+    parallelExporting = context.isParallelExporting() && exporterMode == ExporterMode.ACTIVE;
+    exportBatchSize = context.getExportBatchSize();
+    exportLoop =
+        new ExportLoop(
+            actor,
+            containers,
+            recordExporter,
+            metrics,
+            exportBatchSize,
+            () -> isOpened.get() && !idle && this.exporterPhase != ExporterPhase.PAUSED,
+            this::isClosed,
+            position -> logStream.getFlowControl().onExported(position),
+            error -> onFailure());
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -153,6 +162,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         () -> {
           metrics.setExporterPaused();
           exporterPhase = ExporterPhase.PAUSED;
+          pipelines.values().forEach(ExporterPipeline::pauseExporting);
         });
   }
 
@@ -173,7 +183,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     return actor.call(
         () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
+          if (parallelExporting) {
+            pipelines.values().forEach(ExporterPipeline::softPauseExporting);
+          } else {
+            containers.stream().forEach(ExporterContainer::softPauseExporter);
+          }
           exporterPhase = ExporterPhase.SOFT_PAUSED;
           metrics.setExporterSoftPaused();
         });
@@ -194,13 +208,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
     return actor.call(
         () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+          if (parallelExporting) {
+            pipelines.values().forEach(ExporterPipeline::resumeExporting);
+          } else if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
             containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
           }
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+          if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
+            actor.submit(exportLoop::readNextEvent);
           }
         });
   }
@@ -230,13 +246,25 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
     containers.remove(container);
-    state.removeExporterState(exporterId);
-    // After removing this exporter, the exporter index has changed. Reset it so that we don't
-    // miss to export the record to any of the exporters whose index has changed.
-    recordExporter.resetExporterIndex();
-    LOG.debug("Exporter '{}' is removed.", exporterId);
+    final var pipeline = pipelines.remove(exporterId);
+    if (pipeline != null) {
+      // the pipeline closes the exporter, and may update its position until then; keeping the
+      // position a bit longer only delays compaction
+      actor.runOnCompletion(
+          pipeline.closeAsync(),
+          (ok, error) -> {
+            state.removeExporterState(exporterId);
+            LOG.debug("Exporter '{}' is removed.", exporterId);
+          });
+    } else {
+      container.close();
+      state.removeExporterState(exporterId);
+      // After removing this exporter, the exporter index has changed. Reset it so that we don't
+      // miss to export the record to any of the exporters whose index has changed.
+      recordExporter.resetExporterIndex();
+      LOG.debug("Exporter '{}' is removed.", exporterId);
+    }
 
     if (containers.isEmpty()) {
       becomeIdle();
@@ -321,7 +349,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      startPipeline(container);
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -353,8 +383,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
       logStreamReader = logStream.newLogStreamReader();
+      exportLoop.setLogStreamReader(logStreamReader);
     }
   }
 
@@ -393,6 +424,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     if (logStreamReader != null) {
       logStreamReader.close();
     }
+    if (lagReader != null) {
+      lagReader.close();
+    }
     logStream.removeRecordAvailableListener(this);
   }
 
@@ -405,7 +439,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (parallelExporting) {
+      // the pipelines close their exporters; wait for them, as they still use the state
+      pipelines
+          .values()
+          .forEach(
+              pipeline ->
+                  actor.runOnCompletionBlockingCurrentPhase(
+                      pipeline.closeAsync(), (ok, error) -> {}));
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
@@ -451,8 +493,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
+    final ExporterRecordFilter recordFilter = createRecordFilter(containers);
+    final EventFilter eventFilter = positionsToSkipFilter.and(recordFilter);
+    exportLoop.setFilters(eventFilter, recordFilter);
+    LOG.debug("Set event filter for exporters: {}", recordFilter);
   }
 
   private void recoverFromSnapshot() {
@@ -464,26 +508,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+  static ExporterRecordFilter createRecordFilter(final List<ExporterContainer> containers) {
+    return new ExporterRecordFilter(
+        containers.stream().map(c -> c.getContext().getFilter()).toList());
   }
 
   private void onFailure() {
@@ -501,10 +528,19 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       exporterDistributionTimer.cancel();
       exporterDistributionTimer = null;
     }
+    if (pipelinePositionTimer != null) {
+      pipelinePositionTimer.cancel();
+      pipelinePositionTimer = null;
+    }
     if (logStreamReader != null) {
       // We have to close it, otherwise it will prevent journal segment deletion
       logStreamReader.close();
       logStreamReader = null;
+      exportLoop.setLogStreamReader(null);
+    }
+    if (lagReader != null) {
+      lagReader.close();
+      lagReader = null;
     }
   }
 
@@ -519,6 +555,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (parallelExporting) {
+      startParallelExportingMode();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -554,10 +595,73 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
+    if (parallelExporting) {
+      // the pipelines of new exporters are started when they are added
+      startExporterStateDistribution();
+      startPipelinePositionUpdates();
+      return;
+    }
+
     logStreamReader = logStream.newLogStreamReader();
+    exportLoop.setLogStreamReader(logStreamReader);
     startActiveExportingFrom(-1);
   }
 
+  private void startParallelExportingMode() {
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
+      startPipeline(container);
+    }
+
+    if (state.hasExporters()) {
+      startExporterStateDistribution();
+      startPipelinePositionUpdates();
+    } else {
+      becomeIdle();
+    }
+  }
+
+  private void startPipeline(final ExporterContainer container) {
+    final String exporterId = container.getId();
+    final var pipeline =
+        new ExporterPipeline(
+            name,
+            container,
+            logStream,
+            zeebeDb,
+            metrics,
+            positionsToSkipFilter,
+            clock,
+            exporterPhase,
+            exportBatchSize,
+            error -> actor.run(this::onFailure));
+    pipelines.put(exporterId, pipeline);
+    actorSchedulingService.submitActor(pipeline, SchedulingHints.ioBound());
+  }
+
+  private void startPipelinePositionUpdates() {
+    pipelinePositionTimer =
+        actor.runAtFixedRate(PIPELINE_POSITION_INTERVAL, this::updateLowestPipelinePosition);
+  }
+
+  /**
+   * Flow control must only consider a record exported once all exporters have exported it, so it is
+   * updated with the lowest position the pipelines have passed. The pipelines don't notify the
+   * director about every record; their positions are polled, and flow control is only updated when
+   * the lowest of them has changed.
+   */
+  private void updateLowestPipelinePosition() {
+    long lowestPosition = Long.MAX_VALUE;
+    for (final ExporterPipeline pipeline : pipelines.values()) {
+      lowestPosition = Math.min(lowestPosition, pipeline.getExportedPosition());
+    }
+
+    if (lowestPosition != Long.MAX_VALUE && lowestPosition != lowestPipelinePosition) {
+      lowestPipelinePosition = lowestPosition;
+      logStream.getFlowControl().onExported(lowestPosition);
+    }
+  }
+
   private void startActiveExportingFrom(final long snapshotPosition) {
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
@@ -566,11 +670,20 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     logStream.registerRecordAvailableListener(this);
     if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
+      actor.submit(exportLoop::readNextEvent);
     }
 
+    startExporterStateDistribution();
+  }
+
+  private void startExporterStateDistribution() {
     exporterDistributionTimer =
-        actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+        actor.runAtFixedRate(
+            distributionInterval,
+            () -> {
+              distributeExporterState();
+              updateExporterLag();
+            });
   }
 
   private void startPassiveExportingMode() {
@@ -599,75 +712,16 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
-    // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
-    for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+  private void updateExporterLag() {
+    if (lagReader == null) {
+      lagReader = logStream.newLogStreamReader();
     }
 
-    actor.submit(this::readNextEvent);
-  }
-
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
-      }
-    }
-  }
-
-  private boolean shouldExport() {
-    return isOpened.get()
-        && !idle
-        && logStreamReader.hasNext()
-        && !inExportingPhase
-        && !exporterPhase.equals(ExporterPhase.PAUSED);
-  }
-
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
-
-    actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
-        });
+    final long lastPosition = lagReader.seekToEnd();
+    state.visitExporterState(
+        (exporterId, exporterStateEntry) ->
+            metrics.setExporterLag(
+                exporterId, Math.max(0, lastPosition - exporterStateEntry.getPosition())));
   }
 
   private void clearExporterState() {
@@ -706,7 +760,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(exportLoop::readNextEvent);
   }
 
   public ActorFuture<Long> getLowestPosition() {
@@ -721,38 +775,4 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    * @param initializeFrom the id of the exporter to initialize the metadata of the exporter from
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
-
-  private static class ExporterEventFilter implements EventFilter {
-
-    private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
-
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
-    }
-
-    @Override
-    public boolean applies(final LoggedEvent event) {
-      event.readMetadata(metadata);
-
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
-    }
-
-    @Override
-    public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + '}';
-    }
-  }
 }
@@ -33,6 +33,8 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private boolean parallelExporting;
+  private int exportBatchSize = 1;
 
   public int getId() {
     return id;
@@ -78,6 +80,14 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
+  public int getExportBatchSize() {
+    return exportBatchSize;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +145,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext parallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
+  public ExporterDirectorContext exportBatchSize(final int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
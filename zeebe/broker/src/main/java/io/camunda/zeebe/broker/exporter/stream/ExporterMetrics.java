@@ -12,6 +12,22 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
+/**
+ * Metrics of the exporters of a partition.
+ *
+ * <p>When exporting in parallel, each exporter has its own {@link ExporterPipeline} which reads the
+ * log on its own, and which updates the metrics shared by all exporters of the partition on its own
+ * too. That changes the meaning of the partition wide metrics:
+ *
+ * <ul>
+ *   <li>{@code exporter_events_total} counts a record once per exporter which exported or skipped
+ *       it, instead of once per partition
+ *   <li>{@code exporting_latency} is observed once per exporter, when that exporter picks up the
+ *       record, instead of when the first exporter picks it up
+ * </ul>
+ *
+ * The metrics labelled by exporter keep their meaning.
+ */
 public final class ExporterMetrics {
 
   private static final String LABEL_NAME_PARTITION = "partition";
@@ -60,6 +76,15 @@ public final class ExporterMetrics {
           .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge EXPORTER_LAG =
+      Gauge.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_lag")
+          .help(
+              "The difference between the last written position and the last exported position of the exporter.")
+          .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
+          .register();
+
   private static final Gauge EXPORTER_PHASE =
       Gauge.build()
           .namespace(NAMESPACE_ZEEBE)
@@ -77,8 +102,8 @@ public final class ExporterMetrics {
     exporterPhase = EXPORTER_PHASE.labels(partitionIdLabel);
   }
 
-  private void event(final String action, final ValueType valueType) {
-    EXPORTER_EVENTS.labels(action, partitionIdLabel, valueType.name()).inc();
+  private void event(final String action, final ValueType valueType, final int count) {
+    EXPORTER_EVENTS.labels(action, partitionIdLabel, valueType.name()).inc(count);
   }
 
   public void setExporterActive() {
@@ -94,11 +119,15 @@ public final class ExporterMetrics {
   }
 
   public void eventExported(final ValueType valueType) {
-    event("exported", valueType);
+    event("exported", valueType, 1);
   }
 
-  public void eventSkipped(final ValueType valueType) {
-    event("skipped", valueType);
+  /**
+   * Counts records which were skipped as no exporter accepts them. Records are skipped in bulk, so
+   * the rate of skipped records is tracked with one update per bulk and value type.
+   */
+  public void eventsSkipped(final ValueType valueType, final int count) {
+    event("skipped", valueType, count);
   }
 
   public void setLastUpdatedExportedPosition(final String exporter, final long position) {
@@ -109,6 +138,10 @@ public final class ExporterMetrics {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
 
+  public void setExporterLag(final String exporter, final long lag) {
+    EXPORTER_LAG.labels(exporter, partitionIdLabel).set(lag);
+  }
+
   public void exportingLatency(
       final ValueType valueType, final long written, final long exporting) {
     EXPORTING_LATENCY
@@ -0,0 +1,229 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Exports the log stream to a single exporter, with its own reader and its own actor. Used by the
+ * {@link ExporterDirector} when exporting in parallel, such that a slow exporter does not hold back
+ * the others.
+ *
+ * <p>The director still configures the exporter and initializes its state; the pipeline opens the
+ * exporter and exports from the exporter's own last exported position on. It updates the exporter's
+ * position through its own transaction context, which is safe as each exporter only writes its own
+ * entry of the {@link ExportersState}.
+ *
+ * <p>The director polls the position up to which the pipeline has exported, see {@link
+ * #getExportedPosition()}, instead of being notified for every record. As every pipeline updates
+ * the partition wide {@link ExporterMetrics}, these count each record once per exporter. Likewise,
+ * the forms derived from a record are not shared between the pipelines, as each of them reads and
+ * wraps the records on its own.
+ */
+final class ExporterPipeline extends Actor implements LogRecordAwaiter {
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the last exported position %d of exporter '%s' in log stream, but nothing was found.";
+
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final ExportLoop exportLoop;
+  private final Consumer<Throwable> onFailure;
+  private LogStreamReader logStreamReader;
+  private ExporterPhase exporterPhase;
+  // written by this actor and read by the director
+  private volatile long exportedPosition = -1;
+
+  /**
+   * @param onFailure called when exporting failed irrecoverably
+   */
+  ExporterPipeline(
+      final String directorName,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final EventFilter positionsToSkipFilter,
+      final InstantSource clock,
+      final ExporterPhase exporterPhase,
+      final int exportBatchSize,
+      final Consumer<Throwable> onFailure) {
+    name = directorName + "-" + container.getId();
+    partitionId = logStream.getPartitionId();
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.exporterPhase = exporterPhase;
+    this.onFailure = onFailure;
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId, clock);
+    final var recordFilter = ExporterDirector.createRecordFilter(List.of(container));
+    exportLoop =
+        new ExportLoop(
+            actor,
+            List.of(container),
+            recordExporter,
+            metrics,
+            exportBatchSize,
+            () -> isOpened.get() && this.exporterPhase != ExporterPhase.PAUSED,
+            this::isClosed,
+            position -> exportedPosition = position,
+            this::onExportFailed);
+    exportLoop.setFilters(positionsToSkipFilter.and(recordFilter), recordFilter);
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  /**
+   * @return the position up to which the records were passed to the exporter or skipped, or -1 if
+   *     none was yet
+   */
+  long getExportedPosition() {
+    return exportedPosition;
+  }
+
+  ActorFuture<Void> closeAsync() {
+    return actor.close();
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    return actor.call(() -> exporterPhase = ExporterPhase.PAUSED);
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(exportLoop::readNextEvent);
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    logStreamReader = logStream.newLogStreamReader();
+    exportLoop.setLogStreamReader(logStreamReader);
+    // the container now runs on this actor, so it must not share the director's transaction context
+    final var state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    container.initContainer(actor, metrics, state, exporterPhase);
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    // Don't need to handle error as any are caught within the runWithRetry try catch
+    actor.runOnCompletion(openFuture, (opened, error) -> startExporting());
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error("Actor '{}' failed in phase {}.", name, actor.getLifecyclePhase(), failure);
+    isOpened.set(false);
+    actor.fail(failure);
+    onFailure.accept(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(exportLoop::readNextEvent);
+  }
+
+  private void startExporting() {
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, container.getId()));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    actor.submit(exportLoop::readNextEvent);
+  }
+
+  private void onExportFailed(final Throwable failure) {
+    isOpened.set(false);
+    onFailure.accept(failure);
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.RecordMetadataDecoder;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decides whether any exporter accepts a record before the record is decoded. The record type,
+ * value type and intent are read directly from the fixed-length block of the SBE encoded metadata,
+ * instead of wrapping a {@link RecordMetadata}, which decodes every field of it.
+ *
+ * <p>A record passes if any exporter accepts its record type, and any exporter accepts both its
+ * value type and intent. Each exporter container still applies its own filter afterwards.
+ */
+final class ExporterRecordFilter implements EventFilter {
+
+  private static final RecordType[] RECORD_TYPES = RecordType.values();
+  private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+  private static final byte UNDECIDED = 0;
+  private static final byte ACCEPTED = 1;
+  private static final byte REJECTED = 2;
+
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
+  private final List<RecordFilter> recordFilters;
+  private final boolean[] acceptedRecordTypes = new boolean[RECORD_TYPES.length];
+  private final boolean[] acceptedValueTypes = new boolean[VALUE_TYPES.length];
+
+  // the intents are decided when they are first seen, indexed by value type and intent value
+  private final byte[][] intentDecisions = new byte[VALUE_TYPES.length][];
+
+  ExporterRecordFilter(final List<RecordFilter> recordFilters) {
+    this.recordFilters = recordFilters;
+
+    for (final RecordType recordType : RECORD_TYPES) {
+      acceptedRecordTypes[recordType.ordinal()] =
+          recordFilters.stream().anyMatch(f -> f.acceptType(recordType));
+    }
+
+    for (final ValueType valueType : VALUE_TYPES) {
+      acceptedValueTypes[valueType.ordinal()] =
+          recordFilters.stream().anyMatch(f -> f.acceptValue(valueType));
+    }
+  }
+
+  @Override
+  public boolean applies(final LoggedEvent event) {
+    wrapMetadata(event);
+
+    return acceptedRecordTypes[metadataDecoder.recordType().ordinal()]
+        && acceptValueTypeAndIntent(metadataDecoder.valueType(), metadataDecoder.intent());
+  }
+
+  /** Reads only the value type of the given event, e.g. to count the records which are skipped. */
+  ValueType readValueType(final LoggedEvent event) {
+    wrapMetadata(event);
+    return metadataDecoder.valueType();
+  }
+
+  private void wrapMetadata(final LoggedEvent event) {
+    final int offset = event.getMetadataOffset();
+    headerDecoder.wrap(event.getMetadata(), offset);
+    metadataDecoder.wrap(
+        event.getMetadata(),
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+  }
+
+  private boolean acceptValueTypeAndIntent(final ValueType valueType, final short intent) {
+    if (!acceptedValueTypes[valueType.ordinal()]) {
+      return false;
+    }
+
+    byte[] decisions = intentDecisions[valueType.ordinal()];
+    if (decisions == null) {
+      decisions = new byte[Intent.NULL_VAL + 1];
+      intentDecisions[valueType.ordinal()] = decisions;
+    }
+
+    if (decisions[intent] == UNDECIDED) {
+      decisions[intent] = acceptIntent(valueType, intent) ? ACCEPTED : REJECTED;
+    }
+
+    return decisions[intent] == ACCEPTED;
+  }
+
+  private boolean acceptIntent(final ValueType valueType, final short intentValue) {
+    final Intent intent = Intent.fromProtocolValue(valueType, intentValue);
+    return recordFilters.stream().anyMatch(f -> f.acceptValue(valueType) && f.acceptIntent(intent));
+  }
+
+  @Override
+  public String toString() {
+    return "ExporterRecordFilter{"
+        + "acceptedRecordTypes="
+        + Arrays.stream(RECORD_TYPES).filter(t -> acceptedRecordTypes[t.ordinal()]).toList()
+        + ", acceptedValueTypes="
+        + Arrays.stream(VALUE_TYPES).filter(t -> acceptedValueTypes[t.ordinal()]).toList()
+        + '}';
+  }
+}
@@ -7,22 +7,30 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
+
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
+  // most records are filtered out by at least some exporters, so only decode what they access
+  private final RecordValues recordValues = new RecordValues(true);
   private final RecordMetadata rawMetadata = new RecordMetadata();
   private final List<ExporterContainer> containers;
+  private final int partitionId;
   private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
+  private final List<Record<?>> batch = new ArrayList<>();
 
   private boolean shouldExport;
   private int exporterIndex;
@@ -34,6 +42,7 @@ final class RecordExporter {
       final int partitionId,
       final InstantSource clock) {
     this.containers = containers;
+    this.partitionId = partitionId;
     typedEvent = new TypedRecordImpl(partitionId);
     this.exporterMetrics = exporterMetrics;
     this.clock = clock;
@@ -87,6 +96,51 @@ final class RecordExporter {
     return true;
   }
 
+  /**
+   * Adds the record to the current batch. The record is decoded once, straight into a copy of its
+   * own, as a wrapped record is only valid until the next one is read.
+   */
+  void addToBatch(final LoggedEvent rawEvent) {
+    rawEvent.readMetadata(rawMetadata);
+    if (EVENT_REGISTRY.containsKey(rawMetadata.getValueType())) {
+      batch.add(CopiedRecords.createCopiedRecord(partitionId, rawEvent));
+    }
+  }
+
+  boolean exportBatch() {
+    if (batch.isEmpty()) {
+      return true;
+    }
+
+    final long currentMillis = clock.millis();
+    for (final Record<?> record : batch) {
+      exporterMetrics.exportingLatency(record.getValueType(), record.getTimestamp(), currentMillis);
+    }
+
+    final long lastPosition = batch.getLast().getPosition();
+    final int exportersCount = containers.size();
+    while (exporterIndex < exportersCount) {
+      final ExporterContainer container = containers.get(exporterIndex);
+      if (container.exportBatch(batch)) {
+        exporterIndex++;
+        exporterMetrics.setLastExportedPosition(container.getId(), lastPosition);
+      } else {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  List<Record<?>> getBatch() {
+    return batch;
+  }
+
+  void resetBatch() {
+    batch.clear();
+    exporterIndex = 0;
+  }
+
   TypedRecordImpl getTypedEvent() {
     return typedEvent;
   }
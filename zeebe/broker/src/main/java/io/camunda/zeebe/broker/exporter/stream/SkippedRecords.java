@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+
+/**
+ * Collects the records which no exporter accepts while they are skipped in bulk, such that the
+ * metrics are updated once per bulk instead of once per record.
+ */
+final class SkippedRecords {
+
+  private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+  private final int[] skippedPerValueType = new int[VALUE_TYPES.length];
+  private final ExporterMetrics metrics;
+  private long lastSkippedPosition = -1;
+
+  SkippedRecords(final ExporterMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  void add(final ValueType valueType, final long position) {
+    skippedPerValueType[valueType.ordinal()]++;
+    lastSkippedPosition = position;
+  }
+
+  boolean isEmpty() {
+    return lastSkippedPosition == -1;
+  }
+
+  /**
+   * Updates the metrics with the records skipped since the last call.
+   *
+   * @return the position of the last skipped record, or -1 if none was skipped
+   */
+  long flush() {
+    for (int i = 0; i < skippedPerValueType.length; i++) {
+      if (skippedPerValueType[i] > 0) {
+        metrics.eventsSkipped(VALUE_TYPES[i], skippedPerValueType[i]);
+        skippedPerValueType[i] = 0;
+      }
+    }
+
+    final long position = lastSkippedPosition;
+    lastSkippedPosition = -1;
+    return position;
+  }
+}
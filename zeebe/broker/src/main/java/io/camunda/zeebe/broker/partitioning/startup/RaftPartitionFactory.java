@@ -86,6 +86,12 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setMaxAdaptiveAppendsPerFollower(
+        brokerCfg.getExperimental().getMaxAdaptiveAppendsPerFollower());
+    partitionConfig.setAdaptiveAppendBatchingEnabled(
+        brokerCfg.getExperimental().isAdaptiveAppendBatching());
+    partitionConfig.setDirectJournalReplicationEnabled(
+        brokerCfg.getExperimental().getRaft().isDirectJournalReplication());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
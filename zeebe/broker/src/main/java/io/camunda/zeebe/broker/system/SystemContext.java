@@ -12,6 +12,7 @@ import static io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirect
 import io.atomix.cluster.AtomixCluster;
 import io.camunda.identity.sdk.IdentityConfiguration;
 import io.camunda.zeebe.backup.azure.AzureBackupStore;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
 import io.camunda.zeebe.backup.gcs.GcsBackupStore;
 import io.camunda.zeebe.backup.s3.S3BackupStore;
 import io.camunda.zeebe.broker.Loggers;
@@ -21,9 +22,11 @@ import io.camunda.zeebe.broker.system.configuration.ClusterCfg;
 import io.camunda.zeebe.broker.system.configuration.DataCfg;
 import io.camunda.zeebe.broker.system.configuration.DiskCfg.FreeSpaceCfg;
 import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
+import io.camunda.zeebe.broker.system.configuration.ExportingCfg;
 import io.camunda.zeebe.broker.system.configuration.SecurityCfg;
 import io.camunda.zeebe.broker.system.configuration.backup.AzureBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
+import io.camunda.zeebe.broker.system.configuration.backup.FilesystemBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.GcsBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.S3BackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.partitioning.FixedPartitionCfg;
@@ -50,6 +53,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String EXPORT_BATCH_SIZE_ERROR_MSG =
+      "Expected to have an export batch size of at least 1, but was '%d'.";
 
   private final Duration shutdownTimeout;
   private final BrokerCfg brokerCfg;
@@ -110,6 +115,8 @@ public final class SystemContext {
 
     validateExperimentalConfigs(cluster, brokerCfg.getExperimental());
 
+    validateExportingConfig(brokerCfg.getExporting());
+
     final var security = brokerCfg.getNetwork().getSecurity();
     if (security.isEnabled()) {
       validateNetworkSecurityConfig(security);
@@ -130,6 +137,13 @@ public final class SystemContext {
     }
   }
 
+  private void validateExportingConfig(final ExportingCfg exporting) {
+    final var batchSize = exporting.getBatchSize();
+    if (batchSize < 1) {
+      throw new IllegalArgumentException(String.format(EXPORT_BATCH_SIZE_ERROR_MSG, batchSize));
+    }
+  }
+
   private void validateDataConfig(final DataCfg dataCfg) {
     final var snapshotPeriod = dataCfg.getSnapshotPeriod();
     if (snapshotPeriod.isNegative() || snapshotPeriod.minus(MINIMUM_SNAPSHOT_PERIOD).isNegative()) {
@@ -164,6 +178,9 @@ public final class SystemContext {
         case AZURE ->
             AzureBackupStore.validateConfig(
                 AzureBackupStoreConfig.toStoreConfig(backup.getAzure()));
+        case FILESYSTEM ->
+            FilesystemBackupStore.validateConfig(
+                FilesystemBackupStoreConfig.toStoreConfig(backup.getFilesystem()));
         default ->
             throw new UnsupportedOperationException(
                 "Does not support validating configuration of backup store %s"
@@ -54,6 +54,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private MessageCoalescingCfg messageCoalescing = new MessageCoalescingCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -191,6 +192,14 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public MessageCoalescingCfg getMessageCoalescing() {
+    return messageCoalescing;
+  }
+
+  public void setMessageCoalescing(final MessageCoalescingCfg messageCoalescing) {
+    this.messageCoalescing = messageCoalescing;
+  }
+
   @Override
   public String toString() {
     return "ClusterCfg{"
@@ -219,6 +228,8 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", messageCoalescing="
+        + messageCoalescing
         + '}';
   }
 }
@@ -21,10 +21,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final int DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER = 8;
+  public static final boolean DEFAULT_ADAPTIVE_APPEND_BATCHING = false;
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private int maxAdaptiveAppendsPerFollower = DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER;
+  private boolean adaptiveAppendBatching = DEFAULT_ADAPTIVE_APPEND_BATCHING;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
@@ -62,6 +66,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public boolean isAdaptiveAppendBatching() {
+    return adaptiveAppendBatching;
+  }
+
+  public void setAdaptiveAppendBatching(final boolean adaptiveAppendBatching) {
+    this.adaptiveAppendBatching = adaptiveAppendBatching;
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -144,6 +164,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
+        + ", adaptiveAppendBatching="
+        + adaptiveAppendBatching
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
         + ", rocksdb="
@@ -15,7 +15,11 @@ import java.util.Set;
  * to all exporters.
  */
 public final class ExportingCfg implements ConfigurationEntry {
+  private static final int DEFAULT_BATCH_SIZE = 1;
+
   private Set<Long> skipRecords;
+  private boolean parallel = false;
+  private int batchSize = DEFAULT_BATCH_SIZE;
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +29,30 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  /**
+   * @return whether each exporter reads and exports the log on its own, such that a slow exporter
+   *     does not hold back the others. In that case the partition wide exporter metrics, e.g.
+   *     {@code zeebe_exporter_events_total}, count each record once per exporter
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  public void setParallel(final boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(final int batchSize) {
+    this.batchSize = batchSize;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, parallel, batchSize);
   }
 
   @Override
@@ -39,11 +64,20 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return parallel == that.parallel
+        && batchSize == that.batchSize
+        && Objects.equals(skipRecords, that.skipRecords);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + ", parallel="
+        + parallel
+        + ", batchSize="
+        + batchSize
+        + '}';
   }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import org.springframework.util.unit.DataSize;
+
+public final class MessageCoalescingCfg implements ConfigurationEntry {
+  private static final boolean DEFAULT_ENABLED = false;
+  private static final Duration DEFAULT_WINDOW = Duration.of(200, ChronoUnit.MICROS);
+  private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofKilobytes(64);
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private Duration window = DEFAULT_WINDOW;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  public void setWindow(final Duration window) {
+    this.window = window;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public String toString() {
+    return "MessageCoalescingCfg{"
+        + "enabled="
+        + enabled
+        + ", window="
+        + window
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
+  }
+}
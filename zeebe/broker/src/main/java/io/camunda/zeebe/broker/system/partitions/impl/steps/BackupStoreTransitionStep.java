@@ -10,10 +10,12 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.azure.AzureBackupStore;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
 import io.camunda.zeebe.backup.gcs.GcsBackupStore;
 import io.camunda.zeebe.backup.s3.S3BackupStore;
 import io.camunda.zeebe.broker.system.configuration.backup.AzureBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
+import io.camunda.zeebe.broker.system.configuration.backup.FilesystemBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.GcsBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.S3BackupStoreConfig;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
@@ -61,6 +63,7 @@ public final class BackupStoreTransitionStep implements PartitionTransitionStep
         case S3 -> installS3Store(context, backupCfg, installed);
         case GCS -> installGcsStore(context, backupCfg, installed);
         case AZURE -> installAzureStore(context, backupCfg, installed);
+        case FILESYSTEM -> installFilesystemStore(context, backupCfg, installed);
         default ->
             installed.completeExceptionally(
                 new IllegalArgumentException(
@@ -121,6 +124,22 @@ public final class BackupStoreTransitionStep implements PartitionTransitionStep
     }
   }
 
+  private static void installFilesystemStore(
+      final PartitionTransitionContext context,
+      final BackupStoreCfg backupCfg,
+      final ActorFuture<Void> installed) {
+    try {
+      final var brokerFilesystemConfig = backupCfg.getFilesystem();
+      final var storeFilesystemConfig =
+          FilesystemBackupStoreConfig.toStoreConfig(brokerFilesystemConfig);
+      final var filesystemStore = new FilesystemBackupStore(storeFilesystemConfig);
+      context.setBackupStore(filesystemStore);
+      installed.complete(null);
+    } catch (final Exception error) {
+      installed.completeExceptionally("Failed to create backup store", error);
+    }
+  }
+
   private boolean shouldInstallOnTransition(final Role currentRole, final Role targetRole) {
     return targetRole == Role.LEADER
         || (targetRole == Role.FOLLOWER && currentRole != Role.CANDIDATE)
@@ -124,6 +124,13 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .parallelExporting(
+                context.getBrokerCfg() != null
+                    && context.getBrokerCfg().getExporting().isParallel())
+            .exportBatchSize(
+                context.getBrokerCfg() != null
+                    ? context.getBrokerCfg().getExporting().getBatchSize()
+                    : 1)
             .meterRegistry(context.getPartitionMeterRegistry());
 
     final ExporterDirector director =
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorBatchTest {
+
+  private static final String EXPORTER_ID = "batch";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withExportBatchSize(10);
+
+  private final BatchExporter exporter = new BatchExporter();
+
+  private void startExporterDirector() {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(EXPORTER_ID, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    rule.startExporterDirector(List.of(descriptor));
+  }
+
+  @Test
+  public void shouldExportAvailableRecordsAsOneBatch() {
+    // given
+    final long firstPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // when
+    startExporterDirector();
+
+    // then
+    Awaitility.await("exporter has received all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(exporter.getExportedRecords()).hasSize(3));
+    assertThat(exporter.batches)
+        .singleElement()
+        .satisfies(
+            batch ->
+                assertThat(batch)
+                    .extracting(Record::getPosition)
+                    .containsExactly(firstPosition, firstPosition + 1, lastPosition));
+  }
+
+  @Test
+  public void shouldUpdatePositionOncePerBatch() {
+    // given
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // when
+    startExporterDirector();
+
+    // then
+    Awaitility.await("exporter has acknowledged the batch")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID))
+                    .isEqualTo(lastPosition));
+  }
+
+  @Test
+  public void shouldNotPassFilteredRecordsInBatch() {
+    // given
+    exporter.onConfigure(
+        context ->
+            context.setFilter(
+                new RecordFilter() {
+                  @Override
+                  public boolean acceptType(final RecordType recordType) {
+                    return true;
+                  }
+
+                  @Override
+                  public boolean acceptValue(final ValueType valueType) {
+                    return valueType == ValueType.JOB;
+                  }
+                }));
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long jobPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // when
+    startExporterDirector();
+
+    // then
+    Awaitility.await("exporter has acknowledged the batch")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID))
+                    .isEqualTo(jobPosition));
+    assertThat(exporter.batches)
+        .singleElement()
+        .satisfies(
+            batch ->
+                assertThat(batch).extracting(Record::getPosition).containsExactly(jobPosition));
+  }
+
+  /** Records the batches it receives, and acknowledges each batch at once. */
+  static final class BatchExporter extends ControlledTestExporter {
+    private final List<List<Record<?>>> batches = new CopyOnWriteArrayList<>();
+
+    BatchExporter() {
+      shouldAutoUpdatePosition(false);
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      batches.add(records);
+      records.forEach(this::export);
+      getController().updateLastExportedRecordPosition(records.getLast().getPosition());
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+
+  private static final String SLOW_EXPORTER_ID = "slow";
+  private static final String FAST_EXPORTER_ID = "fast";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+
+  private final CountDownLatch slowExporterLatch = new CountDownLatch(1);
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+  private ControlledTestExporter slowExporter;
+  private ControlledTestExporter fastExporter;
+
+  @Before
+  public void init() {
+    slowExporter = createExporter(SLOW_EXPORTER_ID);
+    fastExporter = createExporter(FAST_EXPORTER_ID);
+    slowExporter.onExport(
+        record -> {
+          try {
+            slowExporterLatch.await(10, TimeUnit.SECONDS);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
+
+  @After
+  public void tearDown() {
+    slowExporterLatch.countDown();
+  }
+
+  private ControlledTestExporter createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporterDescriptors.add(descriptor);
+    return exporter;
+  }
+
+  @Test
+  public void shouldNotBlockExportersBySlowExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("fast exporter has exported all records while the slow one is blocked")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(fastExporter.getExportedRecords()).hasSize(3));
+    assertThat(slowExporter.getExportedRecords()).isEmpty();
+    assertThat(rule.getExportersState().getPosition(FAST_EXPORTER_ID)).isEqualTo(lastPosition);
+  }
+
+  @Test
+  public void shouldKeepLowestPositionOfSlowestExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    Awaitility.await("fast exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(FAST_EXPORTER_ID))
+                    .isEqualTo(lastPosition));
+
+    // when
+    final long lowestPosition = rule.getExportersState().getLowestPosition();
+
+    // then
+    assertThat(lowestPosition).isLessThan(lastPosition);
+  }
+
+  @Test
+  public void shouldExportAllRecordsToEachExporter() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // when
+    slowExporterLatch.countDown();
+
+    // then
+    Awaitility.await("all exporters have exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(slowExporter.getExportedRecords()).hasSize(2);
+              assertThat(fastExporter.getExportedRecords()).hasSize(2);
+              assertThat(rule.getExportersState().getLowestPosition()).isEqualTo(lastPosition);
+            });
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.logstreams.util.SyncLogStream;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.stream.api.StreamClock;
+import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many records per second the exporter director passes to an exporter which does
+ * nothing, i.e. the overhead of reading, decoding and handing over the records. Each invocation
+ * exports the whole log from the start, with a fresh exporter state.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ExporterDirectorPerformanceTest {
+  private static final int RECORD_COUNT = 100_000;
+  private static final int WRITE_BATCH_SIZE = 10;
+  private static final int PARTITION_ID = 1;
+
+  @Param({"1", "100"})
+  public int exportBatchSize;
+
+  private ActorScheduler scheduler;
+  private SyncLogStream logStream;
+  private long lastPosition;
+  private Path runtimeDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    logStream =
+        SyncLogStream.builder()
+            .withActorSchedulingService(scheduler)
+            .withPartitionId(PARTITION_ID)
+            .withLogName("exporter-benchmark")
+            .withLogStorage(new ListLogStorage())
+            .withClock(StreamClock.system())
+            .build();
+
+    final var writer = logStream.newSyncLogStreamWriter();
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATED);
+    final var job = new JobRecord().setType("benchmark").setWorker("worker").setRetries(3);
+    for (int written = 0; written < RECORD_COUNT; written += WRITE_BATCH_SIZE) {
+      final List<LogAppendEntry> entries = new ArrayList<>(WRITE_BATCH_SIZE);
+      for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+        entries.add(new TestEntry(written + i, -1, job, metadata));
+      }
+      lastPosition = writer.tryWrite(WriteContext.internal(), entries).get();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    logStream.close();
+    scheduler.stop().get();
+  }
+
+  @Setup(Level.Invocation)
+  public void createState() throws Exception {
+    runtimeDirectory = Files.createTempDirectory("exporter-benchmark");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(runtimeDirectory.toFile());
+    NoopExporter.EXPORTED_POSITION.set(-1);
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteState() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(runtimeDirectory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public long exportAllRecords() {
+    final var context =
+        new ExporterDirectorContext()
+            .name("exporter-benchmark")
+            .logStream(logStream.getAsyncLogStream())
+            .clock(StreamClock.system())
+            .zeebeDb(zeebeDb)
+            .partitionMessagingService(new SimplePartitionMessageService())
+            .descriptors(
+                Map.of(
+                    new ExporterDescriptor("noop", NoopExporter.class, Map.of()),
+                    new ExporterInitializationInfo(0, null)))
+            .positionsToSkipFilter(SkipPositionsFilter.of(Set.of()))
+            .meterRegistry(new SimpleMeterRegistry())
+            .exportBatchSize(exportBatchSize);
+    final var director = new ExporterDirector(context, ExporterPhase.EXPORTING);
+
+    director.startAsync(scheduler).join();
+    while (NoopExporter.EXPORTED_POSITION.get() < lastPosition) {
+      Thread.onSpinWait();
+    }
+    director.stopAsync().join();
+
+    return NoopExporter.EXPORTED_POSITION.get();
+  }
+
+  /** Acknowledges every record, or every batch, right away and does nothing else. */
+  public static final class NoopExporter implements Exporter {
+    private static final AtomicLong EXPORTED_POSITION = new AtomicLong(-1);
+
+    private Controller controller;
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      acknowledge(record.getPosition());
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      acknowledge(records.getLast().getPosition());
+    }
+
+    private void acknowledge(final long position) {
+      controller.updateLastExportedRecordPosition(position);
+      EXPORTED_POSITION.set(position);
+    }
+  }
+}
@@ -28,11 +28,13 @@ import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.jackson.JacksonRecordDerivations;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
 import java.time.Duration;
@@ -43,6 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -394,6 +397,75 @@ public final class ExporterDirectorTest {
         .contains(deploymentEvent, jobEvent);
   }
 
+  @Test
+  public void shouldApplyIntentFilter() {
+    // given
+    exporters
+        .get(0)
+        .onConfigure(
+            context ->
+                context.setFilter(
+                    new Context.RecordFilter() {
+                      @Override
+                      public boolean acceptType(final RecordType recordType) {
+                        return true;
+                      }
+
+                      @Override
+                      public boolean acceptValue(final ValueType valueType) {
+                        return valueType == ValueType.DEPLOYMENT;
+                      }
+
+                      @Override
+                      public boolean acceptIntent(final Intent intent) {
+                        return intent == DeploymentIntent.CREATED;
+                      }
+                    }));
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    final long deploymentEvent = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 3);
+
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(deploymentEvent);
+  }
+
+  @Test
+  public void shouldUpdatePositionWhenManyRecordsAreSkipped() {
+    // given
+    final int skippedRecords = ExportLoop.MAX_SKIPPED_RECORDS_PER_READ * 2 + 1;
+    exporters
+        .get(0)
+        .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)));
+    exporters
+        .get(1)
+        .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)));
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    long lastPosition = -1;
+    for (int i = 0; i < skippedRecords; i++) {
+      lastPosition = writeEvent();
+    }
+
+    // then
+    final long lastSkippedPosition = lastPosition;
+    Awaitility.await("all records are skipped")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getLowestPosition())
+                    .isEqualTo(lastSkippedPosition));
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    assertThat(exporters.get(1).getExportedRecords()).isEmpty();
+  }
+
   @Test
   public void shouldNotExportSkipRecordsFilter() {
     // given
@@ -747,6 +819,32 @@ public final class ExporterDirectorTest {
     assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldShareDerivedFormsOfRecordBetweenExporters() {
+    // given
+    final List<byte[]> derivedJson = new CopyOnWriteArrayList<>();
+    for (final ControlledTestExporter exporter : exporters) {
+      doAnswer(
+              invocation -> {
+                final Record<?> record = invocation.getArgument(0);
+                derivedJson.add(record.getDerived(JacksonRecordDerivations.JSON_BYTES));
+                return invocation.callRealMethod();
+              })
+          .when(exporter)
+          .export(any());
+    }
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    writeEvent();
+
+    // then
+    Awaitility.await("both exporters have derived the JSON of the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(derivedJson).hasSize(2));
+    assertThat(derivedJson.get(1)).isSameAs(derivedJson.get(0));
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
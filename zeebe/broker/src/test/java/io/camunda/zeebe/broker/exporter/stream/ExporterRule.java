@@ -61,6 +61,8 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean parallelExporting;
+  private int exportBatchSize = 1;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -95,6 +97,16 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withParallelExporting() {
+    parallelExporting = true;
+    return this;
+  }
+
+  public ExporterRule withExportBatchSize(final int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -128,7 +140,9 @@ public final class ExporterRule implements TestRule {
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .parallelExporting(parallelExporting)
+            .exportBatchSize(exportBatchSize);
 
     director = new ExporterDirector(context, phase);
     director.startAsync(actorSchedulerRule.get()).join();
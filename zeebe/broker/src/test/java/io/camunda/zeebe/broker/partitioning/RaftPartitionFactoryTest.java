@@ -167,6 +167,48 @@ public final class RaftPartitionFactoryTest {
     assertThat(partition.getPartitionConfig().getMaxAppendsPerFollower()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldSetMaxAdaptiveAppendsPerFollower() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxAdaptiveAppendsPerFollower(16);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxAdaptiveAppendsPerFollower()).isEqualTo(16);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetAdaptiveAppendBatching(final boolean enabled) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setAdaptiveAppendBatching(enabled);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isAdaptiveAppendBatchingEnabled()).isEqualTo(enabled);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetDirectJournalReplication(final boolean enabled) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setDirectJournalReplication(enabled);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isDirectJournalReplicationEnabled())
+        .isEqualTo(enabled);
+  }
+
   @Test
   void shouldEnablePriorityElection() {
     // given
@@ -69,6 +69,18 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '-1B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfExportBatchSizeIsNotPositive() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExporting().setBatchSize(0);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected to have an export batch size of at least 1, but was '0'.");
+  }
+
   @Test
   void shouldThrowExceptionIfBatchSizeIsTooLarge() {
     // given
@@ -181,4 +181,27 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetDirectJournalReplicationFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.directJournalReplication", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isDirectJournalReplication()).isTrue();
+  }
+
+  @Test
+  void shouldDisableDirectJournalReplicationByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isDirectJournalReplication()).isFalse();
+  }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.util.unit.DataSize;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class MessageCoalescingCfgTest {
+
+  final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  void shouldSetMessageCoalescingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("message-coalescing-cfg", environment);
+    final var coalescing = cfg.getCluster().getMessageCoalescing();
+
+    // then
+    assertThat(coalescing.isEnabled()).isTrue();
+    assertThat(coalescing.getWindow()).isEqualTo(Duration.ofMillis(1));
+    assertThat(coalescing.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(32));
+  }
+
+  @Test
+  void shouldSetMessageCoalescingFromEnv() {
+    // given
+    environment.put("zeebe.broker.cluster.messageCoalescing.enabled", "false");
+    environment.put("zeebe.broker.cluster.messageCoalescing.window", "500us");
+    environment.put("zeebe.broker.cluster.messageCoalescing.maxBatchSize", "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("message-coalescing-cfg", environment);
+    final var coalescing = cfg.getCluster().getMessageCoalescing();
+
+    // then
+    assertThat(coalescing.isEnabled()).isFalse();
+    assertThat(coalescing.getWindow()).isEqualTo(Duration.ofNanos(500_000));
+    assertThat(coalescing.getMaxBatchSize()).isEqualTo(DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void shouldDisableMessageCoalescingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final var coalescing = cfg.getCluster().getMessageCoalescing();
+
+    // then
+    assertThat(coalescing.isEnabled()).isFalse();
+    assertThat(coalescing.getWindow()).isEqualTo(Duration.ofNanos(200_000));
+    assertThat(coalescing.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(64));
+  }
+}
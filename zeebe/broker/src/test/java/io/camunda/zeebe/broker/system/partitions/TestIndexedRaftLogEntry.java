@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.system.partitions;
 
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
@@ -60,4 +61,9 @@ public class TestIndexedRaftLogEntry implements IndexedRaftLogEntry {
   public ReplicatableJournalRecord getReplicatableJournalRecord() {
     return null;
   }
+
+  @Override
+  public BufferedJournalRecord getBufferedJournalRecord() {
+    return null;
+  }
 }
@@ -18,4 +18,19 @@ public final class DecisionEngineFactory {
   public static DecisionEngine createDecisionEngine() {
     return new DmnScalaDecisionEngine();
   }
+
+  /**
+   * Creates a decision engine that caches the results of decision table evaluations. The cache is
+   * only used for decision tables whose rules can be indexed, and which are evaluated with a {@link
+   * io.camunda.zeebe.dmn.impl.MessagePackVariablesContext}.
+   *
+   * @param resultCacheCapacity the maximum number of cached decision results, or 0 to disable the
+   *     cache
+   * @param metrics the metrics to observe the cache with
+   * @return a new instance of the {@link DecisionEngine}
+   */
+  public static DecisionEngine createDecisionEngine(
+      final int resultCacheCapacity, final DecisionEngineMetrics metrics) {
+    return new DmnScalaDecisionEngine(resultCacheCapacity, metrics);
+  }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn;
+
+/** Observes the evaluation of decisions by a {@link DecisionEngine}. */
+public interface DecisionEngineMetrics {
+
+  /** A metrics implementation that ignores all observations. */
+  DecisionEngineMetrics NOOP =
+      new DecisionEngineMetrics() {
+        @Override
+        public void countResultCacheHit() {}
+
+        @Override
+        public void countResultCacheMiss() {}
+      };
+
+  /** Counts a decision evaluation whose result was found in the decision result cache. */
+  void countResultCacheHit();
+
+  /** Counts a decision evaluation whose result was not found in the decision result cache. */
+  void countResultCacheMiss();
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.DecisionEngineMetrics;
+import io.camunda.zeebe.dmn.impl.DecisionTableIndex.Result;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least-recently-used cache of the results of indexed decision tables, keyed by the decision
+ * table and its input values. As the entries of indexed decision tables are literals, the result of
+ * such a table only depends on its input values.
+ *
+ * <p>The cache is not thread-safe.
+ */
+final class DecisionResultCache {
+
+  private final DecisionEngineMetrics metrics;
+  private final Map<Key, Result> results;
+
+  DecisionResultCache(final int capacity, final DecisionEngineMetrics metrics) {
+    this.metrics = metrics;
+    results =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Key, Result> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * @return the cached result, or {@code null} if there is none
+   */
+  Result get(final DecisionTableIndex decisionTable, final Object[] inputKeys) {
+    final var result = results.get(new Key(decisionTable, inputKeys));
+    if (result != null) {
+      metrics.countResultCacheHit();
+    } else {
+      metrics.countResultCacheMiss();
+    }
+    return result;
+  }
+
+  void put(final DecisionTableIndex decisionTable, final Object[] inputKeys, final Result result) {
+    results.put(new Key(decisionTable, inputKeys), result);
+  }
+
+  private record Key(DecisionTableIndex decisionTable, Object[] inputKeys) {
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof final Key other
+          && decisionTable == other.decisionTable
+          && Arrays.equals(inputKeys, other.inputKeys);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(decisionTable) + Arrays.hashCode(inputKeys);
+    }
+  }
+}
@@ -0,0 +1,514 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.dmn.EvaluatedOutput;
+import io.camunda.zeebe.dmn.MatchedRule;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.camunda.bpm.model.dmn.HitPolicy;
+import org.camunda.dmn.parser.EmptyExpression$;
+import org.camunda.dmn.parser.FeelExpression;
+import org.camunda.dmn.parser.ParsedDecision;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedExpression;
+import org.camunda.dmn.parser.ParsedInput;
+import org.camunda.dmn.parser.ParsedOutput;
+import org.camunda.dmn.parser.ParsedRule;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValBoolean;
+import org.camunda.feel.syntaxtree.ValNull$;
+import org.camunda.feel.syntaxtree.ValNumber;
+import org.camunda.feel.syntaxtree.ValString;
+import scala.Tuple2;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * An index over the rules of a decision table, which finds the matching rules of the table by
+ * looking up the input values per input column, instead of testing every rule one after another.
+ *
+ * <p>Only decision tables with a simple shape can be indexed:
+ *
+ * <ul>
+ *   <li>the decision has no required decisions or business knowledge models
+ *   <li>the hit policy is UNIQUE, FIRST, RULE_ORDER, or COLLECT without aggregation
+ *   <li>every input entry is empty (<code>-</code>), a list of string, number or boolean literals,
+ *       a comparison with a number (e.g. <code>&lt; 10</code>), or a number interval (e.g. <code>
+ *       [1..10[</code>), and all entries of an input column compare against the same type
+ *   <li>every output entry is a string, number, boolean or <code>null</code> literal
+ * </ul>
+ *
+ * Other decision tables are evaluated by the DMN engine. The index declines to match if the result
+ * could differ from the DMN engine's result, e.g. if no rule matches or if the input value has a
+ * different type than the input entries. The caller must then evaluate the decision by the DMN
+ * engine.
+ */
+final class DecisionTableIndex {
+
+  private static final String NUMBER = "-?\\d+(?:\\.\\d+)?";
+  private static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"\\\\]*)\"");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile(NUMBER);
+  private static final Pattern COMPARISON = Pattern.compile("(<=|>=|<|>)\\s*(" + NUMBER + ")");
+  private static final Pattern INTERVAL =
+      Pattern.compile(
+          "([\\[(\\]])\\s*(" + NUMBER + ")\\s*\\.\\.\\s*(" + NUMBER + ")\\s*([\\])\\[])");
+  private static final Pattern LITERAL_LIST_SEPARATOR = Pattern.compile("\\s*,\\s*");
+
+  private final ParsedDecision decision;
+  private final HitPolicy hitPolicy;
+  private final List<ParsedInput> inputs;
+  private final List<ParsedOutput> outputs;
+  private final List<DirectBuffer> outputNames;
+  private final InputColumn[] columns;
+  private final List<IndexedRule> rules;
+  private final int ruleCount;
+
+  private DecisionTableIndex(
+      final ParsedDecision decision,
+      final HitPolicy hitPolicy,
+      final List<ParsedInput> inputs,
+      final List<ParsedOutput> outputs,
+      final InputColumn[] columns,
+      final List<IndexedRule> rules) {
+    this.decision = decision;
+    this.hitPolicy = hitPolicy;
+    this.inputs = inputs;
+    this.outputs = outputs;
+    this.columns = columns;
+    this.rules = rules;
+    ruleCount = rules.size();
+    // the names are only written for multiple outputs, which must be named
+    outputNames =
+        outputs.stream()
+            .map(output -> output.name() != null ? wrapString(output.name()) : null)
+            .toList();
+  }
+
+  /**
+   * Builds the index of the given decision.
+   *
+   * @param decision the decision to index
+   * @return the index of the decision table, or {@code null} if the decision is not a decision
+   *     table or its shape is not supported
+   */
+  static DecisionTableIndex of(final ParsedDecision decision) {
+    if (!(decision.logic() instanceof final ParsedDecisionTable decisionTable)
+        || !decision.requiredDecisions().isEmpty()
+        || !decision.requiredBkms().isEmpty()
+        || !isSupportedHitPolicy(decisionTable)) {
+      return null;
+    }
+
+    final List<ParsedInput> inputs = CollectionConverters.asJava(decisionTable.inputs().toList());
+    final List<ParsedOutput> outputs =
+        CollectionConverters.asJava(decisionTable.outputs().toList());
+    final List<ParsedRule> parsedRules =
+        CollectionConverters.asJava(decisionTable.rules().toList());
+    if (inputs.stream().anyMatch(input -> !(input.expression() instanceof FeelExpression))
+        || outputs.isEmpty()
+        || (outputs.size() > 1 && outputs.stream().anyMatch(output -> output.name() == null))) {
+      return null;
+    }
+
+    final var columns = new InputColumn[inputs.size()];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = new InputColumn();
+    }
+
+    final var outputConverter = new FeelToMessagePackTransformer();
+    final var allowedOutputValues = getAllowedOutputValues(outputs);
+    final var rules = new ArrayList<IndexedRule>(parsedRules.size());
+    for (int ruleIndex = 0; ruleIndex < parsedRules.size(); ruleIndex++) {
+      final var rule = parsedRules.get(ruleIndex);
+
+      final var inputEntries = CollectionConverters.asJava(rule.inputEntries().toList());
+      if (inputEntries.size() != columns.length) {
+        return null;
+      }
+      for (int column = 0; column < columns.length; column++) {
+        if (!columns[column].add(ruleIndex, inputEntries.get(column))) {
+          return null;
+        }
+      }
+
+      final var outputEntries = CollectionConverters.asJava(rule.outputEntries().toList());
+      if (outputEntries.size() != outputs.size()) {
+        return null;
+      }
+      final var outputValues = new ArrayList<DirectBuffer>(outputs.size());
+      for (int output = 0; output < outputs.size(); output++) {
+        final Val value = parseOutputEntry(outputEntries.get(output));
+        final var allowedValues = allowedOutputValues.get(output);
+        if (value == null
+            || (allowedValues != null && !allowedValues.contains(toIndexKey(value)))) {
+          return null;
+        }
+        outputValues.add(cloneBuffer(outputConverter.toMessagePack(value)));
+      }
+
+      rules.add(new IndexedRule(rule.id(), ruleIndex + 1, outputValues));
+    }
+
+    for (final InputColumn column : columns) {
+      column.sortIntervals();
+    }
+
+    return new DecisionTableIndex(
+        decision, decisionTable.hitPolicy(), inputs, outputs, columns, rules);
+  }
+
+  ParsedDecision getDecision() {
+    return decision;
+  }
+
+  List<ParsedInput> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * Converts the evaluated input values to the keys to match the rules with. Inputs which are only
+   * tested by empty entries don't affect the result; their key is {@code null}.
+   *
+   * @param inputValues the evaluated values of the input expressions
+   * @return the keys to match the rules with, or {@code null} if any value can't be matched by the
+   *     index
+   */
+  Object[] toInputKeys(final Val[] inputValues) {
+    final var keys = new Object[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      final var column = columns[i];
+      if (column.type == null) {
+        continue;
+      }
+
+      final var key = toIndexKey(inputValues[i]);
+      if (key == null || key.getClass() != column.type) {
+        return null;
+      }
+      keys[i] = key;
+    }
+    return keys;
+  }
+
+  /**
+   * Finds the rules that match the given input keys, and builds the output of the decision from
+   * them.
+   *
+   * @param inputKeys the keys of the input values, see {@link #toInputKeys(Val[])}
+   * @return the result of the decision table, or {@code null} if the result must be determined by
+   *     the DMN engine instead
+   */
+  Result evaluate(final Object[] inputKeys) {
+    final var matches = new BitSet(ruleCount);
+    matches.set(0, ruleCount);
+    for (int i = 0; i < columns.length && !matches.isEmpty(); i++) {
+      columns[i].retainMatches(inputKeys[i], matches);
+    }
+
+    final int matchCount = matches.cardinality();
+    if (matchCount == 0 || (hitPolicy == HitPolicy.UNIQUE && matchCount > 1)) {
+      // the DMN engine takes care of default outputs and of violations of the hit policy
+      return null;
+    }
+
+    final List<IndexedRule> matchedRules = new ArrayList<>(matchCount);
+    if (hitPolicy == HitPolicy.FIRST) {
+      matchedRules.add(rules.get(matches.nextSetBit(0)));
+    } else {
+      matches.stream().forEach(rule -> matchedRules.add(rules.get(rule)));
+    }
+
+    return new Result(writeOutput(matchedRules), toMatchedRules(matchedRules));
+  }
+
+  private DirectBuffer writeOutput(final List<IndexedRule> matchedRules) {
+    final boolean singleOutput = outputs.size() == 1;
+    final boolean singleResult = hitPolicy == HitPolicy.UNIQUE || hitPolicy == HitPolicy.FIRST;
+    if (singleOutput && singleResult) {
+      return matchedRules.getFirst().outputValues().getFirst();
+    }
+
+    final var writeBuffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(writeBuffer, 0);
+    if (!singleResult) {
+      writer.writeArrayHeader(matchedRules.size());
+    }
+    for (final IndexedRule rule : matchedRules) {
+      if (singleOutput) {
+        writer.writeRaw(rule.outputValues().getFirst());
+      } else {
+        writer.writeMapHeader(outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+          writer.writeString(outputNames.get(i));
+          writer.writeRaw(rule.outputValues().get(i));
+        }
+      }
+    }
+    return cloneBuffer(writeBuffer, 0, writer.getOffset());
+  }
+
+  private List<MatchedRule> toMatchedRules(final List<IndexedRule> matchedRules) {
+    final List<MatchedRule> result = new ArrayList<>(matchedRules.size());
+    for (final IndexedRule rule : matchedRules) {
+      final List<EvaluatedOutput> evaluatedOutputs = new ArrayList<>(outputs.size());
+      for (int i = 0; i < outputs.size(); i++) {
+        final var output = outputs.get(i);
+        // Just like the Modeler, we favor the label over the name
+        final var outputName = output.label() != null ? output.label() : output.name();
+        evaluatedOutputs.add(
+            new EvaluatedDmnScalaOutput(output.id(), outputName, rule.outputValues().get(i)));
+      }
+      result.add(new MatchedDmnScalaRule(rule.ruleId(), rule.ruleIndex(), evaluatedOutputs));
+    }
+    return result;
+  }
+
+  private static boolean isSupportedHitPolicy(final ParsedDecisionTable decisionTable) {
+    return switch (decisionTable.hitPolicy()) {
+      case UNIQUE, FIRST, RULE_ORDER -> true;
+      case COLLECT -> decisionTable.aggregation() == null;
+      default -> false;
+    };
+  }
+
+  private static List<Set<Object>> getAllowedOutputValues(final List<ParsedOutput> outputs) {
+    final List<Set<Object>> allowedValues = new ArrayList<>(outputs.size());
+    for (final ParsedOutput output : outputs) {
+      if (output.value().isEmpty()) {
+        allowedValues.add(null);
+        continue;
+      }
+
+      final var values = parseLiteralList(output.value().get());
+      // if the allowed values can't be parsed, then no output value is considered to be allowed
+      allowedValues.add(values != null ? new HashSet<>(values) : Set.of());
+    }
+    return allowedValues;
+  }
+
+  private static Val parseOutputEntry(final Tuple2<String, ParsedExpression> outputEntry) {
+    if (!(outputEntry._2() instanceof final FeelExpression feelExpression)) {
+      return null;
+    }
+
+    final var text = feelExpression.expression().text().trim();
+    if ("null".equals(text)) {
+      return ValNull$.MODULE$;
+    }
+
+    final var value = parseLiteral(text);
+    if (value instanceof final String string) {
+      return new ValString(string);
+    } else if (value instanceof final BigDecimal number) {
+      return new ValNumber(new scala.math.BigDecimal(number));
+    } else if (value instanceof final Boolean bool) {
+      return new ValBoolean(bool);
+    }
+    return null;
+  }
+
+  private static List<Object> parseLiteralList(final String text) {
+    final var literals = new ArrayList<>();
+    for (final String literalText : LITERAL_LIST_SEPARATOR.split(text.trim(), -1)) {
+      final var literal = parseLiteral(literalText);
+      if (literal == null) {
+        return null;
+      }
+      literals.add(literal);
+    }
+    return literals;
+  }
+
+  /**
+   * @return the value of the literal as {@link String}, normalized {@link BigDecimal} or {@link
+   *     Boolean}, or {@code null} if the text is no such literal
+   */
+  private static Object parseLiteral(final String text) {
+    final Matcher stringMatcher = STRING_LITERAL.matcher(text);
+    if (stringMatcher.matches()) {
+      return stringMatcher.group(1);
+    } else if (NUMBER_LITERAL.matcher(text).matches()) {
+      return new BigDecimal(text).stripTrailingZeros();
+    } else if ("true".equals(text) || "false".equals(text)) {
+      return Boolean.valueOf(text);
+    }
+    return null;
+  }
+
+  /**
+   * @return the key of the value in the index, or {@code null} if the value has a type that is not
+   *     indexed
+   */
+  private static Object toIndexKey(final Val value) {
+    if (value instanceof final ValString string) {
+      return string.value();
+    } else if (value instanceof final ValNumber number) {
+      return number.value().bigDecimal().stripTrailingZeros();
+    } else if (value instanceof final ValBoolean bool) {
+      return bool.value();
+    }
+    return null;
+  }
+
+  /** The result of a decision table evaluated by the index. */
+  record Result(DirectBuffer output, List<MatchedRule> matchedRules) {}
+
+  private record IndexedRule(String ruleId, int ruleIndex, List<DirectBuffer> outputValues) {}
+
+  /**
+   * A number interval; a {@code null} bound is unbounded. Entries like {@code < 10} are intervals
+   * with one unbounded side.
+   */
+  private record Interval(
+      BigDecimal lower,
+      boolean lowerInclusive,
+      BigDecimal upper,
+      boolean upperInclusive,
+      int rule) {
+
+    private static final Comparator<Interval> BY_LOWER_BOUND =
+        Comparator.comparing(Interval::lower, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private boolean isBelowLowerBound(final BigDecimal value) {
+      return lower != null && value.compareTo(lower) < 0;
+    }
+
+    private boolean contains(final BigDecimal value) {
+      if (lower != null) {
+        final int comparison = value.compareTo(lower);
+        if (comparison < 0 || (comparison == 0 && !lowerInclusive)) {
+          return false;
+        }
+      }
+      if (upper != null) {
+        final int comparison = value.compareTo(upper);
+        return comparison < 0 || (comparison == 0 && upperInclusive);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The entries of one input column: a hash index for the literal entries, an interval list sorted
+   * by the lower bound for the comparisons and intervals, and the rules with an empty entry.
+   */
+  private static final class InputColumn {
+    private final Map<Object, BitSet> literals = new HashMap<>();
+    private final List<Interval> intervals = new ArrayList<>();
+    private final BitSet wildcards = new BitSet();
+
+    /** The type of all non-empty entries, or {@code null} if all entries are empty. */
+    private Class<?> type;
+
+    private boolean add(final int rule, final ParsedExpression entry) {
+      if (entry == EmptyExpression$.MODULE$) {
+        wildcards.set(rule);
+        return true;
+      } else if (!(entry instanceof final FeelExpression feelExpression)) {
+        return false;
+      }
+
+      final var text = feelExpression.expression().text().trim();
+      if (text.isEmpty() || "-".equals(text)) {
+        wildcards.set(rule);
+        return true;
+      }
+
+      final Matcher comparison = COMPARISON.matcher(text);
+      if (comparison.matches()) {
+        final var bound = new BigDecimal(comparison.group(2));
+        final var operator = comparison.group(1);
+        final boolean inclusive = operator.length() == 2;
+        intervals.add(
+            operator.charAt(0) == '<'
+                ? new Interval(null, false, bound, inclusive, rule)
+                : new Interval(bound, inclusive, null, false, rule));
+        return setType(BigDecimal.class);
+      }
+
+      final Matcher interval = INTERVAL.matcher(text);
+      if (interval.matches()) {
+        intervals.add(
+            new Interval(
+                new BigDecimal(interval.group(2)),
+                "[".equals(interval.group(1)),
+                new BigDecimal(interval.group(3)),
+                "]".equals(interval.group(4)),
+                rule));
+        return setType(BigDecimal.class);
+      }
+
+      final var values = parseLiteralList(text);
+      if (values == null) {
+        return false;
+      }
+      for (final Object value : values) {
+        if (!setType(value.getClass())) {
+          return false;
+        }
+        literals.computeIfAbsent(value, v -> new BitSet()).set(rule);
+      }
+      return true;
+    }
+
+    private boolean setType(final Class<?> entryType) {
+      if (type == null) {
+        type = entryType;
+      }
+      return type == entryType;
+    }
+
+    private void sortIntervals() {
+      intervals.sort(Interval.BY_LOWER_BOUND);
+    }
+
+    private void retainMatches(final Object key, final BitSet matches) {
+      if (type == null) {
+        // all entries are empty, and match any value
+        return;
+      }
+
+      final var columnMatches = (BitSet) wildcards.clone();
+
+      final var literalMatches = literals.get(key);
+      if (literalMatches != null) {
+        columnMatches.or(literalMatches);
+      }
+
+      if (key instanceof final BigDecimal number) {
+        for (final Interval interval : intervals) {
+          if (interval.isBelowLowerBound(number)) {
+            // the intervals are sorted by the lower bound, no further interval can match
+            break;
+          }
+          if (interval.contains(number)) {
+            columnMatches.set(interval.rule());
+          }
+        }
+      }
+
+      matches.and(columnMatches);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.dmn.DecisionContext;
 import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineMetrics;
 import io.camunda.zeebe.dmn.DecisionEvaluationResult;
 import io.camunda.zeebe.dmn.EvaluatedDecision;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
@@ -44,9 +45,23 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
 
   private final DmnEngine dmnEngine;
   private final FeelToMessagePackTransformer outputConverter = new FeelToMessagePackTransformer();
+  private final IndexedDecisionEvaluator indexedDecisionEvaluator;
 
   public DmnScalaDecisionEngine() {
+    this(0, DecisionEngineMetrics.NOOP);
+  }
+
+  /**
+   * @param resultCacheCapacity the maximum number of cached results of indexed decision tables, or
+   *     0 to disable the cache
+   * @param metrics the metrics to observe the decision result cache with
+   */
+  public DmnScalaDecisionEngine(
+      final int resultCacheCapacity, final DecisionEngineMetrics metrics) {
     dmnEngine = new DmnEngine.Builder().build();
+    final var resultCache =
+        resultCacheCapacity > 0 ? new DecisionResultCache(resultCacheCapacity, metrics) : null;
+    indexedDecisionEvaluator = new IndexedDecisionEvaluator(this::toMessagePack, resultCache);
   }
 
   @Override
@@ -93,8 +108,21 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
           decisionId);
     }
 
-    final var parsedDmn = ((ParsedDmnScalaDrg) decisionRequirementsGraph).getParsedDmn();
-    // todo(#8092): pass in context that allows fetching variable by name (lazy)
+    final var drg = (ParsedDmnScalaDrg) decisionRequirementsGraph;
+    if (evalContext instanceof final MessagePackVariablesContext messagePackContext) {
+      // simple decision tables are evaluated by their index, without the DMN engine
+      final var decisionTableIndex = drg.getDecisionTableIndex(decisionId);
+      if (decisionTableIndex != null) {
+        final var result =
+            indexedDecisionEvaluator.evaluate(
+                decisionTableIndex, messagePackContext.getVariables());
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+
+    final var parsedDmn = drg.getParsedDmn();
     final Either<EvalFailure, EvalResult> result =
         dmnEngine.eval(parsedDmn, decisionId, evalContext.toMap());
     final AuditLog auditLog =
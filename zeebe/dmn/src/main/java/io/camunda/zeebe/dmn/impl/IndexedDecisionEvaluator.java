@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.DecisionType;
+import io.camunda.zeebe.dmn.EvaluatedInput;
+import io.camunda.zeebe.dmn.impl.DecisionTableIndex.Result;
+import io.camunda.zeebe.feel.impl.MessagePackContext;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+import org.camunda.dmn.parser.FeelExpression;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.Val;
+
+/**
+ * Evaluates decision tables by their {@link DecisionTableIndex}. The input expressions are
+ * evaluated directly on the MessagePack document of the variables, such that only the variables
+ * which are accessed by the input expressions are decoded.
+ */
+final class IndexedDecisionEvaluator {
+
+  private final FeelEngine feelEngine =
+      new FeelEngine.Builder().customValueMapper(new MessagePackValueMapper()).build();
+  private final MsgPackReader reader = new MsgPackReader();
+
+  private final Function<Val, DirectBuffer> converter;
+  private final DecisionResultCache resultCache;
+
+  /**
+   * @param converter converts FEEL values to MessagePack
+   * @param resultCache the cache of the decision results, or {@code null} to evaluate every
+   *     decision
+   */
+  IndexedDecisionEvaluator(
+      final Function<Val, DirectBuffer> converter, final DecisionResultCache resultCache) {
+    this.converter = converter;
+    this.resultCache = resultCache;
+  }
+
+  /**
+   * Evaluates the given decision table.
+   *
+   * @param decisionTable the index of the decision table
+   * @param variables the MessagePack document of the variables
+   * @return the result of the decision, or {@code null} if the decision must be evaluated by the
+   *     DMN engine instead
+   */
+  EvaluationResult evaluate(final DecisionTableIndex decisionTable, final DirectBuffer variables) {
+    if (variables.capacity() == 0) {
+      return null;
+    }
+
+    reader.wrap(variables, 0, variables.capacity());
+    final var token = reader.readToken();
+    if (token.getType() != MsgPackType.MAP) {
+      return null;
+    }
+    final var context = new MessagePackContext(reader, 0, token.getSize());
+
+    final var inputs = decisionTable.getInputs();
+    final var inputValues = new Val[inputs.size()];
+    for (int i = 0; i < inputValues.length; i++) {
+      final var expression = ((FeelExpression) inputs.get(i).expression()).expression();
+      final var evaluationResult = feelEngine.evaluate(expression, context);
+      if (evaluationResult.isFailure()
+          || !(evaluationResult.result() instanceof final Val inputValue)) {
+        // let the DMN engine report the failure
+        return null;
+      }
+      inputValues[i] = inputValue;
+    }
+
+    final var inputKeys = decisionTable.toInputKeys(inputValues);
+    if (inputKeys == null) {
+      return null;
+    }
+
+    Result result = resultCache != null ? resultCache.get(decisionTable, inputKeys) : null;
+    if (result == null) {
+      result = decisionTable.evaluate(inputKeys);
+      if (result == null) {
+        return null;
+      }
+      if (resultCache != null) {
+        resultCache.put(decisionTable, inputKeys, result);
+      }
+    }
+
+    final List<EvaluatedInput> evaluatedInputs = new ArrayList<>(inputValues.length);
+    for (int i = 0; i < inputValues.length; i++) {
+      final var input = inputs.get(i);
+      evaluatedInputs.add(
+          new EvaluatedDmnScalaInput(
+              input.id(),
+              EvaluatedDmnScalaInput.determineInputName(input),
+              converter.apply(inputValues[i])));
+    }
+
+    final var decision = decisionTable.getDecision();
+    final var evaluatedDecision =
+        new EvaluatedDmnScalaDecision(
+            decision.id(),
+            decision.name(),
+            DecisionType.DECISION_TABLE,
+            result.output(),
+            evaluatedInputs,
+            result.matchedRules());
+    return new EvaluationResult(result.output(), List.of(evaluatedDecision));
+  }
+}
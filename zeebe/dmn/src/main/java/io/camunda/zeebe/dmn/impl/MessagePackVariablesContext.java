@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.dmn.DecisionContext;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A decision context backed by a MessagePack document of variables. The document is not
+ * deserialized; {@link #toMap()} only splits it into the encoded values of its top-level variables,
+ * which are decoded when the decision engine accesses them.
+ *
+ * <p>The context references the given buffer, which must not be modified while the context is in
+ * use.
+ */
+public final class MessagePackVariablesContext implements DecisionContext {
+
+  private final DirectBuffer variables;
+  private Map<String, Object> variablesByName;
+
+  public MessagePackVariablesContext(final DirectBuffer variables) {
+    this.variables = variables;
+  }
+
+  /**
+   * @return the MessagePack document of the variables
+   */
+  public DirectBuffer getVariables() {
+    return variables;
+  }
+
+  @Override
+  public Map<String, Object> toMap() {
+    if (variablesByName == null) {
+      variablesByName = splitVariables();
+    }
+    return variablesByName;
+  }
+
+  private Map<String, Object> splitVariables() {
+    if (variables.capacity() == 0) {
+      return Map.of();
+    }
+
+    final var reader = new MsgPackReader();
+    reader.wrap(variables, 0, variables.capacity());
+
+    final int size = reader.readMapHeader();
+    final Map<String, Object> result = new HashMap<>(size);
+    for (int i = 0; i < size; i++) {
+      final var name = bufferAsString(reader.readToken().getValueBuffer());
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      result.put(name, new UnsafeBuffer(variables, valueOffset, reader.getOffset() - valueOffset));
+    }
+    return result;
+  }
+}
@@ -12,9 +12,13 @@ import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
 import org.camunda.bpm.model.dmn.instance.Definitions;
 import org.camunda.dmn.parser.ParsedDmn;
+import scala.jdk.javaapi.CollectionConverters;
 
 public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph {
 
@@ -23,6 +27,8 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
   private final String decisionRequirementsName;
   private final String decisionRequirementsNamespace;
   private final List<ParsedDecision> decisions;
+  private final Map<String, Optional<DecisionTableIndex>> decisionTableIndexes =
+      new ConcurrentHashMap<>();
 
   private ParsedDmnScalaDrg(
       final ParsedDmn parsedDmn,
@@ -71,6 +77,26 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     return parsedDmn;
   }
 
+  /**
+   * Returns the index of the decision table with the given id. The index is built on the first
+   * access.
+   *
+   * @param decisionId the id of the decision
+   * @return the index of the decision table, or {@code null} if there is no such decision or if the
+   *     decision can't be indexed
+   */
+  DecisionTableIndex getDecisionTableIndex(final String decisionId) {
+    return decisionTableIndexes
+        .computeIfAbsent(
+            decisionId,
+            id ->
+                CollectionConverters.asJava(parsedDmn.decisions().toList()).stream()
+                    .filter(decision -> decision.id().equals(id))
+                    .findFirst()
+                    .map(DecisionTableIndex::of))
+        .orElse(null);
+  }
+
   public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn) {
 
     final DmnModelInstance modelInstance = parsedDmn.model();
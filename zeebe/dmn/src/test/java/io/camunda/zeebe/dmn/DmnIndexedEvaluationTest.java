@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.dmn.impl.MessagePackVariablesContext;
+import io.camunda.zeebe.dmn.impl.VariablesContext;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DmnIndexedEvaluationTest {
+
+  private static final String INDEXED_DECISION_TABLES = "/indexed-decision-tables.dmn";
+
+  private final CountingMetrics metrics = new CountingMetrics();
+  private final DecisionEngine decisionEngine =
+      DecisionEngineFactory.createDecisionEngine(100, metrics);
+  private ParsedDecisionRequirementsGraph parsedDrg;
+
+  @BeforeEach
+  void parseDrg() {
+    parsedDrg = decisionEngine.parse(getClass().getResourceAsStream(INDEXED_DECISION_TABLES));
+  }
+
+  static Stream<Arguments> evaluations() {
+    return Stream.of(
+        Arguments.of("discount", "{'customer':{'type':'gold'},'orderAmount':1500,'member':true}"),
+        Arguments.of("discount", "{'customer':{'type':'platinum'},'orderAmount':100}"),
+        Arguments.of("discount", "{'customer':{'type':'gold'},'orderAmount':1000.0}"),
+        Arguments.of("discount", "{'customer':{'type':'silver'},'orderAmount':501,'member':true}"),
+        Arguments.of("discount", "{'customer':{'type':'silver'},'orderAmount':501,'member':false}"),
+        Arguments.of("discount", "{'customer':{'type':'bronze'},'orderAmount':-5}"),
+        Arguments.of("discount", "{'customer':{'type':'bronze'},'orderAmount':'many'}"),
+        Arguments.of("discount", "{'orderAmount':50}"),
+        Arguments.of("shipping", "{'country':'DE','weight':5}"),
+        Arguments.of("shipping", "{'country':'DE','weight':5.5}"),
+        Arguments.of("shipping", "{'country':'BE','weight':10}"),
+        Arguments.of("shipping", "{'country':'FR','weight':0}"),
+        Arguments.of("shipping", "{'country':'US','weight':1}"),
+        Arguments.of("shipping", "{'country':'US','weight':150}"),
+        Arguments.of("checks", "{'amount':15000,'country':'US'}"),
+        Arguments.of("checks", "{'amount':5000,'country':'DE'}"),
+        Arguments.of("checks", "{'amount':25000,'country':'CA'}"),
+        Arguments.of("checks", "{'amount':10,'country':'DE'}"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("evaluations")
+  @DisplayName("Should evaluate decision table like the DMN engine")
+  void shouldEvaluateLikeDmnEngine(final String decisionId, final String variables) {
+    // given
+    final var variablesContext = new MessagePackVariablesContext(asMsgPack(variables));
+    final var dmnEngineContext = new VariablesContext(variablesContext.toMap());
+
+    // when
+    final var result = decisionEngine.evaluateDecisionById(parsedDrg, decisionId, variablesContext);
+
+    // then
+    final var expected =
+        decisionEngine.evaluateDecisionById(parsedDrg, decisionId, dmnEngineContext);
+    assertThat(result.isFailure()).isEqualTo(expected.isFailure());
+    assertThat(result.getFailureMessage()).isEqualTo(expected.getFailureMessage());
+    assertThat(result.getOutput()).isEqualTo(expected.getOutput());
+    assertThat(result.getEvaluatedDecisions()).isEqualTo(expected.getEvaluatedDecisions());
+  }
+
+  @Test
+  @DisplayName("Should return the output of the first matching rule")
+  void shouldReturnOutputOfFirstMatchingRule() {
+    // when
+    final var result =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg,
+            "discount",
+            new MessagePackVariablesContext(
+                asMsgPack("{'customer':{'type':'gold'},'orderAmount':1500}")));
+
+    // then
+    assertEquality(result.getOutput(), "0.2");
+    assertThat(result.getEvaluatedDecisions()).hasSize(1);
+
+    final var evaluatedDecision = result.getEvaluatedDecisions().getFirst();
+    assertThat(evaluatedDecision.decisionType()).isEqualTo(DecisionType.DECISION_TABLE);
+    assertThat(evaluatedDecision.evaluatedInputs())
+        .extracting(EvaluatedInput::inputId, EvaluatedInput::inputName)
+        .containsExactly(
+            tuple("customerType", "Customer type"),
+            tuple("orderAmount", "Order amount"),
+            tuple("member", "Member"));
+    assertThat(evaluatedDecision.matchedRules())
+        .extracting(MatchedRule::ruleId, MatchedRule::ruleIndex)
+        .containsExactly(tuple("discount_rule_1", 1));
+  }
+
+  @Test
+  @DisplayName("Should return the outputs of all matching rules")
+  void shouldReturnOutputsOfAllMatchingRules() {
+    // when
+    final var result =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg,
+            "checks",
+            new MessagePackVariablesContext(asMsgPack("{'amount':15000,'country':'US'}")));
+
+    // then
+    assertEquality(result.getOutput(), "['manual review','export control','fraud check']");
+  }
+
+  @Test
+  @DisplayName("Should return the outputs of the matching rule as context")
+  void shouldReturnOutputsAsContext() {
+    // when
+    final var result =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg,
+            "shipping",
+            new MessagePackVariablesContext(asMsgPack("{'country':'DE','weight':3}")));
+
+    // then
+    assertEquality(result.getOutput(), "{'carrier':'DHL','price':5}");
+  }
+
+  @Test
+  @DisplayName("Should cache the result of a decision table by its input values")
+  void shouldCacheResultByInputValues() {
+    // given
+    final var variables = asMsgPack("{'country':'DE','weight':3}");
+    final var firstResult =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg, "shipping", new MessagePackVariablesContext(variables));
+
+    // when
+    final var secondResult =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg, "shipping", new MessagePackVariablesContext(variables));
+    final var otherResult =
+        decisionEngine.evaluateDecisionById(
+            parsedDrg,
+            "shipping",
+            new MessagePackVariablesContext(asMsgPack("{'country':'DE','weight':7}")));
+
+    // then
+    assertThat(secondResult.getOutput()).isEqualTo(firstResult.getOutput());
+    assertEquality(otherResult.getOutput(), "{'carrier':'DHL Freight','price':20}");
+    assertThat(metrics.hits).isOne();
+    assertThat(metrics.misses).isEqualTo(2);
+  }
+
+  private static final class CountingMetrics implements DecisionEngineMetrics {
+    private int hits;
+    private int misses;
+
+    @Override
+    public void countResultCacheHit() {
+      hits++;
+    }
+
+    @Override
+    public void countResultCacheMiss() {
+      misses++;
+    }
+  }
+}
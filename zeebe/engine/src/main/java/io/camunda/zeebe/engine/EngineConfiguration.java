@@ -23,6 +23,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_DECISION_RESULT_CACHE_CAPACITY = 0;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -32,6 +33,7 @@ public final class EngineConfiguration {
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int decisionResultCacheCapacity = DEFAULT_DECISION_RESULT_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -76,6 +78,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getDecisionResultCacheCapacity() {
+    return decisionResultCacheCapacity;
+  }
+
+  public EngineConfiguration setDecisionResultCacheCapacity(final int decisionResultCacheCapacity) {
+    this.decisionResultCacheCapacity = decisionResultCacheCapacity;
+    return this;
+  }
+
   public int getProcessCacheCapacity() {
     return processCacheCapacity;
   }
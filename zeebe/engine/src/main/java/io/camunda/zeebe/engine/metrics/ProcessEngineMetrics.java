@@ -7,13 +7,14 @@
  */
 package io.camunda.zeebe.engine.metrics;
 
+import io.camunda.zeebe.dmn.DecisionEngineMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.BpmnEventType;
 import io.prometheus.client.Counter;
 
-public final class ProcessEngineMetrics {
+public final class ProcessEngineMetrics implements DecisionEngineMetrics {
 
   private static final String NAMESPACE = "zeebe";
 
@@ -69,6 +70,16 @@ public final class ProcessEngineMetrics {
           .help("Number of created (root) process instances")
           .labelNames(PARTITION_LABEL, CREATION_MODE_LABEL)
           .register();
+  private static final String RESULT_LABEL = "result";
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+  private static final Counter DECISION_RESULT_CACHE_LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("decision_result_cache_lookups_total")
+          .help("Number of lookups in the decision result cache, by whether the result was cached")
+          .labelNames(PARTITION_LABEL, RESULT_LABEL)
+          .register();
   private final String partitionIdLabel;
 
   public ProcessEngineMetrics(final int partitionId) {
@@ -149,6 +160,16 @@ public final class ProcessEngineMetrics {
     EVALUATED_DMN_ELEMENTS.labels(ORGANIZATION_ID, action, partitionIdLabel).inc(amount);
   }
 
+  @Override
+  public void countResultCacheHit() {
+    DECISION_RESULT_CACHE_LOOKUPS.labels(partitionIdLabel, RESULT_HIT).inc();
+  }
+
+  @Override
+  public void countResultCacheMiss() {
+    DECISION_RESULT_CACHE_LOOKUPS.labels(partitionIdLabel, RESULT_MISS).inc();
+  }
+
   private String extractEventTypeName(final BpmnEventType eventType) {
     return eventType != null ? eventType.name() : BpmnEventType.UNSPECIFIED.name();
   }
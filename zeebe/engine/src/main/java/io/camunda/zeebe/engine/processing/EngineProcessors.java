@@ -99,7 +99,10 @@ public final class EngineProcessors {
 
     final var decisionBehavior =
         new DecisionBehavior(
-            DecisionEngineFactory.createDecisionEngine(), processingState, processEngineMetrics);
+            DecisionEngineFactory.createDecisionEngine(
+                config.getDecisionResultCacheCapacity(), processEngineMetrics),
+            processingState,
+            processEngineMetrics);
     final BpmnBehaviorsImpl bpmnBehaviors =
         createBehaviors(
             processingState,
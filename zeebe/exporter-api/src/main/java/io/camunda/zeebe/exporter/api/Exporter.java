@@ -18,6 +18,7 @@ package io.camunda.zeebe.exporter.api;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
 
 /**
  * Minimal interface to be implemented by concrete exporters.
@@ -73,4 +74,28 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called instead of {@link #export(Record)} when the broker is configured to export in batches.
+   * The batch contains contiguous records of the log, in the order they were written, excluding the
+   * records rejected by the {@link Context#setFilter(Context.RecordFilter) filter}. This allows
+   * implementations which buffer records anyway to flush at batch boundaries, and to call {@link
+   * Controller#updateLastExportedRecordPosition(long)} only once per batch.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the records of the batch which were not acknowledged yet, so records may be exported more than
+   * once.
+   *
+   * <p>Unlike the record passed to {@link #export(Record)}, the records of a batch are copies, and
+   * can be kept after the method returns.
+   *
+   * <p>The default implementation passes each record to {@link #export(Record)}.
+   *
+   * @param records the records to export, never empty
+   */
+  default void exportBatch(final List<Record<?>> records) {
+    for (final Record<?> record : records) {
+      export(record);
+    }
+  }
 }
@@ -17,6 +17,7 @@ package io.camunda.zeebe.exporter.api.context;
 
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 import org.slf4j.Logger;
@@ -80,5 +81,17 @@ public interface Context {
      * @return {@code true} if records with this type of value should be exported.
      */
     boolean acceptValue(ValueType valueType);
+
+    /**
+     * Should export records with the given intent? Records are only exported if their type, the
+     * type of their value and their intent are accepted. Like the other checks, this is done before
+     * the record is decoded, so records which are not accepted are cheap to skip.
+     *
+     * @param intent the intent of the record.
+     * @return {@code true} if records with this intent should be exported.
+     */
+    default boolean acceptIntent(final Intent intent) {
+      return true;
+    }
   }
 }
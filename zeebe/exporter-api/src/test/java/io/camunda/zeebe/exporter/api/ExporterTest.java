@@ -15,11 +15,15 @@
  */
 package io.camunda.zeebe.exporter.api;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 
 public final class ExporterTest {
@@ -43,4 +47,21 @@ public final class ExporterTest {
     // then
     assertThatThrownBy(() -> exporter.configure(null)).isEqualTo(expectedException);
   }
+
+  @Test
+  public void shouldExportEachRecordOfBatchByDefault() {
+    // given
+    final List<Record<?>> exportedRecords = new ArrayList<>();
+    final Exporter exporter = exportedRecords::add;
+    final List<Record<?>> batch =
+        List.of(
+            ImmutableRecord.builder().withPosition(1L).build(),
+            ImmutableRecord.builder().withPosition(2L).build());
+
+    // when
+    exporter.exportBatch(batch);
+
+    // then
+    assertThat(exportedRecords).containsExactlyElementsOf(batch);
+  }
 }
@@ -28,6 +28,7 @@ public final class ExporterTestContext implements Context {
 
   private Configuration configuration;
   private RecordFilter recordFilter;
+  private InstantSource clock = InstantSource.system();
   private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @Override
@@ -42,7 +43,7 @@ public final class ExporterTestContext implements Context {
 
   @Override
   public InstantSource clock() {
-    return InstantSource.system();
+    return clock;
   }
 
   @Override
@@ -65,6 +66,11 @@ public final class ExporterTestContext implements Context {
     return this;
   }
 
+  public ExporterTestContext setClock(final InstantSource clock) {
+    this.clock = Objects.requireNonNull(clock, "must specify a clock");
+    return this;
+  }
+
   public RecordFilter getRecordFilter() {
     return recordFilter;
   }
@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports records into Arrow IPC files on a local or mounted filesystem, for analytics on the
+ * history of processes without indexing it in a search engine.
+ *
+ * <p>The records are buffered in columnar form, one buffer per value type, and rolled into files
+ * once the buffers reach {@link ArrowExporterConfiguration#maxFileSize} or are older than {@link
+ * ArrowExporterConfiguration#rollInterval}. Rolled files are written asynchronously, and the
+ * exported position is updated once all files of a roll were written.
+ */
+public class ArrowExporter implements Exporter {
+
+  private static final Duration ROLL_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+  private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
+
+  private final Map<ValueType, RecordSchema> schemas = new EnumMap<>(ValueType.class);
+  private final Map<ValueType, RecordFileBuffer> buffers = new EnumMap<>(ValueType.class);
+
+  private ArrowExporterConfiguration configuration;
+  private int partitionId;
+  private InstantSource clock;
+  private Controller controller;
+  private BufferAllocator allocator;
+  private RecordFileWriter fileWriter;
+  private InFlightFileWrites inFlightWrites;
+
+  private long lastPosition = -1;
+  private long bufferedSize;
+  private Instant firstBufferedAt;
+
+  @Override
+  public void configure(final Context context) {
+    log = context.getLogger();
+    configuration = context.getConfiguration().instantiate(ArrowExporterConfiguration.class);
+    log.debug("Exporter configured with {}", configuration);
+
+    validate(configuration);
+
+    partitionId = context.getPartitionId();
+    clock = context.clock();
+    context.setFilter(new ArrowRecordFilter(configuration));
+  }
+
+  @Override
+  public void open(final Controller controller) {
+    this.controller = controller;
+    allocator = new RootAllocator();
+    fileWriter = new RecordFileWriter(Path.of(configuration.directory), partitionId);
+    inFlightWrites =
+        new InFlightFileWrites(fileWriter::write, configuration.maxPendingWrites, clock);
+
+    scheduleRollCheck();
+    log.info("Exporter opened");
+  }
+
+  @Override
+  public void close() {
+    try {
+      // make room for the last roll first, as rolling does not wait for older rolls
+      inFlightWrites.awaitWrittenPosition().ifPresent(controller::updateLastExportedRecordPosition);
+      roll();
+      inFlightWrites.awaitWrittenPosition().ifPresent(controller::updateLastExportedRecordPosition);
+    } catch (final Exception e) {
+      log.warn("Failed to write record files before closing exporter.", e);
+    }
+
+    buffers.values().forEach(RecordFileBuffer::close);
+    buffers.clear();
+    inFlightWrites.close();
+    fileWriter.close();
+
+    try {
+      allocator.close();
+    } catch (final Exception e) {
+      log.warn("Failed to release the memory of the record buffers", e);
+    }
+
+    log.info("Exporter closed");
+  }
+
+  @Override
+  public void export(final Record<?> record) {
+    // roll before buffering the record, such that the record is not buffered twice if the exporter
+    // is invoked again because rolling failed, e.g. as too many older rolls are still being written
+    if (bufferedSize >= configuration.maxFileSize) {
+      roll();
+    }
+
+    final var buffer = buffers.computeIfAbsent(record.getValueType(), this::newBuffer);
+    final var sizeBefore = buffer.estimatedSize();
+    buffer.add(record);
+    bufferedSize += buffer.estimatedSize() - sizeBefore;
+    lastPosition = record.getPosition();
+    if (firstBufferedAt == null) {
+      firstBufferedAt = clock.instant();
+    }
+
+    inFlightWrites.pollWrittenPosition().ifPresent(controller::updateLastExportedRecordPosition);
+  }
+
+  private void validate(final ArrowExporterConfiguration configuration) {
+    if (configuration.directory == null || configuration.directory.isBlank()) {
+      throw new ExporterException("Arrow exporter directory must be set.");
+    }
+
+    if (configuration.maxFileSize < 1) {
+      throw new ExporterException(
+          String.format(
+              "Arrow exporter maxFileSize must be >= 1. Current value: %d",
+              configuration.maxFileSize));
+    }
+
+    if (configuration.rollInterval < 1) {
+      throw new ExporterException(
+          String.format(
+              "Arrow exporter rollInterval must be >= 1. Current value: %d",
+              configuration.rollInterval));
+    }
+
+    if (configuration.maxPendingWrites < 1) {
+      throw new ExporterException(
+          String.format(
+              "Arrow exporter maxPendingWrites must be >= 1. Current value: %d",
+              configuration.maxPendingWrites));
+    }
+  }
+
+  private RecordFileBuffer newBuffer(final ValueType valueType) {
+    final var schema =
+        schemas.computeIfAbsent(
+            valueType, type -> RecordSchema.of(type, configuration.dictionaryEncodedFields));
+    return new RecordFileBuffer(schema, allocator);
+  }
+
+  /**
+   * Hands the buffers over to be written. They are only released from the exporter once the write
+   * was accepted, such that they are rolled again if too many older rolls were still pending.
+   */
+  private void roll() {
+    if (buffers.isEmpty()) {
+      return;
+    }
+
+    inFlightWrites.write(List.copyOf(buffers.values()), lastPosition);
+    buffers.clear();
+    bufferedSize = 0;
+    firstBufferedAt = null;
+  }
+
+  private void rollAndReschedule() {
+    try {
+      if (shouldRoll() && !inFlightWrites.isFull()) {
+        roll();
+      }
+
+      inFlightWrites.pollWrittenPosition().ifPresent(controller::updateLastExportedRecordPosition);
+    } catch (final Exception e) {
+      log.warn("Unexpected exception occurred on rolling record files, will retry later.", e);
+    }
+    scheduleRollCheck();
+  }
+
+  /**
+   * @return true if the buffers are older than the roll interval, or reached the maximum file size
+   *     but could not be rolled on exporting as too many older rolls were pending
+   */
+  private boolean shouldRoll() {
+    return firstBufferedAt != null
+        && (bufferedSize >= configuration.maxFileSize
+            || !clock.instant().isBefore(firstBufferedAt.plusSeconds(configuration.rollInterval)));
+  }
+
+  private void scheduleRollCheck() {
+    controller.scheduleCancellableTask(ROLL_CHECK_INTERVAL, this::rollAndReschedule);
+  }
+
+  private static class ArrowRecordFilter implements Context.RecordFilter {
+
+    private final ArrowExporterConfiguration configuration;
+
+    ArrowRecordFilter(final ArrowExporterConfiguration configuration) {
+      this.configuration = configuration;
+    }
+
+    @Override
+    public boolean acceptType(final RecordType recordType) {
+      return configuration.shouldExportRecordType(recordType);
+    }
+
+    @Override
+    public boolean acceptValue(final ValueType valueType) {
+      return configuration.shouldExportValueType(valueType);
+    }
+  }
+}
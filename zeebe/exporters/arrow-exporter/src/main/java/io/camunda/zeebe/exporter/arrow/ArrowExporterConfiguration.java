@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ArrowExporterConfiguration {
+
+  private static final int DEFAULT_MAX_FILE_SIZE = 64 * 1024 * 1024;
+
+  /** The directory to write the record files to, on a local or mounted filesystem. */
+  public String directory;
+
+  /**
+   * The files are rolled once the buffered records reach this size in bytes. The size is estimated
+   * from the uncompressed column values, so the written files are usually smaller.
+   */
+  public long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+
+  /** The files are rolled at the latest this many seconds after buffering their first record. */
+  public long rollInterval = 300;
+
+  /**
+   * How many rolled files may be waiting to be written at once. Once reached, records which would
+   * roll the files are exported again later, once the oldest files were written.
+   */
+  public int maxPendingWrites = 2;
+
+  /** The record types to export. */
+  public List<RecordType> recordTypes = new ArrayList<>(List.of(RecordType.EVENT));
+
+  /** The value types to export; if empty, records of all value types are exported. */
+  public List<ValueType> valueTypes = new ArrayList<>();
+
+  /**
+   * The string fields of the record values which are dictionary encoded, as they repeat across many
+   * records. Fields of an enum type are always dictionary encoded.
+   */
+  public List<String> dictionaryEncodedFields =
+      new ArrayList<>(
+          List.of(
+              "bpmnProcessId",
+              "elementId",
+              "tenantId",
+              "type",
+              "worker",
+              "name",
+              "messageName",
+              "errorCode",
+              "decisionId"));
+
+  public boolean shouldExportRecordType(final RecordType recordType) {
+    return recordTypes.contains(recordType);
+  }
+
+  public boolean shouldExportValueType(final ValueType valueType) {
+    return valueTypes.isEmpty() || valueTypes.contains(valueType);
+  }
+
+  @Override
+  public String toString() {
+    return "ArrowExporterConfiguration{"
+        + "directory='"
+        + directory
+        + '\''
+        + ", maxFileSize="
+        + maxFileSize
+        + ", rollInterval="
+        + rollInterval
+        + ", maxPendingWrites="
+        + maxPendingWrites
+        + ", recordTypes="
+        + recordTypes
+        + ", valueTypes="
+        + valueTypes
+        + ", dictionaryEncodedFields="
+        + dictionaryEncodedFields
+        + '}';
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import io.camunda.zeebe.util.ExponentialBackoff;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks rolled files which are written asynchronously. Files are acknowledged in the order in
+ * which they were rolled: a roll is only reported as written once all rolls before it were written
+ * as well, and a failed roll is written again before any later roll is acknowledged. Writing again
+ * is safe, as the files of a roll have deterministic names. A failed roll is written again after an
+ * exponential backoff, such that a full or unavailable disk is not retried on every roll check.
+ *
+ * <p>The amount of pending rolls is bounded. Rolling while the limit is reached fails instead of
+ * waiting for the oldest roll, such that the exporter's thread is never blocked; see {@link
+ * #isFull()}.
+ *
+ * <p>Not thread-safe; except for completing the writes, everything happens on the exporter's
+ * thread. The buffers of a roll are closed once they were written.
+ */
+final class InFlightFileWrites implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InFlightFileWrites.class);
+
+  private final Deque<InFlightWrite> writes = new ArrayDeque<>();
+  private final ExponentialBackoff retryBackoff = new ExponentialBackoff();
+  private final Function<List<RecordFileBuffer>, CompletableFuture<Void>> writer;
+  private final int maxWrites;
+  private final InstantSource clock;
+
+  private long lastWrittenPosition = -1;
+  // the delay before the oldest roll is written again, growing while it keeps failing
+  private long retryDelayMs;
+  // when the oldest roll is written again, or null if it did not fail
+  private Instant retryAt;
+
+  InFlightFileWrites(
+      final Function<List<RecordFileBuffer>, CompletableFuture<Void>> writer,
+      final int maxWrites,
+      final InstantSource clock) {
+    this.writer = writer;
+    this.maxWrites = maxWrites;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns whether the limit of pending rolls is reached, after acknowledging the rolls which were
+   * written in the meantime. Writes the oldest roll again if it failed, once its backoff elapsed.
+   */
+  boolean isFull() {
+    acknowledgeCompletedWrites();
+    return writes.size() >= maxWrites;
+  }
+
+  /**
+   * Writes the given buffers, unless the limit of pending rolls is reached.
+   *
+   * @param buffers the buffers of the roll, one per file
+   * @param position the position of the last record of the roll
+   * @throws ArrowExporterException if the limit of pending rolls is reached; the given roll was not
+   *     written and its buffers are left to the caller
+   */
+  void write(final List<RecordFileBuffer> buffers, final long position) {
+    if (isFull()) {
+      throw new ArrowExporterException(
+          String.format(
+              "Expected to write record files up to position %d, but %d older rolls are still being written",
+              position, writes.size()));
+    }
+
+    writes.addLast(new InFlightWrite(buffers, position, writer.apply(buffers)));
+  }
+
+  /**
+   * Returns the position of the most recent roll which was written, along with all rolls before it,
+   * since the last call. Writes the oldest roll again if it failed, once its backoff elapsed.
+   */
+  OptionalLong pollWrittenPosition() {
+    acknowledgeCompletedWrites();
+
+    if (lastWrittenPosition == -1) {
+      return OptionalLong.empty();
+    }
+
+    final var writtenPosition = OptionalLong.of(lastWrittenPosition);
+    lastWrittenPosition = -1;
+    return writtenPosition;
+  }
+
+  /**
+   * Waits until all rolls were written, and returns the position of the most recent one.
+   *
+   * @throws ArrowExporterException if a roll failed; it is written again once its backoff elapsed,
+   *     but not awaited
+   */
+  OptionalLong awaitWrittenPosition() {
+    while (!writes.isEmpty()) {
+      awaitOldestWrite();
+    }
+
+    return pollWrittenPosition();
+  }
+
+  /** Releases the buffers of the rolls which were not written, once their writes completed. */
+  @Override
+  public void close() {
+    for (final var write : writes) {
+      try {
+        write.result().join();
+      } catch (final CompletionException | CancellationException e) {
+        // the records are exported again, as their position was not acknowledged
+      }
+      write.close();
+    }
+    writes.clear();
+  }
+
+  private void awaitOldestWrite() {
+    final var oldestWrite = writes.getFirst();
+    try {
+      oldestWrite.result().join();
+    } catch (final CompletionException | CancellationException e) {
+      // handled when acknowledging the write
+    }
+
+    if (!acknowledgeCompletedWrites()) {
+      throw new ArrowExporterException(
+          "Failed to write record files", oldestWrite.result().exceptionNow());
+    }
+  }
+
+  /**
+   * @return false if the oldest roll failed, true otherwise
+   */
+  private boolean acknowledgeCompletedWrites() {
+    while (!writes.isEmpty() && writes.getFirst().result().isDone()) {
+      final var oldestWrite = writes.getFirst();
+      if (oldestWrite.result().isCompletedExceptionally()) {
+        retryWithBackoff(oldestWrite);
+        return false;
+      }
+
+      writes.removeFirst();
+      oldestWrite.close();
+      lastWrittenPosition = oldestWrite.position();
+      retryDelayMs = 0;
+    }
+
+    return true;
+  }
+
+  private void retryWithBackoff(final InFlightWrite failedWrite) {
+    if (retryAt == null) {
+      retryDelayMs = retryBackoff.applyAsLong(retryDelayMs);
+      retryAt = clock.instant().plusMillis(retryDelayMs);
+      LOG.warn(
+          "Failed to write record files up to position {}, will write them again in {} ms",
+          failedWrite.position(),
+          retryDelayMs,
+          failedWrite.result().exceptionNow());
+    }
+
+    if (!clock.instant().isBefore(retryAt)) {
+      retryAt = null;
+      writes.removeFirst();
+      writes.addFirst(failedWrite.retry(writer));
+    }
+  }
+
+  private record InFlightWrite(
+      List<RecordFileBuffer> buffers, long position, CompletableFuture<Void> result)
+      implements AutoCloseable {
+
+    private InFlightWrite retry(
+        final Function<List<RecordFileBuffer>, CompletableFuture<Void>> writer) {
+      return new InFlightWrite(buffers, position, writer.apply(buffers));
+    }
+
+    @Override
+    public void close() {
+      buffers.forEach(RecordFileBuffer::close);
+    }
+  }
+}
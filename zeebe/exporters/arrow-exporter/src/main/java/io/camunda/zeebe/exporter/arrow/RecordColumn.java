@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.function.Function;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+
+/**
+ * A column of the record files.
+ *
+ * @param name the name of the column
+ * @param type how the values are stored
+ * @param accessor reads the value of the column from a record; may return null
+ */
+record RecordColumn(String name, ColumnType type, Function<Record<?>, Object> accessor) {
+
+  Object read(final Record<?> record) {
+    return accessor.apply(record);
+  }
+
+  enum ColumnType {
+    LONG(new ArrowType.Int(64, true), Long.BYTES),
+    INT(new ArrowType.Int(32, true), Integer.BYTES),
+    BOOLEAN(ArrowType.Bool.INSTANCE, 1),
+    TIMESTAMP(new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC"), Long.BYTES),
+    STRING(ArrowType.Utf8.INSTANCE, Integer.BYTES),
+    BINARY(ArrowType.Binary.INSTANCE, Integer.BYTES),
+    /** Nested values, e.g. variables or lists, which are stored as JSON strings. */
+    JSON(ArrowType.Utf8.INSTANCE, Integer.BYTES),
+    /** Strings which repeat across records, which are stored as indexes into a dictionary. */
+    DICTIONARY(new ArrowType.Int(32, true), Integer.BYTES);
+
+    private final ArrowType arrowType;
+    private final int fixedSize;
+
+    ColumnType(final ArrowType arrowType, final int fixedSize) {
+      this.arrowType = arrowType;
+      this.fixedSize = fixedSize;
+    }
+
+    /**
+     * @return the type of the vector in which the values are stored; for dictionary encoded
+     *     columns, this is the type of the indexes
+     */
+    ArrowType arrowType() {
+      return arrowType;
+    }
+
+    /**
+     * @return the size in bytes which each value takes in the vector, excluding the data of
+     *     variable width values
+     */
+    int fixedSize() {
+      return fixedSize;
+    }
+
+    static ColumnType of(final Class<?> type, final boolean dictionaryEncoded) {
+      if (type == long.class || type == Long.class) {
+        return LONG;
+      } else if (type == int.class
+          || type == Integer.class
+          || type == short.class
+          || type == Short.class) {
+        return INT;
+      } else if (type == boolean.class || type == Boolean.class) {
+        return BOOLEAN;
+      } else if (type == String.class) {
+        return dictionaryEncoded ? DICTIONARY : STRING;
+      } else if (type.isEnum()) {
+        return DICTIONARY;
+      } else if (type == byte[].class) {
+        return BINARY;
+      } else {
+        return JSON;
+      }
+    }
+  }
+}
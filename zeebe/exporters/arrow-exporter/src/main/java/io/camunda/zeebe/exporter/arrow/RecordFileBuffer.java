@@ -0,0 +1,262 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.exporter.arrow.RecordColumn.ColumnType;
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorLoader;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.VectorUnloader;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider.MapDictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.pojo.Field;
+
+/**
+ * Buffers the records of one value type for a record file, column by column in Arrow vectors. The
+ * records are split into batches of at most {@link #BATCH_SIZE} rows, which become the record
+ * batches of the file.
+ *
+ * <p>Dictionary encoded columns store the index of each value in a dictionary, which is built while
+ * records are added, and written once at the start of the file.
+ *
+ * <p>Not thread-safe; records are added on the exporter's thread, and the buffer is only written
+ * once no more records are added.
+ */
+final class RecordFileBuffer implements AutoCloseable {
+
+  static final int BATCH_SIZE = 64 * 1024;
+
+  // nested values are written as a plain ObjectMapper would, through their getters
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final RecordSchema schema;
+  private final BufferAllocator allocator;
+  private final List<RecordColumn> columns;
+  private final ColumnDictionary[] dictionaries;
+  private final int fixedRowSize;
+  private final List<VectorSchemaRoot> batches = new ArrayList<>();
+
+  private VectorSchemaRoot currentBatch;
+  private int currentBatchRows;
+  private long firstPosition = -1;
+  private long lastPosition = -1;
+  private long firstTimestamp = -1;
+  private long estimatedSize;
+
+  RecordFileBuffer(final RecordSchema schema, final BufferAllocator allocator) {
+    this.schema = schema;
+    this.allocator = allocator;
+    columns = schema.columns();
+    dictionaries = new ColumnDictionary[columns.size()];
+
+    int rowSize = 0;
+    for (int i = 0; i < columns.size(); i++) {
+      final var type = columns.get(i).type();
+      rowSize += type.fixedSize();
+      if (type == ColumnType.DICTIONARY) {
+        dictionaries[i] = new ColumnDictionary();
+      }
+    }
+    fixedRowSize = rowSize;
+  }
+
+  void add(final Record<?> record) {
+    if (currentBatch == null || currentBatchRows >= BATCH_SIZE) {
+      startBatch();
+    }
+
+    for (int i = 0; i < columns.size(); i++) {
+      write(i, columns.get(i).read(record));
+    }
+
+    currentBatchRows++;
+    estimatedSize += fixedRowSize;
+    if (firstPosition == -1) {
+      firstPosition = record.getPosition();
+      firstTimestamp = record.getTimestamp();
+    }
+    lastPosition = record.getPosition();
+  }
+
+  /**
+   * Writes the buffered records as an Arrow IPC file to the given channel, and syncs it to the
+   * disk. The channel is closed afterwards. Can be called again if writing failed.
+   */
+  void writeTo(final FileChannel channel) throws IOException {
+    finishBatch();
+
+    final var dictionaryProvider = new MapDictionaryProvider();
+    final List<ValueVector> dictionaryVectors = new ArrayList<>();
+    try {
+      for (int i = 0; i < dictionaries.length; i++) {
+        if (dictionaries[i] != null) {
+          final var vector = dictionaries[i].toVector(schema.dictionaryField(i), allocator);
+          dictionaryVectors.add(vector);
+          dictionaryProvider.put(new Dictionary(vector, schema.dictionaryEncoding(i)));
+        }
+      }
+
+      try (final var root = VectorSchemaRoot.create(schema.schema(), allocator);
+          final var writer = new ArrowFileWriter(root, dictionaryProvider, channel)) {
+        writer.start();
+        final var loader = new VectorLoader(root);
+        for (final var batch : batches) {
+          try (final var recordBatch = new VectorUnloader(batch).getRecordBatch()) {
+            loader.load(recordBatch);
+            writer.writeBatch();
+          }
+        }
+        writer.end();
+        channel.force(true);
+      }
+    } finally {
+      dictionaryVectors.forEach(ValueVector::close);
+    }
+  }
+
+  RecordSchema schema() {
+    return schema;
+  }
+
+  long firstPosition() {
+    return firstPosition;
+  }
+
+  long lastPosition() {
+    return lastPosition;
+  }
+
+  long firstTimestamp() {
+    return firstTimestamp;
+  }
+
+  /**
+   * @return the size of the buffered values in bytes, including the dictionaries; as the vectors
+   *     grow in steps, the allocated memory may be larger
+   */
+  long estimatedSize() {
+    return estimatedSize;
+  }
+
+  @Override
+  public void close() {
+    batches.forEach(VectorSchemaRoot::close);
+    batches.clear();
+    currentBatch = null;
+  }
+
+  private void startBatch() {
+    finishBatch();
+
+    currentBatch = VectorSchemaRoot.create(schema.schema(), allocator);
+    currentBatch.allocateNew();
+    currentBatchRows = 0;
+    batches.add(currentBatch);
+  }
+
+  private void finishBatch() {
+    if (currentBatch != null) {
+      currentBatch.setRowCount(currentBatchRows);
+    }
+  }
+
+  private void write(final int column, final Object value) {
+    // null values are left unset, i.e. are null in the vector
+    if (value == null) {
+      return;
+    }
+
+    final var vector = currentBatch.getVector(column);
+    final var row = currentBatchRows;
+    switch (columns.get(column).type()) {
+      case LONG -> ((BigIntVector) vector).setSafe(row, ((Number) value).longValue());
+      case INT -> ((IntVector) vector).setSafe(row, ((Number) value).intValue());
+      case BOOLEAN -> ((BitVector) vector).setSafe(row, (Boolean) value ? 1 : 0);
+      case TIMESTAMP ->
+          ((TimeStampMilliTZVector) vector).setSafe(row, ((Number) value).longValue());
+      case STRING ->
+          writeBytes(
+              (BaseVariableWidthVector) vector,
+              row,
+              ((String) value).getBytes(StandardCharsets.UTF_8));
+      case BINARY -> writeBytes((BaseVariableWidthVector) vector, row, (byte[]) value);
+      case JSON -> writeBytes((BaseVariableWidthVector) vector, row, toJson(value));
+      case DICTIONARY -> ((IntVector) vector).setSafe(row, indexOf(column, value));
+    }
+  }
+
+  private void writeBytes(final BaseVariableWidthVector vector, final int row, final byte[] bytes) {
+    vector.setSafe(row, bytes);
+    estimatedSize += bytes.length;
+  }
+
+  private int indexOf(final int column, final Object value) {
+    final var dictionary = dictionaries[column];
+    final var string =
+        value instanceof final Enum<?> enumValue ? enumValue.name() : value.toString();
+
+    final var index = dictionary.indexes.get(string);
+    if (index != null) {
+      return index;
+    }
+
+    final var bytes = string.getBytes(StandardCharsets.UTF_8);
+    final var newIndex = dictionary.values.size();
+    dictionary.indexes.put(string, newIndex);
+    dictionary.values.add(bytes);
+    estimatedSize += bytes.length;
+    return newIndex;
+  }
+
+  private static byte[] toJson(final Object value) {
+    try {
+      return MAPPER.writeValueAsBytes(value);
+    } catch (final JsonProcessingException e) {
+      throw new ArrowExporterException("Failed to serialize record value property to JSON", e);
+    }
+  }
+
+  /** The distinct values of a dictionary encoded column, in the order of their indexes. */
+  private static final class ColumnDictionary {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<byte[]> values = new ArrayList<>();
+
+    private VarCharVector toVector(final Field field, final BufferAllocator allocator) {
+      final var vector = new VarCharVector(field, allocator);
+      try {
+        vector.allocateNew(values.size());
+        for (int i = 0; i < values.size(); i++) {
+          vector.setSafe(i, values.get(i));
+        }
+        vector.setValueCount(values.size());
+        return vector;
+      } catch (final RuntimeException e) {
+        vector.close();
+        throw e;
+      }
+    }
+  }
+}
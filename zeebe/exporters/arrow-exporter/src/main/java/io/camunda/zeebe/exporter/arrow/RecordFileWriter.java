@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes rolled record files on a dedicated thread, such that exporting doesn't wait for the disk.
+ * The files are partitioned by value type, partition and the date of their first record:
+ *
+ * <pre>
+ * {directory}/{value_type}/partition={partitionId}/date={yyyy-MM-dd}/{firstPosition}-{lastPosition}.arrow
+ * </pre>
+ *
+ * <p>Each file is written to a temporary file first, which is moved to its final name once it was
+ * completely written and synced, so readers never see incomplete files. As records may be exported
+ * more than once, e.g. after a restart, files may overlap; readers can deduplicate the records by
+ * their position.
+ */
+final class RecordFileWriter implements AutoCloseable {
+
+  static final String FILE_EXTENSION = ".arrow";
+  private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+  private static final DateTimeFormatter DATE_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
+
+  private final Path directory;
+  private final int partitionId;
+  private final ExecutorService executor;
+
+  RecordFileWriter(final Path directory, final int partitionId) {
+    this.directory = directory;
+    this.partitionId = partitionId;
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable ->
+                Thread.ofPlatform()
+                    .name("arrow-exporter-writer-" + partitionId)
+                    .daemon()
+                    .unstarted(runnable));
+  }
+
+  /**
+   * Writes the given buffers asynchronously, one file per buffer. The buffers must not be changed
+   * until the returned future is completed.
+   */
+  CompletableFuture<Void> write(final List<RecordFileBuffer> buffers) {
+    return CompletableFuture.runAsync(() -> buffers.forEach(this::writeFile), executor);
+  }
+
+  Path resolve(final RecordFileBuffer buffer) {
+    final var date = DATE_FORMATTER.format(Instant.ofEpochMilli(buffer.firstTimestamp()));
+    return directory
+        .resolve(buffer.schema().valueType().name().toLowerCase(Locale.ROOT))
+        .resolve("partition=" + partitionId)
+        .resolve("date=" + date)
+        .resolve(buffer.firstPosition() + "-" + buffer.lastPosition() + FILE_EXTENSION);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void writeFile(final RecordFileBuffer buffer) {
+    final var file = resolve(buffer);
+    final var temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_EXTENSION);
+
+    try {
+      Files.createDirectories(file.getParent());
+      try (final var channel =
+          FileChannel.open(
+              temporaryFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        buffer.writeTo(channel);
+      }
+
+      Files.move(
+          temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to write record file " + file, e);
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import io.camunda.zeebe.exporter.arrow.RecordColumn.ColumnType;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.ValueTypeMapping;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * The columns of the record files of a value type. Every file has the columns of the record
+ * metadata, followed by one column per getter of the record value interface of its value type, e.g.
+ * {@link io.camunda.zeebe.protocol.record.value.JobRecordValue}, ordered by name. As the columns
+ * are derived from the protocol, new properties of a record value are exported without changing the
+ * exporter.
+ *
+ * <p>Dictionary encoded columns use their index in the schema as dictionary id.
+ */
+final class RecordSchema {
+
+  private static final String VALUE_COLUMN_PREFIX = "value_";
+
+  private static final List<RecordColumn> RECORD_COLUMNS =
+      List.of(
+          new RecordColumn("position", ColumnType.LONG, Record::getPosition),
+          new RecordColumn(
+              "sourceRecordPosition", ColumnType.LONG, Record::getSourceRecordPosition),
+          new RecordColumn("key", ColumnType.LONG, Record::getKey),
+          new RecordColumn("timestamp", ColumnType.TIMESTAMP, Record::getTimestamp),
+          new RecordColumn("partitionId", ColumnType.INT, Record::getPartitionId),
+          new RecordColumn("recordType", ColumnType.DICTIONARY, Record::getRecordType),
+          new RecordColumn("intent", ColumnType.DICTIONARY, Record::getIntent),
+          new RecordColumn("rejectionType", ColumnType.DICTIONARY, Record::getRejectionType),
+          new RecordColumn("rejectionReason", ColumnType.STRING, Record::getRejectionReason),
+          new RecordColumn("brokerVersion", ColumnType.DICTIONARY, Record::getBrokerVersion),
+          new RecordColumn("recordVersion", ColumnType.INT, Record::getRecordVersion),
+          new RecordColumn("operationReference", ColumnType.LONG, Record::getOperationReference));
+
+  private final ValueType valueType;
+  private final List<RecordColumn> columns;
+  private final Schema schema;
+
+  private RecordSchema(
+      final ValueType valueType, final List<RecordColumn> columns, final Schema schema) {
+    this.valueType = valueType;
+    this.columns = columns;
+    this.schema = schema;
+  }
+
+  /**
+   * Derives the schema of the given value type from its record value interface.
+   *
+   * @param dictionaryEncodedFields the names of the string fields of the record value which are
+   *     dictionary encoded
+   */
+  static RecordSchema of(
+      final ValueType valueType, final Collection<String> dictionaryEncodedFields) {
+    final Set<String> recordColumnNames =
+        RECORD_COLUMNS.stream().map(RecordColumn::name).collect(Collectors.toSet());
+    final var getters =
+        Arrays.stream(ValueTypeMapping.get(valueType).getValueClass().getMethods())
+            .filter(RecordSchema::isGetter)
+            .collect(
+                Collectors.toMap(
+                    RecordSchema::fieldName, Function.identity(), (a, b) -> a, TreeMap::new));
+
+    final List<RecordColumn> columns = new ArrayList<>(RECORD_COLUMNS);
+    getters.forEach(
+        (fieldName, getter) -> {
+          final var type =
+              ColumnType.of(getter.getReturnType(), dictionaryEncodedFields.contains(fieldName));
+          final var name =
+              recordColumnNames.contains(fieldName) ? VALUE_COLUMN_PREFIX + fieldName : fieldName;
+          columns.add(new RecordColumn(name, type, valueAccessor(getter)));
+        });
+
+    return new RecordSchema(valueType, List.copyOf(columns), createSchema(columns));
+  }
+
+  ValueType valueType() {
+    return valueType;
+  }
+
+  List<RecordColumn> columns() {
+    return columns;
+  }
+
+  Schema schema() {
+    return schema;
+  }
+
+  /**
+   * @return the field of the dictionary of the given dictionary encoded column
+   */
+  Field dictionaryField(final int column) {
+    return Field.nullable(columns.get(column).name(), ArrowType.Utf8.INSTANCE);
+  }
+
+  /**
+   * @return the dictionary encoding of the given dictionary encoded column
+   */
+  DictionaryEncoding dictionaryEncoding(final int column) {
+    return schema.getFields().get(column).getDictionary();
+  }
+
+  private static Schema createSchema(final List<RecordColumn> columns) {
+    final List<Field> fields = new ArrayList<>(columns.size());
+    for (int i = 0; i < columns.size(); i++) {
+      final var column = columns.get(i);
+      final var dictionaryEncoding =
+          column.type() == ColumnType.DICTIONARY
+              ? new DictionaryEncoding(i, false, (ArrowType.Int) column.type().arrowType())
+              : null;
+      fields.add(
+          new Field(
+              column.name(),
+              new FieldType(true, column.type().arrowType(), dictionaryEncoding),
+              List.of()));
+    }
+
+    return new Schema(fields);
+  }
+
+  private static boolean isGetter(final Method method) {
+    final var name = method.getName();
+    return method.getParameterCount() == 0
+        && !Modifier.isStatic(method.getModifiers())
+        && method.getDeclaringClass() != Object.class
+        && ((name.startsWith("get") && name.length() > 3)
+            || (name.startsWith("is") && name.length() > 2 && isBoolean(method.getReturnType())));
+  }
+
+  private static boolean isBoolean(final Class<?> type) {
+    return type == boolean.class || type == Boolean.class;
+  }
+
+  private static String fieldName(final Method getter) {
+    final var name = getter.getName();
+    final var property = name.startsWith("is") ? name.substring(2) : name.substring(3);
+    return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+  }
+
+  private static Function<Record<?>, Object> valueAccessor(final Method getter) {
+    final MethodHandle handle;
+    try {
+      handle =
+          MethodHandles.publicLookup()
+              .unreflect(getter)
+              .asType(MethodType.methodType(Object.class, RecordValue.class));
+    } catch (final IllegalAccessException e) {
+      throw new ArrowExporterException("Failed to access the record value getter " + getter, e);
+    }
+
+    return record -> {
+      try {
+        return (Object) handle.invokeExact((RecordValue) record.getValue());
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new ArrowExporterException("Failed to read the record value of " + getter, e);
+      }
+    };
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.ImmutableRecord.Builder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.ImmutableJobRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.util.Text;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ArrowExporterTest {
+
+  private static final long TIMESTAMP = Instant.parse("2024-01-01T10:00:00Z").toEpochMilli();
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final ArrowExporterConfiguration config = new ArrowExporterConfiguration();
+  private final ExporterTestContext context =
+      new ExporterTestContext().setConfiguration(new ExporterTestConfiguration<>("arrow", config));
+  private final ExporterTestController controller = new ExporterTestController();
+  private final ArrowExporter exporter = new ArrowExporter();
+
+  @TempDir private Path directory;
+
+  @BeforeEach
+  void beforeEach() {
+    config.directory = directory.toString();
+  }
+
+  @Test
+  void shouldFailOnMissingDirectory() {
+    // given
+    config.directory = null;
+
+    // when - then
+    assertThatThrownBy(() -> exporter.configure(context))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("directory");
+  }
+
+  @Test
+  void shouldWriteFilesPartitionedByValueTypeAndDate() throws IOException {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(jobRecord(1, "process"));
+    exporter.export(factory.generateRecord(ValueType.PROCESS_INSTANCE, b -> record(b, 2)));
+    exporter.close();
+
+    // then
+    assertThat(listFiles())
+        .containsExactlyInAnyOrder(
+            directory.resolve("job/partition=0/date=2024-01-01/1-1.arrow"),
+            directory.resolve("process_instance/partition=0/date=2024-01-01/2-2.arrow"));
+    assertThat(controller.getPosition()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldWriteRecordsAsColumns() throws IOException {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+    final var record = jobRecord(1, "process");
+
+    // when
+    exporter.export(record);
+    exporter.close();
+
+    // then
+    final var rows = readRows(directory.resolve("job/partition=0/date=2024-01-01/1-1.arrow"));
+    assertThat(rows).hasSize(1);
+    assertThat(rows.getFirst())
+        .containsEntry("position", 1L)
+        .containsEntry("key", record.getKey())
+        .containsEntry("timestamp", TIMESTAMP)
+        .containsEntry("recordType", RecordType.EVENT.name())
+        .containsEntry("intent", JobIntent.CREATED.name())
+        .containsEntry("bpmnProcessId", "process")
+        .containsEntry("retries", record.getValue().getRetries())
+        .containsEntry("customHeaders", "{\"foo\":\"bar\"}");
+  }
+
+  @Test
+  void shouldDictionaryEncodeRepeatedValues() throws IOException {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(jobRecord(1, "process"));
+    exporter.export(jobRecord(2, "process"));
+    exporter.export(jobRecord(3, "other-process"));
+    exporter.close();
+
+    // then
+    final var file = directory.resolve("job/partition=0/date=2024-01-01/1-3.arrow");
+    assertThat(readRows(file))
+        .extracting(row -> row.get("bpmnProcessId"))
+        .containsExactly("process", "process", "other-process");
+    assertThat(readDictionarySize(file, "bpmnProcessId")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRollFilesOnceMaxFileSizeIsReached() throws IOException {
+    // given
+    config.maxFileSize = 1;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(jobRecord(1, "process"));
+    exporter.export(jobRecord(2, "process"));
+    exporter.export(jobRecord(3, "process"));
+    exporter.close();
+
+    // then
+    assertThat(listFiles())
+        .extracting(file -> file.getFileName().toString())
+        .containsExactlyInAnyOrder("1-1.arrow", "2-2.arrow", "3-3.arrow");
+    assertThat(controller.getPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRollFilesOnceRollIntervalElapsed() throws IOException {
+    // given
+    final var now = new AtomicReference<>(Instant.ofEpochMilli(TIMESTAMP));
+    context.setClock(now::get);
+    config.rollInterval = 60;
+    exporter.configure(context);
+    exporter.open(controller);
+    exporter.export(jobRecord(1, "process"));
+
+    // when
+    controller.runScheduledTasks(Duration.ofSeconds(1));
+
+    // then
+    assertThat(listFiles()).isEmpty();
+
+    // when
+    now.set(now.get().plusSeconds(60));
+    controller.runScheduledTasks(Duration.ofSeconds(1));
+
+    // then - the position is updated by the roll check following the write
+    await()
+        .untilAsserted(
+            () -> {
+              controller.runScheduledTasks(Duration.ofSeconds(1));
+              assertThat(controller.getPosition()).isEqualTo(1);
+            });
+    assertThat(listFiles())
+        .extracting(file -> file.getFileName().toString())
+        .containsExactly("1-1.arrow");
+    exporter.close();
+  }
+
+  private Record<JobRecordValue> jobRecord(final long position, final String bpmnProcessId) {
+    final JobRecordValue value =
+        ImmutableJobRecordValue.builder()
+            .from(factory.generateObject(JobRecordValue.class))
+            .withBpmnProcessId(bpmnProcessId)
+            .withCustomHeaders(Map.of("foo", "bar"))
+            .build();
+    return factory.generateRecord(
+        ValueType.JOB, b -> record(b, position).withIntent(JobIntent.CREATED).withValue(value));
+  }
+
+  private static <T extends RecordValue> Builder<T> record(
+      final Builder<T> builder, final long position) {
+    return builder
+        .withPosition(position)
+        .withTimestamp(TIMESTAMP)
+        .withRecordType(RecordType.EVENT)
+        .withPartitionId(0);
+  }
+
+  private List<Path> listFiles() throws IOException {
+    try (final Stream<Path> files = Files.walk(directory)) {
+      return files
+          .filter(file -> file.toString().endsWith(RecordFileWriter.FILE_EXTENSION))
+          .toList();
+    }
+  }
+
+  private List<Map<String, Object>> readRows(final Path file) throws IOException {
+    final List<Map<String, Object>> rows = new ArrayList<>();
+    try (final var allocator = new RootAllocator();
+        final var channel = Files.newByteChannel(file);
+        final var reader = new ArrowFileReader(channel, allocator)) {
+      final var root = reader.getVectorSchemaRoot();
+      while (reader.loadNextBatch()) {
+        final var dictionaries = reader.getDictionaryVectors();
+        for (int row = 0; row < root.getRowCount(); row++) {
+          final Map<String, Object> values = new HashMap<>();
+          for (final var vector : root.getFieldVectors()) {
+            Object value = vector.getObject(row);
+            final var encoding = vector.getField().getDictionary();
+            if (value != null && encoding != null) {
+              value = dictionaries.get(encoding.getId()).getVector().getObject((Integer) value);
+            }
+            values.put(
+                vector.getName(), value instanceof final Text text ? text.toString() : value);
+          }
+          rows.add(values);
+        }
+      }
+    }
+    return rows;
+  }
+
+  private int readDictionarySize(final Path file, final String column) throws IOException {
+    try (final var allocator = new RootAllocator();
+        final var channel = Files.newByteChannel(file);
+        final var reader = new ArrowFileReader(channel, allocator)) {
+      reader.loadNextBatch();
+      final var encoding =
+          reader.getVectorSchemaRoot().getVector(column).getField().getDictionary();
+      return reader.getDictionaryVectors().get(encoding.getId()).getVector().getValueCount();
+    }
+  }
+}
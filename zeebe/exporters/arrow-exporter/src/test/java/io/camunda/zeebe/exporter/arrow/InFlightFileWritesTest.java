@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.memory.RootAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class InFlightFileWritesTest {
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final RootAllocator allocator = new RootAllocator();
+  private final RecordSchema schema = RecordSchema.of(ValueType.JOB, List.of());
+
+  // the buffers passed to the writer, and the results it returned, per call
+  private final List<List<RecordFileBuffer>> writtenBuffers = new ArrayList<>();
+  private final List<CompletableFuture<Void>> results = new ArrayList<>();
+  // longer than any retry backoff
+  private final Duration maxBackoff = Duration.ofSeconds(10);
+  private Instant now = Instant.EPOCH;
+
+  @AfterEach
+  void afterEach() {
+    allocator.close();
+  }
+
+  @Test
+  void shouldAcknowledgeWritesInOrder() {
+    // given
+    try (final var writes = newWrites(3)) {
+      writes.write(newBuffers(), 1);
+      writes.write(newBuffers(), 2);
+
+      // when
+      results.get(1).complete(null);
+
+      // then
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+
+      // when
+      results.get(0).complete(null);
+
+      // then
+      assertThat(writes.pollWrittenPosition()).isEqualTo(OptionalLong.of(2));
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldWriteFailedRollAgainBeforeLaterRolls() {
+    // given
+    try (final var writes = newWrites(3)) {
+      writes.write(newBuffers(), 1);
+      writes.write(newBuffers(), 2);
+
+      // when
+      results.get(0).completeExceptionally(new RuntimeException("expected"));
+      results.get(1).complete(null);
+
+      // then
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      now = now.plus(maxBackoff);
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      assertThat(writtenBuffers).hasSize(3);
+      assertThat(writtenBuffers.get(2)).isSameAs(writtenBuffers.get(0));
+
+      // when
+      results.get(2).complete(null);
+
+      // then
+      assertThat(writes.pollWrittenPosition()).isEqualTo(OptionalLong.of(2));
+    }
+  }
+
+  @Test
+  void shouldBackOffWritingFailedRollAgain() {
+    // given
+    try (final var writes = newWrites(3)) {
+      writes.write(newBuffers(), 1);
+
+      // when
+      results.get(0).completeExceptionally(new RuntimeException("expected"));
+
+      // then - the roll is not written again on every poll
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      assertThat(writtenBuffers).hasSize(1);
+
+      // when - the backoff elapsed, but writing the roll fails again
+      now = now.plus(maxBackoff);
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      results.get(1).completeExceptionally(new RuntimeException("expected"));
+
+      // then - the next write backs off again
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      assertThat(writtenBuffers).hasSize(2);
+      now = now.plus(maxBackoff);
+      assertThat(writes.pollWrittenPosition()).isEmpty();
+      assertThat(writtenBuffers).hasSize(3);
+
+      results.get(2).complete(null);
+      assertThat(writes.pollWrittenPosition()).isEqualTo(OptionalLong.of(1));
+    }
+  }
+
+  @Test
+  void shouldNotWriteWhileLimitIsReached() {
+    // given
+    try (final var writes = newWrites(1)) {
+      writes.write(newBuffers(), 1);
+      final var buffers = newBuffers();
+
+      // when - then
+      assertThat(writes.isFull()).isTrue();
+      assertThatThrownBy(() -> writes.write(buffers, 2)).isInstanceOf(ArrowExporterException.class);
+      assertThat(writtenBuffers).hasSize(1);
+
+      // when
+      results.get(0).complete(null);
+
+      // then
+      assertThat(writes.isFull()).isFalse();
+      writes.write(buffers, 2);
+      assertThat(writtenBuffers).hasSize(2);
+
+      results.get(1).complete(null);
+      assertThat(writes.pollWrittenPosition()).isEqualTo(OptionalLong.of(2));
+    }
+  }
+
+  @Test
+  void shouldReleaseBuffersOnCloseOnceWritesInFlightCompleted() {
+    // given
+    final var writes = newWrites(2);
+    writes.write(newBuffers(), 1);
+    writes.write(newBuffers(), 2);
+    assertThat(allocator.getAllocatedMemory()).isPositive();
+
+    // when
+    final var delayed = CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS);
+    CompletableFuture.runAsync(() -> results.get(0).complete(null), delayed);
+    CompletableFuture.runAsync(
+        () -> results.get(1).completeExceptionally(new RuntimeException("expected")), delayed);
+
+    // then
+    assertThatCode(writes::close).doesNotThrowAnyException();
+    assertThat(results).allMatch(CompletableFuture::isDone);
+    assertThat(allocator.getAllocatedMemory()).isZero();
+  }
+
+  private InFlightFileWrites newWrites(final int maxWrites) {
+    return new InFlightFileWrites(
+        buffers -> {
+          final var result = new CompletableFuture<Void>();
+          writtenBuffers.add(buffers);
+          results.add(result);
+          return result;
+        },
+        maxWrites,
+        () -> now);
+  }
+
+  private List<RecordFileBuffer> newBuffers() {
+    final var buffer = new RecordFileBuffer(schema, allocator);
+    buffer.add(factory.generateRecord(ValueType.JOB));
+    return List.of(buffer);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.arrow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.exporter.arrow.RecordColumn.ColumnType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.ValueTypeMapping;
+import java.util.List;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.junit.jupiter.api.Test;
+
+final class RecordSchemaTest {
+
+  @Test
+  void shouldStartWithRecordColumns() {
+    // when
+    final var schema = RecordSchema.of(ValueType.JOB, List.of());
+
+    // then
+    assertThat(schema.columns())
+        .extracting(RecordColumn::name)
+        .startsWith("position", "sourceRecordPosition", "key", "timestamp", "partitionId");
+  }
+
+  @Test
+  void shouldDeriveValueColumnsFromRecordValueInterface() {
+    // when
+    final var schema = RecordSchema.of(ValueType.JOB, List.of("type"));
+
+    // then
+    assertThat(schema.columns())
+        .extracting(RecordColumn::name, RecordColumn::type)
+        .contains(
+            tuple("type", ColumnType.DICTIONARY),
+            tuple("worker", ColumnType.STRING),
+            tuple("retries", ColumnType.INT),
+            tuple("deadline", ColumnType.LONG),
+            tuple("jobKind", ColumnType.DICTIONARY),
+            tuple("customHeaders", ColumnType.JSON));
+  }
+
+  @Test
+  void shouldUseColumnIndexAsDictionaryId() {
+    // when
+    final var schema = RecordSchema.of(ValueType.JOB, List.of("bpmnProcessId"));
+
+    // then
+    final var fields = schema.schema().getFields();
+    for (int i = 0; i < fields.size(); i++) {
+      final var dictionary = fields.get(i).getDictionary();
+      if (schema.columns().get(i).type() == ColumnType.DICTIONARY) {
+        assertThat(dictionary).isNotNull();
+        assertThat(dictionary.getId()).isEqualTo(i);
+      } else {
+        assertThat(dictionary).isNull();
+      }
+    }
+  }
+
+  @Test
+  void shouldDeriveSchemaOfEveryValueType() {
+    for (final var valueType : ValueTypeMapping.getAcceptedValueTypes()) {
+      // when
+      final var schema = RecordSchema.of(valueType, List.of());
+
+      // then
+      assertThat(schema.schema().getFields())
+          .describedAs("Columns of value type %s", valueType)
+          .extracting(Field::getName)
+          .doesNotHaveDuplicates();
+    }
+  }
+}
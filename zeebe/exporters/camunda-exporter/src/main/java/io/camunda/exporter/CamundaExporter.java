@@ -139,7 +139,7 @@ public class CamundaExporter implements Exporter {
       // params here
       final ElasticsearchBatchRequest batchRequest =
           new ElasticsearchBatchRequest(
-              client, new BulkRequest.Builder(), new ElasticsearchScriptBuilder());
+              client, new BulkRequest.Builder(), new ElasticsearchScriptBuilder(), true);
       writer.flush(batchRequest);
     } catch (final PersistenceException ex) {
       throw new ElasticsearchExporterException(ex.getMessage(), ex);
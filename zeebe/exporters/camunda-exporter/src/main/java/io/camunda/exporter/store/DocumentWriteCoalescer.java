@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import co.elastic.clients.json.JsonpMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Collapses all writes to the same document within a batch into a single write, such that a
+ * document which is changed several times, e.g. by different handlers, results in one full document
+ * or one partial update. Later writes win per field, and nested objects are merged field by field,
+ * as Elasticsearch does for partial updates.
+ *
+ * <p>Writes are only merged if the merged write has the same effect on the document, whether it
+ * exists or not. Scripted updates are never merged, as their effect is unknown.
+ *
+ * <p>Entities are converted to fields with the {@link JsonpMapper} of the client, such that a
+ * merged write is serialized like the entities it was merged from.
+ */
+final class DocumentWriteCoalescer {
+
+  private static final TypeReference<Map<String, Object>> DOCUMENT_TYPE = new TypeReference<>() {};
+
+  private final Map<DocumentKey, DocumentWrite> pendingWrites = new LinkedHashMap<>();
+  private final JsonpMapper jsonpMapper;
+  private int addedWrites;
+
+  DocumentWriteCoalescer(final JsonpMapper jsonpMapper) {
+    this.jsonpMapper = jsonpMapper;
+  }
+
+  /**
+   * Adds the given write, merging it with the pending write to the same document if possible.
+   *
+   * @return the pending write to the same document if it could not be merged; it must be written
+   *     before the given write
+   */
+  Optional<DocumentWrite> add(final DocumentWrite write) {
+    addedWrites++;
+
+    final var key = write.key();
+    final var pendingWrite = pendingWrites.get(key);
+    if (pendingWrite == null) {
+      pendingWrites.put(key, write);
+      return Optional.empty();
+    }
+
+    final var mergedWrite = merge(pendingWrite, write);
+    if (mergedWrite != null) {
+      pendingWrites.put(key, mergedWrite);
+      return Optional.empty();
+    }
+
+    pendingWrites.put(key, write);
+    return Optional.of(pendingWrite);
+  }
+
+  /**
+   * Removes the pending write to the given document, e.g. to write it before a scripted update of
+   * the document.
+   */
+  Optional<DocumentWrite> remove(final String index, final String id, final String routing) {
+    return Optional.ofNullable(pendingWrites.remove(new DocumentKey(index, id, routing)));
+  }
+
+  /**
+   * @return the pending writes, one per document, in the order in which the documents were first
+   *     written
+   */
+  Collection<DocumentWrite> getPendingWrites() {
+    return pendingWrites.values();
+  }
+
+  /**
+   * @return the number of writes which were added, before merging them
+   */
+  int getAddedWrites() {
+    return addedWrites;
+  }
+
+  private DocumentWrite merge(final DocumentWrite pendingWrite, final DocumentWrite write) {
+    if (write.type() == WriteType.INDEX) {
+      // the full document replaces whatever was written before
+      return write;
+    }
+
+    return switch (pendingWrite.type()) {
+      // the document exists after indexing it, so the update is applied to the indexed document
+      case INDEX ->
+          DocumentWrite.index(
+              write.index(),
+              write.id(),
+              write.routing(),
+              mergeFields(pendingWrite.document(), write.updateFields()));
+      // if the document is missing, it is inserted first and updated afterwards
+      case UPSERT ->
+          DocumentWrite.upsert(
+              write.index(),
+              write.id(),
+              write.routing(),
+              mergeFields(pendingWrite.document(), write.updateFields()),
+              mergeFields(pendingWrite.updateFields(), write.updateFields()));
+      // an update fails if the document is missing, so it can't become part of an upsert
+      case UPDATE ->
+          write.type() == WriteType.UPDATE
+              ? DocumentWrite.update(
+                  write.index(),
+                  write.id(),
+                  mergeFields(pendingWrite.updateFields(), write.updateFields()))
+              : null;
+    };
+  }
+
+  private Map<String, Object> mergeFields(final Object document, final Object fields) {
+    final Map<String, Object> mergedDocument = new LinkedHashMap<>(toDocument(document));
+    for (final var field : toDocument(fields).entrySet()) {
+      final var currentValue = mergedDocument.get(field.getKey());
+      final var value = field.getValue();
+
+      if (currentValue instanceof Map<?, ?> && value instanceof Map<?, ?>) {
+        mergedDocument.put(field.getKey(), mergeFields(currentValue, value));
+      } else {
+        mergedDocument.put(field.getKey(), value);
+      }
+    }
+
+    return mergedDocument;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> toDocument(final Object document) {
+    if (document instanceof final Map<?, ?> fields) {
+      return (Map<String, Object>) fields;
+    }
+
+    final var json = new StringWriter();
+    try (final var generator = jsonpMapper.jsonProvider().createGenerator(json)) {
+      jsonpMapper.serialize(document, generator);
+    }
+
+    try (final var parser =
+        jsonpMapper.jsonProvider().createParser(new StringReader(json.toString()))) {
+      return jsonpMapper.deserialize(parser, DOCUMENT_TYPE.getType());
+    }
+  }
+
+  enum WriteType {
+    INDEX,
+    UPSERT,
+    UPDATE
+  }
+
+  /**
+   * A write to a single document.
+   *
+   * @param document the full document to index, or to insert if the document is missing; an entity
+   *     or a map of fields
+   * @param updateFields the fields to update if the document exists; an entity or a map of fields
+   */
+  record DocumentWrite(
+      WriteType type,
+      String index,
+      String id,
+      String routing,
+      Object document,
+      Object updateFields) {
+
+    static DocumentWrite index(
+        final String index, final String id, final String routing, final Object document) {
+      return new DocumentWrite(WriteType.INDEX, index, id, routing, document, null);
+    }
+
+    static DocumentWrite upsert(
+        final String index,
+        final String id,
+        final String routing,
+        final Object document,
+        final Object updateFields) {
+      return new DocumentWrite(WriteType.UPSERT, index, id, routing, document, updateFields);
+    }
+
+    static DocumentWrite update(final String index, final String id, final Object updateFields) {
+      return new DocumentWrite(WriteType.UPDATE, index, id, null, null, updateFields);
+    }
+
+    private DocumentKey key() {
+      return new DocumentKey(index, id, routing);
+    }
+  }
+
+  private record DocumentKey(String index, String id, String routing) {}
+}
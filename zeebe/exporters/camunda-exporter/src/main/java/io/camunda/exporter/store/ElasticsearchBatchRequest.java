@@ -15,6 +15,7 @@ import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import io.camunda.exporter.entities.ExporterEntity;
 import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.store.DocumentWriteCoalescer.DocumentWrite;
 import io.camunda.exporter.utils.ElasticsearchScriptBuilder;
 import java.io.IOException;
 import java.util.List;
@@ -30,14 +31,29 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   private final ElasticsearchClient esClient;
   private final BulkRequest.Builder bulkRequestBuilder;
   private final ElasticsearchScriptBuilder scriptBuilder;
+  // null if every write is added to the bulk request as is
+  private final DocumentWriteCoalescer writeCoalescer;
 
   public ElasticsearchBatchRequest(
       final ElasticsearchClient esClient,
       final BulkRequest.Builder bulkRequestBuilder,
       final ElasticsearchScriptBuilder scriptBuilder) {
+    this(esClient, bulkRequestBuilder, scriptBuilder, false);
+  }
+
+  /**
+   * @param coalesceWrites if true, all writes to the same document are collapsed into a single
+   *     operation of the bulk request, see {@link DocumentWriteCoalescer}
+   */
+  public ElasticsearchBatchRequest(
+      final ElasticsearchClient esClient,
+      final BulkRequest.Builder bulkRequestBuilder,
+      final ElasticsearchScriptBuilder scriptBuilder,
+      final boolean coalesceWrites) {
     this.esClient = esClient;
     this.bulkRequestBuilder = bulkRequestBuilder;
     this.scriptBuilder = scriptBuilder;
+    writeCoalescer = coalesceWrites ? new DocumentWriteCoalescer(esClient._jsonpMapper()) : null;
   }
 
   @Override
@@ -48,7 +64,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   @Override
   public BatchRequest addWithId(final String index, final String id, final ExporterEntity entity) {
     LOGGER.debug("Add index request for index {} id {} and entity {} ", index, id, entity);
-    bulkRequestBuilder.operations(op -> op.index(idx -> idx.index(index).id(id).document(entity)));
+    addWrite(DocumentWrite.index(index, id, null, entity));
     return this;
   }
 
@@ -57,10 +73,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
       final String index, final ExporterEntity entity, final String routing) {
     LOGGER.debug(
         "Add index request with routing {} for index {} and entity {} ", routing, index, entity);
-    bulkRequestBuilder.operations(
-        op ->
-            op.index(idx -> idx.index(index).id(entity.getId()).document(entity).routing(routing)));
-
+    addWrite(DocumentWrite.index(index, entity.getId(), routing, entity));
     return this;
   }
 
@@ -88,16 +101,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
         entity,
         updateFields);
 
-    bulkRequestBuilder.operations(
-        op ->
-            op.update(
-                upd ->
-                    upd.index(index)
-                        .id(id)
-                        .routing(routing)
-                        .action(a -> a.doc(updateFields).upsert(entity))
-                        .retryOnConflict(UPDATE_RETRY_COUNT)));
-
+    addWrite(DocumentWrite.upsert(index, id, routing, entity, updateFields));
     return this;
   }
 
@@ -128,6 +132,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
         script,
         parameters);
 
+    writePendingWrite(index, id, routing);
     bulkRequestBuilder.operations(
         op ->
             op.update(
@@ -150,15 +155,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
     LOGGER.debug(
         "Add update request for index {} id {} and update fields {}", index, id, updateFields);
 
-    bulkRequestBuilder.operations(
-        op ->
-            op.update(
-                up ->
-                    up.index(index)
-                        .id(id)
-                        .action(a -> a.doc(updateFields))
-                        .retryOnConflict(UPDATE_RETRY_COUNT)));
-
+    addWrite(DocumentWrite.update(index, id, updateFields));
     return this;
   }
 
@@ -166,15 +163,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   public BatchRequest update(final String index, final String id, final ExporterEntity entity) {
     LOGGER.debug("Add update request for index {} id {} and entity {}", index, id, entity);
 
-    bulkRequestBuilder.operations(
-        op ->
-            op.update(
-                up ->
-                    up.index(index)
-                        .id(id)
-                        .action(a -> a.doc(entity))
-                        .retryOnConflict(UPDATE_RETRY_COUNT)));
-
+    addWrite(DocumentWrite.update(index, id, entity));
     return this;
   }
 
@@ -191,6 +180,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
         script,
         parameters);
 
+    writePendingWrite(index, id, null);
     bulkRequestBuilder.operations(
         op ->
             op.update(
@@ -216,6 +206,7 @@ public class ElasticsearchBatchRequest implements BatchRequest {
   }
 
   private void execute(final boolean shouldRefresh) throws PersistenceException {
+    writePendingWrites();
     if (shouldRefresh) {
       bulkRequestBuilder.refresh(Refresh.True);
     }
@@ -237,4 +228,67 @@ public class ElasticsearchBatchRequest implements BatchRequest {
           "Error when processing bulk request against Elasticsearch: " + ex.getMessage(), ex);
     }
   }
+
+  private void addWrite(final DocumentWrite write) {
+    if (writeCoalescer == null) {
+      addOperation(write);
+      return;
+    }
+
+    writeCoalescer.add(write).ifPresent(this::addOperation);
+  }
+
+  private void writePendingWrite(final String index, final String id, final String routing) {
+    if (writeCoalescer != null) {
+      // keep the order of the writes to the document, as a script can't be merged with them
+      writeCoalescer.remove(index, id, routing).ifPresent(this::addOperation);
+    }
+  }
+
+  private void writePendingWrites() {
+    if (writeCoalescer == null) {
+      return;
+    }
+
+    final var pendingWrites = writeCoalescer.getPendingWrites();
+    LOGGER.debug(
+        "Coalesced {} writes into {} operations",
+        writeCoalescer.getAddedWrites(),
+        pendingWrites.size());
+    pendingWrites.forEach(this::addOperation);
+    pendingWrites.clear();
+  }
+
+  private void addOperation(final DocumentWrite write) {
+    switch (write.type()) {
+      case INDEX ->
+          bulkRequestBuilder.operations(
+              op ->
+                  op.index(
+                      idx ->
+                          idx.index(write.index())
+                              .id(write.id())
+                              .document(write.document())
+                              .routing(write.routing())));
+      case UPSERT ->
+          bulkRequestBuilder.operations(
+              op ->
+                  op.update(
+                      upd ->
+                          upd.index(write.index())
+                              .id(write.id())
+                              .routing(write.routing())
+                              .action(a -> a.doc(write.updateFields()).upsert(write.document()))
+                              .retryOnConflict(UPDATE_RETRY_COUNT)));
+      case UPDATE ->
+          bulkRequestBuilder.operations(
+              op ->
+                  op.update(
+                      up ->
+                          up.index(write.index())
+                              .id(write.id())
+                              .action(a -> a.doc(write.updateFields()))
+                              .retryOnConflict(UPDATE_RETRY_COUNT)));
+    }
+  }
 }
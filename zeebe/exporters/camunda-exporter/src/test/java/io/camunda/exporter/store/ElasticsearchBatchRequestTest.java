@@ -25,6 +25,7 @@ import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import io.camunda.exporter.entities.TestExporterEntity;
 import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.utils.ElasticsearchScriptBuilder;
@@ -392,4 +393,133 @@ class ElasticsearchBatchRequestTest {
     assertThatThrownBy(callable).isInstanceOf(PersistenceException.class);
     verify(elasticsearchClient).bulk(any(BulkRequest.class));
   }
+
+  @Test
+  void shouldCoalesceUpsertsOfSameDocument() throws PersistenceException, IOException {
+    // given
+    final var coalescingBatchRequest = createCoalescingBatchRequest();
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+    final String routing = "routing";
+
+    // when
+    coalescingBatchRequest.upsertWithRouting(
+        INDEX, ID, entity, Map.of("state", "ACTIVE", "endDate", "none"), routing);
+    coalescingBatchRequest.upsertWithRouting(
+        INDEX, ID, entity, Map.of("state", "COMPLETED"), routing);
+    coalescingBatchRequest.execute();
+
+    // then
+    final List<BulkOperation> operations = captureOperations();
+    assertThat(operations).hasSize(1);
+
+    final var update = operations.getFirst().update();
+    assertThat(update.id()).isEqualTo(ID);
+    assertThat(update.routing()).isEqualTo(routing);
+    assertThat(update.action().doc()).isEqualTo(Map.of("state", "COMPLETED", "endDate", "none"));
+    assertThat(update.action().upsert()).isEqualTo(Map.of("id", ID, "state", "COMPLETED"));
+  }
+
+  @Test
+  void shouldCoalesceUpdateIntoIndexedDocument() throws PersistenceException, IOException {
+    // given
+    final var coalescingBatchRequest = createCoalescingBatchRequest();
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+
+    // when
+    coalescingBatchRequest.add(INDEX, entity);
+    coalescingBatchRequest.update(INDEX, ID, Map.of("state", "COMPLETED"));
+    coalescingBatchRequest.execute();
+
+    // then
+    final List<BulkOperation> operations = captureOperations();
+    assertThat(operations).hasSize(1);
+    assertThat(operations.getFirst().isIndex()).isTrue();
+    assertThat(operations.getFirst().index().document())
+        .isEqualTo(Map.of("id", ID, "state", "COMPLETED"));
+  }
+
+  @Test
+  void shouldCoalesceNestedFieldsOfUpdates() throws PersistenceException, IOException {
+    // given
+    final var coalescingBatchRequest = createCoalescingBatchRequest();
+
+    // when
+    coalescingBatchRequest.update(INDEX, ID, Map.of("metadata", Map.of("a", 1, "b", 1)));
+    coalescingBatchRequest.update(INDEX, ID, Map.of("metadata", Map.of("b", 2)));
+    coalescingBatchRequest.execute();
+
+    // then
+    final List<BulkOperation> operations = captureOperations();
+    assertThat(operations).hasSize(1);
+    assertThat(operations.getFirst().update().action().doc())
+        .isEqualTo(Map.of("metadata", Map.of("a", 1, "b", 2)));
+  }
+
+  @Test
+  void shouldNotCoalesceWritesOfDifferentDocuments() throws PersistenceException, IOException {
+    // given
+    final var coalescingBatchRequest = createCoalescingBatchRequest();
+
+    // when
+    coalescingBatchRequest.add(INDEX, new TestExporterEntity().setId(ID));
+    coalescingBatchRequest.add(INDEX, new TestExporterEntity().setId("other"));
+    coalescingBatchRequest.add("other", new TestExporterEntity().setId(ID));
+    coalescingBatchRequest.execute();
+
+    // then
+    assertThat(captureOperations()).hasSize(3);
+  }
+
+  @Test
+  void shouldNotCoalesceUpsertIntoUpdate() throws PersistenceException, IOException {
+    // given
+    final var coalescingBatchRequest = createCoalescingBatchRequest();
+    final TestExporterEntity entity = new TestExporterEntity().setId(ID);
+
+    // when
+    coalescingBatchRequest.update(INDEX, ID, Map.of("state", "ACTIVE"));
+    coalescingBatchRequest.upsert(INDEX, ID, entity, Map.of("state", "COMPLETED"));
+    coalescingBatchRequest.execute();
+
+    // then - the update must still fail if the document is missing
+    final List<BulkOperation> operations = captureOperations();
+    assertThat(operations).hasSize(2);
+    assertThat(operations.get(0).update().action().doc()).isEqualTo(Map.of("state", "ACTIVE"));
+    assertThat(operations.get(1).update().action().upsert()).isEqualTo(entity);
+  }
+
+  @Test
+  void shouldWriteCoalescedWritesBeforeScriptedUpdate() throws PersistenceException, IOException {
+    // given
+    final var coalescingBatchRequest = createCoalescingBatchRequest();
+    final String script = "script";
+    final Map<String, Object> params = Map.of("id", "id2");
+
+    final Script scriptWithParameters = mock(Script.class);
+    when(scriptBuilder.getScriptWithParameters(script, params)).thenReturn(scriptWithParameters);
+
+    // when
+    coalescingBatchRequest.update(INDEX, ID, Map.of("state", "ACTIVE"));
+    coalescingBatchRequest.updateWithScript(INDEX, ID, script, params);
+    coalescingBatchRequest.update(INDEX, ID, Map.of("state", "COMPLETED"));
+    coalescingBatchRequest.execute();
+
+    // then
+    final List<BulkOperation> operations = captureOperations();
+    assertThat(operations).hasSize(3);
+    assertThat(operations.get(0).update().action().doc()).isEqualTo(Map.of("state", "ACTIVE"));
+    assertThat(operations.get(1).update().action().script()).isEqualTo(scriptWithParameters);
+    assertThat(operations.get(2).update().action().doc()).isEqualTo(Map.of("state", "COMPLETED"));
+  }
+
+  private ElasticsearchBatchRequest createCoalescingBatchRequest() {
+    when(elasticsearchClient._jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+    return new ElasticsearchBatchRequest(elasticsearchClient, requestBuilder, scriptBuilder, true);
+  }
+
+  private List<BulkOperation> captureOperations() throws IOException {
+    final ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    verify(elasticsearchClient).bulk(captor.capture());
+    return captor.getValue().operations();
+  }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.handlers.UserRecordValueExportHandler;
+import io.camunda.exporter.utils.ElasticsearchScriptBuilder;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.UserIntent;
+import io.camunda.zeebe.protocol.record.value.ImmutableUserRecordValue;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exporting batches of user records through the {@link UserRecordValueExportHandler}, with
+ * and without coalescing the writes to the same document. Each user of a batch is created and
+ * updated afterwards.
+ *
+ * <p>The batch writer already merges all records of a user into one entity, which the handler
+ * indexes once per batch, so coalescing does not reduce the documents written for users; the
+ * benchmark shows the overhead of coalescing in that case. JMH reports the written {@code
+ * documents} and the exported {@code records} as rates; their ratio is the number of documents
+ * written per record.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ExporterBatchWriterPerformanceTest {
+  private static final int USERS_PER_BATCH = 100;
+
+  @Param({"true", "false"})
+  public boolean coalesceWrites;
+
+  private final ElasticsearchClient client = mock(ElasticsearchClient.class);
+  private final ElasticsearchScriptBuilder scriptBuilder = new ElasticsearchScriptBuilder();
+  private final List<Record<?>> records = new ArrayList<>();
+
+  private ExporterBatchWriter writer;
+  private int lastBulkSize;
+
+  @Setup
+  public void setup() throws IOException {
+    final var bulkResponse = mock(BulkResponse.class);
+    when(client._jsonpMapper()).thenReturn(new JacksonJsonpMapper());
+    when(client.bulk(any(BulkRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              lastBulkSize = invocation.<BulkRequest>getArgument(0).operations().size();
+              return bulkResponse;
+            });
+
+    writer =
+        ExporterBatchWriter.Builder.begin().withHandler(new UserRecordValueExportHandler()).build();
+
+    for (long userKey = 1; userKey <= USERS_PER_BATCH; userKey++) {
+      addUserRecord(userKey, UserIntent.CREATED, "user-" + userKey);
+      addUserRecord(userKey, UserIntent.UPDATED, "updated-user-" + userKey);
+    }
+  }
+
+  @Benchmark
+  public void exportBatch(final WrittenDocuments writtenDocuments) throws PersistenceException {
+    records.forEach(writer::addRecord);
+    writer.flush(
+        new ElasticsearchBatchRequest(
+            client, new BulkRequest.Builder(), scriptBuilder, coalesceWrites));
+
+    writtenDocuments.documents += lastBulkSize;
+    writtenDocuments.records += records.size();
+  }
+
+  private void addUserRecord(final long userKey, final UserIntent intent, final String name) {
+    final var value =
+        ImmutableUserRecordValue.builder()
+            .withUserKey(userKey)
+            .withUsername("user-" + userKey)
+            .withName(name)
+            .withEmail("user-" + userKey + "@example.com")
+            .withPassword("password")
+            .build();
+
+    records.add(
+        ImmutableRecord.builder()
+            .withPosition(records.size() + 1)
+            .withKey(userKey)
+            .withRecordType(RecordType.EVENT)
+            .withValueType(ValueType.USER)
+            .withIntent(intent)
+            .withValue(value)
+            .build());
+  }
+
+  /** Counts the written documents and exported records, which JMH reports as rates. */
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class WrittenDocuments {
+    public long documents;
+    public long records;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      documents = 0;
+      records = 0;
+    }
+  }
+}
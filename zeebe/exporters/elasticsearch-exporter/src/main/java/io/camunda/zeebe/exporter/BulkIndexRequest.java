@@ -7,9 +7,7 @@
  */
 package io.camunda.zeebe.exporter;
 
-import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
@@ -20,20 +18,15 @@ import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
- * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * Buffers indexing requests of records. Each record is serialized before being buffered to avoid
+ * having to serialize it again on retry; its sequence is only appended when writing the request.
  */
 final class BulkIndexRequest implements ContentProducer {
 
-  private static final ObjectMapper MAPPER =
-      new ObjectMapper()
-          .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
-
-  // The property of the ES record template to store the sequence of the record.
-  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
 
   private final List<BulkOperation> operations = new ArrayList<>();
+  private final RecordJsonSerializer recordSerializer = new RecordJsonSerializer();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -56,33 +49,20 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final byte[] recordJson;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      recordJson = recordSerializer.serialize(record);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final BulkOperation command = new BulkOperation(action, recordJson, recordSequence.sequence());
+    memoryUsageBytes += command.sourceLength();
     lastIndexedMetadata = action;
     operations.add(command);
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
-      throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Elasticsearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/camunda/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
-  }
-
   /** Returns the number of operations indexed so far. */
   int size() {
     return operations.size();
@@ -124,13 +104,25 @@ final class BulkIndexRequest implements ContentProducer {
     for (final var operation : operations) {
       MAPPER.writeValue(outStream, operation.metadata());
       outStream.write('\n');
-      outStream.write(operation.source());
+      operation.writeSource(outStream);
       outStream.write('\n');
     }
   }
 
-  record BulkOperation(BulkIndexAction metadata, byte[] source) {}
+  /**
+   * An operation of the bulk request, whose source is the JSON of the record with its sequence
+   * appended. The JSON of the record may be shared with other exporters, and must not be modified.
+   */
+  record BulkOperation(BulkIndexAction metadata, byte[] recordJson, long sequence) {
+
+    /** Writes the document to index, i.e. the JSON of the record with its sequence appended. */
+    void writeSource(final OutputStream output) throws IOException {
+      RecordJsonSerializer.writeDocument(recordJson, sequence, output);
+    }
 
-  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
-  private static final class RecordSequenceMixin {}
+    /** Returns the length of the document to index, in bytes. */
+    int sourceLength() {
+      return RecordJsonSerializer.documentLength(recordJson, sequence);
+    }
+  }
 }
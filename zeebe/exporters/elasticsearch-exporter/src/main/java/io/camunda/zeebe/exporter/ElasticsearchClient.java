@@ -8,6 +8,8 @@
 package io.camunda.zeebe.exporter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.exporter.ElasticsearchExporterConfiguration.BulkCompression;
+import io.camunda.zeebe.exporter.InFlightBulkRequests.InFlightBulk;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.exporter.dto.BulkIndexResponse;
 import io.camunda.zeebe.exporter.dto.BulkIndexResponse.Error;
@@ -28,22 +30,33 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer.Sample;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import org.apache.http.entity.EntityTemplate;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
   private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ContentType BULK_CONTENT_TYPE = ContentType.create("application/x-ndjson");
 
   private final RestClient client;
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
   private final BulkIndexRequest bulkIndexRequest;
+  private final InFlightBulkRequests inFlightBulkRequests;
 
   private final ElasticsearchMetrics metrics;
 
@@ -92,6 +105,13 @@ class ElasticsearchClient implements AutoCloseable {
     this.indexRouter = indexRouter;
     this.templateReader = templateReader;
     this.metrics = metrics;
+    inFlightBulkRequests =
+        new InFlightBulkRequests(
+            this::sendBulkAsync,
+            configuration.bulk.maxInFlightRequests,
+            configuration.bulk.maxInFlightMemory,
+            metrics,
+            InstantSource.system());
   }
 
   @Override
@@ -139,6 +159,61 @@ class ElasticsearchClient implements AutoCloseable {
         });
   }
 
+  /**
+   * Sends the bulk request to Elastic without waiting for the response, unless it's currently
+   * empty. Use {@link #pollFlushedBulk()} to find out which bulks were flushed.
+   *
+   * @param position the position of the last record of the bulk
+   * @param metadata the exporter metadata to acknowledge once the bulk was flushed
+   * @throws ElasticsearchExporterException if the max in-flight bulk requests are reached, see
+   *     {@link #isInFlightLimitReached()}; the bulk request was not sent then, and should be
+   *     flushed again
+   */
+  public void flushAsync(final long position, final byte[] metadata) {
+    if (bulkIndexRequest.isEmpty()) {
+      return;
+    }
+
+    if (inFlightBulkRequests.isFull()) {
+      throw new ElasticsearchExporterException(
+          "Expected to flush bulk request up to position %d, but the max in-flight bulk requests are reached"
+              .formatted(position));
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    inFlightBulkRequests.send(serializeBulk(), position, metadata);
+    metrics.stopFlushLatencyMeasurement(flushLatencyMeasurement);
+    bulkIndexRequest.clear();
+  }
+
+  /**
+   * Returns the most recent bulk sent via {@link #flushAsync(long, byte[])} which was flushed,
+   * along with all bulks sent before it, since the last call. Failed bulks are retried in order.
+   */
+  public Optional<InFlightBulk> pollFlushedBulk() {
+    return inFlightBulkRequests.pollFlushedBulk();
+  }
+
+  /**
+   * Returns whether {@link #flushAsync(long, byte[])} cannot send a bulk until older bulks were
+   * flushed.
+   */
+  public boolean isInFlightLimitReached() {
+    return inFlightBulkRequests.isFull();
+  }
+
+  /**
+   * Waits until all bulks sent via {@link #flushAsync(long, byte[])} were flushed.
+   *
+   * @return the most recent flushed bulk, if not yet returned by {@link #pollFlushedBulk()}
+   * @throws ElasticsearchExporterException if a bulk failed
+   */
+  public Optional<InFlightBulk> awaitFlushedBulks() {
+    return inFlightBulkRequests.awaitFlushedBulks();
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -178,9 +253,7 @@ class ElasticsearchClient implements AutoCloseable {
     final BulkIndexResponse response;
     try {
       final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
+      request.setEntity(createBulkEntity(serializeBulk()));
 
       response = sendRequest(request, BulkIndexResponse.class);
     } catch (final IOException e) {
@@ -188,11 +261,81 @@ class ElasticsearchClient implements AutoCloseable {
     }
 
     if (response.errors()) {
-      throwCollectedBulkError(response);
+      throw collectBulkError(response);
     }
   }
 
-  private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
+  private CompletableFuture<Void> sendBulkAsync(final byte[] body) {
+    final var request = new Request("POST", "/_bulk");
+    request.setEntity(createBulkEntity(body));
+
+    final var flushed = new CompletableFuture<Void>();
+    final var flushDurationMeasurement = metrics.startFlushDurationMeasurement();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            metrics.stopFlushDurationMeasurement(flushDurationMeasurement);
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                flushed.completeExceptionally(collectBulkError(bulkResponse));
+              } else {
+                flushed.complete(null);
+              }
+            } catch (final IOException e) {
+              onFailure(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            flushed.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+
+    return flushed;
+  }
+
+  /** Serializes the bulk request as nd-json, compressed as configured. */
+  private byte[] serializeBulk() {
+    final var body = new ByteArrayOutputStream(bulkIndexRequest.memoryUsageBytes());
+    try {
+      bulkIndexRequest.writeTo(body);
+
+      final var requestBody = compress(body.toByteArray());
+      metrics.recordBulkRequestSize(body.size(), requestBody.length);
+      return requestBody;
+    } catch (final IOException e) {
+      throw new ElasticsearchExporterException("Failed to serialize bulk request", e);
+    }
+  }
+
+  private byte[] compress(final byte[] body) throws IOException {
+    final var compression = configuration.bulk.compression;
+    if (compression == BulkCompression.NONE) {
+      return body;
+    }
+
+    final var compressedBody = new ByteArrayOutputStream(body.length / 4);
+    try (final var output =
+        compression == BulkCompression.GZIP
+            ? new GZIPOutputStream(compressedBody)
+            : new DeflaterOutputStream(compressedBody)) {
+      output.write(body);
+    }
+    return compressedBody.toByteArray();
+  }
+
+  private HttpEntity createBulkEntity(final byte[] body) {
+    final var entity = new ByteArrayEntity(body, BULK_CONTENT_TYPE);
+    entity.setContentEncoding(configuration.bulk.compression.getContentEncoding());
+    return entity;
+  }
+
+  private ElasticsearchExporterException collectBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
         .flatMap(item -> Optional.ofNullable(item.index()).stream())
@@ -205,7 +348,7 @@ class ElasticsearchClient implements AutoCloseable {
                         "Failed to flush %d item(s) of bulk request [type: %s, reason: %s]",
                         errors.size(), errorType, errors.get(0).reason())));
 
-    throw new ElasticsearchExporterException("Failed to flush bulk request: " + collectedErrors);
+    return new ElasticsearchExporterException("Failed to flush bulk request: " + collectedErrors);
   }
 
   private boolean putIndexTemplate(final String templateName, final Template template) {
@@ -268,7 +411,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
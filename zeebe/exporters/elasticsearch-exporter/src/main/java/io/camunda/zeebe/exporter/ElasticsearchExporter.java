@@ -11,6 +11,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.search.connect.plugin.PluginRepository;
 import io.camunda.zeebe.exporter.ElasticsearchExporterConfiguration.IndexConfiguration;
+import io.camunda.zeebe.exporter.InFlightBulkRequests.InFlightBulk;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
@@ -95,8 +96,13 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsynchronously()) {
+        client.flushAsync(lastPosition, serializeRecordCounters(recordCounters));
+        client.awaitFlushedBulks().ifPresent(this::acknowledgeFlushedBulk);
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -128,7 +134,17 @@ public class ElasticsearchExporter implements Exporter {
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (client.shouldFlush() && isFlushingAsynchronously()) {
+      // The bulk carries the record counters including this record, which are acknowledged along
+      // with its position once the bulk and all bulks before it were flushed. As for the
+      // synchronous flush, the exporter will be invoked with the same record again if the bulk
+      // can't be sent, e.g. while the max in-flight bulk requests are reached.
+      final var recordCountersWithRecord =
+          new ElasticsearchRecordCounters(recordCounters.getRecordCounters());
+      recordCountersWithRecord.updateRecordCounters(record, recordSequence);
+      client.flushAsync(lastPosition, serializeRecordCounters(recordCountersWithRecord));
+      recordCounters.updateRecordCounters(record, recordSequence);
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -140,6 +156,10 @@ public class ElasticsearchExporter implements Exporter {
       // with the records in the pending bulk request.
       recordCounters.updateRecordCounters(record, recordSequence);
     }
+
+    if (isFlushingAsynchronously()) {
+      client.pollFlushedBulk().ifPresent(this::acknowledgeFlushedBulk);
+    }
   }
 
   private void validate(final ElasticsearchExporterConfiguration configuration) {
@@ -150,6 +170,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -200,8 +227,16 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsynchronously()) {
+        // while the in-flight bulks are at their limit, the pending bulk is flushed next time
+        if (!client.isInFlightLimitReached()) {
+          client.flushAsync(lastPosition, serializeRecordCounters(recordCounters));
+        }
+        client.pollFlushedBulk().ifPresent(this::acknowledgeFlushedBulk);
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -217,12 +252,24 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isFlushingAsynchronously() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
   private void updateLastExportedPosition() {
-    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
+    final var serializeExporterMetadata = serializeRecordCounters(recordCounters);
     controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
   }
 
+  private void acknowledgeFlushedBulk(final InFlightBulk bulk) {
+    controller.updateLastExportedRecordPosition(bulk.position(), bulk.metadata());
+  }
+
+  private byte[] serializeRecordCounters(final ElasticsearchRecordCounters counters) {
+    exporterMetadata.setRecordCountersByValueType(counters.getRecordCounters());
+    return serializeExporterMetadata(exporterMetadata);
+  }
+
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
     try {
       return exporterMetadataObjectMapper.writeValueAsBytes(metadata);
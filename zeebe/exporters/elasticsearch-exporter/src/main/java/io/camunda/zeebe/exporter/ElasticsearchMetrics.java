@@ -22,6 +22,8 @@ public class ElasticsearchMetrics {
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
   private final Timer flushDuration;
   private final DistributionSummary bulkSize;
+  private final DistributionSummary bulkRequestSize;
+  private final DistributionSummary bulkCompressionRatio;
   private final Counter failedFlush;
   private final Timer flushLatency;
 
@@ -45,6 +47,20 @@ public class ElasticsearchMetrics {
             .serviceLevelObjectives(10, 100, 1_000, 10_000, 100_000)
             .register(meterRegistry);
 
+    bulkRequestSize =
+        DistributionSummary.builder(meterName("bulk.request.size"))
+            .description("Size of the bulk requests sent, after compression")
+            .baseUnit("bytes")
+            .serviceLevelObjectives(
+                64 * 1024, 512 * 1024, 1024 * 1024, 5 * 1024 * 1024, 10 * 1024 * 1024)
+            .register(meterRegistry);
+
+    bulkCompressionRatio =
+        DistributionSummary.builder(meterName("bulk.compression.ratio"))
+            .description("Ratio of the uncompressed to the compressed size of the bulk requests")
+            .serviceLevelObjectives(1, 2, 5, 10, 20)
+            .register(meterRegistry);
+
     failedFlush =
         Counter.builder(meterName("failed.flush"))
             .description("Number of failed flush operations")
@@ -62,10 +78,25 @@ public class ElasticsearchMetrics {
     flushDuration.record(flushFunction);
   }
 
+  public Timer.Sample startFlushDurationMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopFlushDurationMeasurement(final Timer.Sample flushDurationSample) {
+    flushDurationSample.stop(flushDuration);
+  }
+
   public void recordBulkSize(final int bulkSize) {
     this.bulkSize.record(bulkSize);
   }
 
+  public void recordBulkRequestSize(final int uncompressedSize, final int compressedSize) {
+    bulkRequestSize.record(compressedSize);
+    if (compressedSize > 0) {
+      bulkCompressionRatio.record((double) uncompressedSize / compressedSize);
+    }
+  }
+
   public void recordBulkMemorySize(final int bulkMemorySize) {
     this.bulkMemorySize.set(bulkMemorySize);
   }
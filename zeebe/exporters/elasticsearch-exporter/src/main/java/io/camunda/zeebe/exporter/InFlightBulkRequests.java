@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.util.ExponentialBackoff;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks bulk requests which were sent asynchronously, such that several bulks can be in flight at
+ * once. Bulks are acknowledged in the order in which they were sent: a bulk is only reported as
+ * flushed once all bulks sent before it were flushed as well, and a failed bulk is resent before
+ * any later bulk is acknowledged. Resending is safe, as the documents have deterministic ids. A
+ * failed bulk is resent with an exponential backoff, such that an unavailable cluster is not sent
+ * the same bulk again on every exported record.
+ *
+ * <p>The amount of in-flight bulks, and the memory they use, is bounded. Sending a bulk while the
+ * limits are reached fails right away, instead of waiting for the oldest bulk on the exporter's
+ * thread; the exporter then fails to export the record, and the broker exports it again after a
+ * backoff.
+ *
+ * <p>Not thread-safe; except for completing the responses, everything happens on the exporter's
+ * thread.
+ */
+final class InFlightBulkRequests {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InFlightBulkRequests.class);
+
+  private final Deque<InFlightBulk> bulks = new ArrayDeque<>();
+  private final ExponentialBackoff resendBackoff = new ExponentialBackoff();
+  private final Function<byte[], CompletableFuture<Void>> sender;
+  private final int maxRequests;
+  private final long maxMemoryBytes;
+  private final ElasticsearchMetrics metrics;
+  private final InstantSource clock;
+
+  private long memoryUsageBytes;
+  private InFlightBulk lastFlushedBulk;
+  // the delay before the oldest bulk is resent, growing while it keeps failing
+  private long resendDelayMs;
+  // when the oldest bulk is resent, or null if it did not fail
+  private Instant resendAt;
+
+  InFlightBulkRequests(
+      final Function<byte[], CompletableFuture<Void>> sender,
+      final int maxRequests,
+      final long maxMemoryBytes,
+      final ElasticsearchMetrics metrics,
+      final InstantSource clock) {
+    this.sender = sender;
+    this.maxRequests = maxRequests;
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.metrics = metrics;
+    this.clock = clock;
+  }
+
+  /**
+   * Sends the given serialized bulk, unless the limits are reached.
+   *
+   * @param body the serialized bulk request
+   * @param position the position of the last record of the bulk
+   * @param metadata the exporter metadata to acknowledge along with the position
+   * @throws ElasticsearchExporterException if the limits are reached; the bulk was not sent
+   */
+  void send(final byte[] body, final long position, final byte[] metadata) {
+    acknowledgeCompletedBulks();
+    if (!bulks.isEmpty()
+        && (bulks.size() >= maxRequests || memoryUsageBytes + body.length > maxMemoryBytes)) {
+      throw new ElasticsearchExporterException(
+          "Expected to send bulk request up to position %d, but %d older bulk requests using %d bytes are still in flight"
+              .formatted(position, bulks.size(), memoryUsageBytes));
+    }
+
+    bulks.addLast(new InFlightBulk(body, position, metadata, sender.apply(body)));
+    memoryUsageBytes += body.length;
+  }
+
+  /**
+   * Returns whether no further bulk can be sent until older bulks were flushed. Acknowledges the
+   * bulks which completed in the meantime, like {@link #pollFlushedBulk()}.
+   */
+  boolean isFull() {
+    acknowledgeCompletedBulks();
+    return !bulks.isEmpty() && (bulks.size() >= maxRequests || memoryUsageBytes >= maxMemoryBytes);
+  }
+
+  /**
+   * Returns the most recent bulk which was flushed, along with all bulks sent before it, since the
+   * last call. Resends the oldest bulk if it failed, once its backoff elapsed.
+   */
+  Optional<InFlightBulk> pollFlushedBulk() {
+    acknowledgeCompletedBulks();
+
+    final var flushedBulk = Optional.ofNullable(lastFlushedBulk);
+    lastFlushedBulk = null;
+    return flushedBulk;
+  }
+
+  /**
+   * Waits until all bulks were flushed, and returns the most recent one.
+   *
+   * @throws ElasticsearchExporterException if a bulk failed; it is resent once its backoff elapsed,
+   *     but not awaited
+   */
+  Optional<InFlightBulk> awaitFlushedBulks() {
+    while (!bulks.isEmpty()) {
+      awaitOldestBulk();
+    }
+
+    return pollFlushedBulk();
+  }
+
+  boolean isEmpty() {
+    return bulks.isEmpty();
+  }
+
+  private void awaitOldestBulk() {
+    final var oldestBulk = bulks.getFirst();
+    try {
+      oldestBulk.response().join();
+    } catch (final CompletionException | CancellationException e) {
+      // handled when acknowledging the bulk
+    }
+
+    if (!acknowledgeCompletedBulks()) {
+      throw new ElasticsearchExporterException(
+          "Failed to flush bulk request", oldestBulk.response().exceptionNow());
+    }
+  }
+
+  /**
+   * @return false if the oldest bulk failed, true otherwise
+   */
+  private boolean acknowledgeCompletedBulks() {
+    while (!bulks.isEmpty() && bulks.getFirst().response().isDone()) {
+      final var oldestBulk = bulks.getFirst();
+      if (oldestBulk.response().isCompletedExceptionally()) {
+        resendWithBackoff(oldestBulk);
+        return false;
+      }
+
+      bulks.removeFirst();
+      memoryUsageBytes -= oldestBulk.body().length;
+      lastFlushedBulk = oldestBulk;
+      resendDelayMs = 0;
+    }
+
+    return true;
+  }
+
+  private void resendWithBackoff(final InFlightBulk failedBulk) {
+    if (resendAt == null) {
+      metrics.recordFailedFlush();
+      resendDelayMs = resendBackoff.applyAsLong(resendDelayMs);
+      resendAt = clock.instant().plusMillis(resendDelayMs);
+      LOG.warn(
+          "Failed to flush bulk request up to position {}, will resend it in {} ms",
+          failedBulk.position(),
+          resendDelayMs,
+          failedBulk.response().exceptionNow());
+    }
+
+    if (!clock.instant().isBefore(resendAt)) {
+      resendAt = null;
+      bulks.removeFirst();
+      bulks.addFirst(failedBulk.resend(sender));
+    }
+  }
+
+  record InFlightBulk(
+      byte[] body, long position, byte[] metadata, CompletableFuture<Void> response) {
+
+    private InFlightBulk resend(final Function<byte[], CompletableFuture<Void>> sender) {
+      return new InFlightBulk(body, position, metadata, sender.apply(body));
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.protocol.jackson.JacksonRecordDerivations;
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes records to JSON documents. The JSON of the record itself is requested as {@link
+ * JacksonRecordDerivations#JSON_BYTES}, which the broker derives only once per record when several
+ * exporters request it, e.g. the Elasticsearch and the OpenSearch exporter, unless the exporters
+ * export in parallel. The document is that JSON with the sequence of the record appended, which is
+ * only written when the bulk request is written, such that the shared JSON is never copied.
+ *
+ * <p>Records are written through their getters, as a plain {@link
+ * com.fasterxml.jackson.databind.ObjectMapper} would, such that the documents keep matching the
+ * index templates. The records of the broker write their variables straight from their MessagePack
+ * encoding, without converting them to maps first.
+ */
+final class RecordJsonSerializer {
+
+  // The property of the ES record template to store the sequence of the record.
+  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+  private static final byte[] RECORD_SEQUENCE_PREFIX =
+      (",\"" + RECORD_SEQUENCE_PROPERTY + "\":").getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Serializes the given record. The returned JSON may be shared with other exporters, so it must
+   * not be modified; see {@link #writeDocument(byte[], long, OutputStream)}.
+   *
+   * @return the serialized JSON of the record
+   * @throws IOException if the record cannot be serialized
+   */
+  byte[] serialize(final Record<?> record) throws IOException {
+    try {
+      return record.getDerived(JacksonRecordDerivations.JSON_BYTES);
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Writes the document of a record, i.e. its serialized JSON enhanced by its sequence number. The
+   * sequence number is not a part of the record itself but a special property for Elasticsearch. It
+   * can be used to limit the number of records when reading from the index, for example, by using a
+   * range query. Read https://github.com/camunda/camunda/issues/10568 for details.
+   *
+   * @param recordJson the serialized JSON of the record, as returned by {@link #serialize(Record)}
+   * @param sequence the sequence number of the record
+   * @param output the output to write the document to
+   * @throws IOException if the document cannot be written to the output
+   */
+  static void writeDocument(final byte[] recordJson, final long sequence, final OutputStream output)
+      throws IOException {
+    // the closing brace of the record is replaced by the sequence property
+    output.write(recordJson, 0, recordJson.length - 1);
+    output.write(RECORD_SEQUENCE_PREFIX);
+    output.write(Long.toString(sequence).getBytes(StandardCharsets.UTF_8));
+    output.write('}');
+  }
+
+  /** Returns the length of the document written by {@link #writeDocument}, in bytes. */
+  static int documentLength(final byte[] recordJson, final long sequence) {
+    return recordJson.length + RECORD_SEQUENCE_PREFIX.length + Long.toString(sequence).length();
+  }
+}
@@ -45,7 +45,11 @@ final class RestClientFactory {
                 b ->
                     b.setConnectTimeout(config.requestTimeoutMs)
                         .setSocketTimeout(config.requestTimeoutMs))
-            .setHttpClientConfigCallback(b -> configureHttpClient(config, b, interceptors));
+            .setHttpClientConfigCallback(
+                b -> {
+                  configureConnectionPool(config, httpHosts.length, b);
+                  return configureHttpClient(config, b, interceptors);
+                });
 
     return builder.build();
   }
@@ -68,6 +72,21 @@ final class RestClientFactory {
     return builder;
   }
 
+  /**
+   * Sizes the connection pool such that every bulk request in flight can use its own connection,
+   * plus one for the other requests (e.g. templates), without shrinking it below the defaults.
+   */
+  private void configureConnectionPool(
+      final ElasticsearchExporterConfiguration config,
+      final int hostCount,
+      final HttpAsyncClientBuilder builder) {
+    final int maxConnectionsPerRoute =
+        Math.max(RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE, config.bulk.maxInFlightRequests + 1);
+    builder.setMaxConnPerRoute(maxConnectionsPerRoute);
+    builder.setMaxConnTotal(
+        Math.max(RestClientBuilder.DEFAULT_MAX_CONN_TOTAL, maxConnectionsPerRoute * hostCount));
+  }
+
   private void setupBasicAuthentication(
       final ElasticsearchExporterConfiguration config, final HttpAsyncClientBuilder builder) {
     final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.exporter.InFlightBulkRequests.InFlightBulk;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class InFlightBulkRequestsTest {
+
+  private final List<CompletableFuture<Void>> responses = new ArrayList<>();
+  private final List<byte[]> sentBodies = new ArrayList<>();
+  private final ElasticsearchMetrics metrics = new ElasticsearchMetrics(new SimpleMeterRegistry());
+  // longer than any resend backoff
+  private final Duration maxBackoff = Duration.ofSeconds(10);
+  private Instant now = Instant.EPOCH;
+
+  private InFlightBulkRequests createInFlightBulkRequests(
+      final int maxRequests, final long maxMemoryBytes) {
+    return new InFlightBulkRequests(
+        body -> {
+          final var response = new CompletableFuture<Void>();
+          sentBodies.add(body);
+          responses.add(response);
+          return response;
+        },
+        maxRequests,
+        maxMemoryBytes,
+        metrics,
+        () -> now);
+  }
+
+  @Test
+  void shouldNotAcknowledgeBulkBeforeEarlierBulksWereFlushed() {
+    // given
+    final var bulks = createInFlightBulkRequests(3, 1024);
+    bulks.send(new byte[] {1}, 1, new byte[0]);
+    bulks.send(new byte[] {2}, 2, new byte[0]);
+
+    // when
+    responses.get(1).complete(null);
+
+    // then
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+  }
+
+  @Test
+  void shouldAcknowledgeMostRecentContiguouslyFlushedBulk() {
+    // given
+    final var bulks = createInFlightBulkRequests(3, 1024);
+    bulks.send(new byte[] {1}, 1, new byte[] {10});
+    bulks.send(new byte[] {2}, 2, new byte[] {20});
+    bulks.send(new byte[] {3}, 3, new byte[] {30});
+
+    // when
+    responses.get(1).complete(null);
+    responses.get(0).complete(null);
+
+    // then
+    assertThat(bulks.pollFlushedBulk())
+        .get()
+        .returns(2L, InFlightBulk::position)
+        .returns(20, bulk -> (int) bulk.metadata()[0]);
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    assertThat(bulks.isEmpty()).isFalse();
+  }
+
+  @Test
+  void shouldResendFailedBulkBeforeAcknowledgingLaterBulks() {
+    // given
+    final var bulks = createInFlightBulkRequests(3, 1024);
+    bulks.send(new byte[] {1}, 1, new byte[0]);
+    bulks.send(new byte[] {2}, 2, new byte[0]);
+
+    // when
+    responses.get(0).completeExceptionally(new ElasticsearchExporterException("expected"));
+    responses.get(1).complete(null);
+
+    // then
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    now = now.plus(maxBackoff);
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    assertThat(sentBodies).hasSize(3);
+    assertThat(sentBodies.get(2)).containsExactly(1);
+
+    responses.get(2).complete(null);
+    assertThat(bulks.pollFlushedBulk()).get().returns(2L, InFlightBulk::position);
+  }
+
+  @Test
+  void shouldBackOffResendingFailedBulk() {
+    // given
+    final var bulks = createInFlightBulkRequests(3, 1024);
+    bulks.send(new byte[] {1}, 1, new byte[0]);
+
+    // when
+    responses.get(0).completeExceptionally(new ElasticsearchExporterException("expected"));
+
+    // then - the bulk is not resent on every poll
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    assertThat(sentBodies).hasSize(1);
+
+    // when - the backoff elapsed, but the resent bulk fails again
+    now = now.plus(maxBackoff);
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    responses.get(1).completeExceptionally(new ElasticsearchExporterException("expected"));
+
+    // then - the next resend backs off again
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    assertThat(sentBodies).hasSize(2);
+    now = now.plus(maxBackoff);
+    assertThat(bulks.pollFlushedBulk()).isEmpty();
+    assertThat(sentBodies).hasSize(3);
+  }
+
+  @Test
+  void shouldNotSendBulkWhileMaxRequestsReached() {
+    // given
+    final var bulks = createInFlightBulkRequests(1, 1024);
+    bulks.send(new byte[] {1}, 1, new byte[0]);
+
+    // when - then
+    assertThat(bulks.isFull()).isTrue();
+    assertThatThrownBy(() -> bulks.send(new byte[] {2}, 2, new byte[0]))
+        .isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(sentBodies).hasSize(1);
+
+    // when
+    responses.get(0).complete(null);
+
+    // then
+    assertThat(bulks.isFull()).isFalse();
+    bulks.send(new byte[] {2}, 2, new byte[0]);
+    assertThat(sentBodies).hasSize(2);
+    assertThat(bulks.pollFlushedBulk()).get().returns(1L, InFlightBulk::position);
+  }
+
+  @Test
+  void shouldNotSendBulkWhileMemoryLimitReached() {
+    // given
+    final var bulks = createInFlightBulkRequests(3, 2);
+    bulks.send(new byte[] {1, 1}, 1, new byte[0]);
+    responses.get(0).completeExceptionally(new ElasticsearchExporterException("expected"));
+
+    // when - then
+    assertThatThrownBy(() -> bulks.send(new byte[] {2}, 2, new byte[0]))
+        .isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(sentBodies).hasSize(1);
+  }
+
+  @Test
+  void shouldAwaitAllBulks() {
+    // given
+    final var bulks = createInFlightBulkRequests(3, 1024);
+    bulks.send(new byte[] {1}, 1, new byte[0]);
+    bulks.send(new byte[] {2}, 2, new byte[0]);
+    responses.forEach(response -> response.complete(null));
+
+    // when
+    final var flushedBulk = bulks.awaitFlushedBulks();
+
+    // then
+    assertThat(flushedBulk).get().returns(2L, InFlightBulk::position);
+    assertThat(bulks.isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast records of the broker are serialized to the JSON documents of the bulk
+ * requests, including writing the documents with their sequence as the bulk request does. The
+ * records have MessagePack encoded variables, like the records the exporter receives from the
+ * broker, and each operation exports a new record, such that the JSON shared between exporters is
+ * derived every time. Besides the records per second, the {@code bytes} counter reports the
+ * serialized bytes per second. Run it with the {@code gc} profiler (e.g. {@code -prof gc}) to
+ * report the allocation rate as well.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RecordJsonSerializerPerformanceTest {
+  private static final DirectBuffer VARIABLES =
+      new UnsafeBuffer(
+          MsgPackConverter.convertToMsgPack(
+              """
+              {"orderId":"order-1","total":99.5,"express":true,"customer":{"id":42,
+              "name":"Jane Doe","address":{"city":"Berlin","zip":"10115"}},
+              "items":[{"sku":"A-1","quantity":2},{"sku":"B-2","quantity":1}]}"""));
+
+  private final RecordJsonSerializer serializer = new RecordJsonSerializer();
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  private List<RecordTemplate> templates;
+  private int nextRecord;
+  private long position;
+
+  @Setup
+  public void setup() {
+    templates =
+        List.of(
+            new RecordTemplate(
+                ValueType.JOB,
+                JobIntent.CREATED,
+                new JobRecord()
+                    .setType("payment")
+                    .setWorker("payment-worker")
+                    .setRetries(3)
+                    .setDeadline(1_000L)
+                    .setBpmnProcessId("order-process")
+                    .setProcessDefinitionKey(1L)
+                    .setProcessDefinitionVersion(1)
+                    .setProcessInstanceKey(2L)
+                    .setElementId("charge-payment")
+                    .setElementInstanceKey(3L)
+                    .setVariables(VARIABLES)),
+            new RecordTemplate(
+                ValueType.MESSAGE,
+                MessageIntent.PUBLISHED,
+                new MessageRecord()
+                    .setName("order-paid")
+                    .setCorrelationKey("order-1")
+                    .setTimeToLive(60_000L)
+                    .setVariables(VARIABLES)),
+            new RecordTemplate(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ELEMENT_ACTIVATED,
+                new ProcessInstanceRecord()
+                    .setBpmnProcessId("order-process")
+                    .setVersion(1)
+                    .setProcessDefinitionKey(1L)
+                    .setProcessInstanceKey(2L)
+                    .setElementId("charge-payment")
+                    .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+                    .setFlowScopeKey(2L)));
+  }
+
+  @Benchmark
+  public int serializeRecord(final SerializedBytes serializedBytes) throws IOException {
+    final var record = templates.get(nextRecord).newRecord(++position);
+    nextRecord = (nextRecord + 1) % templates.size();
+
+    output.reset();
+    RecordJsonSerializer.writeDocument(serializer.serialize(record), position, output);
+
+    serializedBytes.bytes += output.size();
+    return output.size();
+  }
+
+  /** Counts the serialized bytes, which JMH reports as a rate next to the benchmark score. */
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class SerializedBytes {
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+    }
+  }
+
+  private record RecordTemplate(ValueType valueType, Intent intent, UnifiedRecordValue value) {
+
+    /**
+     * Returns a new record of the value, as the broker passes a new record to the exporters for
+     * every exported record.
+     */
+    private CopiedRecord<UnifiedRecordValue> newRecord(final long position) {
+      final var metadata =
+          new RecordMetadata().recordType(RecordType.EVENT).valueType(valueType).intent(intent);
+      return new CopiedRecord<>(value, metadata, position, 1, position, -1L, 0L);
+    }
+  }
+}
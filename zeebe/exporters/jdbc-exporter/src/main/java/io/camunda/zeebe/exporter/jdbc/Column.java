@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import java.sql.Types;
+
+/**
+ * A column of a {@link Table}.
+ *
+ * @param retainExisting if true, writing a row without a value for the column keeps the value which
+ *     was written before, e.g. the start date of an element instance once it is completed
+ */
+record Column(String name, ColumnType type, boolean retainExisting) {
+
+  static Column bigint(final String name) {
+    return new Column(name, ColumnType.BIGINT, false);
+  }
+
+  static Column integer(final String name) {
+    return new Column(name, ColumnType.INTEGER, false);
+  }
+
+  static Column varchar(final String name) {
+    return new Column(name, ColumnType.VARCHAR, false);
+  }
+
+  static Column timestamp(final String name) {
+    return new Column(name, ColumnType.TIMESTAMP, false);
+  }
+
+  Column retainingExisting() {
+    return new Column(name, type, true);
+  }
+
+  enum ColumnType {
+    BIGINT(Types.BIGINT, "BIGINT"),
+    INTEGER(Types.INTEGER, "INTEGER"),
+    VARCHAR(Types.VARCHAR, "VARCHAR"),
+    /** Bound as {@link java.time.OffsetDateTime}. */
+    TIMESTAMP(Types.TIMESTAMP_WITH_TIMEZONE, "TIMESTAMP WITH TIME ZONE");
+
+    private final int sqlType;
+    private final String definition;
+
+    ColumnType(final int sqlType, final String definition) {
+      this.sqlType = sqlType;
+      this.definition = definition;
+    }
+
+    int sqlType() {
+      return sqlType;
+    }
+
+    String definition() {
+      return definition;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import org.slf4j.Logger;
+
+/**
+ * Writes batches of rows within a single transaction each. The connection is opened lazily, and
+ * opened again if writing a batch failed.
+ *
+ * <p>The statements which write a full chunk of rows are prepared once per connection and table,
+ * such that the database doesn't parse them again for every batch.
+ */
+final class JdbcClient implements AutoCloseable {
+
+  /** Bounded by the amount of parameters a statement may have in PostgreSQL's wire protocol. */
+  private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+  private final JdbcExporterConfiguration configuration;
+  private final SqlDialect dialect;
+  private final Logger log;
+  private final Map<Table, PreparedStatement> chunkStatements = new HashMap<>();
+
+  private Connection connection;
+  private boolean schemaCreated;
+
+  JdbcClient(final JdbcExporterConfiguration configuration, final Logger log) {
+    this.configuration = configuration;
+    this.log = log;
+    dialect = SqlDialect.of(configuration.url);
+  }
+
+  /**
+   * Writes all rows of the batch in a single transaction.
+   *
+   * @throws JdbcExporterException if writing failed; none of the rows were written then
+   */
+  void write(final RowBatch batch) {
+    try {
+      final var connection = connection();
+      try {
+        for (final var table : batch.tables()) {
+          writeRows(connection, table, batch.rows(table));
+        }
+        connection.commit();
+      } catch (final SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    } catch (final SQLException e) {
+      closeConnection();
+      throw new JdbcExporterException(
+          "Failed to write batch of %d rows".formatted(batch.size()), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    closeConnection();
+  }
+
+  String tableName(final Table table) {
+    return configuration.tablePrefix + table.name();
+  }
+
+  private void writeRows(
+      final Connection connection, final Table table, final Collection<TableRow> rows)
+      throws SQLException {
+    final var columns = table.columns().size();
+    final var chunkSize =
+        Math.max(1, Math.min(configuration.batch.rowsPerStatement, MAX_PARAMETERS / columns));
+
+    final var iterator = rows.iterator();
+    var remainingRows = rows.size();
+    while (remainingRows > 0) {
+      final var chunkRows = Math.min(chunkSize, remainingRows);
+      final var isFullChunk = chunkRows == chunkSize;
+      final var statement =
+          isFullChunk
+              ? chunkStatement(connection, table, chunkSize)
+              : connection.prepareStatement(dialect.upsert(table, tableName(table), chunkRows));
+
+      try {
+        var parameter = 1;
+        for (int i = 0; i < chunkRows; i++) {
+          final var row = iterator.next();
+          for (int column = 0; column < columns; column++) {
+            final var value = row.value(column);
+            final var sqlType = table.columns().get(column).type().sqlType();
+            if (value == null) {
+              statement.setNull(parameter++, sqlType);
+            } else {
+              statement.setObject(parameter++, value, sqlType);
+            }
+          }
+        }
+        statement.executeUpdate();
+      } finally {
+        if (!isFullChunk) {
+          statement.close();
+        }
+      }
+
+      remainingRows -= chunkRows;
+    }
+  }
+
+  private PreparedStatement chunkStatement(
+      final Connection connection, final Table table, final int chunkSize) throws SQLException {
+    var statement = chunkStatements.get(table);
+    if (statement == null) {
+      statement = connection.prepareStatement(dialect.upsert(table, tableName(table), chunkSize));
+      chunkStatements.put(table, statement);
+    }
+    return statement;
+  }
+
+  private Connection connection() throws SQLException {
+    if (connection == null) {
+      connection = connect();
+    }
+
+    if (configuration.createSchema && !schemaCreated) {
+      createSchema(connection);
+      schemaCreated = true;
+    }
+
+    return connection;
+  }
+
+  /**
+   * Connects through the drivers of the exporter's class loader, rather than the {@link
+   * java.sql.DriverManager}, as it only finds drivers of the system class loader, while the
+   * exporter may be loaded from its own jar.
+   */
+  private Connection connect() throws SQLException {
+    final var properties = new Properties();
+    if (configuration.username != null) {
+      properties.setProperty("user", configuration.username);
+    }
+    if (configuration.password != null) {
+      properties.setProperty("password", configuration.password);
+    }
+
+    for (final var driver : ServiceLoader.load(Driver.class, getClass().getClassLoader())) {
+      if (driver.acceptsURL(configuration.url)) {
+        final var connection = driver.connect(configuration.url, properties);
+        connection.setAutoCommit(false);
+        log.debug("Connected to {}", configuration.url);
+        return connection;
+      }
+    }
+
+    throw new JdbcExporterException("No JDBC driver found for URL " + configuration.url);
+  }
+
+  private void createSchema(final Connection connection) throws SQLException {
+    try (final var statement = connection.createStatement()) {
+      for (final var table : Tables.ALL) {
+        final var tableName = tableName(table);
+        statement.execute(dialect.createTable(table, tableName));
+        for (final var column : table.indexedColumns()) {
+          statement.execute(dialect.createIndex(tableName, column));
+        }
+      }
+      connection.commit();
+    } catch (final SQLException e) {
+      connection.rollback();
+      throw e;
+    }
+  }
+
+  private void closeConnection() {
+    chunkStatements.clear();
+    if (connection == null) {
+      return;
+    }
+
+    try {
+      // closes its statements as well
+      connection.close();
+    } catch (final SQLException e) {
+      log.warn("Failed to close the connection to the database", e);
+    }
+    connection = null;
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports the process instances, element instances, jobs, incidents, variables and user tasks into
+ * normalized tables of a relational database, e.g. PostgreSQL.
+ *
+ * <p>The events are mapped to rows which are coalesced per entity, and written in batches of
+ * multi-row upserts within a single transaction. The exported position is updated once a batch was
+ * committed. As an upsert writes the latest state of an entity, writing a batch again, e.g. after a
+ * restart, leaves the tables unchanged.
+ */
+public class JdbcExporter implements Exporter {
+
+  private static final Pattern TABLE_PREFIX_PATTERN = Pattern.compile("[A-Za-z0-9_]*");
+
+  private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
+
+  private final RecordRowMapper rowMapper = new RecordRowMapper();
+  private final RowBatch batch = new RowBatch();
+
+  private JdbcExporterConfiguration configuration;
+  private Controller controller;
+  private JdbcClient client;
+
+  private long lastPosition = -1;
+
+  @Override
+  public void configure(final Context context) {
+    log = context.getLogger();
+    configuration = context.getConfiguration().instantiate(JdbcExporterConfiguration.class);
+    log.debug("Exporter configured with {}", configuration);
+
+    validate(configuration);
+
+    context.setFilter(new JdbcRecordFilter());
+  }
+
+  @Override
+  public void open(final Controller controller) {
+    this.controller = controller;
+    client = createClient();
+
+    scheduleDelayedFlush();
+    log.info("Exporter opened");
+  }
+
+  @Override
+  public void close() {
+    try {
+      flush();
+    } catch (final Exception e) {
+      log.warn("Failed to flush records before closing exporter.", e);
+    }
+
+    client.close();
+    log.info("Exporter closed");
+  }
+
+  @Override
+  public void export(final Record<?> record) {
+    // if the batch can't be written, the exporter is invoked with the same record again; adding it
+    // again is safe, as it is coalesced with the row it was added to before
+    rowMapper.map(record, batch);
+    lastPosition = record.getPosition();
+
+    if (batch.size() >= configuration.batch.size) {
+      flush();
+    }
+  }
+
+  // visible for testing
+  JdbcClient createClient() {
+    return new JdbcClient(configuration, log);
+  }
+
+  private void validate(final JdbcExporterConfiguration configuration) {
+    if (configuration.url == null || configuration.url.isBlank()) {
+      throw new ExporterException("JDBC exporter url must be set.");
+    }
+
+    try {
+      SqlDialect.of(configuration.url);
+    } catch (final JdbcExporterException e) {
+      throw new ExporterException(e.getMessage());
+    }
+
+    if (configuration.tablePrefix == null
+        || !TABLE_PREFIX_PATTERN.matcher(configuration.tablePrefix).matches()) {
+      throw new ExporterException(
+          String.format(
+              "JDBC exporter tablePrefix must only contain letters, digits and underscores. Current value: %s",
+              configuration.tablePrefix));
+    }
+
+    if (configuration.batch.size < 1) {
+      throw new ExporterException(
+          String.format(
+              "JDBC exporter batch.size must be >= 1. Current value: %d",
+              configuration.batch.size));
+    }
+
+    if (configuration.batch.delay < 1) {
+      throw new ExporterException(
+          String.format(
+              "JDBC exporter batch.delay must be >= 1. Current value: %d",
+              configuration.batch.delay));
+    }
+
+    if (configuration.batch.rowsPerStatement < 1) {
+      throw new ExporterException(
+          String.format(
+              "JDBC exporter batch.rowsPerStatement must be >= 1. Current value: %d",
+              configuration.batch.rowsPerStatement));
+    }
+  }
+
+  /** Writes the batch, and updates the exported position once it was committed. */
+  private void flush() {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    client.write(batch);
+    batch.clear();
+    controller.updateLastExportedRecordPosition(lastPosition);
+  }
+
+  private void flushAndReschedule() {
+    try {
+      flush();
+    } catch (final Exception e) {
+      log.warn(
+          "Unexpected exception occurred on periodically flushing batch, will retry later.", e);
+    }
+    scheduleDelayedFlush();
+  }
+
+  private void scheduleDelayedFlush() {
+    controller.scheduleCancellableTask(
+        Duration.ofSeconds(configuration.batch.delay), this::flushAndReschedule);
+  }
+
+  private static class JdbcRecordFilter implements Context.RecordFilter {
+
+    @Override
+    public boolean acceptType(final RecordType recordType) {
+      return recordType == RecordType.EVENT;
+    }
+
+    @Override
+    public boolean acceptValue(final ValueType valueType) {
+      return RecordRowMapper.VALUE_TYPES.contains(valueType);
+    }
+
+    @Override
+    public boolean acceptIntent(final Intent intent) {
+      return RecordRowMapper.INTENTS.contains(intent);
+    }
+  }
+}
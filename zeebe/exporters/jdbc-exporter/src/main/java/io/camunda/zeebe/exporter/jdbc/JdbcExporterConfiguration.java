@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+public class JdbcExporterConfiguration {
+
+  /** The JDBC URL of the database, e.g. {@code jdbc:postgresql://localhost:5432/zeebe}. */
+  public String url;
+
+  public String username;
+  public String password;
+
+  /** The prefix of the tables; may only contain letters, digits and underscores. */
+  public String tablePrefix = "zeebe_";
+
+  /** Whether the tables and their indexes are created if they don't exist yet. */
+  public boolean createSchema = true;
+
+  public final BatchConfiguration batch = new BatchConfiguration();
+
+  @Override
+  public String toString() {
+    return "JdbcExporterConfiguration{"
+        + "url='"
+        + url
+        + '\''
+        + ", username='"
+        + username
+        + '\''
+        + ", tablePrefix='"
+        + tablePrefix
+        + '\''
+        + ", createSchema="
+        + createSchema
+        + ", batch="
+        + batch
+        + '}';
+  }
+
+  public static class BatchConfiguration {
+
+    /** The batch is written once it holds this many rows, after coalescing them per entity. */
+    public int size = 1_000;
+
+    /** The batch is written at the latest after this many seconds. */
+    public int delay = 1;
+
+    /**
+     * The maximum amount of rows written by a single multi-row statement. It is further bounded by
+     * the 32767 bind parameters a statement may have.
+     */
+    public int rowsPerStatement = 500;
+
+    @Override
+    public String toString() {
+      return "BatchConfiguration{"
+          + "size="
+          + size
+          + ", delay="
+          + delay
+          + ", rowsPerStatement="
+          + rowsPerStatement
+          + '}';
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import static io.camunda.zeebe.exporter.jdbc.Tables.PARTITION_ID;
+import static io.camunda.zeebe.exporter.jdbc.Tables.RECORD_POSITION;
+
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.IncidentRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.UserTaskRecordValue;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps events to the rows of the entities they change. Each event is mapped to a complete row of
+ * its entity, except for the columns which retain their existing values, e.g. the start date of an
+ * element instance is only written by the event which activates it.
+ */
+final class RecordRowMapper {
+
+  static final Set<ValueType> VALUE_TYPES =
+      EnumSet.of(
+          ValueType.PROCESS_INSTANCE,
+          ValueType.JOB,
+          ValueType.JOB_BATCH,
+          ValueType.INCIDENT,
+          ValueType.VARIABLE,
+          ValueType.USER_TASK);
+
+  static final Set<Intent> INTENTS =
+      Set.of(
+          ProcessInstanceIntent.ELEMENT_ACTIVATING,
+          ProcessInstanceIntent.ELEMENT_COMPLETED,
+          ProcessInstanceIntent.ELEMENT_TERMINATED,
+          ProcessInstanceIntent.ELEMENT_MIGRATED,
+          JobIntent.CREATED,
+          JobIntent.COMPLETED,
+          JobIntent.TIMED_OUT,
+          JobIntent.FAILED,
+          JobIntent.RETRIES_UPDATED,
+          JobIntent.CANCELED,
+          JobIntent.ERROR_THROWN,
+          JobIntent.RECURRED_AFTER_BACKOFF,
+          JobIntent.YIELDED,
+          JobIntent.TIMEOUT_UPDATED,
+          JobIntent.MIGRATED,
+          JobIntent.UPDATED,
+          JobBatchIntent.ACTIVATED,
+          IncidentIntent.CREATED,
+          IncidentIntent.RESOLVED,
+          IncidentIntent.MIGRATED,
+          VariableIntent.CREATED,
+          VariableIntent.UPDATED,
+          VariableIntent.MIGRATED,
+          UserTaskIntent.CREATED,
+          UserTaskIntent.ASSIGNED,
+          UserTaskIntent.UPDATED,
+          UserTaskIntent.MIGRATED,
+          UserTaskIntent.COMPLETED,
+          UserTaskIntent.CANCELED);
+
+  /** The job events which don't change the state of the job, e.g. updating its retries. */
+  private static final Set<JobIntent> JOB_CHANGE_INTENTS =
+      EnumSet.of(
+          JobIntent.RETRIES_UPDATED,
+          JobIntent.TIMEOUT_UPDATED,
+          JobIntent.MIGRATED,
+          JobIntent.UPDATED);
+
+  private static final long NO_KEY = -1;
+  private static final String JOB_ACTIVATED_STATE = "ACTIVATED";
+
+  /** Adds the rows of the entities which are changed by the given event to the batch. */
+  void map(final Record<?> record, final RowBatch batch) {
+    switch (record.getValueType()) {
+      case PROCESS_INSTANCE ->
+          batch.add(processInstance(record, (ProcessInstanceRecordValue) record.getValue()));
+      case JOB -> {
+        final var intent = (JobIntent) record.getIntent();
+        final var state = JOB_CHANGE_INTENTS.contains(intent) ? null : intent.name();
+        batch.add(job(record, record.getKey(), (JobRecordValue) record.getValue(), state));
+      }
+      case JOB_BATCH -> {
+        final var value = (JobBatchRecordValue) record.getValue();
+        final List<Long> jobKeys = value.getJobKeys();
+        final List<JobRecordValue> jobs = value.getJobs();
+        for (int i = 0; i < jobKeys.size(); i++) {
+          batch.add(job(record, jobKeys.get(i), jobs.get(i), JOB_ACTIVATED_STATE));
+        }
+      }
+      case INCIDENT -> batch.add(incident(record, (IncidentRecordValue) record.getValue()));
+      case VARIABLE -> batch.add(variable(record, (VariableRecordValue) record.getValue()));
+      case USER_TASK -> batch.add(userTask(record, (UserTaskRecordValue) record.getValue()));
+      default ->
+          throw new JdbcExporterException(
+              "Expected to map a record of a supported value type, but got "
+                  + record.getValueType());
+    }
+  }
+
+  private TableRow processInstance(final Record<?> record, final ProcessInstanceRecordValue value) {
+    final TableRow row;
+    if (value.getBpmnElementType() == BpmnElementType.PROCESS) {
+      row =
+          newRow(Tables.PROCESS_INSTANCE, value.getProcessInstanceKey(), record)
+              .set("process_definition_key", value.getProcessDefinitionKey())
+              .set("bpmn_process_id", value.getBpmnProcessId())
+              .set("version", value.getVersion())
+              .set("parent_process_instance_key", optionalKey(value.getParentProcessInstanceKey()))
+              .set("parent_element_instance_key", optionalKey(value.getParentElementInstanceKey()));
+    } else {
+      row =
+          newRow(Tables.ELEMENT_INSTANCE, record.getKey(), record)
+              .set("process_instance_key", value.getProcessInstanceKey())
+              .set("process_definition_key", value.getProcessDefinitionKey())
+              .set("bpmn_process_id", value.getBpmnProcessId())
+              .set("element_id", value.getElementId())
+              .set("element_type", value.getBpmnElementType().name())
+              .set("flow_scope_key", optionalKey(value.getFlowScopeKey()));
+    }
+    row.set("tenant_id", value.getTenantId());
+
+    final var timestamp = timestamp(record.getTimestamp());
+    switch ((ProcessInstanceIntent) record.getIntent()) {
+      case ELEMENT_ACTIVATING -> row.set("state", "ACTIVE").set("start_date", timestamp);
+      case ELEMENT_COMPLETED -> row.set("state", "COMPLETED").set("end_date", timestamp);
+      case ELEMENT_TERMINATED -> row.set("state", "TERMINATED").set("end_date", timestamp);
+      default -> {
+        // migrating an element instance doesn't change its state
+      }
+    }
+    return row;
+  }
+
+  private TableRow job(
+      final Record<?> record, final long key, final JobRecordValue value, final String state) {
+    return newRow(Tables.JOB, key, record)
+        .set("type", value.getType())
+        .set("kind", value.getJobKind().name())
+        .set("worker", nullIfEmpty(value.getWorker()))
+        .set("retries", value.getRetries())
+        .set("deadline", value.getDeadline() > 0 ? timestamp(value.getDeadline()) : null)
+        .set("error_code", nullIfEmpty(value.getErrorCode()))
+        .set("error_message", nullIfEmpty(value.getErrorMessage()))
+        .set("process_instance_key", optionalKey(value.getProcessInstanceKey()))
+        .set("element_instance_key", optionalKey(value.getElementInstanceKey()))
+        .set("element_id", value.getElementId())
+        .set("process_definition_key", optionalKey(value.getProcessDefinitionKey()))
+        .set("bpmn_process_id", value.getBpmnProcessId())
+        .set("state", state)
+        .set("last_update_date", timestamp(record.getTimestamp()))
+        .set("tenant_id", value.getTenantId());
+  }
+
+  private TableRow incident(final Record<?> record, final IncidentRecordValue value) {
+    final var row =
+        newRow(Tables.INCIDENT, record.getKey(), record)
+            .set("error_type", value.getErrorType().name())
+            .set("error_message", value.getErrorMessage())
+            .set("process_instance_key", value.getProcessInstanceKey())
+            .set("element_instance_key", value.getElementInstanceKey())
+            .set("element_id", value.getElementId())
+            .set("job_key", optionalKey(value.getJobKey()))
+            .set("process_definition_key", value.getProcessDefinitionKey())
+            .set("bpmn_process_id", value.getBpmnProcessId())
+            .set("tenant_id", value.getTenantId());
+
+    final var timestamp = timestamp(record.getTimestamp());
+    switch ((IncidentIntent) record.getIntent()) {
+      case CREATED -> row.set("state", "ACTIVE").set("creation_date", timestamp);
+      case RESOLVED -> row.set("state", "RESOLVED").set("resolution_date", timestamp);
+      default -> {
+        // migrating an incident doesn't change its state
+      }
+    }
+    return row;
+  }
+
+  private TableRow variable(final Record<?> record, final VariableRecordValue value) {
+    return newRow(Tables.VARIABLE, record.getKey(), record)
+        .set("name", value.getName())
+        .set("variable_value", value.getValue())
+        .set("scope_key", value.getScopeKey())
+        .set("process_instance_key", value.getProcessInstanceKey())
+        .set("process_definition_key", value.getProcessDefinitionKey())
+        .set("bpmn_process_id", value.getBpmnProcessId())
+        .set("tenant_id", value.getTenantId());
+  }
+
+  private TableRow userTask(final Record<?> record, final UserTaskRecordValue value) {
+    final var row =
+        newRow(Tables.USER_TASK, value.getUserTaskKey(), record)
+            .set("element_instance_key", value.getElementInstanceKey())
+            .set("element_id", value.getElementId())
+            .set("process_instance_key", value.getProcessInstanceKey())
+            .set("process_definition_key", value.getProcessDefinitionKey())
+            .set("bpmn_process_id", value.getBpmnProcessId())
+            .set("assignee", nullIfEmpty(value.getAssignee()))
+            .set("candidate_groups", joinOrNull(value.getCandidateGroupsList()))
+            .set("candidate_users", joinOrNull(value.getCandidateUsersList()))
+            .set("due_date", nullIfEmpty(value.getDueDate()))
+            .set("follow_up_date", nullIfEmpty(value.getFollowUpDate()))
+            .set("form_key", optionalKey(value.getFormKey()))
+            .set("priority", value.getPriority())
+            .set("tenant_id", value.getTenantId());
+
+    final var timestamp = timestamp(record.getTimestamp());
+    switch ((UserTaskIntent) record.getIntent()) {
+      case CREATED -> row.set("state", "CREATED").set("creation_date", timestamp);
+      case COMPLETED -> row.set("state", "COMPLETED").set("completion_date", timestamp);
+      case CANCELED -> row.set("state", "CANCELED").set("completion_date", timestamp);
+      default -> {
+        // assigning, updating or migrating a user task doesn't change its state
+      }
+    }
+    return row;
+  }
+
+  private TableRow newRow(final Table table, final long key, final Record<?> record) {
+    return table
+        .newRow(key)
+        .set(PARTITION_ID, record.getPartitionId())
+        .set(RECORD_POSITION, record.getPosition());
+  }
+
+  private static OffsetDateTime timestamp(final long epochMillis) {
+    return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+  }
+
+  private static Long optionalKey(final long key) {
+    return key == NO_KEY ? null : key;
+  }
+
+  private static String nullIfEmpty(final String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static String joinOrNull(final List<String> values) {
+    return values == null || values.isEmpty() ? null : String.join(",", values);
+  }
+}
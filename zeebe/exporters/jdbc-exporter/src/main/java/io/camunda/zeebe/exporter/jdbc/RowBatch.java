@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The rows to write with the next batch. Rows of the same entity are coalesced into a single row,
+ * such that an entity which changes several times within a batch, e.g. a job which is created,
+ * activated and completed, is written only once.
+ */
+final class RowBatch {
+
+  private final Map<Table, Map<Long, TableRow>> rows = new LinkedHashMap<>();
+  private int size;
+
+  void add(final TableRow row) {
+    final var tableRows = rows.computeIfAbsent(row.table(), table -> new LinkedHashMap<>());
+    final var existingRow = tableRows.putIfAbsent(row.key(), row);
+    if (existingRow == null) {
+      size++;
+    } else {
+      existingRow.merge(row);
+    }
+  }
+
+  Set<Table> tables() {
+    return rows.keySet();
+  }
+
+  Collection<TableRow> rows(final Table table) {
+    return rows.get(table).values();
+  }
+
+  /**
+   * @return the amount of rows, after coalescing them per entity
+   */
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void clear() {
+    rows.clear();
+    size = 0;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * The SQL statements of a database. Rows are upserted with multi-row statements, which update the
+ * existing rows of the same entities; columns which retain their existing values are only updated
+ * if the written value is not null.
+ */
+enum SqlDialect {
+  POSTGRESQL("jdbc:postgresql:") {
+    @Override
+    String upsert(final Table table, final String tableName, final int rows) {
+      final var row = parameters(table, false);
+      return "INSERT INTO "
+          + tableName
+          + " AS t ("
+          + columnNames(table, "")
+          + ") VALUES "
+          + String.join(", ", Collections.nCopies(rows, row))
+          + " ON CONFLICT ("
+          + table.keyColumn().name()
+          + ") DO UPDATE SET "
+          + assignments(table, "EXCLUDED");
+    }
+  },
+
+  /** Used for tests and local setups, see https://www.h2database.com. */
+  H2("jdbc:h2:") {
+    @Override
+    String upsert(final Table table, final String tableName, final int rows) {
+      // the parameters are cast, as H2 can't derive their types from the derived table
+      final var row = parameters(table, true);
+      final var key = table.keyColumn().name();
+      return "MERGE INTO "
+          + tableName
+          + " AS t USING (VALUES "
+          + String.join(", ", Collections.nCopies(rows, row))
+          + ") AS s ("
+          + columnNames(table, "")
+          + ") ON t."
+          + key
+          + " = s."
+          + key
+          + " WHEN MATCHED THEN UPDATE SET "
+          + assignments(table, "s")
+          + " WHEN NOT MATCHED THEN INSERT ("
+          + columnNames(table, "")
+          + ") VALUES ("
+          + columnNames(table, "s.")
+          + ")";
+    }
+  };
+
+  private final String urlPrefix;
+
+  SqlDialect(final String urlPrefix) {
+    this.urlPrefix = urlPrefix;
+  }
+
+  /**
+   * @return the statement which upserts the given amount of rows into the table, with one parameter
+   *     per column of each row
+   */
+  abstract String upsert(Table table, String tableName, int rows);
+
+  String createTable(final Table table, final String tableName) {
+    return "CREATE TABLE IF NOT EXISTS "
+        + tableName
+        + " ("
+        + table.columns().stream()
+            .map(column -> column.name() + " " + column.type().definition())
+            .collect(Collectors.joining(", "))
+        + ", PRIMARY KEY ("
+        + table.keyColumn().name()
+        + "))";
+  }
+
+  String createIndex(final String tableName, final String column) {
+    return "CREATE INDEX IF NOT EXISTS "
+        + tableName
+        + "_"
+        + column
+        + "_idx ON "
+        + tableName
+        + " ("
+        + column
+        + ")";
+  }
+
+  static SqlDialect of(final String url) {
+    for (final var dialect : values()) {
+      if (url.startsWith(dialect.urlPrefix)) {
+        return dialect;
+      }
+    }
+
+    throw new JdbcExporterException(
+        "Expected the JDBC URL to refer to a PostgreSQL or H2 database, but got: " + url);
+  }
+
+  private static String columnNames(final Table table, final String prefix) {
+    return table.columns().stream()
+        .map(column -> prefix + column.name())
+        .collect(Collectors.joining(", "));
+  }
+
+  private static String parameters(final Table table, final boolean cast) {
+    return table.columns().stream()
+        .map(column -> cast ? "CAST(? AS " + column.type().definition() + ")" : "?")
+        .collect(Collectors.joining(", ", "(", ")"));
+  }
+
+  private static String assignments(final Table table, final String source) {
+    return table.columns().stream()
+        .skip(1)
+        .map(
+            column ->
+                column.retainExisting()
+                    ? "%1$s = COALESCE(%2$s.%1$s, t.%1$s)".formatted(column.name(), source)
+                    : "%1$s = %2$s.%1$s".formatted(column.name(), source))
+        .collect(Collectors.joining(", "));
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A table the records are written to. The first column is the primary key, which identifies the
+ * entity of a row, e.g. the key of a job; rows of the same entity are upserted.
+ */
+final class Table {
+
+  private final String name;
+  private final List<Column> columns;
+  private final List<String> indexedColumns;
+  private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+  Table(final String name, final List<Column> columns, final List<String> indexedColumns) {
+    this.name = name;
+    this.columns = List.copyOf(columns);
+    this.indexedColumns = List.copyOf(indexedColumns);
+    for (int i = 0; i < columns.size(); i++) {
+      columnIndexes.put(columns.get(i).name(), i);
+    }
+  }
+
+  String name() {
+    return name;
+  }
+
+  List<Column> columns() {
+    return columns;
+  }
+
+  Column keyColumn() {
+    return columns.getFirst();
+  }
+
+  /**
+   * @return the columns which are indexed besides the primary key
+   */
+  List<String> indexedColumns() {
+    return indexedColumns;
+  }
+
+  int indexOf(final String column) {
+    final var index = columnIndexes.get(column);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          "Expected column '%s' to exist in table '%s', but it does not".formatted(column, name));
+    }
+    return index;
+  }
+
+  TableRow newRow(final long key) {
+    return new TableRow(this, key);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
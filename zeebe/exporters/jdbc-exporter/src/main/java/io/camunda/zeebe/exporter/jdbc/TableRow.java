@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+/** The values of a row of a {@link Table}, in the order of its columns. */
+final class TableRow {
+
+  private final Table table;
+  private final Object[] values;
+
+  TableRow(final Table table, final long key) {
+    this.table = table;
+    values = new Object[table.columns().size()];
+    values[0] = key;
+  }
+
+  Table table() {
+    return table;
+  }
+
+  long key() {
+    return (long) values[0];
+  }
+
+  Object value(final int column) {
+    return values[column];
+  }
+
+  TableRow set(final String column, final Object value) {
+    values[table.indexOf(column)] = value;
+    return this;
+  }
+
+  /**
+   * Merges a later row of the same entity into this one, the same way as the database upserts it:
+   * its values replace the values of this row, except for the null values of columns which retain
+   * the existing values.
+   */
+  void merge(final TableRow laterRow) {
+    final var columns = table.columns();
+    for (int i = 1; i < values.length; i++) {
+      final var value = laterRow.values[i];
+      if (value != null || !columns.get(i).retainExisting()) {
+        values[i] = value;
+      }
+    }
+  }
+}
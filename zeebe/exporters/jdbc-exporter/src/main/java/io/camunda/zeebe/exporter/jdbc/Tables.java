@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import static io.camunda.zeebe.exporter.jdbc.Column.bigint;
+import static io.camunda.zeebe.exporter.jdbc.Column.integer;
+import static io.camunda.zeebe.exporter.jdbc.Column.timestamp;
+import static io.camunda.zeebe.exporter.jdbc.Column.varchar;
+
+import java.util.List;
+
+/**
+ * The normalized tables the records are written to, one row per entity. Besides the columns of the
+ * entity, every table has the partition of the entity and the position of the last record which was
+ * written to its row.
+ */
+final class Tables {
+
+  static final String PARTITION_ID = "partition_id";
+  static final String RECORD_POSITION = "record_position";
+
+  static final Table PROCESS_INSTANCE =
+      new Table(
+          "process_instance",
+          List.of(
+              bigint("process_instance_key"),
+              bigint("process_definition_key"),
+              varchar("bpmn_process_id"),
+              integer("version"),
+              bigint("parent_process_instance_key"),
+              bigint("parent_element_instance_key"),
+              varchar("state").retainingExisting(),
+              timestamp("start_date").retainingExisting(),
+              timestamp("end_date").retainingExisting(),
+              varchar("tenant_id"),
+              integer(PARTITION_ID),
+              bigint(RECORD_POSITION)),
+          List.of("bpmn_process_id"));
+
+  static final Table ELEMENT_INSTANCE =
+      new Table(
+          "element_instance",
+          List.of(
+              bigint("element_instance_key"),
+              bigint("process_instance_key"),
+              bigint("process_definition_key"),
+              varchar("bpmn_process_id"),
+              varchar("element_id"),
+              varchar("element_type"),
+              bigint("flow_scope_key"),
+              varchar("state").retainingExisting(),
+              timestamp("start_date").retainingExisting(),
+              timestamp("end_date").retainingExisting(),
+              varchar("tenant_id"),
+              integer(PARTITION_ID),
+              bigint(RECORD_POSITION)),
+          List.of("process_instance_key"));
+
+  static final Table JOB =
+      new Table(
+          "job",
+          List.of(
+              bigint("job_key"),
+              varchar("type"),
+              varchar("kind"),
+              varchar("worker"),
+              integer("retries"),
+              timestamp("deadline"),
+              varchar("error_code"),
+              varchar("error_message"),
+              bigint("process_instance_key"),
+              bigint("element_instance_key"),
+              varchar("element_id"),
+              bigint("process_definition_key"),
+              varchar("bpmn_process_id"),
+              varchar("state").retainingExisting(),
+              timestamp("last_update_date"),
+              varchar("tenant_id"),
+              integer(PARTITION_ID),
+              bigint(RECORD_POSITION)),
+          List.of("process_instance_key"));
+
+  static final Table INCIDENT =
+      new Table(
+          "incident",
+          List.of(
+              bigint("incident_key"),
+              varchar("error_type"),
+              varchar("error_message"),
+              bigint("process_instance_key"),
+              bigint("element_instance_key"),
+              varchar("element_id"),
+              bigint("job_key"),
+              bigint("process_definition_key"),
+              varchar("bpmn_process_id"),
+              varchar("state").retainingExisting(),
+              timestamp("creation_date").retainingExisting(),
+              timestamp("resolution_date").retainingExisting(),
+              varchar("tenant_id"),
+              integer(PARTITION_ID),
+              bigint(RECORD_POSITION)),
+          List.of("process_instance_key"));
+
+  static final Table VARIABLE =
+      new Table(
+          "variable",
+          List.of(
+              bigint("variable_key"),
+              varchar("name"),
+              varchar("variable_value"),
+              bigint("scope_key"),
+              bigint("process_instance_key"),
+              bigint("process_definition_key"),
+              varchar("bpmn_process_id"),
+              varchar("tenant_id"),
+              integer(PARTITION_ID),
+              bigint(RECORD_POSITION)),
+          List.of("process_instance_key"));
+
+  static final Table USER_TASK =
+      new Table(
+          "user_task",
+          List.of(
+              bigint("user_task_key"),
+              bigint("element_instance_key"),
+              varchar("element_id"),
+              bigint("process_instance_key"),
+              bigint("process_definition_key"),
+              varchar("bpmn_process_id"),
+              varchar("assignee"),
+              varchar("candidate_groups"),
+              varchar("candidate_users"),
+              varchar("due_date"),
+              varchar("follow_up_date"),
+              bigint("form_key"),
+              integer("priority"),
+              varchar("state").retainingExisting(),
+              timestamp("creation_date").retainingExisting(),
+              timestamp("completion_date").retainingExisting(),
+              varchar("tenant_id"),
+              integer(PARTITION_ID),
+              bigint(RECORD_POSITION)),
+          List.of("process_instance_key"));
+
+  static final List<Table> ALL =
+      List.of(PROCESS_INSTANCE, ELEMENT_INSTANCE, JOB, INCIDENT, VARIABLE, USER_TASK);
+
+  private Tables() {}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+final class JdbcExporterIT {
+
+  @Container
+  private static final PostgreSQLContainer<?> CONTAINER =
+      new PostgreSQLContainer<>("postgres:15.2-alpine");
+
+  private static final long START = Instant.parse("2024-01-01T10:00:00Z").toEpochMilli();
+  private static final long END = Instant.parse("2024-01-01T10:05:00Z").toEpochMilli();
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final JdbcExporterConfiguration config = new JdbcExporterConfiguration();
+  private final ExporterTestContext context =
+      new ExporterTestContext().setConfiguration(new ExporterTestConfiguration<>("jdbc", config));
+  private final ExporterTestController controller = new ExporterTestController();
+  private final JdbcExporter exporter = new JdbcExporter();
+
+  @BeforeEach
+  void beforeEach() {
+    config.url = CONTAINER.getJdbcUrl();
+    config.username = CONTAINER.getUsername();
+    config.password = CONTAINER.getPassword();
+    // as all tests use the same database, we need a per-test unique prefix
+    config.tablePrefix = "test_" + UUID.randomUUID().toString().replace("-", "") + "_";
+  }
+
+  @Test
+  void shouldUpsertRowsAcrossBatches() throws SQLException {
+    // given
+    config.batch.size = 1;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(processInstance(1, 10, ProcessInstanceIntent.ELEMENT_ACTIVATING, START));
+    exporter.export(processInstance(2, 10, ProcessInstanceIntent.ELEMENT_MIGRATED, END));
+    exporter.export(processInstance(3, 10, ProcessInstanceIntent.ELEMENT_COMPLETED, END));
+
+    // then
+    try (final var connection =
+            DriverManager.getConnection(config.url, config.username, config.password);
+        final var statement = connection.createStatement();
+        final var resultSet =
+            statement.executeQuery(
+                "SELECT state, start_date, end_date FROM %sprocess_instance"
+                    .formatted(config.tablePrefix))) {
+      assertThat(resultSet.next()).isTrue();
+      assertThat(resultSet.getString("state")).isEqualTo("COMPLETED");
+      assertThat(resultSet.getObject("start_date", OffsetDateTime.class).toInstant())
+          .isEqualTo(Instant.ofEpochMilli(START));
+      assertThat(resultSet.getObject("end_date", OffsetDateTime.class).toInstant())
+          .isEqualTo(Instant.ofEpochMilli(END));
+      assertThat(resultSet.next()).isFalse();
+    }
+    assertThat(controller.getPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWriteBatchWithMultiRowStatements() throws SQLException {
+    // given
+    config.batch.rowsPerStatement = 3;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    for (int i = 1; i <= 10; i++) {
+      exporter.export(processInstance(i, i, ProcessInstanceIntent.ELEMENT_ACTIVATING, START));
+    }
+    exporter.close();
+
+    // then
+    try (final var connection =
+            DriverManager.getConnection(config.url, config.username, config.password);
+        final var statement = connection.createStatement();
+        final var resultSet =
+            statement.executeQuery(
+                "SELECT COUNT(*) FROM %sprocess_instance".formatted(config.tablePrefix))) {
+      assertThat(resultSet.next()).isTrue();
+      assertThat(resultSet.getLong(1)).isEqualTo(10);
+    }
+    assertThat(controller.getPosition()).isEqualTo(10);
+  }
+
+  private Record<ProcessInstanceRecordValue> processInstance(
+      final long position, final long key, final ProcessInstanceIntent intent, final long time) {
+    final ProcessInstanceRecordValue value =
+        ImmutableProcessInstanceRecordValue.builder()
+            .from(factory.generateObject(ProcessInstanceRecordValue.class))
+            .withBpmnElementType(BpmnElementType.PROCESS)
+            .withProcessInstanceKey(key)
+            .build();
+    return factory.generateRecord(
+        ValueType.PROCESS_INSTANCE,
+        b ->
+            b.withPosition(position)
+                .withKey(key)
+                .withTimestamp(time)
+                .withRecordType(RecordType.EVENT)
+                .withIntent(intent)
+                .withValue(value));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many records per second are exported into an in-memory H2 database, including the
+ * mapping, coalescing and the multi-row upserts. Every job is created and completed, so half of the
+ * records are coalesced with the row of an earlier record of the batch.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class JdbcExporterPerformanceTest {
+  private static final int JOB_COUNT = 50_000;
+
+  @Param({"100", "500"})
+  public int rowsPerStatement;
+
+  private final JdbcExporter exporter = new JdbcExporter();
+
+  private List<Record<?>> records;
+  private int nextRecord;
+
+  @Setup
+  public void setup() {
+    final var factory = new ProtocolFactory();
+    records =
+        LongStream.range(0, JOB_COUNT)
+            .boxed()
+            .<Record<?>>mapMulti(
+                (key, consumer) -> {
+                  consumer.accept(job(factory, key, JobIntent.CREATED));
+                  consumer.accept(job(factory, key, JobIntent.COMPLETED));
+                })
+            .toList();
+
+    final var config = new JdbcExporterConfiguration();
+    config.url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    config.batch.rowsPerStatement = rowsPerStatement;
+    exporter.configure(
+        new ExporterTestContext()
+            .setConfiguration(new ExporterTestConfiguration<>("jdbc", config)));
+    exporter.open(new ExporterTestController());
+  }
+
+  @TearDown
+  public void tearDown() {
+    exporter.close();
+  }
+
+  @Benchmark
+  public void exportRecord() {
+    // once all records were exported, the jobs are upserted again
+    exporter.export(records.get(nextRecord));
+    nextRecord = (nextRecord + 1) % records.size();
+  }
+
+  private static Record<?> job(
+      final ProtocolFactory factory, final long key, final JobIntent intent) {
+    return factory.generateRecord(
+        ValueType.JOB, b -> b.withKey(key).withRecordType(RecordType.EVENT).withIntent(intent));
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableJobBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.ImmutableJobRecordValue;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.ImmutableVariableRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class JdbcExporterTest {
+
+  private static final long START = Instant.parse("2024-01-01T10:00:00Z").toEpochMilli();
+  private static final long END = Instant.parse("2024-01-01T10:05:00Z").toEpochMilli();
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final JdbcExporterConfiguration config = new JdbcExporterConfiguration();
+  private final ExporterTestContext context =
+      new ExporterTestContext().setConfiguration(new ExporterTestConfiguration<>("jdbc", config));
+  private final ExporterTestController controller = new ExporterTestController();
+  private final JdbcExporter exporter = new JdbcExporter();
+
+  // keeps the in-memory database open until it is shut down after the test
+  private final String databaseUrl = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+  @BeforeEach
+  void beforeEach() {
+    config.url = databaseUrl;
+  }
+
+  @AfterEach
+  void afterEach() throws SQLException {
+    try (final var connection = DriverManager.getConnection(databaseUrl);
+        final var statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+  }
+
+  @Test
+  void shouldFailOnUnsupportedDatabase() {
+    // given
+    config.url = "jdbc:mysql://localhost:3306/zeebe";
+
+    // when - then
+    assertThatThrownBy(() -> exporter.configure(context))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("jdbc:mysql");
+  }
+
+  @Test
+  void shouldFailOnInvalidTablePrefix() {
+    // given
+    config.tablePrefix = "zeebe; DROP TABLE x;";
+
+    // when - then
+    assertThatThrownBy(() -> exporter.configure(context))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("tablePrefix");
+  }
+
+  @Test
+  void shouldCoalesceEventsOfTheSameEntity() throws SQLException {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(processInstance(1, ProcessInstanceIntent.ELEMENT_ACTIVATING, START));
+    exporter.export(processInstance(2, ProcessInstanceIntent.ELEMENT_COMPLETED, END));
+    controller.runScheduledTasks(Duration.ofSeconds(config.batch.delay));
+
+    // then
+    final var rows = queryRows("SELECT * FROM zeebe_process_instance");
+    assertThat(rows).hasSize(1);
+    assertThat(rows.getFirst())
+        .containsEntry("process_instance_key", 10L)
+        .containsEntry("bpmn_process_id", "process")
+        .containsEntry("state", "COMPLETED")
+        .containsEntry("start_date", timestamp(START))
+        .containsEntry("end_date", timestamp(END))
+        .containsEntry("record_position", 2L);
+    assertThat(controller.getPosition()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRetainColumnsWrittenByEarlierBatches() throws SQLException {
+    // given
+    config.batch.size = 1;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(processInstance(1, ProcessInstanceIntent.ELEMENT_ACTIVATING, START));
+    exporter.export(processInstance(2, ProcessInstanceIntent.ELEMENT_MIGRATED, END));
+    exporter.export(processInstance(3, ProcessInstanceIntent.ELEMENT_COMPLETED, END));
+
+    // then
+    assertThat(queryRows("SELECT * FROM zeebe_process_instance"))
+        .singleElement()
+        .satisfies(
+            row ->
+                assertThat(row)
+                    .containsEntry("state", "COMPLETED")
+                    .containsEntry("start_date", timestamp(START))
+                    .containsEntry("end_date", timestamp(END)));
+    assertThat(controller.getPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWriteJobsActivatedInABatch() throws SQLException {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+    final var job = job();
+
+    // when
+    exporter.export(record(ValueType.JOB, 1, 20, JobIntent.CREATED, START, job));
+    exporter.export(
+        record(
+            ValueType.JOB_BATCH,
+            2,
+            30,
+            JobBatchIntent.ACTIVATED,
+            START,
+            ImmutableJobBatchRecordValue.builder()
+                .from(factory.generateObject(JobBatchRecordValue.class))
+                .withJobKeys(List.of(20L))
+                .withJobs(List.of(job))
+                .build()));
+    exporter.close();
+
+    // then
+    assertThat(queryRows("SELECT * FROM zeebe_job"))
+        .singleElement()
+        .satisfies(
+            row ->
+                assertThat(row)
+                    .containsEntry("job_key", 20L)
+                    .containsEntry("type", "service")
+                    .containsEntry("state", "ACTIVATED")
+                    .containsEntry("record_position", 2L));
+    assertThat(controller.getPosition()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotChangeJobStateOnUpdate() throws SQLException {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(record(ValueType.JOB, 1, 20, JobIntent.FAILED, START, job()));
+    exporter.export(record(ValueType.JOB, 2, 20, JobIntent.RETRIES_UPDATED, END, job()));
+    exporter.close();
+
+    // then
+    assertThat(queryRows("SELECT * FROM zeebe_job"))
+        .singleElement()
+        .satisfies(
+            row ->
+                assertThat(row)
+                    .containsEntry("state", "FAILED")
+                    .containsEntry("last_update_date", timestamp(END)));
+  }
+
+  @Test
+  void shouldSplitBatchIntoMultiRowStatements() throws SQLException {
+    // given
+    config.batch.rowsPerStatement = 2;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    for (int i = 1; i <= 5; i++) {
+      exporter.export(variable(i, 100 + i, "var" + i));
+    }
+    exporter.close();
+
+    // then
+    assertThat(queryRows("SELECT * FROM zeebe_variable ORDER BY variable_key"))
+        .extracting(row -> row.get("name"))
+        .containsExactly("var1", "var2", "var3", "var4", "var5");
+    assertThat(controller.getPosition()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldFlushOnceBatchIsFull() throws SQLException {
+    // given
+    config.batch.size = 2;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(variable(1, 101, "a"));
+    exporter.export(variable(2, 101, "a"));
+    exporter.export(variable(3, 102, "b"));
+
+    // then
+    assertThat(queryRows("SELECT * FROM zeebe_variable")).hasSize(2);
+    assertThat(controller.getPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldPrefixTables() throws SQLException {
+    // given
+    config.tablePrefix = "custom_";
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(variable(1, 101, "a"));
+    exporter.close();
+
+    // then
+    assertThat(queryRows("SELECT * FROM custom_variable")).hasSize(1);
+  }
+
+  private Record<ProcessInstanceRecordValue> processInstance(
+      final long position, final Intent intent, final long timestamp) {
+    final ProcessInstanceRecordValue value =
+        ImmutableProcessInstanceRecordValue.builder()
+            .from(factory.generateObject(ProcessInstanceRecordValue.class))
+            .withBpmnElementType(BpmnElementType.PROCESS)
+            .withBpmnProcessId("process")
+            .withProcessInstanceKey(10)
+            .build();
+    return record(ValueType.PROCESS_INSTANCE, position, 10, intent, timestamp, value);
+  }
+
+  private JobRecordValue job() {
+    return ImmutableJobRecordValue.builder()
+        .from(factory.generateObject(JobRecordValue.class))
+        .withType("service")
+        .build();
+  }
+
+  private Record<VariableRecordValue> variable(
+      final long position, final long key, final String name) {
+    final VariableRecordValue value =
+        ImmutableVariableRecordValue.builder()
+            .from(factory.generateObject(VariableRecordValue.class))
+            .withName(name)
+            .build();
+    return record(ValueType.VARIABLE, position, key, VariableIntent.CREATED, START, value);
+  }
+
+  private <T extends RecordValue> Record<T> record(
+      final ValueType valueType,
+      final long position,
+      final long key,
+      final Intent intent,
+      final long timestamp,
+      final T value) {
+    return factory.generateRecord(
+        valueType,
+        b ->
+            b.withPosition(position)
+                .withKey(key)
+                .withTimestamp(timestamp)
+                .withRecordType(RecordType.EVENT)
+                .withIntent(intent)
+                .withValue(value));
+  }
+
+  private static OffsetDateTime timestamp(final long epochMillis) {
+    return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+  }
+
+  private List<Map<String, Object>> queryRows(final String query) throws SQLException {
+    final List<Map<String, Object>> rows = new ArrayList<>();
+    try (final var connection = DriverManager.getConnection(databaseUrl);
+        final var statement = connection.createStatement();
+        final var resultSet = statement.executeQuery(query)) {
+      final var metadata = resultSet.getMetaData();
+      while (resultSet.next()) {
+        final Map<String, Object> row = new HashMap<>();
+        for (int column = 1; column <= metadata.getColumnCount(); column++) {
+          row.put(
+              metadata.getColumnLabel(column).toLowerCase(Locale.ROOT),
+              resultSet.getObject(column));
+        }
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.exporter.opensearch.InFlightBulkRequests.InFlightBulk;
 import io.camunda.zeebe.exporter.opensearch.OpensearchExporterConfiguration.IndexConfiguration;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -79,8 +80,13 @@ public class OpensearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsynchronously()) {
+        client.flushAsync(lastPosition, serializeRecordCounters(recordCounters));
+        client.awaitFlushedBulks().ifPresent(this::acknowledgeFlushedBulk);
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -112,7 +118,17 @@ public class OpensearchExporter implements Exporter {
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (client.shouldFlush() && isFlushingAsynchronously()) {
+      // The bulk carries the record counters including this record, which are acknowledged along
+      // with its position once the bulk and all bulks before it were flushed. As for the
+      // synchronous flush, the exporter will be invoked with the same record again if the bulk
+      // can't be sent, e.g. while the max in-flight bulk requests are reached.
+      final var recordCountersWithRecord =
+          new OpensearchRecordCounters(recordCounters.getRecordCounters());
+      recordCountersWithRecord.updateRecordCounters(record, recordSequence);
+      client.flushAsync(lastPosition, serializeRecordCounters(recordCountersWithRecord));
+      recordCounters.updateRecordCounters(record, recordSequence);
+    } else if (client.shouldFlush()) {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
@@ -124,6 +140,10 @@ public class OpensearchExporter implements Exporter {
       // with the records in the pending bulk request.
       recordCounters.updateRecordCounters(record, recordSequence);
     }
+
+    if (isFlushingAsynchronously()) {
+      client.pollFlushedBulk().ifPresent(this::acknowledgeFlushedBulk);
+    }
   }
 
   private void validate(final OpensearchExporterConfiguration configuration) {
@@ -134,6 +154,13 @@ public class OpensearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Opensearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -165,8 +192,16 @@ public class OpensearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsynchronously()) {
+        // while the in-flight bulks are at their limit, the pending bulk is flushed next time
+        if (!client.isInFlightLimitReached()) {
+          client.flushAsync(lastPosition, serializeRecordCounters(recordCounters));
+        }
+        client.pollFlushedBulk().ifPresent(this::acknowledgeFlushedBulk);
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -182,12 +217,24 @@ public class OpensearchExporter implements Exporter {
     client.flush();
   }
 
+  private boolean isFlushingAsynchronously() {
+    return configuration.bulk.maxInFlightRequests > 1;
+  }
+
   private void updateLastExportedPosition() {
-    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
+    final var serializeExporterMetadata = serializeRecordCounters(recordCounters);
     controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
   }
 
+  private void acknowledgeFlushedBulk(final InFlightBulk bulk) {
+    controller.updateLastExportedRecordPosition(bulk.position(), bulk.metadata());
+  }
+
+  private byte[] serializeRecordCounters(final OpensearchRecordCounters counters) {
+    exporterMetadata.setRecordCountersByValueType(counters.getRecordCounters());
+    return serializeExporterMetadata(exporterMetadata);
+  }
+
   private byte[] serializeExporterMetadata(final OpensearchExporterMetadata metadata) {
     try {
       return exporterMetadataObjectMapper.writeValueAsBytes(metadata);
@@ -326,6 +326,12 @@ public class OpensearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulks in flight; with more than one, bulks are flushed asynchronously
+    public int maxInFlightRequests = 1;
+    // memory limit in bytes of all bulks in flight, when flushing asynchronously
+    public int maxInFlightMemory = 50 * 1024 * 1024;
+    // compression of the bulk requests sent
+    public BulkCompression compression = BulkCompression.NONE;
 
     @Override
     public String toString() {
@@ -336,10 +342,33 @@ public class OpensearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
+          + ", maxInFlightMemory="
+          + maxInFlightMemory
+          + ", compression="
+          + compression
           + '}';
     }
   }
 
+  public enum BulkCompression {
+    NONE(null),
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String contentEncoding;
+
+    BulkCompression(final String contentEncoding) {
+      this.contentEncoding = contentEncoding;
+    }
+
+    /** Returns the HTTP content encoding of compressed requests, or null if not compressed. */
+    public String getContentEncoding() {
+      return contentEncoding;
+    }
+  }
+
   public static class AuthenticationConfiguration {
     private String username;
     private String password;
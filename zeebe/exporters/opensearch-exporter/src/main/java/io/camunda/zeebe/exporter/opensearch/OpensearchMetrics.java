@@ -41,6 +41,24 @@ public class OpensearchMetrics {
         .record(bulkSize);
   }
 
+  public void recordBulkRequestSize(final int uncompressedSize, final int compressedSize) {
+    DistributionSummary.builder(meterName("bulk.request.size"))
+        .description("Size of the bulk requests sent, after compression")
+        .baseUnit("bytes")
+        .serviceLevelObjectives(
+            64 * 1024, 512 * 1024, 1024 * 1024, 5 * 1024 * 1024, 10 * 1024 * 1024)
+        .register(meterRegistry)
+        .record(compressedSize);
+
+    if (compressedSize > 0) {
+      DistributionSummary.builder(meterName("bulk.compression.ratio"))
+          .description("Ratio of the uncompressed to the compressed size of the bulk requests")
+          .serviceLevelObjectives(1, 2, 5, 10, 20)
+          .register(meterRegistry)
+          .record((double) uncompressedSize / compressedSize);
+    }
+  }
+
   public void recordBulkMemorySize(final int bulkMemorySize) {
     Gauge.builder(meterName("bulk.memory.size"), this.bulkMemorySize, AtomicInteger::get)
         .description("Exporter bulk memory size")
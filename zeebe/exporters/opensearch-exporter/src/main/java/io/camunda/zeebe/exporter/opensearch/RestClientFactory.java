@@ -75,7 +75,11 @@ final class RestClientFactory {
                     b.setConnectTimeout(config.requestTimeoutMs)
                         .setSocketTimeout(config.requestTimeoutMs))
             .setHttpClientConfigCallback(
-                b -> configureHttpClient(config, b, allowAllSelfSignedCertificates, interceptors));
+                b -> {
+                  configureConnectionPool(config, httpHosts.length, b);
+                  return configureHttpClient(
+                      config, b, allowAllSelfSignedCertificates, interceptors);
+                });
 
     return builder.build();
   }
@@ -122,6 +126,21 @@ final class RestClientFactory {
     return builder;
   }
 
+  /**
+   * Sizes the connection pool such that every bulk request in flight can use its own connection,
+   * plus one for the other requests (e.g. templates), without shrinking it below the defaults.
+   */
+  private void configureConnectionPool(
+      final OpensearchExporterConfiguration config,
+      final int hostCount,
+      final HttpAsyncClientBuilder builder) {
+    final int maxConnectionsPerRoute =
+        Math.max(RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE, config.bulk.maxInFlightRequests + 1);
+    builder.setMaxConnPerRoute(maxConnectionsPerRoute);
+    builder.setMaxConnTotal(
+        Math.max(RestClientBuilder.DEFAULT_MAX_CONN_TOTAL, maxConnectionsPerRoute * hostCount));
+  }
+
   private void setupBasicAuthentication(
       final OpensearchExporterConfiguration config, final HttpAsyncClientBuilder builder) {
     final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
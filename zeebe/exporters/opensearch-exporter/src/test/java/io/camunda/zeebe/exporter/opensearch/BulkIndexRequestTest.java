@@ -217,7 +217,7 @@ final class BulkIndexRequestTest {
       // then
       assertThat(request.bulkOperations())
           .hasSize(2)
-          .map(operation -> MAPPER.readValue(operation.source(), MAP_TYPE_REFERENCE))
+          .map(operation -> MAPPER.readValue(source(operation), MAP_TYPE_REFERENCE))
           .extracting(source -> source.get("sequence"))
           .describedAs("Expect that the records are serialized with the sequences")
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
@@ -225,13 +225,19 @@ final class BulkIndexRequestTest {
 
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
-        return MAPPER.readValue(operation.source(), new TypeReference<>() {});
+        return MAPPER.readValue(source(operation), new TypeReference<>() {});
       } catch (final IOException e) {
         throw new UncheckedIOException(
             String.format("Failed to deserialize operation [%s] source", operation.metadata()), e);
       }
     }
 
+    private byte[] source(final BulkOperation operation) throws IOException {
+      final var output = new ByteArrayOutputStream();
+      operation.writeSource(output);
+      return output.toByteArray();
+    }
+
     private Tuple deserializeOperation(final byte[] metadata, final byte[] source) {
       try {
         return Tuple.tuple(
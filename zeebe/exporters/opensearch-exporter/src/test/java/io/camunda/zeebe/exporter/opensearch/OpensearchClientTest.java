@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.exporter.opensearch.OpensearchExporterConfiguration.BulkCompression;
 import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexResponse;
 import io.camunda.zeebe.exporter.opensearch.dto.PutIndexTemplateResponse;
 import io.camunda.zeebe.exporter.opensearch.dto.Template;
@@ -25,9 +26,11 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 import org.apache.http.entity.BasicHttpEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -205,6 +208,27 @@ final class OpensearchClientTest {
       assertThat(bulkRequest.isEmpty()).isTrue();
     }
 
+    @Test
+    void shouldCompressBulk() throws IOException {
+      // given
+      config.bulk.compression = BulkCompression.GZIP;
+      final ArgumentCaptor<Request> requestCaptor =
+          mockClientResponse(new BulkIndexResponse(false, List.of()));
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      final var expectedBody = new ByteArrayOutputStream();
+      bulkRequest.writeTo(expectedBody);
+
+      // when
+      client.flush();
+
+      // then
+      final var entity = requestCaptor.getValue().getEntity();
+      assertThat(entity.getContentEncoding().getValue()).isEqualTo("gzip");
+      try (final var body = new GZIPInputStream(entity.getContent())) {
+        assertThat(body.readAllBytes()).isEqualTo(expectedBody.toByteArray());
+      }
+    }
+
     @Test
     void shouldNotClearBulkOnFailure() throws IOException {
       // given
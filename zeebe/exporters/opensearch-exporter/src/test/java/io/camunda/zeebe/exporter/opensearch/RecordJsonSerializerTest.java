@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.opensearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class RecordJsonSerializerTest {
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().registerModule(new ZeebeProtocolModule());
+
+  private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+      new TypeReference<>() {};
+
+  private static final int PARTITION_ID = 1;
+
+  private final ProtocolFactory recordFactory = new ProtocolFactory();
+  private final RecordJsonSerializer serializer = new RecordJsonSerializer();
+
+  @Test
+  void shouldSerializeEachRecordAsSeparateDocument() throws IOException {
+    // given
+    final var records = recordFactory.generateRecords().limit(3).toList();
+    final var recordSequence = new RecordSequence(PARTITION_ID, 1);
+
+    // when
+    final var documents =
+        records.stream().map(record -> serialize(record, recordSequence)).toList();
+
+    // then
+    for (int i = 0; i < records.size(); i++) {
+      final var document = documents.get(i);
+      assertThat(document[0])
+          .describedAs("Expect that the document is not prefixed by a separator")
+          .isEqualTo((byte) '{');
+      assertThat(MAPPER.readValue(document, MAP_TYPE_REFERENCE))
+          .isEqualTo(expectedDocument(records.get(i), recordSequence));
+    }
+  }
+
+  @Test
+  void shouldSerializeRecordWithSequence() throws IOException {
+    // given
+    final var record = recordFactory.generateRecord();
+    final var recordSequence = new RecordSequence(PARTITION_ID, 10);
+
+    // when
+    final var document = serialize(record, recordSequence);
+
+    // then
+    assertThat(MAPPER.readValue(document, MAP_TYPE_REFERENCE))
+        .containsEntry("sequence", recordSequence.sequence());
+    assertThat(document)
+        .hasSize(
+            RecordJsonSerializer.documentLength(
+                serializer.serialize(record), recordSequence.sequence()));
+  }
+
+  @Test
+  void shouldNotModifySharedRecordJson() throws IOException {
+    // given - a broker record, which shares its JSON between exporters
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATED);
+    final var record =
+        new CopiedRecord<>(
+            new JobRecord().setType("test"), metadata, 1L, PARTITION_ID, 1L, -1L, 0L);
+    final var recordJson = serializer.serialize(record);
+    final var copy = recordJson.clone();
+
+    // when
+    serialize(record, new RecordSequence(PARTITION_ID, 10));
+
+    // then
+    assertThat(serializer.serialize(record)).isSameAs(recordJson).isEqualTo(copy);
+  }
+
+  private byte[] serialize(final Record<?> record, final RecordSequence recordSequence) {
+    try {
+      final var output = new ByteArrayOutputStream();
+      RecordJsonSerializer.writeDocument(
+          serializer.serialize(record), recordSequence.sequence(), output);
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Map<String, Object> expectedDocument(
+      final Record<?> record, final RecordSequence recordSequence) throws IOException {
+    final var document = MAPPER.readValue(MAPPER.writeValueAsBytes(record), MAP_TYPE_REFERENCE);
+    // the sequence is not part of the record itself, but added by the exporter
+    document.put("sequence", recordSequence.sequence());
+    return document;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.EvaluationWarning;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The result of a {@link CompiledExpression}, which holds the MessagePack encoded value. The value
+ * is only decoded when accessed, and then the same way as the FEEL engine would decode it.
+ */
+final class CompiledEvaluationResult implements EvaluationResult {
+
+  private static final DirectBuffer TRUE = encodeBoolean(true);
+  private static final DirectBuffer FALSE = encodeBoolean(false);
+
+  private final Expression expression;
+  private final ResultType type;
+  private final DirectBuffer value;
+
+  CompiledEvaluationResult(
+      final Expression expression, final ResultType type, final DirectBuffer value) {
+    this.expression = expression;
+    this.type = type;
+    this.value = value;
+  }
+
+  static CompiledEvaluationResult ofBoolean(final Expression expression, final boolean value) {
+    return new CompiledEvaluationResult(expression, ResultType.BOOLEAN, value ? TRUE : FALSE);
+  }
+
+  @Override
+  public String getExpression() {
+    return expression.getExpression();
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public List<EvaluationWarning> getWarnings() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public ResultType getType() {
+    return type;
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    return value;
+  }
+
+  @Override
+  public String getString() {
+    if (type == ResultType.STRING) {
+      return bufferAsString(readValue().readToken().getValueBuffer());
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    if (type == ResultType.BOOLEAN) {
+      return readValue().readToken().getBooleanValue();
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Number getNumber() {
+    if (type == ResultType.NUMBER) {
+      // the same type as the numbers of the FEEL engine
+      return new scala.math.BigDecimal(new BigDecimal(readValue().readToken().getIntegerValue()));
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    if (type != ResultType.ARRAY) {
+      return null;
+    }
+
+    final var reader = readValue();
+    final var size = reader.readArrayHeader();
+    final var items = new ArrayList<DirectBuffer>(size);
+    for (int i = 0; i < size; i++) {
+      final var offset = reader.getOffset();
+      reader.skipValue();
+      items.add(cloneBuffer(value, offset, reader.getOffset() - offset));
+    }
+    return items;
+  }
+
+  @Override
+  public List<String> getListOfStrings() {
+    if (type != ResultType.ARRAY) {
+      return null;
+    }
+
+    final var reader = readValue();
+    final var size = reader.readArrayHeader();
+    final var items = new ArrayList<String>(size);
+    for (int i = 0; i < size; i++) {
+      final var token = reader.readToken();
+      if (token.getType() != MsgPackType.STRING) {
+        return null;
+      }
+      items.add(bufferAsString(token.getValueBuffer()));
+    }
+    return items;
+  }
+
+  private MsgPackReader readValue() {
+    return new MsgPackReader().wrap(value, 0, value.capacity());
+  }
+
+  private static DirectBuffer encodeBoolean(final boolean value) {
+    final var buffer = new UnsafeBuffer(new byte[1]);
+    new MsgPackWriter().wrap(buffer, 0).writeBoolean(value);
+    return buffer;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static scala.jdk.javaapi.CollectionConverters.asJava;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+
+/**
+ * A FEEL expression of a trivial shape, which can be evaluated directly against the MessagePack
+ * encoded variables by a {@link CompiledExpressionEvaluator}, instead of by the FEEL engine. The
+ * supported shapes are:
+ *
+ * <ul>
+ *   <li>a variable reference, e.g. {@code orderId}
+ *   <li>a path, e.g. {@code order.customer.id}
+ *   <li>a comparison of a variable reference or path with a literal, e.g. {@code amount > 100}
+ * </ul>
+ */
+final class CompiledExpression {
+
+  private final String variableName;
+  private final List<DirectBuffer> pathKeys;
+  private final Operator operator;
+  private final Object literal;
+
+  private CompiledExpression(
+      final List<String> path, final Operator operator, final Object literal) {
+    variableName = path.getFirst();
+    pathKeys = path.stream().skip(1).map(BufferUtil::wrapString).toList();
+    this.operator = operator;
+    this.literal = literal;
+  }
+
+  /**
+   * @return the compiled expression, or {@code null} if the expression is not of a supported shape
+   */
+  static CompiledExpression compile(final Exp expression) {
+    final var path = extractPath(expression);
+    if (path != null) {
+      return new CompiledExpression(path, null, null);
+    }
+
+    return switch (expression) {
+      case final Equal equal -> compileComparison(Operator.EQUAL, equal.x(), equal.y());
+      case final LessThan lessThan ->
+          compileComparison(Operator.LESS_THAN, lessThan.x(), lessThan.y());
+      case final LessOrEqual lessOrEqual ->
+          compileComparison(Operator.LESS_OR_EQUAL, lessOrEqual.x(), lessOrEqual.y());
+      case final GreaterThan greaterThan ->
+          compileComparison(Operator.GREATER_THAN, greaterThan.x(), greaterThan.y());
+      case final GreaterOrEqual greaterOrEqual ->
+          compileComparison(Operator.GREATER_OR_EQUAL, greaterOrEqual.x(), greaterOrEqual.y());
+      default -> null;
+    };
+  }
+
+  private static CompiledExpression compileComparison(
+      final Operator operator, final Exp left, final Exp right) {
+    final var path = extractPath(left);
+    final var literal = extractLiteral(right);
+    if (path == null || literal == null) {
+      return null;
+    }
+
+    if (literal instanceof Boolean && operator != Operator.EQUAL) {
+      // booleans are not ordered
+      return null;
+    }
+
+    return new CompiledExpression(path, operator, literal);
+  }
+
+  private static List<String> extractPath(final Exp expression) {
+    return switch (expression) {
+      case final Ref ref -> new ArrayList<>(asJava(ref.names()));
+      case final PathExpression pathExpression -> {
+        final var path = extractPath(pathExpression.path());
+        if (path != null) {
+          path.add(pathExpression.key());
+        }
+        yield path;
+      }
+      default -> null;
+    };
+  }
+
+  private static Object extractLiteral(final Exp expression) {
+    return switch (expression) {
+      case final ConstNumber number -> number.value().bigDecimal();
+      case final ConstString string -> string.value();
+      case final ConstBool bool -> bool.value();
+      default -> null;
+    };
+  }
+
+  String getVariableName() {
+    return variableName;
+  }
+
+  /**
+   * @return the keys to look up in the variable, one per nesting level
+   */
+  List<DirectBuffer> getPathKeys() {
+    return pathKeys;
+  }
+
+  boolean isComparison() {
+    return operator != null;
+  }
+
+  Operator getOperator() {
+    return operator;
+  }
+
+  /**
+   * @return the literal to compare with, either a {@link BigDecimal}, a {@link String} or a {@link
+   *     Boolean}
+   */
+  Object getLiteral() {
+    return literal;
+  }
+
+  enum Operator {
+    EQUAL(comparison -> comparison == 0),
+    LESS_THAN(comparison -> comparison < 0),
+    LESS_OR_EQUAL(comparison -> comparison <= 0),
+    GREATER_THAN(comparison -> comparison > 0),
+    GREATER_OR_EQUAL(comparison -> comparison >= 0);
+
+    private final IntPredicate test;
+
+    Operator(final IntPredicate test) {
+      this.test = test;
+    }
+
+    /**
+     * @param comparison the result of comparing the value with the literal, as by {@link
+     *     Comparable#compareTo(Object)}
+     */
+    boolean test(final int comparison) {
+      return test.test(comparison);
+    }
+  }
+}
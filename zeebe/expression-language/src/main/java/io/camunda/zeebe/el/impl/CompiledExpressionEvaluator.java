@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.contentsEqual;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.math.BigDecimal;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Evaluates {@link CompiledExpression compiled expressions} directly against the MessagePack
+ * encoded variables, without converting them into FEEL values and back.
+ *
+ * <p>The evaluator only handles the cases for which the result is known to be the same as the one
+ * of the FEEL engine, including the MessagePack encoding of the result. For all other cases, e.g.
+ * if a variable doesn't exist (which FEEL reports with a warning) or a value is a float (which FEEL
+ * may convert into an integer), it returns {@code null}, and the expression must be evaluated by
+ * the FEEL engine instead.
+ *
+ * <p>Not thread-safe, as it reuses its reader and buffers across evaluations.
+ */
+final class CompiledExpressionEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer valueView = new UnsafeBuffer();
+
+  /**
+   * @return the result of the expression, or {@code null} if it can't be evaluated directly
+   */
+  EvaluationResult evaluate(
+      final Expression expression,
+      final CompiledExpression compiledExpression,
+      final EvaluationContext context) {
+    if (!readPath(compiledExpression, context)) {
+      return null;
+    }
+
+    if (compiledExpression.isComparison()) {
+      return compare(expression, compiledExpression);
+    }
+
+    writer.wrap(writeBuffer, 0);
+    final var resultType = copyValue();
+    if (resultType == null) {
+      return null;
+    }
+
+    return new CompiledEvaluationResult(
+        expression, resultType, cloneBuffer(writeBuffer, 0, writer.getOffset()));
+  }
+
+  /** Positions the reader at the value the path of the expression refers to, if it exists. */
+  private boolean readPath(
+      final CompiledExpression compiledExpression, final EvaluationContext context) {
+    final var variable = context.getVariable(compiledExpression.getVariableName());
+    if (variable == null || variable.capacity() == 0) {
+      return false;
+    }
+
+    reader.wrap(variable, 0, variable.capacity());
+    for (final DirectBuffer key : compiledExpression.getPathKeys()) {
+      if (!readEntry(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Positions the reader at the value of the entry with the given key, of the map at the reader's
+   * offset. Like the FEEL engine, it uses the last entry in case of duplicate keys.
+   */
+  private boolean readEntry(final DirectBuffer key) {
+    final var mapToken = reader.readToken();
+    if (mapToken.getType() != MsgPackType.MAP) {
+      return false;
+    }
+
+    final int size = mapToken.getSize();
+    int valueOffset = -1;
+    int valueLength = 0;
+    for (int i = 0; i < size; i++) {
+      final var keyToken = reader.readToken();
+      final var isMatch =
+          keyToken.getType() == MsgPackType.STRING && contentsEqual(keyToken.getValueBuffer(), key);
+
+      final var offset = reader.getOffset();
+      reader.skipValue();
+      if (isMatch) {
+        valueOffset = offset;
+        valueLength = reader.getOffset() - offset;
+      }
+    }
+
+    if (valueOffset < 0) {
+      return false;
+    }
+
+    valueView.wrap(reader.getBuffer(), valueOffset, valueLength);
+    reader.wrap(valueView, 0, valueLength);
+    return true;
+  }
+
+  private EvaluationResult compare(
+      final Expression expression, final CompiledExpression compiledExpression) {
+    final var token = reader.readToken();
+    final int comparison;
+    switch (compiledExpression.getLiteral()) {
+      case final BigDecimal number when token.getType() == MsgPackType.INTEGER ->
+          comparison = BigDecimal.valueOf(token.getIntegerValue()).compareTo(number);
+      case final BigDecimal number when token.getType() == MsgPackType.FLOAT ->
+          comparison = BigDecimal.valueOf(token.getFloatValue()).compareTo(number);
+      case final String string when token.getType() == MsgPackType.STRING ->
+          comparison = bufferAsString(token.getValueBuffer()).compareTo(string);
+      case final Boolean bool when token.getType() == MsgPackType.BOOLEAN ->
+          comparison = token.getBooleanValue() == bool ? 0 : 1;
+      default -> {
+        // FEEL reports the comparison of values of different types with a warning
+        return null;
+      }
+    }
+
+    return CompiledEvaluationResult.ofBoolean(
+        expression, compiledExpression.getOperator().test(comparison));
+  }
+
+  /**
+   * Copies the value at the reader's offset to the writer, encoded like the FEEL engine would
+   * encode it after converting it into a FEEL value.
+   *
+   * @return the type of the copied value, or {@code null} if it can't be copied
+   */
+  private ResultType copyValue() {
+    final var offset = reader.getOffset();
+    final var token = reader.readToken();
+    return switch (token.getType()) {
+      case NIL -> {
+        writer.writeNil();
+        yield ResultType.NULL;
+      }
+      case BOOLEAN -> {
+        writer.writeBoolean(token.getBooleanValue());
+        yield ResultType.BOOLEAN;
+      }
+      case INTEGER -> {
+        writer.writeInteger(token.getIntegerValue());
+        yield ResultType.NUMBER;
+      }
+      case STRING -> {
+        writer.writeString(token.getValueBuffer());
+        yield ResultType.STRING;
+      }
+      case MAP -> {
+        // FEEL writes maps back as they were read
+        reader.skipValues(2L * token.getSize());
+        writer.writeRaw(reader.getBuffer(), offset, reader.getOffset() - offset);
+        yield ResultType.OBJECT;
+      }
+      case ARRAY -> {
+        final var size = token.getSize();
+        writer.writeArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          if (copyValue() == null) {
+            yield null;
+          }
+        }
+        yield ResultType.ARRAY;
+      }
+      default -> null;
+    };
+  }
+}
@@ -17,9 +17,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final CompiledExpression compiledExpression;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    compiledExpression = CompiledExpression.compile(expression.expression());
   }
 
   @Override
@@ -63,6 +65,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the compiled form of the expression, or {@code null} if it is not of a shape that can
+   *     be evaluated without the FEEL engine
+   */
+  CompiledExpression getCompiledExpression() {
+    return compiledExpression;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
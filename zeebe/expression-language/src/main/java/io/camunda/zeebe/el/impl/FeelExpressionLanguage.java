@@ -41,6 +41,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final CompiledExpressionEvaluator compiledExpressionEvaluator =
+      new CompiledExpressionEvaluator();
+
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
@@ -107,6 +110,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var compiledExpression = feelExpression.getCompiledExpression();
+    if (compiledExpression != null) {
+      final var result =
+          compiledExpressionEvaluator.evaluate(expression, compiledExpression, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how fast the expressions of the benchmark project's process models are evaluated, e.g.
+ * the correlation keys, gateway conditions and input collections of the refunding and the dispute
+ * handling processes. Most of them are simple variable references, paths or comparisons.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FeelExpressionPerformanceTest {
+
+  private static final List<String> TRIVIAL_EXPRESSIONS =
+      List.of(
+          "=correlationKey",
+          "=isRefund",
+          "=isHighFraudRatingConfidence",
+          "=customer",
+          "=refundedPosition",
+          "=disputeDetails.disputeId",
+          "=disputeDetails.disputePositions",
+          "= var2=true",
+          "= var2=false");
+
+  private static final List<String> COMPLEX_EXPRESSIONS =
+      List.of(
+          "=string(disputeDetails.disputeId) + \"-\" + string(customerId)",
+          "=mean(fraud_score_result.fraud_rating_score) > 0",
+          "=mean(fraud_score_result.fraud_rating_confidence_score) > 0");
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.of(
+          "correlationKey",
+          asMsgPack("\"order-4711\""),
+          "isRefund",
+          asMsgPack("true"),
+          "isHighFraudRatingConfidence",
+          asMsgPack("false"),
+          "customer",
+          asMsgPack("{\"id\":\"customer-1\",\"name\":\"Jane Doe\",\"tier\":\"gold\"}"),
+          "customerId",
+          asMsgPack("\"customer-1\""),
+          "refundedPosition",
+          asMsgPack("{\"name\":\"headphones\",\"amount\":99}"),
+          "disputeDetails",
+          asMsgPack(
+              "{\"disputeId\":\"dispute-1\",\"disputePositions\":["
+                  + "{\"name\":\"headphones\",\"amount\":99},"
+                  + "{\"name\":\"charger\",\"amount\":19}]}"),
+          "var2",
+          asMsgPack("true"),
+          "fraud_score_result",
+          asMsgPack("{\"fraud_rating_score\":[10,20],\"fraud_rating_confidence_score\":[80,90]}"));
+
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock());
+  private final EvaluationContext context = VARIABLES::get;
+
+  private List<Expression> trivialExpressions;
+  private List<Expression> complexExpressions;
+
+  @Setup
+  public void setup() {
+    trivialExpressions = parseExpressions(TRIVIAL_EXPRESSIONS);
+    complexExpressions = parseExpressions(COMPLEX_EXPRESSIONS);
+  }
+
+  @JMHTest("evaluateTrivialExpressions")
+  void shouldEvaluateTrivialExpressionsWithinDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 1_000.0;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(9)
+  public void evaluateTrivialExpressions(final Blackhole blackhole) {
+    evaluate(trivialExpressions, blackhole);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(3)
+  public void evaluateComplexExpressions(final Blackhole blackhole) {
+    evaluate(complexExpressions, blackhole);
+  }
+
+  private List<Expression> parseExpressions(final List<String> expressions) {
+    return expressions.stream().map(expressionLanguage::parseExpression).toList();
+  }
+
+  private void evaluate(final List<Expression> expressions, final Blackhole blackhole) {
+    for (int i = 0; i < expressions.size(); i++) {
+      final var result = expressionLanguage.evaluateExpression(expressions.get(i), context);
+      blackhole.consume(result.toBuffer());
+    }
+  }
+}
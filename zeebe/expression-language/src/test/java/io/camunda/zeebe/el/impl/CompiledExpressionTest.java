@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.EvaluationWarning;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.Collection;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Verifies that compiled expressions evaluate to the same results as the FEEL engine. The FEEL
+ * engine evaluates the expression wrapped in a conditional, which is not compiled.
+ */
+@RunWith(Parameterized.class)
+public class CompiledExpressionTest {
+
+  private final FeelExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock());
+
+  @Parameter(0)
+  public String expression;
+
+  @Parameter(1)
+  public String variableJson;
+
+  @Parameters(name = "{0} with x = {1}")
+  public static Collection<Object[]> parameters() {
+    return List.of(
+        new Object[] {"x", "123"},
+        new Object[] {"x", "-5"},
+        new Object[] {"x", "\"order-1\""},
+        new Object[] {"x", "true"},
+        new Object[] {"x", "null"},
+        new Object[] {"x", "1.5"},
+        new Object[] {"x", "2.0"},
+        new Object[] {"x", "{\"a\":1,\"b\":[1.0,\"c\"]}"},
+        new Object[] {"x", "[1,\"a\",true,null,{\"b\":2}]"},
+        new Object[] {"x", "[\"a\",\"b\"]"},
+        new Object[] {"x", "[1.5]"},
+        new Object[] {"y", "1"},
+        new Object[] {"x.a", "{\"a\":\"b\"}"},
+        new Object[] {"x.a.b", "{\"a\":{\"b\":42}}"},
+        new Object[] {"x.a", "{\"a\":1,\"a\":2}"},
+        new Object[] {"x.missing", "{\"a\":1}"},
+        new Object[] {"x.a", "[{\"a\":1},{\"a\":2}]"},
+        new Object[] {"x.a", "\"not a context\""},
+        new Object[] {"x > 100", "250"},
+        new Object[] {"x > 100", "100"},
+        new Object[] {"x >= 100", "100"},
+        new Object[] {"x < 2.5", "2"},
+        new Object[] {"x <= 2.5", "2.5"},
+        new Object[] {"x > 100", "100.5"},
+        new Object[] {"x = 3", "3"},
+        new Object[] {"x > 100", "\"text\""},
+        new Object[] {"x > 100", "null"},
+        new Object[] {"x = \"approved\"", "\"approved\""},
+        new Object[] {"x = \"approved\"", "\"rejected\""},
+        new Object[] {"x < \"b\"", "\"a\""},
+        new Object[] {"x = true", "true"},
+        new Object[] {"x = false", "true"},
+        new Object[] {"x = true", "1"},
+        new Object[] {"x.a > 1", "{\"a\":2}"},
+        new Object[] {"y > 1", "2"});
+  }
+
+  @Test
+  public void shouldCompileExpression() {
+    // when
+    final var parsedExpression =
+        (FeelExpression) expressionLanguage.parseExpression("=" + expression);
+
+    // then
+    assertThat(parsedExpression.getCompiledExpression()).isNotNull();
+  }
+
+  @Test
+  public void shouldEvaluateLikeFeelEngine() {
+    // given
+    final var variable = asMsgPack(variableJson);
+    final EvaluationContext context = name -> name.equals("x") ? variable : null;
+
+    // when
+    final var result = evaluate(expression, context);
+    final var expected = evaluate("if true then (" + expression + ") else null", context);
+
+    // then
+    assertThat(result.isFailure()).isEqualTo(expected.isFailure());
+    assertThat(result.getType()).isEqualTo(expected.getType());
+    assertThat(bufferAsArray(result.toBuffer())).isEqualTo(bufferAsArray(expected.toBuffer()));
+    assertThat(result.getString()).isEqualTo(expected.getString());
+    assertThat(result.getBoolean()).isEqualTo(expected.getBoolean());
+    assertThat(result.getNumber()).isEqualTo(expected.getNumber());
+    assertThat(result.getList()).isEqualTo(expected.getList());
+    assertThat(result.getListOfStrings()).isEqualTo(expected.getListOfStrings());
+    assertThat(result.getWarnings())
+        .extracting(EvaluationWarning::getMessage)
+        .isEqualTo(expected.getWarnings().stream().map(EvaluationWarning::getMessage).toList());
+  }
+
+  private EvaluationResult evaluate(final String expression, final EvaluationContext context) {
+    final var parsedExpression = expressionLanguage.parseExpression("=" + expression);
+    return expressionLanguage.evaluateExpression(parsedExpression, context);
+  }
+}
@@ -11,6 +11,9 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -20,16 +23,23 @@ import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
 
+/**
+ * A FEEL context over a MessagePack map. The map is not decoded up front: a variable is resolved by
+ * comparing its name with the raw keys of the map on the first access, and the keys are only
+ * decoded if all variables are requested. Expressions usually access a few variables of a
+ * document, for which this is much cheaper than decoding all of its keys.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
   public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
+    final var entriesOffset = reader.getOffset() - bufferOffset;
+    reader.skipValues(2L * size);
     messagePackMap =
         cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, entriesOffset, size);
   }
 
   @Override
@@ -37,62 +47,119 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
-
   record Span(int offset, int length) {}
 
   private static final class MessagePackMapVariableProvider implements VariableProvider {
+    private static final Span ABSENT = new Span(-1, 0);
+
     private final DirectBuffer entries;
+    private final int entriesOffset;
+    private final int size;
+    private final MsgPackReader reader = new MsgPackReader();
     private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    // the spans of the variables resolved so far, as an expression may access a variable repeatedly
+    private final java.util.Map<String, Span> resolvedSpans = new HashMap<>();
+    private Map<String, Span> valueSpans;
 
     private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+        final DirectBuffer entries, final int entriesOffset, final int size) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.entriesOffset = entriesOffset;
+      this.size = size;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final var span = resolvedSpans.computeIfAbsent(name, this::findValueSpan);
+      if (span == ABSENT) {
+        return Option.empty();
+      }
+
+      resultView.wrap(entries, span.offset(), span.length());
+      return Option.apply(resultView);
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      return getValueSpans().keySet();
     }
 
     @Override
     public Map<String, Object> getVariables() {
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+      getValueSpans()
+          .foreach(
+              entry ->
+                  clonedMap.addOne(
+                      new Tuple2<>(
+                          entry._1(),
+                          cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
       return clonedMap.result();
     }
+
+    private Span findValueSpan(final String name) {
+      if (valueSpans != null) {
+        final var span = valueSpans.get(name);
+        return span.isDefined() ? span.get() : ABSENT;
+      }
+
+      final var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+      reader.wrap(entries, entriesOffset, entries.capacity() - entriesOffset);
+
+      // scan all entries, such that the last one wins in case of duplicate keys, as it would when
+      // decoding the whole map; comparing the key bytes is cheap compared to decoding the keys
+      Span span = ABSENT;
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        final var isMatch =
+            keyToken.getType() == MsgPackType.STRING
+                && equalsKey(keyToken.getValueBuffer(), nameBytes);
+
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+        if (isMatch) {
+          span = new Span(entriesOffset + valueOffset, reader.getOffset() - valueOffset);
+        }
+      }
+
+      return span;
+    }
+
+    private static boolean equalsKey(final DirectBuffer key, final byte[] name) {
+      if (key.capacity() != name.length) {
+        return false;
+      }
+
+      for (int i = 0; i < name.length; i++) {
+        if (key.getByte(i) != name[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private Map<String, Span> getValueSpans() {
+      if (valueSpans == null) {
+        valueSpans = readValueSpans();
+      }
+      return valueSpans;
+    }
+
+    private Map<String, Span> readValueSpans() {
+      final var spans = Map.<String, Span>newBuilder();
+      spans.sizeHint(size);
+      reader.wrap(entries, entriesOffset, entries.capacity() - entriesOffset);
+
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        final var key = bufferAsString(keyToken.getValueBuffer());
+
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+        final var valueLength = reader.getOffset() - valueOffset;
+        spans.addOne(new Tuple2<>(key, new Span(entriesOffset + valueOffset, valueLength)));
+      }
+      return spans.result();
+    }
   }
 }
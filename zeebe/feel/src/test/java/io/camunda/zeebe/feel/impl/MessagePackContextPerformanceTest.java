@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.feel.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast typical gateway conditions are evaluated against variable documents of
+ * different sizes. Each evaluation creates a new context over the document, as the engine does for
+ * every evaluated expression.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MessagePackContextPerformanceTest {
+
+  @Param({"10", "1000", "10000"})
+  private int documentSize;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private FeelEngine feelEngine;
+  private ParsedExpression comparison;
+  private ParsedExpression conjunction;
+  private ParsedExpression nestedAccess;
+  private DirectBuffer document;
+
+  @Setup
+  public void setup() {
+    feelEngine = new FeelEngine.Builder().customValueMapper(new MessagePackValueMapper()).build();
+    comparison = parse("amount > 100");
+    conjunction = parse("amount > 100 and status = \"approved\"");
+    nestedAccess = parse("customer.tier = \"gold\"");
+    document = createDocument(documentSize);
+  }
+
+  @JMHTest("evaluateConjunction")
+  void shouldEvaluateConditionWithinDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 100.0;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("documentSize", "1000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public Object evaluateComparison() {
+    return evaluate(comparison);
+  }
+
+  @Benchmark
+  public Object evaluateConjunction() {
+    return evaluate(conjunction);
+  }
+
+  @Benchmark
+  public Object evaluateNestedAccess() {
+    return evaluate(nestedAccess);
+  }
+
+  private Object evaluate(final ParsedExpression expression) {
+    reader.wrap(document, 0, document.capacity());
+    final var size = reader.readMapHeader();
+    final var context = new MessagePackContext(reader, 0, size);
+    return feelEngine.evaluate(expression, context).result();
+  }
+
+  private ParsedExpression parse(final String expression) {
+    return feelEngine.parseExpression(expression).right().get();
+  }
+
+  /**
+   * Creates a document with the given number of entries, where the variables accessed by the
+   * conditions are in the middle of the generated filler entries.
+   */
+  private static DirectBuffer createDocument(final int size) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    final var fillerEntries = size - 3;
+
+    writer.writeMapHeader(size);
+    for (int i = 0; i < fillerEntries; i++) {
+      if (i == fillerEntries / 2) {
+        writeAccessedEntries(writer);
+      }
+      writer.writeString(wrapString("variable" + i));
+      writer.writeString(wrapString("value" + i));
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static void writeAccessedEntries(final MsgPackWriter writer) {
+    writer.writeString(wrapString("amount"));
+    writer.writeInteger(250);
+    writer.writeString(wrapString("status"));
+    writer.writeString(wrapString("approved"));
+    writer.writeString(wrapString("customer"));
+    writer.writeMapHeader(2);
+    writer.writeString(wrapString("name"));
+    writer.writeString(wrapString("Jane"));
+    writer.writeString(wrapString("tier"));
+    writer.writeString(wrapString("gold"));
+  }
+}
@@ -13,13 +13,17 @@ import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.InterceptorUtil;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -33,6 +37,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -47,6 +53,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.EvaluateDecisionResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceRequest;
@@ -68,10 +77,12 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -87,6 +98,8 @@ public final class EndpointManager {
   private final RequestRetryHandler requestRetryHandler;
   private final StreamJobsHandler streamJobsHandler;
   private final MultiTenancyCfg multiTenancy;
+  private final JobBatchCommandSender jobBatchCommandSender;
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
 
   public EndpointManager(
       final BrokerClient brokerClient,
@@ -98,6 +111,7 @@ public final class EndpointManager {
     this.streamJobsHandler = streamJobsHandler;
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
+    jobBatchCommandSender = new JobBatchCommandSender(brokerClient);
     this.multiTenancy = multiTenancy;
     RequestMapper.setMultiTenancyEnabled(multiTenancy.isEnabled());
   }
@@ -173,7 +187,8 @@ public final class EndpointManager {
     try {
       final JobActivationProperties brokerRequest =
           RequestMapper.toJobActivationProperties(request);
-      streamJobsHandler.handle(request.getType(), brokerRequest, responseObserver);
+      streamJobsHandler.handle(
+          request.getType(), brokerRequest, request.getPrefetch(), responseObserver);
     } catch (final Exception e) {
       responseObserver.onError(e);
     }
@@ -216,6 +231,16 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendJobCommands(
+        request.getJobsList(),
+        RequestMapper::toCompleteJobRequest,
+        results -> CompleteJobsResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -286,6 +311,16 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void failJobs(
+      final FailJobsRequest request,
+      final ServerStreamObserver<FailJobsResponse> responseObserver) {
+    sendJobCommands(
+        request.getJobsList(),
+        RequestMapper::toFailJobRequest,
+        results -> FailJobsResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void throwError(
       final ThrowErrorRequest request,
       final ServerStreamObserver<ThrowErrorResponse> responseObserver) {
@@ -484,13 +519,77 @@ public final class EndpointManager {
         timeout);
   }
 
+  private <GrpcRequestT, GrpcResponseT> void sendJobCommands(
+      final List<GrpcRequestT> grpcRequests,
+      final Function<GrpcRequestT, ? extends BrokerExecuteCommand<JobRecord>> requestMapper,
+      final Function<List<JobCommandResult>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    if (grpcRequests.isEmpty()) {
+      streamObserver.onError(
+          new InvalidBrokerRequestArgumentException("jobs", "not empty", "empty"));
+      return;
+    }
+    if (grpcRequests.size() > JobBatchCommandSender.MAX_BATCH_SIZE) {
+      streamObserver.onError(
+          new InvalidBrokerRequestArgumentException(
+              "jobs",
+              "at most %d jobs".formatted(JobBatchCommandSender.MAX_BATCH_SIZE),
+              "%d jobs".formatted(grpcRequests.size())));
+      return;
+    }
+
+    final List<BrokerExecuteCommand<JobRecord>> brokerRequests =
+        new ArrayList<>(grpcRequests.size());
+    try {
+      for (final GrpcRequestT grpcRequest : grpcRequests) {
+        final BrokerExecuteCommand<JobRecord> brokerRequest = requestMapper.apply(grpcRequest);
+        setAuthorization(brokerRequest);
+        brokerRequests.add(brokerRequest);
+      }
+    } catch (final Exception e) {
+      streamObserver.onError(e);
+      return;
+    }
+
+    jobBatchCommandSender
+        .send(brokerRequests)
+        .whenComplete(
+            (results, error) -> {
+              if (error != null) {
+                streamObserver.onError(error);
+                return;
+              }
+
+              streamObserver.onNext(
+                  responseMapper.apply(results.stream().map(this::toJobCommandResult).toList()));
+              streamObserver.onCompleted();
+            });
+  }
+
+  private JobCommandResult toJobCommandResult(final JobBatchCommandSender.JobCommandResult result) {
+    final var grpcResult = JobCommandResult.newBuilder().setJobKey(result.jobKey());
+    if (!result.isSuccess()) {
+      final StatusRuntimeException error = errorMapper.mapError(result.error());
+      grpcResult.setCode(error.getStatus().getCode().value());
+      if (error.getStatus().getDescription() != null) {
+        grpcResult.setMessage(error.getStatus().getDescription());
+      }
+    }
+
+    return grpcResult.build();
+  }
+
   private <GrpcRequestT, BrokerResponseT> BrokerRequest<BrokerResponseT> mapToBrokerRequest(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper)
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    setAuthorization(brokerRequest);
+    return brokerRequest;
+  }
 
+  private void setAuthorization(final BrokerRequest<?> brokerRequest) throws Exception {
     final List<String> authorizedTenants =
         multiTenancy.isEnabled()
             ? Context.current().call(InterceptorUtil.getAuthorizedTenantsKey()::get)
@@ -503,8 +602,6 @@ public final class EndpointManager {
             .withClaim(Authorization.AUTHORIZED_TENANTS, authorizedTenants)
             .encode();
     brokerRequest.setAuthorization(authorizationToken);
-
-    return brokerRequest;
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
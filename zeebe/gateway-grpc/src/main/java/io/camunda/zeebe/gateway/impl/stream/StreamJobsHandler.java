@@ -40,9 +40,16 @@ public class StreamJobsHandler extends Actor {
     this.jobStreamer = jobStreamer;
   }
 
+  /**
+   * Opens a job stream for the given job type. The prefetch is the maximum number of jobs which may
+   * be pushed to the stream without being forwarded to the client yet; brokers stop pushing to the
+   * stream once it is used up, or once the client is blocked, until the client is ready again. A
+   * prefetch of 0 means the stream is unbounded.
+   */
   public void handle(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
+      final int prefetch,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
     // TODO(#14452): move validations to RequestMapper and convert
     //  to exceptions that can be used in the GrpcErrorMapper
@@ -59,12 +66,22 @@ public class StreamJobsHandler extends Actor {
       return;
     }
 
-    handleInternal(jobType, jobActivationProperties, responseObserver);
+    if (prefetch < 0) {
+      handleError(
+          responseObserver,
+          "prefetch",
+          "greater than or equal to zero",
+          Integer.toString(prefetch));
+      return;
+    }
+
+    handleInternal(jobType, jobActivationProperties, prefetch, responseObserver);
   }
 
   private void handleInternal(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
+      final int prefetch,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
     final var streamType = wrapString(jobType);
     final var consumer = new JobStreamConsumer(responseObserver, actor);
@@ -74,11 +91,13 @@ public class StreamJobsHandler extends Actor {
     // actor callbacks, which is why the remover can handle being called out of order
     responseObserver.setOnCloseHandler(cleaner);
     responseObserver.setOnCancelHandler(cleaner);
+    // once a blocked client can receive jobs again, the brokers may push to its stream again
+    responseObserver.setOnReadyHandler(cleaner::resume);
 
     actor.run(
         () ->
             actor.runOnCompletion(
-                jobStreamer.add(streamType, jobActivationProperties, consumer),
+                jobStreamer.add(streamType, jobActivationProperties, consumer, prefetch),
                 (streamId, error) -> onStreamAdded(responseObserver, cleaner, streamId, error)));
   }
 
@@ -194,6 +213,21 @@ public class StreamJobsHandler extends Actor {
       executor.execute(this::remove);
     }
 
+    /**
+     * Notifies the streamer that the client is ready to receive jobs again, such that the brokers
+     * push to the stream again if it was previously blocked. Does nothing if the stream was not
+     * registered yet, or was already removed.
+     */
+    @VisibleForTesting("Allow unit testing behavior")
+    void resume() {
+      executor.execute(
+          () -> {
+            if (!isRemoved && streamId != null) {
+              jobStreamer.resume(streamId);
+            }
+          });
+    }
+
     @VisibleForTesting("Allow unit testing behavior")
     void streamId(final ClientStreamId streamId) {
       executor.execute(() -> setStreamId(streamId));
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.Map;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long REJECTED_KEY = Protocol.encodePartitionId(2, 1);
+
+  @Test
+  public void shouldReturnResultPerJob() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class, CompleteJobsTest::completeOrReject);
+    final long completedKey = Protocol.encodePartitionId(1, 1);
+    final String variables = JsonUtil.toJson(Map.of("key", "value"));
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(
+                CompleteJobRequest.newBuilder().setJobKey(completedKey).setVariables(variables))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(REJECTED_KEY))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(JobCommandResult::getJobKey, JobCommandResult::getCode)
+        .containsExactly(
+            tuple(completedKey, Status.Code.OK.value()),
+            tuple(REJECTED_KEY, Status.Code.NOT_FOUND.value()));
+    assertThat(response.getResults(1).getMessage()).contains("no such job");
+
+    assertThat(brokerClient.getBrokerRequests()).hasSize(2);
+    final BrokerCompleteJobRequest brokerRequest =
+        (BrokerCompleteJobRequest) brokerClient.getBrokerRequests().getFirst();
+    assertThat(brokerRequest.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    MsgPackUtil.assertEqualityExcluding(
+        brokerRequest.getRequestWriter().getVariablesBuffer(), variables);
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    final CompleteJobsRequest request = CompleteJobsRequest.getDefaultInstance();
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJobs(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectBatchExceedingMaxSize() {
+    // given
+    final var request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i <= JobBatchCommandSender.MAX_BATCH_SIZE; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(Protocol.encodePartitionId(1, i)));
+    }
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJobs(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static BrokerResponse<JobRecord> completeOrReject(
+      final BrokerCompleteJobRequest request) {
+    if (request.getKey() == REJECTED_KEY) {
+      return new BrokerRejectionResponse<>(
+          new BrokerRejection(
+              JobIntent.COMPLETE, REJECTED_KEY, RejectionType.NOT_FOUND, "no such job"));
+    }
+    return new BrokerResponse<>(new JobRecord(), request.getPartitionId(), request.getKey());
+  }
+}
@@ -196,6 +196,46 @@ public final class LongPollingActivateJobsTest {
         .handle(any());
   }
 
+  @Test
+  public void shouldCoalescePendingRequestsWhenJobsAvailable() throws Exception {
+    // given
+    final var coalescingHandler =
+        LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+            .setBrokerClient(brokerClient)
+            .setMaxMessageSize(MAX_MESSAGE_SIZE)
+            .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+            .setProbeTimeoutMillis(PROBE_TIMEOUT)
+            .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+            .setCoalescingEnabled(true)
+            .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+            .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
+            .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
+            .build();
+    submitActorToActivateJobs(coalescingHandler);
+    handler = coalescingHandler;
+
+    final int amount = FAILED_RESPONSE_THRESHOLD;
+    final var requests = activateJobsAndWaitUntilBlocked(amount);
+    final int firstRound = amount * partitionsCount;
+    verify(activateJobsStub, times(firstRound)).handle(any());
+
+    // when
+    activateJobsStub.addAvailableJobs(TYPE, amount * MAX_JOBS_TO_ACTIVATE);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then - a single activation serves all pending requests
+    requests.forEach(request -> Awaitility.await().until(request::isCompleted));
+    verify(activateJobsStub, times(firstRound + 1)).handle(any());
+
+    final var responseCaptor = ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    for (final var request : requests) {
+      verify(request.getResponseObserver()).onNext(responseCaptor.capture());
+    }
+    assertThat(responseCaptor.getAllValues())
+        .hasSize(amount)
+        .allSatisfy(response -> assertThat(response.getJobsList()).hasSize(MAX_JOBS_TO_ACTIVATE));
+  }
+
   @Test
   public void shouldCompleteAfterRequestTimeout() {
     // given
@@ -17,7 +17,9 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
@@ -55,8 +57,38 @@ final class AsyncJobStreamRemoverTest {
     assertThat(jobStreamer.consumers).doesNotContainKey(id);
   }
 
+  @Test
+  void shouldResumeStream() {
+    // given
+    final var remover = new AsyncJobStreamRemover(jobStreamer, Runnable::run);
+    final var id = jobStreamer.add(BufferUtil.wrapString("foo"), null, consumer).join();
+    remover.streamId(id);
+
+    // when
+    remover.resume();
+
+    // then
+    assertThat(jobStreamer.resumed).containsExactly(id);
+  }
+
+  @Test
+  void shouldNotResumeRemovedStream() {
+    // given
+    final var remover = new AsyncJobStreamRemover(jobStreamer, Runnable::run);
+    final var id = jobStreamer.add(BufferUtil.wrapString("foo"), null, consumer).join();
+    remover.streamId(id);
+    remover.run();
+
+    // when
+    remover.resume();
+
+    // then
+    assertThat(jobStreamer.resumed).isEmpty();
+  }
+
   private static final class TestJobStreamer implements ClientStreamer<JobActivationProperties> {
     private final Map<ClientStreamId, ClientStreamConsumer> consumers = new HashMap<>();
+    private final List<ClientStreamId> resumed = new ArrayList<>();
 
     @Override
     public ActorFuture<ClientStreamId> add(
@@ -77,6 +109,12 @@ final class AsyncJobStreamRemoverTest {
       return CompletableActorFuture.completed(null);
     }
 
+    @Override
+    public ActorFuture<Void> resume(final ClientStreamId streamId) {
+      resumed.add(streamId);
+      return CompletableActorFuture.completed(null);
+    }
+
     @Override
     public void close() {
       consumers.clear();
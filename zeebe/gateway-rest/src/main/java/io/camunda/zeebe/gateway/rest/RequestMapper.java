@@ -12,6 +12,8 @@ import static io.camunda.zeebe.gateway.rest.validator.ClockValidator.validateClo
 import static io.camunda.zeebe.gateway.rest.validator.DocumentValidator.validateDocumentMetadata;
 import static io.camunda.zeebe.gateway.rest.validator.ElementRequestValidator.validateVariableRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobActivationRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobBatchCompletionRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobBatchFailRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobErrorRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobUpdateRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessageCorrelationRequest;
@@ -32,6 +34,8 @@ import io.camunda.service.DocumentServices.DocumentCreateRequest;
 import io.camunda.service.DocumentServices.DocumentMetadataModel;
 import io.camunda.service.ElementInstanceServices.SetVariablesRequest;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.JobCompletion;
+import io.camunda.service.JobServices.JobFailure;
 import io.camunda.service.JobServices.UpdateJobChangeset;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
 import io.camunda.service.MessageServices.PublicationMessageRequest;
@@ -53,6 +57,10 @@ import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.rest.DocumentMetadata;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
@@ -209,6 +217,37 @@ public class RequestMapper {
         jobKey, getMapOrEmpty(completionRequest, JobCompletionRequest::getVariables));
   }
 
+  public static Either<ProblemDetail, List<JobCompletion>> toJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    return getResult(
+        validateJobBatchCompletionRequest(completionRequest),
+        () ->
+            completionRequest.getJobs().stream()
+                .map(
+                    job ->
+                        new JobCompletion(
+                            job.getJobKey(),
+                            getMapOrEmpty(job, JobBatchCompletionItem::getVariables)))
+                .toList());
+  }
+
+  public static Either<ProblemDetail, List<JobFailure>> toJobBatchFailRequest(
+      final JobBatchFailRequest failRequest) {
+    return getResult(
+        validateJobBatchFailRequest(failRequest),
+        () ->
+            failRequest.getJobs().stream()
+                .map(
+                    job ->
+                        new JobFailure(
+                            job.getJobKey(),
+                            getIntOrZero(job, JobBatchFailItem::getRetries),
+                            getStringOrEmpty(job, JobBatchFailItem::getErrorMessage),
+                            getLongOrZero(job, JobBatchFailItem::getRetryBackOff),
+                            getMapOrEmpty(job, JobBatchFailItem::getVariables)))
+                .toList());
+  }
+
   public static Either<ProblemDetail, UpdateJobRequest> toJobUpdateRequest(
       final JobUpdateRequest updateRequest, final long jobKey) {
     final var validationJobUpdateResponse = validateJobUpdateRequest(updateRequest);
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.camunda.service.DocumentServices.DocumentReferenceResponse;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.rest.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.rest.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.rest.DeploymentDecision;
@@ -22,6 +23,8 @@ import io.camunda.zeebe.gateway.protocol.rest.DeploymentProcess;
 import io.camunda.zeebe.gateway.protocol.rest.DocumentMetadata;
 import io.camunda.zeebe.gateway.protocol.rest.DocumentReference;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchResult;
 import io.camunda.zeebe.gateway.protocol.rest.MessageCorrelationResponse;
 import io.camunda.zeebe.gateway.protocol.rest.MessagePublicationResponse;
 import io.camunda.zeebe.gateway.protocol.rest.ResourceResponse;
@@ -45,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 
 public final class ResponseMapper {
@@ -85,6 +89,24 @@ public final class ResponseMapper {
         .tenantId(job.getTenantId());
   }
 
+  public static ResponseEntity<Object> toJobBatchResponse(final List<JobCommandResult> results) {
+    final var response = new JobBatchResponse();
+    for (final JobCommandResult result : results) {
+      final var jobResult = new JobBatchResult().jobKey(result.jobKey());
+      if (result.isSuccess()) {
+        jobResult.status(HttpStatus.NO_CONTENT.value());
+      } else {
+        final ProblemDetail problem =
+            RestErrorMapper.mapErrorToProblem(
+                result.error(), RestErrorMapper.DEFAULT_REJECTION_MAPPER);
+        jobResult.status(problem.getStatus()).detail(problem.getDetail());
+      }
+      response.addResultsItem(jobResult);
+    }
+
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
   public static ResponseEntity<Object> toMessageCorrelationResponse(
       final MessageCorrelationRecord brokerResponse) {
     final var response =
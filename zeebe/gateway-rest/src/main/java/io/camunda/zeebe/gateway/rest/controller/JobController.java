@@ -9,8 +9,12 @@ package io.camunda.zeebe.gateway.rest.controller;
 
 import io.camunda.service.JobServices;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.JobCompletion;
+import io.camunda.service.JobServices.JobFailure;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
@@ -20,7 +24,9 @@ import io.camunda.zeebe.gateway.rest.RequestMapper.CompleteJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.ErrorJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.FailJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.UpdateJobRequest;
+import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -86,6 +92,26 @@ public class JobController {
     return completeJob(RequestMapper.toJobCompletionRequest(completionRequest, jobKey));
   }
 
+  @PostMapping(
+      path = "/completion",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> completeJobs(
+      @RequestBody final JobBatchCompletionRequest completionRequest) {
+    return RequestMapper.toJobBatchCompletionRequest(completionRequest)
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::completeJobs);
+  }
+
+  @PostMapping(
+      path = "/failure",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
+      consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<Object>> failJobs(
+      @RequestBody final JobBatchFailRequest failRequest) {
+    return RequestMapper.toJobBatchFailRequest(failRequest)
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::failJobs);
+  }
+
   @PatchMapping(
       path = "/{jobKey}",
       produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_PROBLEM_JSON_VALUE},
@@ -144,6 +170,18 @@ public class JobController {
                 .completeJob(completeJobRequest.jobKey(), completeJobRequest.variables()));
   }
 
+  private CompletableFuture<ResponseEntity<Object>> completeJobs(final List<JobCompletion> jobs) {
+    return RequestMapper.executeServiceMethod(
+        () -> jobServices.withAuthentication(RequestMapper.getAuthentication()).completeJobs(jobs),
+        ResponseMapper::toJobBatchResponse);
+  }
+
+  private CompletableFuture<ResponseEntity<Object>> failJobs(final List<JobFailure> jobs) {
+    return RequestMapper.executeServiceMethod(
+        () -> jobServices.withAuthentication(RequestMapper.getAuthentication()).failJobs(jobs),
+        ResponseMapper::toJobBatchResponse);
+  }
+
   private CompletableFuture<ResponseEntity<Object>> updateJob(
       final UpdateJobRequest updateJobRequest) {
     return RequestMapper.executeServiceMethodWithNoContentResult(
@@ -9,16 +9,23 @@ package io.camunda.zeebe.gateway.rest.validator;
 
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_AT_LEAST_ONE_FIELD;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
+import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_NESTED_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.createProblemDetail;
 
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchFailRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobChangeset;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.springframework.http.ProblemDetail;
 
 public final class JobRequestValidator {
@@ -65,4 +72,34 @@ public final class JobRequestValidator {
     }
     return createProblemDetail(violations);
   }
+
+  public static Optional<ProblemDetail> validateJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    return validateJobBatch(
+        completionRequest == null ? null : completionRequest.getJobs(),
+        JobBatchCompletionItem::getJobKey);
+  }
+
+  public static Optional<ProblemDetail> validateJobBatchFailRequest(
+      final JobBatchFailRequest failRequest) {
+    return validateJobBatch(
+        failRequest == null ? null : failRequest.getJobs(), JobBatchFailItem::getJobKey);
+  }
+
+  private static <T> Optional<ProblemDetail> validateJobBatch(
+      final List<T> jobs, final Function<T, Long> jobKeyExtractor) {
+    final List<String> violations = new ArrayList<>();
+    if (jobs == null || jobs.isEmpty()) {
+      violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobs"));
+    } else if (jobs.size() > JobBatchCommandSender.MAX_BATCH_SIZE) {
+      violations.add(
+          ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE.formatted(
+              "jobs",
+              "%d jobs".formatted(jobs.size()),
+              "at most %d jobs".formatted(JobBatchCommandSender.MAX_BATCH_SIZE)));
+    } else if (jobs.stream().anyMatch(job -> job == null || jobKeyExtractor.apply(job) == null)) {
+      violations.add(ERROR_MESSAGE_EMPTY_NESTED_ATTRIBUTE.formatted("jobKey", "jobs"));
+    }
+    return createProblemDetail(violations);
+  }
 }
@@ -14,13 +14,24 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 import io.camunda.service.JobServices;
+import io.camunda.service.JobServices.JobCompletion;
+import io.camunda.service.JobServices.JobFailure;
 import io.camunda.service.JobServices.UpdateJobChangeset;
 import io.camunda.service.security.auth.Authentication;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender.JobCommandResult;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResponse;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -485,4 +496,189 @@ public class JobControllerTest extends RestControllerTest {
         .expectBody()
         .json(expectedBody);
   }
+
+  @Test
+  void shouldCompleteJobs() {
+    // given
+    final var rejection =
+        new BrokerRejection(JobIntent.COMPLETE, 2L, RejectionType.NOT_FOUND, "no such job");
+    when(jobServices.completeJobs(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(
+                    JobCommandResult.success(1L, new JobRecord()),
+                    JobCommandResult.failure(2L, new BrokerRejectionException(rejection)))));
+
+    final var request =
+        """
+        {
+          "jobs": [
+            {
+              "jobKey": 1,
+              "variables": {
+                "foo": "bar"
+              }
+            },
+            {
+              "jobKey": 2
+            }
+          ]
+        }""";
+
+    final var expectedBody =
+        """
+        {
+          "results": [
+            {
+              "jobKey": 1,
+              "status": 204
+            },
+            {
+              "jobKey": 2,
+              "status": 404,
+              "detail": "Command 'COMPLETE' rejected with code 'NOT_FOUND': no such job"
+            }
+          ]
+        }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verify(jobServices)
+        .completeJobs(
+            List.of(new JobCompletion(1L, Map.of("foo", "bar")), new JobCompletion(2L, null)));
+  }
+
+  @Test
+  void shouldFailJobs() {
+    // given
+    when(jobServices.failJobs(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(JobCommandResult.success(1L, new JobRecord()))));
+
+    final var request =
+        """
+        {
+          "jobs": [
+            {
+              "jobKey": 1,
+              "retries": 2,
+              "errorMessage": "error",
+              "retryBackOff": 3
+            }
+          ]
+        }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/failure")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(
+            """
+            {
+              "results": [
+                {
+                  "jobKey": 1,
+                  "status": 204
+                }
+              ]
+            }""");
+
+    Mockito.verify(jobServices).failJobs(List.of(new JobFailure(1L, 2, "error", 3L, null)));
+  }
+
+  @Test
+  void shouldRejectEmptyJobBatch() {
+    // given
+    final var request =
+        """
+        {
+          "jobs": []
+        }""";
+
+    final var expectedBody =
+        """
+        {
+          "type": "about:blank",
+          "status": 400,
+          "title": "INVALID_ARGUMENT",
+          "detail": "No jobs provided.",
+          "instance": "%s"
+        }"""
+            .formatted(JOBS_BASE_URL + "/completion");
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+  }
+
+  @Test
+  void shouldRejectJobBatchExceedingMaxSize() {
+    // given
+    final var jobs =
+        LongStream.rangeClosed(1, JobBatchCommandSender.MAX_BATCH_SIZE + 1)
+            .mapToObj("{\"jobKey\": %d}"::formatted)
+            .collect(Collectors.joining(","));
+    final var request = "{\"jobs\": [%s]}".formatted(jobs);
+
+    final var expectedBody =
+        """
+        {
+          "type": "about:blank",
+          "status": 400,
+          "title": "INVALID_ARGUMENT",
+          "detail": "The value for jobs is '%d jobs' but must be at most %d jobs.",
+          "instance": "%s"
+        }"""
+            .formatted(
+                JobBatchCommandSender.MAX_BATCH_SIZE + 1,
+                JobBatchCommandSender.MAX_BATCH_SIZE,
+                JOBS_BASE_URL + "/failure");
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/failure")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody);
+
+    Mockito.verify(jobServices, Mockito.never()).failJobs(any());
+  }
 }
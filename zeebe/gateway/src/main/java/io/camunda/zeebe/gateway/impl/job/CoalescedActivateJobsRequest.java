@@ -0,0 +1,244 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Activates jobs for several pending long polling requests at once, instead of sending one
+ * activation per request to each partition. The requests must be equivalent, see {@link Key}, such
+ * that any activated job can be handed to any of them.
+ *
+ * <p>Activated jobs are distributed among the requests in order, each receiving at most as many
+ * jobs as it asked for. Jobs which no request can take anymore, e.g. because it was canceled in the
+ * meantime, are wasted: they are made activatable again right away.
+ */
+final class CoalescedActivateJobsRequest<T> implements ResponseObserver<JobActivationResponse> {
+
+  private static final String WASTED_ACTIVATION_MSG =
+      "Failed to send activated job to client, as all coalesced requests were closed or satisfied";
+
+  private final List<InflightActivateJobsRequest<T>> requests;
+  private final int[] receivedJobs;
+  private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final BiConsumer<List<ActivatedJob>, String> reactivateJobs;
+  private final LongPollingMetrics metrics;
+
+  CoalescedActivateJobsRequest(
+      final List<InflightActivateJobsRequest<T>> requests,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final BiConsumer<List<ActivatedJob>, String> reactivateJobs,
+      final LongPollingMetrics metrics) {
+    this.requests = requests;
+    this.activationResultMapper = activationResultMapper;
+    this.reactivateJobs = reactivateJobs;
+    this.metrics = metrics;
+    receivedJobs = new int[requests.size()];
+  }
+
+  /**
+   * @return a request to activate as many jobs as all coalesced requests asked for together
+   */
+  InflightActivateJobsRequest<JobActivationResponse> toInflightRequest(final long requestId) {
+    final var first = requests.getFirst();
+    final var key = Key.of(first);
+    final var maxJobsToActivate =
+        requests.stream().mapToInt(InflightActivateJobsRequest::getMaxJobsToActivate).sum();
+    final var brokerRequest =
+        new BrokerActivateJobsRequest(key.type())
+            .setWorker(key.worker())
+            .setTimeout(key.timeout())
+            .setVariables(key.variables())
+            .setTenantIds(key.tenantIds())
+            .setMaxJobsToActivate(maxJobsToActivate);
+    // all requests share the same claims, so the jobs are activated on behalf of each of them
+    brokerRequest.getAuthorization().wrap(first.getRequest().getAuthorization());
+
+    metrics.observeCoalescedRequests(key.type(), requests.size());
+    return new InflightActivateJobsRequest<>(requestId, brokerRequest, this, 0);
+  }
+
+  List<InflightActivateJobsRequest<T>> getRequests() {
+    return requests;
+  }
+
+  boolean hasReceivedJobs(final int index) {
+    return receivedJobs[index] > 0;
+  }
+
+  boolean hasReceivedJobs() {
+    for (final int received : receivedJobs) {
+      if (received > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void onCompleted() {
+    // the coalesced requests are completed individually by the long polling handler
+  }
+
+  @Override
+  public void onNext(final JobActivationResponse response) {
+    final JobBatchRecord batch = response.brokerResponse();
+    final Iterator<LongValue> jobKeys = batch.jobKeys().iterator();
+    final Iterator<JobRecord> jobs = batch.jobs().iterator();
+
+    for (int i = 0; i < requests.size() && jobKeys.hasNext(); i++) {
+      final var request = requests.get(i);
+      final int capacity = request.getMaxJobsToActivate() - receivedJobs[i];
+      if (capacity > 0 && request.isOpen()) {
+        receivedJobs[i] += sendJobs(request, response, jobKeys, jobs, capacity);
+      }
+    }
+
+    final List<ActivatedJob> wastedJobs = new ArrayList<>();
+    while (jobKeys.hasNext() && jobs.hasNext()) {
+      wastedJobs.add(new ActivatedJob(jobKeys.next().getValue(), jobs.next().getRetries()));
+    }
+    if (!wastedJobs.isEmpty()) {
+      metrics.countWastedActivations(batch.getType(), wastedJobs.size());
+      reactivateJobs.accept(wastedJobs, WASTED_ACTIVATION_MSG);
+    }
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return requests.stream().noneMatch(InflightActivateJobsRequest::isOpen);
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    // errors are passed to the coalesced requests individually by the long polling handler
+  }
+
+  private int sendJobs(
+      final InflightActivateJobsRequest<T> request,
+      final JobActivationResponse response,
+      final Iterator<LongValue> jobKeys,
+      final Iterator<JobRecord> jobs,
+      final int capacity) {
+    final JobBatchRecord batch = response.brokerResponse();
+    final JobBatchRecord part =
+        new JobBatchRecord()
+            .setType(batch.getTypeBuffer())
+            .setWorker(batch.getWorkerBuffer())
+            .setTimeout(batch.getTimeout())
+            .setMaxJobsToActivate(capacity);
+    for (int count = 0; count < capacity && jobKeys.hasNext() && jobs.hasNext(); count++) {
+      part.jobKeys().add().setValue(jobKeys.next().getValue());
+      part.jobs().add().wrap(jobs.next());
+    }
+
+    final var result =
+        activationResultMapper.apply(
+            new JobActivationResponse(response.key(), part, response.maxResponseSize()));
+    final var jobsToDefer = result.getJobsToDefer();
+    if (!jobsToDefer.isEmpty()) {
+      reactivateJobs.accept(
+          jobsToDefer,
+          RoundRobinActivateJobsHandler.maxMessageSizeExceeded(response.maxResponseSize()));
+    }
+
+    if (result.getJobsCount() == 0) {
+      return 0;
+    }
+
+    final var sent = request.tryToSendActivatedJobs(result.getActivateJobsResponse());
+    if (!sent.getOrElse(false)) {
+      metrics.countWastedActivations(batch.getType(), result.getJobsCount());
+      reactivateJobs.accept(result.getJobs(), WASTED_ACTIVATION_MSG);
+      return 0;
+    }
+
+    return result.getJobsCount();
+  }
+
+  /** Passes the broker response through as is, such that it can be split among the requests. */
+  static JobActivationResult<JobActivationResponse> passThrough(
+      final JobActivationResponse response) {
+    return new PassThroughResult(response);
+  }
+
+  /**
+   * Identifies requests which can be coalesced: the activated jobs only depend on these properties
+   * of a request, apart from the amount of jobs to activate. This includes the claims of the
+   * caller's authorization, e.g. the tenants it is authorized for, such that jobs are never
+   * activated for one caller on behalf of another.
+   */
+  record Key(
+      String type,
+      String worker,
+      long timeout,
+      List<String> variables,
+      List<String> tenantIds,
+      Map<String, Object> authorization) {
+
+    static Key of(final InflightActivateJobsRequest<?> request) {
+      final JobBatchRecord record = request.getRequest().getRequestWriter();
+      final List<String> variables = new ArrayList<>();
+      for (final StringValue variable : record.variables()) {
+        variables.add(BufferUtil.bufferAsString(variable.getValue()));
+      }
+
+      return new Key(
+          record.getType(),
+          record.getWorker(),
+          record.getTimeout(),
+          variables,
+          record.getTenantIds(),
+          request.getRequest().getAuthorization().toDecodedMap());
+    }
+  }
+
+  private record PassThroughResult(JobActivationResponse response)
+      implements JobActivationResult<JobActivationResponse> {
+
+    @Override
+    public int getJobsCount() {
+      return response.brokerResponse().getJobKeys().size();
+    }
+
+    @Override
+    public List<ActivatedJob> getJobs() {
+      final JobBatchRecord batch = response.brokerResponse();
+      final Iterator<LongValue> jobKeys = batch.jobKeys().iterator();
+      final Iterator<JobRecord> jobs = batch.jobs().iterator();
+      final List<ActivatedJob> activatedJobs = new ArrayList<>();
+      while (jobKeys.hasNext() && jobs.hasNext()) {
+        activatedJobs.add(new ActivatedJob(jobKeys.next().getValue(), jobs.next().getRetries()));
+      }
+      return activatedJobs;
+    }
+
+    @Override
+    public JobActivationResponse getActivateJobsResponse() {
+      return response;
+    }
+
+    @Override
+    public List<ActivatedJob> getJobsToDefer() {
+      return List.of();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Sends a batch of job commands (e.g. complete or fail) to the brokers. The commands are grouped by
+ * the partition of their job, and each partition is sent its commands in windows whose summed value
+ * size stays within a byte budget. All commands of a window are in flight at the same time, and the
+ * partitions are handled in parallel, such that the commands for one partition leave the gateway
+ * together and are written to the same connection back to back.
+ *
+ * <p>A failed or rejected command does not fail the batch; every command yields its own {@link
+ * JobCommandResult}, in the order in which the commands were given.
+ */
+public final class JobBatchCommandSender {
+
+  /** The default byte budget of a window, matching the default maximum message size. */
+  public static final int DEFAULT_MAX_WINDOW_BYTES = 4 * 1024 * 1024;
+
+  /** The maximum number of job commands a single batch request may contain. */
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  private final BrokerClient brokerClient;
+  private final int maxWindowBytes;
+
+  public JobBatchCommandSender(final BrokerClient brokerClient) {
+    this(brokerClient, DEFAULT_MAX_WINDOW_BYTES);
+  }
+
+  public JobBatchCommandSender(final BrokerClient brokerClient, final int maxWindowBytes) {
+    if (maxWindowBytes <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the max window size to be greater than 0, but was " + maxWindowBytes);
+    }
+
+    this.brokerClient = brokerClient;
+    this.maxWindowBytes = maxWindowBytes;
+  }
+
+  /**
+   * Sends the given commands.
+   *
+   * @param commands the commands to send; each must address the job by its key
+   * @return a future which completes once every command has been answered, with one result per
+   *     command in the order of the given commands
+   */
+  public CompletableFuture<List<JobCommandResult>> send(
+      final List<? extends BrokerExecuteCommand<JobRecord>> commands) {
+    final JobCommandResult[] results = new JobCommandResult[commands.size()];
+    final Map<Integer, List<Integer>> commandsByPartition = new HashMap<>();
+    for (int i = 0; i < commands.size(); i++) {
+      commandsByPartition
+          .computeIfAbsent(commands.get(i).getPartitionId(), ignored -> new ArrayList<>())
+          .add(i);
+    }
+
+    final CompletableFuture<?>[] partitions =
+        commandsByPartition.values().stream()
+            .map(indexes -> sendWindows(commands, indexes, 0, results))
+            .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(partitions).thenApply(ignored -> Arrays.asList(results));
+  }
+
+  private CompletableFuture<Void> sendWindows(
+      final List<? extends BrokerExecuteCommand<JobRecord>> commands,
+      final List<Integer> indexes,
+      final int from,
+      final JobCommandResult[] results) {
+    if (from >= indexes.size()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // always send at least one command, even if it alone exceeds the budget
+    int to = from;
+    long windowBytes = 0;
+    while (to < indexes.size()) {
+      final int commandBytes = valueLength(commands.get(indexes.get(to)));
+      if (to > from && windowBytes + commandBytes > maxWindowBytes) {
+        break;
+      }
+      windowBytes += commandBytes;
+      to++;
+    }
+
+    final CompletableFuture<?>[] window = new CompletableFuture[to - from];
+    for (int i = from; i < to; i++) {
+      final int index = indexes.get(i);
+      window[i - from] = send(commands.get(index), index, results);
+    }
+
+    final int next = to;
+    return CompletableFuture.allOf(window)
+        .thenCompose(ignored -> sendWindows(commands, indexes, next, results));
+  }
+
+  private CompletableFuture<Void> send(
+      final BrokerExecuteCommand<JobRecord> command,
+      final int index,
+      final JobCommandResult[] results) {
+    final CompletableFuture<Void> sent = new CompletableFuture<>();
+    final long jobKey = command.getKey();
+    brokerClient.sendRequestWithRetry(
+        command,
+        (key, job) -> {
+          results[index] = JobCommandResult.success(jobKey, job);
+          sent.complete(null);
+        },
+        error -> {
+          results[index] = JobCommandResult.failure(jobKey, unwrap(error));
+          sent.complete(null);
+        });
+    return sent;
+  }
+
+  private static int valueLength(final BrokerExecuteCommand<JobRecord> command) {
+    final JobRecord value = command.getRequestWriter();
+    return value == null ? 0 : value.getLength();
+  }
+
+  private static Throwable unwrap(final Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+
+  /**
+   * The outcome of a single command of a batch.
+   *
+   * @param jobKey the key of the job the command was sent for
+   * @param job the job as returned by the broker, or null if the command failed
+   * @param error the reason the command failed, or null if it succeeded
+   */
+  public record JobCommandResult(long jobKey, JobRecord job, Throwable error) {
+
+    public static JobCommandResult success(final long jobKey, final JobRecord job) {
+      return new JobCommandResult(jobKey, job, null);
+    }
+
+    public static JobCommandResult failure(final long jobKey, final Throwable error) {
+      return new JobCommandResult(jobKey, null, error);
+    }
+
+    public boolean isSuccess() {
+      return error == null;
+    }
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_COALESCING_ENABLED;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
@@ -20,6 +21,9 @@ import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -37,9 +41,13 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
   private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.LONG_POLLING;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
-      "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
+      "Expected to activate jobs of type '%s', but no jobs available and at least one broker"
+          + " returned 'RESOURCE_EXHAUSTED'. Please try again later.";
 
   private final RoundRobinActivateJobsHandler<T> activateJobsHandler;
+  private final RoundRobinActivateJobsHandler<JobActivationResponse> coalescingActivateJobsHandler;
+  private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final boolean coalescingEnabled;
   private final BrokerClient brokerClient;
 
   private final Map<String, InFlightLongPollingActivateJobsRequestsState<T>> jobTypeState =
@@ -60,6 +68,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final long longPollingTimeout,
       final long probeTimeoutMillis,
       final int failedAttemptThreshold,
+      final boolean coalescingEnabled,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
@@ -67,6 +76,14 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
             brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+    coalescingActivateJobsHandler =
+        new RoundRobinActivateJobsHandler<>(
+            brokerClient,
+            maxMessageSize,
+            CoalescedActivateJobsRequest::passThrough,
+            requestCanceledExceptionProvider);
+    this.activationResultMapper = activationResultMapper;
+    this.coalescingEnabled = coalescingEnabled;
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -78,6 +95,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
   public void accept(final ActorControl actor) {
     this.actor = actor;
     activateJobsHandler.accept(actor);
+    coalescingActivateJobsHandler.accept(actor);
     onActorStarted();
   }
 
@@ -310,7 +328,9 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final InFlightLongPollingActivateJobsRequestsState<T> state, final String jobType) {
     final Queue<InflightActivateJobsRequest<T>> pendingRequests = state.getPendingRequests();
 
-    if (!pendingRequests.isEmpty()) {
+    if (coalescingEnabled && pendingRequests.size() > 1) {
+      coalescePendingRequests(pendingRequests);
+    } else if (!pendingRequests.isEmpty()) {
       pendingRequests.forEach(
           nextPendingRequest -> {
             LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
@@ -323,6 +343,101 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     }
   }
 
+  private void coalescePendingRequests(
+      final Queue<InflightActivateJobsRequest<T>> pendingRequests) {
+    final Map<CoalescedActivateJobsRequest.Key, List<InflightActivateJobsRequest<T>>> groups =
+        new LinkedHashMap<>();
+    pendingRequests.forEach(
+        request ->
+            groups
+                .computeIfAbsent(
+                    CoalescedActivateJobsRequest.Key.of(request), key -> new ArrayList<>())
+                .add(request));
+
+    groups.values().forEach(this::internalActivateJobsRetry);
+  }
+
+  private void internalActivateJobsRetry(final List<InflightActivateJobsRequest<T>> requests) {
+    if (requests.size() == 1) {
+      internalActivateJobsRetry(requests.getFirst());
+      return;
+    }
+
+    actor.run(
+        () -> {
+          final String jobType = requests.getFirst().getType();
+          final InFlightLongPollingActivateJobsRequestsState<T> state =
+              jobTypeState.computeIfAbsent(
+                  jobType,
+                  type -> new InFlightLongPollingActivateJobsRequestsState<>(type, metrics));
+
+          if (state.shouldAttempt(failedAttemptThreshold)) {
+            tryToActivateJobsOnAllPartitions(state, requests);
+          } else {
+            requests.forEach(request -> completeOrResubmitRequest(request, false));
+          }
+        });
+  }
+
+  private void tryToActivateJobsOnAllPartitions(
+      final InFlightLongPollingActivateJobsRequestsState<T> state,
+      final List<InflightActivateJobsRequest<T>> requests) {
+    final List<InflightActivateJobsRequest<T>> openRequests =
+        requests.stream().filter(InflightActivateJobsRequest::isOpen).toList();
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    if (topology == null || openRequests.isEmpty()) {
+      return;
+    }
+
+    LOG.trace("Unblocking {} coalesced ActivateJobsRequests", openRequests.size());
+    openRequests.forEach(state::addActiveRequest);
+    final var coalescedRequest =
+        new CoalescedActivateJobsRequest<>(
+            openRequests, activationResultMapper, activateJobsHandler::reactivateJobs, metrics);
+
+    coalescingActivateJobsHandler.activateJobs(
+        topology.getPartitionsCount(),
+        coalescedRequest.toInflightRequest(ACTIVATE_JOBS_REQUEST_ID_GENERATOR.getAndIncrement()),
+        error ->
+            actor.submit(
+                () ->
+                    openRequests.forEach(
+                        request -> {
+                          request.onError(error);
+                          state.removeActiveRequest(request);
+                        })),
+        (remainingAmount, containedResourceExhaustedResponse) ->
+            onCoalescedRequestCompleted(
+                state, coalescedRequest, containedResourceExhaustedResponse));
+  }
+
+  private void onCoalescedRequestCompleted(
+      final InFlightLongPollingActivateJobsRequestsState<T> state,
+      final CoalescedActivateJobsRequest<T> coalescedRequest,
+      final boolean containedResourceExhaustedResponse) {
+    final var requests = coalescedRequest.getRequests();
+    for (int i = 0; i < requests.size(); i++) {
+      if (!coalescedRequest.hasReceivedJobs(i)) {
+        handleNoReceivedJobsFromAllPartitions(
+            state, requests.get(i), containedResourceExhaustedResponse);
+      }
+    }
+
+    if (coalescedRequest.hasReceivedJobs()) {
+      actor.submit(
+          () -> {
+            for (int i = 0; i < requests.size(); i++) {
+              if (coalescedRequest.hasReceivedJobs(i)) {
+                requests.get(i).complete();
+                state.removeActiveRequest(requests.get(i));
+              }
+            }
+            state.resetFailedAttempts();
+            handlePendingRequests(state, requests.getFirst().getType());
+          });
+    }
+  }
+
   private void markRequestAsPending(
       final InFlightLongPollingActivateJobsRequestsState<T> state,
       final InflightActivateJobsRequest<T> request) {
@@ -380,6 +495,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private int minEmptyResponses = DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+    private boolean coalescingEnabled = DEFAULT_LONG_POLLING_COALESCING_ENABLED;
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
@@ -409,6 +525,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setCoalescingEnabled(final boolean coalescingEnabled) {
+      this.coalescingEnabled = coalescingEnabled;
+      return this;
+    }
+
     public Builder<T> setActivationResultMapper(
         final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper) {
       this.activationResultMapper = activationResultMapper;
@@ -435,6 +556,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           longPollingTimeout,
           probeTimeoutMillis,
           minEmptyResponses,
+          coalescingEnabled,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider);
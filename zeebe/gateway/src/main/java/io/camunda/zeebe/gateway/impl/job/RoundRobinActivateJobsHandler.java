@@ -167,7 +167,7 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
           if (!jobsToDefer.isEmpty()) {
             final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
             final var jobType = request.getType();
-            final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
+            final var reason = maxMessageSizeExceeded(maxMessageSize);
 
             logResponseNotSent(jobType, jobKeys, reason);
             reactivateJobs(jobsToDefer, reason);
@@ -213,7 +213,11 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     return errorMessage;
   }
 
-  private void reactivateJobs(final List<ActivatedJob> activateJobs, final String message) {
+  static String maxMessageSizeExceeded(final long maxMessageSize) {
+    return String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
+  }
+
+  void reactivateJobs(final List<ActivatedJob> activateJobs, final String message) {
     if (activateJobs != null) {
       activateJobs.forEach(j -> tryToReactivateJob(j, message));
     }
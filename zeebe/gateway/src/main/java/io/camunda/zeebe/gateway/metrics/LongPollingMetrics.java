@@ -8,7 +8,9 @@
 package io.camunda.zeebe.gateway.metrics;
 
 import io.camunda.zeebe.util.VisibleForTesting;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public final class LongPollingMetrics {
   private static final Gauge REQUESTS_QUEUED_CURRENT =
@@ -19,6 +21,33 @@ public final class LongPollingMetrics {
           .labelNames("type")
           .register();
 
+  private static final Histogram REQUESTS_COALESCED =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("long_polling_coalesced_requests")
+          .help("Number of long polling requests coalesced into a single job activation")
+          .labelNames("type")
+          .buckets(2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
+  private static final Counter ACTIVATIONS_WASTED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_coalesced_wasted_activations_total")
+          .help(
+              "Number of jobs activated for coalesced requests which no request could take, and"
+                  + " which were made activatable again")
+          .labelNames("type")
+          .register();
+
+  public void observeCoalescedRequests(final String type, final int count) {
+    REQUESTS_COALESCED.labels(type).observe(count);
+  }
+
+  public void countWastedActivations(final String type, final int count) {
+    ACTIVATIONS_WASTED.labels(type).inc(count);
+  }
+
   public void setBlockedRequestsCount(final String type, final int count) {
     REQUESTS_QUEUED_CURRENT.labels(type).set(count);
   }
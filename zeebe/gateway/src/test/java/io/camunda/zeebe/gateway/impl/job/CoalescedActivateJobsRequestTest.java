@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.auth.impl.Authorization;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.job.CoalescedActivateJobsRequest.Key;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class CoalescedActivateJobsRequestTest {
+
+  private static final String TYPE = "test";
+  private static final long MAX_RESPONSE_SIZE = 4 * 1024 * 1024;
+
+  private final AtomicLong requestIds = new AtomicLong(1);
+  private final List<ActivatedJob> reactivatedJobs = new ArrayList<>();
+
+  @Test
+  void shouldDistributeJobsAmongRequestsInOrder() {
+    // given
+    final var first = new RecordingObserver();
+    final var second = new RecordingObserver();
+    final var third = new RecordingObserver();
+    final var coalesced =
+        coalesce(
+            newRequest(activateJobs(2), first),
+            newRequest(activateJobs(3), second),
+            newRequest(activateJobs(2), third));
+
+    // when
+    coalesced.onNext(response(1, 2, 3, 4));
+
+    // then
+    assertThat(first.jobKeys()).containsExactly(List.of(1L, 2L));
+    assertThat(second.jobKeys()).containsExactly(List.of(3L, 4L));
+    assertThat(third.jobKeys()).isEmpty();
+    assertThat(coalesced.hasReceivedJobs(0)).isTrue();
+    assertThat(coalesced.hasReceivedJobs(1)).isTrue();
+    assertThat(coalesced.hasReceivedJobs(2)).isFalse();
+    assertThat(reactivatedJobs).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyFillRemainingCapacityOnLaterResponses() {
+    // given
+    final var first = new RecordingObserver();
+    final var second = new RecordingObserver();
+    final var coalesced =
+        coalesce(newRequest(activateJobs(2), first), newRequest(activateJobs(2), second));
+    coalesced.onNext(response(1));
+
+    // when
+    coalesced.onNext(response(2, 3, 4));
+
+    // then
+    assertThat(first.jobKeys()).containsExactly(List.of(1L), List.of(2L));
+    assertThat(second.jobKeys()).containsExactly(List.of(3L, 4L));
+    assertThat(reactivatedJobs).isEmpty();
+  }
+
+  @Test
+  void shouldReactivateJobsWhichNoRequestCanTake() {
+    // given
+    final var closed = new RecordingObserver();
+    final var open = new RecordingObserver();
+    final var closedRequest = newRequest(activateJobs(2), closed);
+    final var coalesced = coalesce(closedRequest, newRequest(activateJobs(2), open));
+    closedRequest.complete();
+
+    // when
+    coalesced.onNext(response(1, 2, 3));
+
+    // then
+    assertThat(closed.jobKeys()).isEmpty();
+    assertThat(open.jobKeys()).containsExactly(List.of(1L, 2L));
+    assertThat(reactivatedJobs).extracting(ActivatedJob::key).containsExactly(3L);
+    assertThat(coalesced.isCancelled()).isFalse();
+  }
+
+  @Test
+  void shouldReactivateJobsOfRequestCanceledByClient() {
+    // given
+    final var canceled = new RecordingObserver();
+    final var coalesced = coalesce(newRequest(activateJobs(2), canceled));
+    canceled.cancelled = true;
+
+    // when
+    coalesced.onNext(response(1, 2));
+
+    // then
+    assertThat(canceled.jobKeys()).isEmpty();
+    assertThat(reactivatedJobs).extracting(ActivatedJob::key).containsExactly(1L, 2L);
+    assertThat(coalesced.isCancelled()).isTrue();
+  }
+
+  @Test
+  void shouldNotCoalesceRequestsOfDifferentTenants() {
+    // given
+    final var request = newRequest(activateJobs(2).setTenantIds(List.of("foo")));
+    final var otherTenant = newRequest(activateJobs(2).setTenantIds(List.of("bar")));
+
+    // then
+    assertThat(Key.of(request)).isNotEqualTo(Key.of(otherTenant));
+  }
+
+  @Test
+  void shouldNotCoalesceRequestsOfDifferentCallers() {
+    // given
+    final var request = newRequest(authorized(activateJobs(2), "foo"));
+    final var sameCaller = newRequest(authorized(activateJobs(3), "foo"));
+    final var otherCaller = newRequest(authorized(activateJobs(2), "foo", "bar"));
+    final var unauthorized = newRequest(activateJobs(2));
+
+    // then
+    assertThat(Key.of(request))
+        .isEqualTo(Key.of(sameCaller))
+        .isNotEqualTo(Key.of(otherCaller))
+        .isNotEqualTo(Key.of(unauthorized));
+  }
+
+  @Test
+  void shouldActivateJobsOnBehalfOfCoalescedCaller() {
+    // given
+    final var coalesced =
+        coalesce(
+            newRequest(authorized(activateJobs(2), "foo")),
+            newRequest(authorized(activateJobs(3), "foo")));
+
+    // when
+    final var brokerRequest = coalesced.toInflightRequest(requestIds.getAndIncrement());
+
+    // then
+    final var authorization = brokerRequest.getRequest().getAuthorization();
+    assertThat(authorization.toDecodedMap())
+        .containsEntry(Authorization.AUTHORIZED_TENANTS, List.of("foo"));
+    assertThat(brokerRequest.getRequest().getRequestWriter().getMaxJobsToActivate()).isEqualTo(5);
+  }
+
+  @SafeVarargs
+  private CoalescedActivateJobsRequest<JobActivationResponse> coalesce(
+      final InflightActivateJobsRequest<JobActivationResponse>... requests) {
+    return new CoalescedActivateJobsRequest<>(
+        List.of(requests),
+        CoalescedActivateJobsRequest::passThrough,
+        (jobs, reason) -> reactivatedJobs.addAll(jobs),
+        new LongPollingMetrics());
+  }
+
+  private InflightActivateJobsRequest<JobActivationResponse> newRequest(
+      final BrokerActivateJobsRequest request) {
+    return newRequest(request, new RecordingObserver());
+  }
+
+  private InflightActivateJobsRequest<JobActivationResponse> newRequest(
+      final BrokerActivateJobsRequest request, final RecordingObserver observer) {
+    return new InflightActivateJobsRequest<>(requestIds.getAndIncrement(), request, observer, 0);
+  }
+
+  private static BrokerActivateJobsRequest activateJobs(final int maxJobsToActivate) {
+    return new BrokerActivateJobsRequest(TYPE)
+        .setWorker("worker")
+        .setTimeout(1000)
+        .setMaxJobsToActivate(maxJobsToActivate);
+  }
+
+  private static BrokerActivateJobsRequest authorized(
+      final BrokerActivateJobsRequest request, final String... authorizedTenants) {
+    request.setAuthorization(
+        Authorization.jwtEncoder()
+            .withClaim(Authorization.AUTHORIZED_TENANTS, List.of(authorizedTenants))
+            .encode());
+    return request;
+  }
+
+  private static JobActivationResponse response(final long... jobKeys) {
+    final var batch = new JobBatchRecord().setType(TYPE).setWorker("worker").setTimeout(1000);
+    for (final long jobKey : jobKeys) {
+      batch.jobKeys().add().setValue(jobKey);
+      batch.jobs().add().setType(TYPE).setRetries(3);
+    }
+    return new JobActivationResponse(1L, batch, MAX_RESPONSE_SIZE);
+  }
+
+  private static final class RecordingObserver implements ResponseObserver<JobActivationResponse> {
+    private final List<JobActivationResponse> responses = new ArrayList<>();
+    private boolean cancelled;
+
+    @Override
+    public void onCompleted() {}
+
+    @Override
+    public void onNext(final JobActivationResponse element) {
+      responses.add(element);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {}
+
+    private List<List<Long>> jobKeys() {
+      return responses.stream().map(response -> response.brokerResponse().getJobKeys()).toList();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.job.JobBatchCommandSender.JobCommandResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+final class JobBatchCommandSenderTest {
+  private static final long REJECTED_KEY = Protocol.encodePartitionId(1, 2);
+
+  @Test
+  void shouldReturnResultPerCommandInOrder() {
+    // given
+    final var brokerClient = new StubbedBrokerClient();
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class, JobBatchCommandSenderTest::completeOrReject);
+    final var sender = new JobBatchCommandSender(brokerClient);
+    final var commands =
+        List.of(
+            completeCommand(Protocol.encodePartitionId(2, 1)),
+            completeCommand(Protocol.encodePartitionId(1, 1)),
+            completeCommand(REJECTED_KEY),
+            completeCommand(Protocol.encodePartitionId(2, 2)));
+
+    // when
+    final List<JobCommandResult> results = sender.send(commands).join();
+
+    // then
+    assertThat(results)
+        .extracting(JobCommandResult::jobKey)
+        .containsExactly(
+            Protocol.encodePartitionId(2, 1),
+            Protocol.encodePartitionId(1, 1),
+            REJECTED_KEY,
+            Protocol.encodePartitionId(2, 2));
+    assertThat(results)
+        .extracting(JobCommandResult::isSuccess)
+        .containsExactly(true, true, false, true);
+    assertThat(results.get(2).error())
+        .isInstanceOf(BrokerRejectionException.class)
+        .hasMessageContaining("not found");
+    assertThat(brokerClient.getBrokerRequests()).hasSize(4);
+  }
+
+  @Test
+  void shouldSendPartitionsInParallelAndWindowsInSequence() {
+    // given - a budget which fits only a single command per window
+    final var brokerClient = mock(BrokerClient.class);
+    final List<PendingCommand> pending = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              pending.add(
+                  new PendingCommand(
+                      invocation.getArgument(0),
+                      invocation.getArgument(1),
+                      invocation.getArgument(2)));
+              return null;
+            })
+        .when(brokerClient)
+        .sendRequestWithRetry(any(), any(BrokerResponseConsumer.class), any());
+    final var sender = new JobBatchCommandSender(brokerClient, 1);
+    final var commands =
+        List.of(
+            completeCommand(Protocol.encodePartitionId(1, 1)),
+            completeCommand(Protocol.encodePartitionId(1, 2)),
+            completeCommand(Protocol.encodePartitionId(2, 1)));
+
+    // when
+    final var result = sender.send(commands);
+
+    // then - the first command of each partition is in flight
+    assertThat(pending)
+        .extracting(command -> command.request().getKey())
+        .containsExactlyInAnyOrder(
+            Protocol.encodePartitionId(1, 1), Protocol.encodePartitionId(2, 1));
+
+    // when - the first window of partition 1 is answered
+    final var first = pending.stream().filter(c -> c.request() == commands.get(0)).findFirst();
+    first.orElseThrow().complete();
+
+    // then - the next window of partition 1 is sent
+    assertThat(pending).extracting(PendingCommand::request).contains(commands.get(1));
+    assertThat(result).isNotDone();
+
+    // when
+    pending.stream()
+        .filter(command -> command.request() != commands.get(0))
+        .toList()
+        .forEach(PendingCommand::complete);
+
+    // then
+    assertThat(result.join()).hasSize(3).allMatch(JobCommandResult::isSuccess);
+  }
+
+  private static BrokerResponse<JobRecord> completeOrReject(
+      final BrokerCompleteJobRequest request) {
+    if (request.getKey() == REJECTED_KEY) {
+      return new BrokerRejectionResponse<>(
+          new BrokerRejection(
+              JobIntent.COMPLETE, REJECTED_KEY, RejectionType.NOT_FOUND, "not found"));
+    }
+    return new BrokerResponse<>(new JobRecord(), request.getPartitionId(), request.getKey());
+  }
+
+  private static BrokerCompleteJobRequest completeCommand(final long key) {
+    return new BrokerCompleteJobRequest(key, MsgPackUtil.asMsgPack("foo", "bar"));
+  }
+
+  private record PendingCommand(
+      BrokerCompleteJobRequest request,
+      BrokerResponseConsumer<JobRecord> responseConsumer,
+      Consumer<Throwable> errorConsumer) {
+
+    void complete() {
+      responseConsumer.accept(request.getKey(), new JobRecord());
+    }
+  }
+}
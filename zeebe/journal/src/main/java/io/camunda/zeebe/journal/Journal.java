@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
 
 public interface Journal extends AutoCloseable {
 
@@ -64,6 +65,17 @@ public interface Journal extends AutoCloseable {
    */
   JournalRecord append(long checksum, byte[] serializedRecord);
 
+  /**
+   * Appends an already serialized journal record, which is copied from the given buffer. This
+   * allows appending records received via replication without copying them into an intermediate
+   * array first. See {@link JournalRecord#serializedRecord()}
+   *
+   * @param checksum checksum of serializedRecord
+   * @param serializedRecord buffer which contains exactly the serialized record
+   * @exception InvalidChecksum if the checksum does not match the checksum of serializedRecord
+   */
+  JournalRecord append(long checksum, DirectBuffer serializedRecord);
+
   /**
    * Delete all records after indexExclusive. After a call to this method, {@link
    * Journal#getLastIndex()} should return indexExclusive.
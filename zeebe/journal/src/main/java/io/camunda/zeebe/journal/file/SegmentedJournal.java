@@ -27,6 +27,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.locks.StampedLock;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -91,6 +92,13 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public JournalRecord append(final long checksum, final DirectBuffer serializedRecord) {
+    try (final var ignored = journalMetrics.observeAppendLatency()) {
+      return writer.append(checksum, serializedRecord);
+    }
+  }
+
   @Override
   public void deleteAfter(final long indexExclusive) {
     journalMetrics.observeSegmentTruncation(
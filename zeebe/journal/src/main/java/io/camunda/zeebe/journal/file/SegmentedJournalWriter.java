@@ -22,6 +22,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.function.Function;
+import org.agrona.DirectBuffer;
 
 final class SegmentedJournalWriter {
   private final SegmentsManager segments;
@@ -65,6 +66,11 @@ final class SegmentedJournalWriter {
         segmentWriter -> segmentWriter.append(checksum, serializedRecord));
   }
 
+  JournalRecord append(final long checksum, final DirectBuffer serializedRecord) {
+    return appendInCurrentSegmentOrNext(
+        segmentWriter -> segmentWriter.append(checksum, serializedRecord));
+  }
+
   /**
    * Tries to append a record using the given inSegmentAppender. If the segment is full, a new
    * segment is created and tries to attempt the record in the new segment.
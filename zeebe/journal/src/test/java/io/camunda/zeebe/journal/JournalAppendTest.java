@@ -340,6 +340,75 @@ final class JournalAppendTest {
     }
   }
 
+  @Test
+  void shouldAppendSerializedJournalRecordFromBuffer() {
+    // given
+    try (final var receiverJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      journal.append(10, recordDataWriter);
+      final var recordToWrite = journal.openReader().next();
+
+      // when - the record is appended straight from the buffer of the other journal
+      receiverJournal.append(recordToWrite.checksum(), recordToWrite.serializedRecord());
+
+      // then
+      final var reader = receiverJournal.openReader();
+      assertThat(reader.hasNext()).isTrue();
+      final var actual = reader.next();
+      assertThat(recordToWrite).isEqualTo(actual);
+    }
+  }
+
+  @Test
+  void shouldAppendSerializedJournalRecordFromBufferSlice() {
+    // given
+    try (final var receiverJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var expected = journal.append(10, recordDataWriter);
+      final byte[] serializedRecord = getSerializedBytes(expected);
+      final byte[] message = new byte[serializedRecord.length + 16];
+      System.arraycopy(serializedRecord, 0, message, 8, serializedRecord.length);
+
+      // when
+      receiverJournal.append(
+          expected.checksum(), new UnsafeBuffer(message, 8, serializedRecord.length));
+
+      // then
+      final var reader = receiverJournal.openReader();
+      assertThat(reader.hasNext()).isTrue();
+      final var actual = reader.next();
+      assertThat(expected).isEqualTo(actual);
+    }
+  }
+
+  @Test
+  void shouldNotAppendSerializedRecordFromBufferWithInvalidChecksum() {
+    // given
+    try (final var receiverJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var record = journal.append(recordDataWriter);
+
+      // when/then
+      assertThatException()
+          .isThrownBy(
+              () -> receiverJournal.append(record.checksum() - 1, record.serializedRecord()))
+          .isInstanceOf(InvalidChecksum.class);
+      assertThat(receiverJournal.isEmpty()).isTrue();
+    }
+  }
+
   private static byte[] getSerializedBytes(final JournalRecord record) {
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
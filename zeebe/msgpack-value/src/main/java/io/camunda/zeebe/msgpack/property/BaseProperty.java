@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +23,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  private final DirectBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private MsgPackReader encodedValueReader;
+  private boolean isDecoded = true;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -45,6 +51,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   @Override
   public void reset() {
     isSet = false;
+    isDecoded = true;
+    encodedValue.wrap(0, 0);
     value.reset();
   }
 
@@ -58,6 +66,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
+      ensureDecoded();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -68,6 +77,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (!isDecoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +89,66 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Reads the property like {@link #read(MsgPackReader)}, except for properties that {@link
+   * #supportsLazyDecoding() support lazy decoding}: of those, the encoded value is only located, and
+   * decoded the first time the value is accessed. As long as it isn't accessed, the encoded value is
+   * written back verbatim.
+   *
+   * <p>The encoded value is not copied, so the read buffer must not be modified until the property
+   * is reset, just like for the values which reference the read buffer after decoding (e.g. strings).
+   */
+  public void readLazily(final MsgPackReader reader) {
+    if (!supportsLazyDecoding()) {
+      read(reader);
+      return;
+    }
+
+    final int offset = reader.getOffset();
+    reader.skipValue();
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isDecoded = false;
+    set();
+  }
+
+  /**
+   * @return true if decoding the value is considerably more expensive than skipping it, e.g. for
+   *     nested objects and arrays, such that {@link #readLazily(MsgPackReader)} should only locate
+   *     the value
+   */
+  protected boolean supportsLazyDecoding() {
+    return false;
+  }
+
+  /**
+   * Decodes the value if it was only located by {@link #readLazily(MsgPackReader)}. Must be called
+   * before accessing {@link #value} directly instead of through {@link #resolveValue()}.
+   */
+  protected final void ensureDecoded() {
+    if (isDecoded) {
+      return;
+    }
+
+    if (encodedValueReader == null) {
+      encodedValueReader = new MsgPackReader();
+    }
+
+    encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+    try {
+      value.read(encodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(key, e);
+    }
+    isDecoded = true;
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (!isDecoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +175,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    ensureDecoded();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -126,6 +199,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
+    ensureDecoded();
     builder.append(value.toString());
     return builder.toString();
   }
@@ -14,6 +14,11 @@ public final class ObjectProperty<T extends ObjectValue> extends BaseProperty<T>
     super(key, objectValue, objectValue);
   }
 
+  @Override
+  protected boolean supportsLazyDecoding() {
+    return true;
+  }
+
   public T getValue() {
     return resolveValue();
   }
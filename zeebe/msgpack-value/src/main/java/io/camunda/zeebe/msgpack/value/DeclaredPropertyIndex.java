@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * Maps the keys of the declared properties of an object to their position, using an open
+ * addressing hash table over the key bytes. Looking up a key costs hashing its bytes and usually a
+ * single key comparison, instead of comparing it against every declared key.
+ *
+ * <p>The index is immutable; it must be rebuilt when further properties are declared.
+ */
+final class DeclaredPropertyIndex {
+  private static final int NO_PROPERTY = -1;
+
+  private final List<BaseProperty<? extends BaseValue>> properties;
+  private final int[] slots;
+  private final int mask;
+
+  DeclaredPropertyIndex(final List<BaseProperty<? extends BaseValue>> properties) {
+    this.properties = properties;
+
+    // keep the load factor at or below 0.5, such that probe sequences stay short
+    final int capacity = Integer.highestOneBit(Math.max(1, properties.size()) * 2) << 1;
+    slots = new int[capacity];
+    mask = capacity - 1;
+
+    Arrays.fill(slots, NO_PROPERTY);
+    for (int i = 0; i < properties.size(); i++) {
+      final StringValue key = properties.get(i).getKey();
+      int slot = hash(key) & mask;
+      while (slots[slot] != NO_PROPERTY) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = i;
+    }
+  }
+
+  /**
+   * @return the position of the declared property with the given key, or -1 if there is none
+   */
+  int indexOf(final StringValue key) {
+    int slot = hash(key) & mask;
+    int index;
+    while ((index = slots[slot]) != NO_PROPERTY) {
+      if (properties.get(index).getKey().equals(key)) {
+        return index;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return NO_PROPERTY;
+  }
+
+  private static int hash(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+
+    // spread the higher bits, as the table is indexed by the lower bits only
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -21,6 +21,8 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
+  private DeclaredPropertyIndex declaredPropertyIndex;
+  private boolean lazyDecoding;
 
   /**
    * Creates a new ObjectValue
@@ -34,6 +36,20 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    declaredPropertyIndex = null;
+    return this;
+  }
+
+  /**
+   * Enables or disables lazy decoding. When enabled, reading the object only locates the values of
+   * nested objects and arrays, which are then decoded the first time they're accessed. Values which
+   * are never accessed are not decoded at all, and written back verbatim. This pays off when only a
+   * few properties of a read object are accessed, e.g. when most read objects are filtered out.
+   *
+   * @see BaseProperty#readLazily(MsgPackReader)
+   */
+  public ObjectValue setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
     return this;
   }
 
@@ -93,31 +109,49 @@ public class ObjectValue extends BaseValue {
     write(writer, undeclaredProperties);
   }
 
+  /**
+   * Reads the properties of the object. The declared property for a decoded key is looked up in two
+   * steps: as {@link #write(MsgPackWriter)} writes the declared properties in order of declaration,
+   * the key is first compared with the property following the previously read one. Only if that
+   * fails, e.g. for documents written by clients, the key is looked up in the {@link
+   * DeclaredPropertyIndex}.
+   */
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    final int declaredPropertiesCount = declaredProperties.size();
+    int expectedPropertyIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
+      if (expectedPropertyIndex < declaredPropertiesCount) {
+        final BaseProperty<? extends BaseValue> expectedProperty =
+            declaredProperties.get(expectedPropertyIndex);
+        if (expectedProperty.getKey().equals(decodedKey)) {
+          prop = expectedProperty;
+          expectedPropertyIndex++;
         }
       }
 
       if (prop == null) {
-        prop = newUndeclaredProperty(decodedKey);
+        final int propertyIndex = getDeclaredPropertyIndex().indexOf(decodedKey);
+        if (propertyIndex >= 0) {
+          prop = declaredProperties.get(propertyIndex);
+          expectedPropertyIndex = propertyIndex + 1;
+        } else {
+          prop = newUndeclaredProperty(decodedKey);
+        }
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -133,6 +167,14 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private DeclaredPropertyIndex getDeclaredPropertyIndex() {
+    if (declaredPropertyIndex == null) {
+      declaredPropertyIndex = new DeclaredPropertyIndex(declaredProperties);
+    }
+
+    return declaredPropertyIndex;
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
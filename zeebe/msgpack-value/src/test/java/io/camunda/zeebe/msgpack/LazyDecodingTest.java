@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.ObjectProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class LazyDecodingTest {
+
+  @Test
+  void shouldDecodeValuesOnAccess() {
+    // given
+    final var written = new LazyPOJO();
+    written.setLong(1L);
+    written.nested().setLong(2L);
+    written.array().add().setLongProp(3L);
+    written.array().add().setLongProp(4L);
+
+    // when
+    final var read = new LazyPOJO();
+    read.setLazyDecoding(true);
+    read.wrap(serialize(written));
+
+    // then
+    assertThat(read.getLong()).isEqualTo(1L);
+    assertThat(read.nested().getLong()).isEqualTo(2L);
+    assertThat(read.array().stream().map(MinimalPOJO::getLongProp)).containsExactly(3L, 4L);
+    assertThat(read).isEqualTo(written);
+  }
+
+  @Test
+  void shouldWriteUndecodedValuesVerbatim() {
+    // given
+    final var written = new LazyPOJO();
+    written.setLong(1L);
+    written.nested().setLong(2L);
+    written.array().add().setLongProp(3L);
+    final var serialized = serialize(written);
+
+    final var read = new LazyPOJO();
+    read.setLazyDecoding(true);
+    read.wrap(serialized);
+
+    // when
+    final var reserialized = serialize(read);
+
+    // then
+    assertThat(reserialized).isEqualTo(serialized);
+    assertThat(read.getLength()).isEqualTo(serialized.capacity());
+  }
+
+  @Test
+  void shouldAddToLazilyReadArray() {
+    // given
+    final var written = new LazyPOJO();
+    written.array().add().setLongProp(3L);
+
+    final var read = new LazyPOJO();
+    read.setLazyDecoding(true);
+    read.wrap(serialize(written));
+
+    // when
+    read.array().add().setLongProp(4L);
+
+    // then
+    final var result = new LazyPOJO();
+    result.wrap(serialize(read));
+    assertThat(result.array().stream().map(MinimalPOJO::getLongProp)).containsExactly(3L, 4L);
+  }
+
+  @Test
+  void shouldModifyLazilyReadObject() {
+    // given
+    final var written = new LazyPOJO();
+    written.nested().setLong(2L);
+
+    final var read = new LazyPOJO();
+    read.setLazyDecoding(true);
+    read.wrap(serialize(written));
+
+    // when
+    read.nested().setLong(5L);
+
+    // then
+    final var result = new LazyPOJO();
+    result.wrap(serialize(read));
+    assertThat(result.nested().getLong()).isEqualTo(5L);
+  }
+
+  @Test
+  void shouldNotKeepUndecodedValuesAfterReset() {
+    // given
+    final var written = new LazyPOJO();
+    written.nested().setLong(2L);
+    written.array().add().setLongProp(3L);
+
+    final var read = new LazyPOJO();
+    read.setLazyDecoding(true);
+    read.wrap(serialize(written));
+
+    // when
+    read.reset();
+
+    // then
+    assertThat(read.nested().getLong()).isEqualTo(-1L);
+    assertThat(read.array().isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldFailOnAccessOfInvalidValue() {
+    // given - an array where an object is expected
+    final var buffer = new UnsafeBuffer(new byte[64]);
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(1);
+    writer.writeString(BufferUtil.wrapString("nested"));
+    writer.writeArrayHeader(0);
+
+    final var read = new LazyPOJO();
+    read.setLazyDecoding(true);
+    read.wrap(buffer, 0, writer.getOffset());
+
+    // when - then
+    assertThatThrownBy(() -> read.nested().getLong())
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("nested");
+  }
+
+  private static DirectBuffer serialize(final UnpackedObject object) {
+    final var buffer = new UnsafeBuffer(new byte[object.getLength()]);
+    object.write(buffer, 0);
+    return buffer;
+  }
+
+  private static final class LazyPOJO extends UnpackedObject {
+    private final LongProperty longProp = new LongProperty("long", -1L);
+    private final ObjectProperty<POJONested> nestedProp =
+        new ObjectProperty<>("nested", new POJONested());
+    private final ArrayProperty<MinimalPOJO> arrayProp =
+        new ArrayProperty<>("array", MinimalPOJO::new);
+
+    private LazyPOJO() {
+      super(3);
+      declareProperty(longProp).declareProperty(nestedProp).declareProperty(arrayProp);
+    }
+
+    private long getLong() {
+      return longProp.getValue();
+    }
+
+    private void setLong(final long value) {
+      longProp.setValue(value);
+    }
+
+    private POJONested nested() {
+      return nestedProp.getValue();
+    }
+
+    private ArrayProperty<MinimalPOJO> array() {
+      return arrayProp;
+    }
+  }
+}
@@ -387,4 +387,85 @@ public final class ObjectMappingTest {
     assertThatBuffer(pojo.getString()).hasBytes(BUF1);
     assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
   }
+
+  @Test
+  public void shouldDeserializeSerializedPOJO() {
+    // given - the properties are written in order of declaration
+    final POJO pojo = new POJO();
+    pojo.setEnum(POJOEnum.BAR);
+    pojo.setLong(456456L);
+    pojo.setInt(123);
+    pojo.setString(BUF1);
+    pojo.setBinary(BUF2);
+    pojo.setPacked(MSGPACK_BUF1);
+    pojo.nestedObject().setLong(24L);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(buffer, 0);
+
+    // when
+    final POJO readPojo = new POJO();
+    readPojo.wrap(buffer);
+
+    // then
+    assertThat(readPojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(readPojo.getLong()).isEqualTo(456456L);
+    assertThat(readPojo.getInt()).isEqualTo(123);
+    assertThatBuffer(readPojo.getString()).hasBytes(BUF1);
+    assertThatBuffer(readPojo.getBinary()).hasBytes(BUF2);
+    assertThatBuffer(readPojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThat(readPojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldDeserializePOJOWithUndeclaredPropertiesInBetween() {
+    // given
+    final POJO pojo = new POJO();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(9);
+
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.BAR.toString()));
+
+              w.writeString(wrapString("undeclaredProp"));
+              w.writeInteger(1L);
+
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(88888L);
+
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(MSGPACK_BUF1);
+
+              w.writeString(wrapString("stringProp"));
+              w.writeString(BUF2);
+
+              w.writeString(wrapString("longPro"));
+              w.writeInteger(2L);
+
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(MSGPACK_BUF1);
+
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BUF1);
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
+    assertThat(pojo.getLength()).isEqualTo(buffer.capacity());
+  }
 }
@@ -156,6 +156,27 @@ public final class MsgPackConverter {
     }
   }
 
+  /**
+   * Writes the given MessagePack document as JSON to the given generator, copying it token by token
+   * instead of converting it to objects first. The JSON is the same as that of the document's map.
+   *
+   * @param msgPack the document, e.g. the variables of a record
+   * @param generator the generator to write to, e.g. in the middle of serializing a record
+   * @throws IOException if the document cannot be read or written
+   */
+  public static void writeJson(final DirectBuffer msgPack, final JsonGenerator generator)
+      throws IOException {
+    // read array-backed buffers in place, and copy the others, e.g. direct ones
+    final byte[] array = msgPack.byteArray();
+    try (final JsonParser parser =
+        array != null
+            ? MESSAGE_PACK_FACTORY.createParser(array, msgPack.wrapAdjustment(), msgPack.capacity())
+            : MESSAGE_PACK_FACTORY.createParser(BufferUtil.bufferAsArray(msgPack))) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////////////////////////////////
   ///////////////////////////////////// MSGPACK to MAP ///////////////////////////////////////////
   ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+
+/**
+ * Serializes a MessagePack document, e.g. the variables of a record value, straight from its buffer
+ * into JSON, see {@link MsgPackConverter#writeJson(DirectBuffer, JsonGenerator)}. Record values use
+ * it for their document properties, such that serializing them with Jackson, as the exporters do,
+ * writes the same JSON as their map getters would, without converting the documents to maps.
+ */
+public final class MsgPackDocumentSerializer extends StdSerializer<DirectBuffer> {
+
+  public MsgPackDocumentSerializer() {
+    super(DirectBuffer.class);
+  }
+
+  @Override
+  public void serialize(
+      final DirectBuffer value, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    MsgPackConverter.writeJson(value, generator);
+  }
+}
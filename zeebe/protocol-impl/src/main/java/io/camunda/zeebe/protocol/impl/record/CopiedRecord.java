@@ -10,6 +10,7 @@ package io.camunda.zeebe.protocol.impl.record;
 import io.camunda.zeebe.protocol.impl.encoding.AuthInfo;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordDerivation;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -36,6 +37,9 @@ public final class CopiedRecord<T extends UnifiedRecordValue> implements Record<
   private final int recordVersion;
   private final long operationReference;
 
+  // allocated on the first derivation, as most records are not derived
+  private RecordDerivationCache derivationCache;
+
   public CopiedRecord(
       final T recordValue,
       final RecordMetadata metadata,
@@ -172,6 +176,14 @@ public final class CopiedRecord<T extends UnifiedRecordValue> implements Record<
     return operationReference;
   }
 
+  @Override
+  public <D> D getDerived(final RecordDerivation<D> derivation) {
+    if (derivationCache == null) {
+      derivationCache = new RecordDerivationCache();
+    }
+    return derivationCache.getOrDerive(derivation, this);
+  }
+
   @Override
   public Record<T> copyOf() {
     return new CopiedRecord<>(this);
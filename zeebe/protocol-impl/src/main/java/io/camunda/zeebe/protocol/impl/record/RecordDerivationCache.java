@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordDerivation;
+import java.util.Arrays;
+
+/**
+ * Caches the forms derived from a record, keyed by the identity of their {@link RecordDerivation}.
+ * A record is usually derived into a few forms only, so the forms are kept in small arrays which
+ * are scanned linearly; this keeps looking up a form and clearing the cache for the next record
+ * cheap, without allocating per record.
+ *
+ * <p>Not thread-safe, like the records which use it.
+ */
+public final class RecordDerivationCache {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private RecordDerivation<?>[] derivations = new RecordDerivation<?>[INITIAL_CAPACITY];
+  private Object[] forms = new Object[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Returns the form of the record which was derived before by the given derivation, or derives and
+   * caches it otherwise.
+   */
+  @SuppressWarnings("unchecked")
+  public <D> D getOrDerive(final RecordDerivation<D> derivation, final Record<?> record) {
+    for (int i = 0; i < size; i++) {
+      if (derivations[i] == derivation) {
+        return (D) forms[i];
+      }
+    }
+
+    // deriving a form may derive other forms of the same record, so only add it afterwards
+    final D form = derivation.derive(record);
+    if (size == derivations.length) {
+      derivations = Arrays.copyOf(derivations, size * 2);
+      forms = Arrays.copyOf(forms, size * 2);
+    }
+    derivations[size] = derivation;
+    forms[size] = form;
+    size++;
+    return form;
+  }
+
+  /** Removes all forms, e.g. once the record is wrapped around another one. */
+  public void clear() {
+    Arrays.fill(derivations, 0, size, null);
+    Arrays.fill(forms, 0, size, null);
+    size = 0;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+class MsgPackConverterTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String DOCUMENT =
+      """
+      {"string":"foo","int":1,"long":9007199254740993,"double":1.5,"boolean":true,"null":null,
+      "array":[1,"two",{"three":3}],"object":{"nested":{}}}""";
+  private static final byte[] MSGPACK = MsgPackConverter.convertToMsgPack(DOCUMENT);
+
+  @Test
+  void shouldWriteDocumentAsJson() throws IOException {
+    // given
+    final var msgPack = new UnsafeBuffer(MSGPACK);
+
+    // when
+    final var json = writeJson(msgPack);
+
+    // then
+    assertThat(MAPPER.readTree(json)).isEqualTo(MAPPER.readTree(DOCUMENT));
+    assertThat(MAPPER.readTree(json))
+        .isEqualTo(MAPPER.valueToTree(MsgPackConverter.convertToMap(msgPack)));
+  }
+
+  @Test
+  void shouldWriteDocumentAtOffsetAsJson() throws IOException {
+    // given
+    final var bytes = new byte[MSGPACK.length + 10];
+    System.arraycopy(MSGPACK, 0, bytes, 5, MSGPACK.length);
+    final var msgPack = new UnsafeBuffer(bytes, 5, MSGPACK.length);
+
+    // when
+    final var json = writeJson(msgPack);
+
+    // then
+    assertThat(MAPPER.readTree(json)).isEqualTo(MAPPER.readTree(DOCUMENT));
+  }
+
+  @Test
+  void shouldWriteDocumentOfDirectBufferAsJson() throws IOException {
+    // given
+    final var msgPack = new UnsafeBuffer(ByteBuffer.allocateDirect(MSGPACK.length));
+    msgPack.putBytes(0, MSGPACK);
+
+    // when
+    final var json = writeJson(msgPack);
+
+    // then
+    assertThat(MAPPER.readTree(json)).isEqualTo(MAPPER.readTree(DOCUMENT));
+  }
+
+  @Test
+  void shouldSerializeRecordVariablesLikeTheirMap() throws IOException {
+    // given
+    final var record = new JobRecord().setVariables(new UnsafeBuffer(MSGPACK));
+
+    // when
+    final var json = MAPPER.readTree(MAPPER.writeValueAsBytes(record));
+
+    // then
+    assertThat(json.get("variables")).isEqualTo(MAPPER.valueToTree(record.getVariables()));
+    assertThat(json.has("variablesBuffer")).isFalse();
+  }
+
+  private static String writeJson(final DirectBuffer msgPack) throws IOException {
+    final var writer = new StringWriter();
+    try (final var generator = MAPPER.getFactory().createGenerator(writer)) {
+      MsgPackConverter.writeJson(msgPack, generator);
+    }
+    return writer.toString();
+  }
+}
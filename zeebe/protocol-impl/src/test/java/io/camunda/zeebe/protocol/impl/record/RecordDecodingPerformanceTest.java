@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the most frequently read record values are decoded. Each benchmark reads a
+ * record, which was serialized by the record itself, into a reused instance, like the engine and
+ * the exporters do.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RecordDecodingPerformanceTest {
+  private static final DirectBuffer VARIABLES =
+      new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"orderId\":\"order-1\",\"total\":99}"));
+
+  private final JobRecord jobRecord = new JobRecord();
+  private final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+  private final VariableDocumentRecord variableDocumentRecord = new VariableDocumentRecord();
+
+  private DirectBuffer serializedJobRecord;
+  private DirectBuffer serializedProcessInstanceRecord;
+  private DirectBuffer serializedVariableDocumentRecord;
+
+  @Setup
+  public void setup() {
+    serializedJobRecord =
+        serialize(
+            new JobRecord()
+                .setType("payment")
+                .setWorker("payment-worker")
+                .setRetries(3)
+                .setDeadline(1_000L)
+                .setBpmnProcessId("order-process")
+                .setProcessDefinitionKey(1L)
+                .setProcessDefinitionVersion(1)
+                .setProcessInstanceKey(2L)
+                .setElementId("charge-payment")
+                .setElementInstanceKey(3L)
+                .setVariables(VARIABLES));
+    serializedProcessInstanceRecord =
+        serialize(
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("order-process")
+                .setVersion(1)
+                .setProcessDefinitionKey(1L)
+                .setProcessInstanceKey(2L)
+                .setElementId("charge-payment")
+                .setFlowScopeKey(2L)
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+                .setBpmnEventType(BpmnEventType.UNSPECIFIED));
+    serializedVariableDocumentRecord =
+        serialize(
+            new VariableDocumentRecord()
+                .setScopeKey(2L)
+                .setUpdateSemantics(VariableDocumentUpdateSemantic.PROPAGATE)
+                .setVariables(VARIABLES));
+  }
+
+  @JMHTest("decodeJobRecord")
+  void shouldDecodeJobRecordWithinDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 1_000.0;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @Benchmark
+  public JobRecord decodeJobRecord() {
+    jobRecord.wrap(serializedJobRecord);
+    return jobRecord;
+  }
+
+  @Benchmark
+  public ProcessInstanceRecord decodeProcessInstanceRecord() {
+    processInstanceRecord.wrap(serializedProcessInstanceRecord);
+    return processInstanceRecord;
+  }
+
+  @Benchmark
+  public VariableDocumentRecord decodeVariableDocumentRecord() {
+    variableDocumentRecord.wrap(serializedVariableDocumentRecord);
+    return variableDocumentRecord;
+  }
+
+  private static DirectBuffer serialize(final UnpackedObject record) {
+    final var buffer = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(buffer, 0);
+    return buffer;
+  }
+}
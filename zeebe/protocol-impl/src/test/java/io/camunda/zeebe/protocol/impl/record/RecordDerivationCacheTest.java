@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordDerivation;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class RecordDerivationCacheTest {
+
+  private final AtomicInteger derivations = new AtomicInteger();
+  private final RecordDerivation<String> typeDerivation =
+      RecordDerivation.of(
+          "type",
+          record -> {
+            derivations.incrementAndGet();
+            return ((JobRecord) record.getValue()).getType();
+          });
+
+  @Test
+  void shouldDeriveFormOnlyOnce() {
+    // given
+    final var record = jobRecord("foo");
+
+    // when
+    final var first = record.getDerived(typeDerivation);
+    final var second = record.getDerived(typeDerivation);
+
+    // then
+    assertThat(first).isEqualTo("foo").isSameAs(second);
+    assertThat(derivations).hasValue(1);
+  }
+
+  @Test
+  void shouldCacheFormsPerDerivation() {
+    // given
+    final var record = jobRecord("foo");
+    final var otherDerivation = RecordDerivation.of("key", r -> r.getKey());
+
+    // when
+    record.getDerived(typeDerivation);
+    final var key = record.getDerived(otherDerivation);
+
+    // then
+    assertThat(key).isEqualTo(1L);
+    assertThat(record.getDerived(typeDerivation)).isEqualTo("foo");
+    assertThat(derivations).hasValue(1);
+  }
+
+  @Test
+  void shouldDeriveFormsUsingOtherForms() {
+    // given
+    final var record = jobRecord("foo");
+    final var upperCaseDerivation =
+        RecordDerivation.of("upperCase", r -> r.getDerived(typeDerivation).toUpperCase());
+
+    // when
+    final var upperCase = record.getDerived(upperCaseDerivation);
+
+    // then
+    assertThat(upperCase).isEqualTo("FOO");
+    assertThat(record.getDerived(typeDerivation)).isEqualTo("foo");
+    assertThat(derivations).hasValue(1);
+  }
+
+  @Test
+  void shouldDeriveFormsAgainOnceCleared() {
+    // given
+    final var cache = new RecordDerivationCache();
+    final var record = jobRecord("foo");
+    cache.getOrDerive(typeDerivation, record);
+
+    // when
+    cache.clear();
+    cache.getOrDerive(typeDerivation, jobRecord("bar"));
+
+    // then
+    assertThat(cache.getOrDerive(typeDerivation, record)).isEqualTo("bar");
+    assertThat(derivations).hasValue(2);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final var record = jobRecord("foo");
+    final var keyDerivations =
+        IntStream.range(0, 10)
+            .mapToObj(i -> RecordDerivation.of("key" + i, r -> r.getKey() + i))
+            .toList();
+
+    // when
+    keyDerivations.forEach(record::getDerived);
+
+    // then
+    for (int i = 0; i < keyDerivations.size(); i++) {
+      assertThat(record.getDerived(keyDerivations.get(i))).isEqualTo(1L + i);
+    }
+  }
+
+  private static CopiedRecord<JobRecord> jobRecord(final String type) {
+    final var metadata = new RecordMetadata().valueType(ValueType.JOB).intent(JobIntent.CREATED);
+    return new CopiedRecord<>(new JobRecord().setType(type), metadata, 1L, 1, 1L, -1L, 0L);
+  }
+}
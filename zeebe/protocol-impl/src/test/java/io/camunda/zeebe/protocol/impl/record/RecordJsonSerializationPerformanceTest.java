@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast record values with variables are serialized to JSON through their getters, as
+ * the search exporters do. The variables are copied from their MessagePack encoding into the JSON.
+ * Besides the records per second, the {@code bytes} counter reports the serialized bytes per
+ * second. Run it with the {@code gc} profiler (e.g. {@code -prof gc}) to report the allocation rate
+ * as well.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RecordJsonSerializationPerformanceTest {
+  private static final DirectBuffer VARIABLES =
+      new UnsafeBuffer(
+          MsgPackConverter.convertToMsgPack(
+              """
+              {"orderId":"order-1","total":99.5,"express":true,"customer":{"id":42,
+              "name":"Jane Doe","address":{"city":"Berlin","zip":"10115"}},
+              "items":[{"sku":"A-1","quantity":2},{"sku":"B-2","quantity":1}]}"""));
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final JobRecord jobRecord = new JobRecord();
+  private final VariableDocumentRecord variableDocumentRecord = new VariableDocumentRecord();
+
+  @Setup
+  public void setup() {
+    jobRecord
+        .setType("payment")
+        .setWorker("payment-worker")
+        .setRetries(3)
+        .setDeadline(1_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(1L)
+        .setProcessDefinitionVersion(1)
+        .setProcessInstanceKey(2L)
+        .setElementId("charge-payment")
+        .setElementInstanceKey(3L)
+        .setVariables(VARIABLES);
+    variableDocumentRecord
+        .setScopeKey(2L)
+        .setUpdateSemantics(VariableDocumentUpdateSemantic.PROPAGATE)
+        .setVariables(VARIABLES);
+  }
+
+  @Benchmark
+  public byte[] serializeJobRecord(final SerializedBytes serializedBytes)
+      throws JsonProcessingException {
+    return serialize(jobRecord, serializedBytes);
+  }
+
+  @Benchmark
+  public byte[] serializeVariableDocumentRecord(final SerializedBytes serializedBytes)
+      throws JsonProcessingException {
+    return serialize(variableDocumentRecord, serializedBytes);
+  }
+
+  private byte[] serialize(final Object value, final SerializedBytes serializedBytes)
+      throws JsonProcessingException {
+    final var json = mapper.writeValueAsBytes(value);
+    serializedBytes.bytes += json.length;
+    return json;
+  }
+
+  /** Counts the serialized bytes, which JMH reports as a rate next to the benchmark score. */
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class SerializedBytes {
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+    }
+  }
+}
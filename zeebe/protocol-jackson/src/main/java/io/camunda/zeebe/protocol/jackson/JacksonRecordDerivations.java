@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordDerivation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Derivations of records through Jackson, which exporters can share through {@link
+ * Record#getDerived(RecordDerivation)}.
+ */
+public final class JacksonRecordDerivations {
+
+  /**
+   * The record serialized through its getters by a plain {@link ObjectMapper}, as UTF-8 encoded
+   * JSON. This is the document the search exporters index, apart from the properties they append.
+   */
+  public static final RecordDerivation<byte[]> JSON_BYTES =
+      RecordDerivation.of("jacksonJsonBytes", JacksonRecordDerivations::serialize);
+
+  /**
+   * An immutable copy of the record, read from its {@link #JSON_BYTES} through the {@link
+   * ZeebeProtocolModule}. Unlike the record itself, it can be kept after exporting it, and used by
+   * other threads.
+   */
+  public static final RecordDerivation<Record<?>> IMMUTABLE_RECORD =
+      RecordDerivation.of("immutableRecord", JacksonRecordDerivations::deserialize);
+
+  private static final ObjectMapper SERIALIZER = new ObjectMapper();
+  private static final ObjectMapper DESERIALIZER =
+      new ObjectMapper().registerModule(new ZeebeProtocolModule());
+
+  private JacksonRecordDerivations() {}
+
+  private static byte[] serialize(final Record<?> record) {
+    try {
+      return SERIALIZER.writeValueAsBytes(record);
+    } catch (final JsonProcessingException e) {
+      throw new UncheckedIOException("Failed to serialize record " + record.getPosition(), e);
+    }
+  }
+
+  private static Record<?> deserialize(final Record<?> record) {
+    try {
+      return DESERIALIZER.readValue(record.getDerived(JSON_BYTES), Record.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to deserialize record " + record.getPosition(), e);
+    }
+  }
+}
@@ -137,6 +137,18 @@ public interface Record<T extends RecordValue> extends JsonSerializable {
    */
   long getOperationReference();
 
+  /**
+   * Returns a form derived from this record, e.g. its JSON representation. Implementations may
+   * cache the derived forms, such that a form which is requested again, e.g. by another exporter,
+   * is not derived again. By default, the form is derived on every call.
+   *
+   * @param derivation derives the form from this record
+   * @return the derived form, which must not be modified
+   */
+  default <D> D getDerived(final RecordDerivation<D> derivation) {
+    return derivation.derive(this);
+  }
+
   /**
    * Creates a deep copy of the current record. Can be used to collect records.
    *
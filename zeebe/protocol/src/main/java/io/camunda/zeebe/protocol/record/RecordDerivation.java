@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.protocol.record;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Derives a form of a record, e.g. its JSON representation, which is requested through {@link
+ * Record#getDerived(RecordDerivation)}.
+ *
+ * <p>When a record is exported to several exporters, the broker caches the derived forms of the
+ * record, such that only the first exporter which requests a form pays for deriving it. The cache
+ * is keyed by the identity of the derivation, so exporters share a form by using the same instance,
+ * e.g. {@link #JSON}; derivations should therefore be constants. When the broker exports in
+ * parallel, every exporter reads the log on its own, and so derives its own forms; they are then
+ * only shared across retries of the same record.
+ *
+ * <p>The derived forms are shared between exporters, and must not be modified.
+ *
+ * @param <D> the type of the derived form
+ */
+public final class RecordDerivation<D> {
+
+  /** The JSON representation of the record, as returned by {@link Record#toJson()}. */
+  public static final RecordDerivation<String> JSON = of("json", Record::toJson);
+
+  private final String name;
+  private final Function<Record<?>, D> function;
+
+  private RecordDerivation(final String name, final Function<Record<?>, D> function) {
+    this.name = Objects.requireNonNull(name, "must specify a name");
+    this.function = Objects.requireNonNull(function, "must specify a function");
+  }
+
+  /**
+   * @param name a name describing the derived form, for debugging purposes only
+   * @param function derives the form from a record; it must not return null, and must depend on the
+   *     record only
+   */
+  public static <D> RecordDerivation<D> of(
+      final String name, final Function<Record<?>, D> function) {
+    return new RecordDerivation<>(name, function);
+  }
+
+  /**
+   * Derives the form of the given record, without caching it. Use {@link
+   * Record#getDerived(RecordDerivation)} to reuse a form which was derived before.
+   */
+  public D derive(final Record<?> record) {
+    return function.apply(record);
+  }
+
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return "RecordDerivation{" + "name='" + name + '\'' + '}';
+  }
+}
@@ -21,8 +21,21 @@ public final class RecordValues {
   private final Map<ValueType, UnifiedRecordValue> eventCache;
 
   public RecordValues() {
+    this(false);
+  }
+
+  /**
+   * @param lazyDecoding if true, nested objects and arrays of the read values are only decoded when
+   *     accessed, which is cheaper for readers that skip or only partially access most values
+   */
+  public RecordValues(final boolean lazyDecoding) {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    TypedEventRegistry.EVENT_REGISTRY.forEach(
+        (t, c) -> {
+          final UnifiedRecordValue value = ReflectUtil.newInstance(c);
+          value.setLazyDecoding(lazyDecoding);
+          cache.put(t, value);
+        });
 
     eventCache = Collections.unmodifiableMap(cache);
   }
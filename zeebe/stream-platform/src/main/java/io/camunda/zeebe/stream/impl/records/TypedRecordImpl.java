@@ -10,9 +10,11 @@ package io.camunda.zeebe.stream.impl.records;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.RecordDerivationCache;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordDerivation;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -23,6 +25,7 @@ import java.util.Map;
 
 public final class TypedRecordImpl implements TypedRecord {
   private final int partitionId;
+  private final RecordDerivationCache derivationCache = new RecordDerivationCache();
   private LoggedEvent rawEvent;
   private RecordMetadata metadata;
   private UnifiedRecordValue value;
@@ -36,6 +39,7 @@ public final class TypedRecordImpl implements TypedRecord {
     this.rawEvent = rawEvent;
     this.metadata = metadata;
     this.value = value;
+    derivationCache.clear();
   }
 
   @JsonIgnore
@@ -108,6 +112,16 @@ public final class TypedRecordImpl implements TypedRecord {
     return metadata.getOperationReference();
   }
 
+  /**
+   * Caches the derived forms until another record is wrapped, such that they are derived only once
+   * when the record is exported to several exporters. The cache is only shared by the exporters
+   * this instance is passed to, not across exporters which read the log on their own.
+   */
+  @Override
+  public <D> D getDerived(final RecordDerivation<D> derivation) {
+    return derivationCache.getOrDerive(derivation, this);
+  }
+
   @Override
   public Record copyOf() {
     return CopiedRecords.createCopiedRecord(getPartitionId(), rawEvent);
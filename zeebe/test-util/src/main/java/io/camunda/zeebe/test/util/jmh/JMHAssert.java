@@ -34,6 +34,13 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
     return new JMHAssert(actual);
   }
 
+  /**
+   * @return the primary score of this benchmark, e.g. to use it as reference score for another one
+   */
+  public double score() {
+    return actual.getPrimaryResult().getScore();
+  }
+
   /**
    * Asserts that the result of this benchmark are within one deviation of the reference score.
    *
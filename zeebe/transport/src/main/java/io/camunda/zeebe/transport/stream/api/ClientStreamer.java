@@ -8,6 +8,7 @@
 package io.camunda.zeebe.transport.stream.api;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import org.agrona.DirectBuffer;
@@ -38,6 +39,39 @@ public interface ClientStreamer<M extends BufferWriter> extends CloseableSilentl
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer);
 
+  /**
+   * Registers a client like {@link #add(DirectBuffer, BufferWriter, ClientStreamConsumer)}, but
+   * grants the servers only the given number of credits: a server will not push more than this many
+   * payloads to the client without them being acknowledged. Once the consumer rejects a payload
+   * because it is blocked, servers stop pushing until {@link #resume(ClientStreamId)} is called.
+   *
+   * <p>Implementations which do not support flow control ignore the credits.
+   *
+   * @param streamType type of the stream
+   * @param metadata metadata associated with the stream
+   * @param clientStreamConsumer consumer which process data received from the server
+   * @param credits the maximum number of unacknowledged payloads; 0 for unbounded
+   * @return a unique id of the stream
+   */
+  default ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
+    return add(streamType, metadata, clientStreamConsumer);
+  }
+
+  /**
+   * Notifies the servers that the given stream is ready to receive payloads again, granting its
+   * credits anew if it was previously blocked. Does nothing if the stream was not blocked.
+   *
+   * @param streamId unique id of the stream
+   * @return a future which will be completed after the credits are granted
+   */
+  default ActorFuture<Void> resume(final ClientStreamId streamId) {
+    return CompletableActorFuture.completed(null);
+  }
+
   /**
    * Removes a stream that is added via {@link ClientStreamer#add(DirectBuffer, BufferWriter,
    * ClientStreamConsumer)}. After the returned future is completed, the {@link
@@ -26,6 +26,7 @@ final class AggregatedClientStream<M extends BufferWriter> {
   private final Int2ObjectHashMap<ClientStreamImpl<M>> clientStreams = new Int2ObjectHashMap<>();
 
   private boolean isOpened;
+  private boolean isBlocked;
   private int nextLocalId;
 
   AggregatedClientStream(final UUID streamId, final LogicalId<M> logicalId) {
@@ -101,6 +102,42 @@ final class AggregatedClientStream<M extends BufferWriter> {
     metrics.observeAggregatedClientCount(clientStreams.size());
   }
 
+  /**
+   * Returns the credits granted to the servers for this stream, which is the sum of the credits of
+   * its client streams. If any client stream is unbounded, so is this stream, and 0 is returned.
+   */
+  int credits() {
+    long credits = 0;
+    for (final var clientStream : clientStreams.values()) {
+      if (clientStream.credits() <= 0) {
+        return 0;
+      }
+
+      credits += clientStream.credits();
+    }
+
+    return (int) Math.min(Integer.MAX_VALUE, credits);
+  }
+
+  /**
+   * Marks that a push was rejected because all client streams were blocked. The servers will not
+   * push to this stream anymore until credits are granted again.
+   */
+  void block() {
+    isBlocked = true;
+  }
+
+  /**
+   * Clears the blocked flag, if set.
+   *
+   * @return true if the stream was previously blocked, false otherwise
+   */
+  boolean unblock() {
+    final var wasBlocked = isBlocked;
+    isBlocked = false;
+    return wasBlocked;
+  }
+
   /** returns true if there are no client streams for this stream * */
   boolean isEmpty() {
     return clientStreams.isEmpty();
@@ -136,6 +173,8 @@ final class AggregatedClientStream<M extends BufferWriter> {
         + clientStreams.size()
         + ", isOpened="
         + isOpened
+        + ", isBlocked="
+        + isBlocked
         + ", nextLocalId="
         + nextLocalId
         + '}';
@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -31,6 +32,42 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
     streamConsumers.remove(consumer);
   }
 
+  /**
+   * Returns the sum of the credits available across all consumers. A stream without available
+   * credits should not be pushed to.
+   */
+  long availableCredits() {
+    long available = 0;
+    for (final var consumer : streamConsumers) {
+      available += consumer.credits().available();
+    }
+
+    return available;
+  }
+
+  /**
+   * Returns the sum of the weights of all consumers, see {@link StreamCredits#weight(int)}. A
+   * stream with a weight of 0 should not be pushed to.
+   */
+  long weight(final int unboundedWeight) {
+    long weight = 0;
+    for (final var consumer : streamConsumers) {
+      weight += consumer.credits().weight(unboundedWeight);
+    }
+
+    return weight;
+  }
+
+  /** Returns the largest grant of all consumers, see {@link StreamCredits#granted()}. */
+  int largestGrant() {
+    int largestGrant = 0;
+    for (final var consumer : streamConsumers) {
+      largestGrant = Math.max(largestGrant, consumer.credits().granted());
+    }
+
+    return largestGrant;
+  }
+
   @Override
   public Collection<RemoteStreamId> consumers() {
     return streamConsumers.stream().map(StreamConsumer::id).collect(Collectors.toSet());
@@ -49,11 +86,39 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
   /**
    * A stream consumer uniquely identified by the id, with its properties and streamType.
    *
+   * <p>The credits are the consumer's mutable flow control state, and as such are not part of its
+   * identity.
+   *
    * @param id unique id
    * @param logicalId logical id
+   * @param credits credits granted by the consumer
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId, StreamCredits credits) {
+
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, StreamCredits.unbounded());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final StreamConsumer<?> that = (StreamConsumer<?>) o;
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+  }
 
   /**
    * Uniquely identifies a stream
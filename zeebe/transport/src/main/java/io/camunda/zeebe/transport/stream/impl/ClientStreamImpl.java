@@ -14,15 +14,28 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Set;
 import org.agrona.DirectBuffer;
 
-/** Represents a registered client stream. * */
+/**
+ * Represents a registered client stream. The credits are the maximum number of payloads the client
+ * accepts without acknowledging them, where 0 means unbounded.
+ */
 record ClientStreamImpl<M extends BufferWriter>(
     ClientStreamIdImpl streamId,
     AggregatedClientStream<M> serverStream,
     DirectBuffer streamType,
     M metadata,
-    ClientStreamConsumer clientStreamConsumer)
+    ClientStreamConsumer clientStreamConsumer,
+    int credits)
     implements ClientStream<M> {
 
+  ClientStreamImpl(
+      final ClientStreamIdImpl streamId,
+      final AggregatedClientStream<M> serverStream,
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer) {
+    this(streamId, serverStream, streamType, metadata, clientStreamConsumer, 0);
+  }
+
   @Override
   public Set<MemberId> liveConnections() {
     return serverStream().liveConnections();
@@ -9,10 +9,12 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
@@ -62,23 +64,60 @@ final class ClientStreamManager<M extends BufferWriter> {
       final DirectBuffer streamType,
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer) {
+    return add(streamType, metadata, clientStreamConsumer, 0);
+  }
+
+  ClientStreamId add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
     // add first in memory to handle case of new broker while we're adding
-    final var clientStream = registry.addClient(streamType, metadata, clientStreamConsumer);
+    final var clientStream =
+        registry.addClient(streamType, metadata, clientStreamConsumer, credits);
     LOG.debug("Added new client stream [{}]", clientStream.streamId());
-    clientStream.serverStream().open(requestManager, servers);
+
+    final var serverStream = clientStream.serverStream();
+    if (serverStream.clientStreams().size() > 1) {
+      // the aggregated stream is already registered, so grant it the credits of the new client
+      serverStream.unblock();
+      requestManager.grant(serverStream, servers);
+    }
+    serverStream.open(requestManager, servers);
 
     return clientStream.streamId();
   }
 
   void remove(final ClientStreamId streamId) {
     LOG.debug("Removing client stream [{}]", streamId);
+    final var clientStream = registry.getClient(streamId);
     final var serverStream = registry.removeClient(streamId);
-    serverStream.ifPresent(
+    serverStream.ifPresentOrElse(
         stream -> {
           LOG.debug("Removing aggregated stream [{}]", stream.streamId());
           stream.close();
           requestManager.remove(stream, servers);
-        });
+        },
+        // the aggregated stream is still in use, but its credits shrank with the removed client
+        () -> clientStream.ifPresent(s -> requestManager.grant(s.serverStream(), servers)));
+  }
+
+  /**
+   * Grants the credits of the given client's aggregated stream anew, if the stream was blocked.
+   * Called whenever a client stream is ready to receive payloads again after being blocked.
+   *
+   * @param streamId the id of the client stream which is ready again
+   */
+  void resume(final ClientStreamId streamId) {
+    registry
+        .getClient(streamId)
+        .map(ClientStreamImpl::serverStream)
+        .filter(AggregatedClientStream::unblock)
+        .ifPresent(
+            stream -> {
+              LOG.trace("Resuming blocked aggregated stream [{}]", stream.streamId());
+              requestManager.grant(stream, servers);
+            });
   }
 
   void close() {
@@ -103,6 +142,15 @@ final class ClientStreamManager<M extends BufferWriter> {
     final var clientStream = registry.get(streamId);
     clientStream.ifPresentOrElse(
         stream -> {
+          responseFuture.onComplete(
+              (ok, error) -> {
+                if (isBlocked(error)) {
+                  // the server revokes the stream's credits; remember to grant them again once
+                  // any client is ready
+                  stream.block();
+                }
+              });
+
           try {
             streamPusher.push(stream, payload, responseFuture);
           } catch (final Exception e) {
@@ -121,4 +169,27 @@ final class ClientStreamManager<M extends BufferWriter> {
                       .formatted(streamId)));
         });
   }
+
+  private boolean isBlocked(final Throwable error) {
+    if (error instanceof ClientStreamBlockedException) {
+      return true;
+    }
+
+    if (!(error instanceof StreamExhaustedException)) {
+      return false;
+    }
+
+    final var suppressed = error.getSuppressed();
+    if (suppressed.length == 0) {
+      return false;
+    }
+
+    for (final var cause : suppressed) {
+      if (!(cause instanceof ClientStreamBlockedException)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
 }
@@ -152,6 +152,38 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
     servers.forEach(this::doRemoveAll);
   }
 
+  /**
+   * Grants the stream's current credits anew to all given servers on which it is already
+   * registered, which also unblocks the stream on these servers. Servers on which the stream is
+   * still being registered are skipped, as the add request already carries credits.
+   *
+   * <p>The grant is sent without waiting for an acknowledgement and without retry. As it reuses the
+   * add request, which the servers handle idempotently, a lost grant is corrected by the next one,
+   * or when the stream is registered again after a server restart.
+   *
+   * @param stream the stream to grant credits for
+   * @param servers the servers to send the grant to
+   */
+  void grant(final AggregatedClientStream<M> stream, final Collection<MemberId> servers) {
+    final var request =
+        new AddStreamRequest()
+            .streamId(stream.streamId())
+            .streamType(stream.logicalId().streamType())
+            .metadata(stream.logicalId().metadata())
+            .credits(stream.credits());
+    final var payload = BufferUtil.bufferAsArray(request);
+
+    for (final var serverId : servers) {
+      final var streamsPerHost = registrations.get(serverId);
+      final var registration =
+          streamsPerHost == null ? null : streamsPerHost.get(stream.streamId());
+      if (registration != null && registration.state() == State.ADDED) {
+        communicationService.unicast(
+            StreamTopics.ADD.topic(), payload, Function.identity(), serverId, true);
+      }
+    }
+  }
+
   /**
    * Send remove stream request to servers without waiting for ack and without retry. As this is
    * used to send even when no stream was originally registered, we ignore any existing
@@ -178,7 +210,8 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         new AddStreamRequest()
             .streamId(registration.streamId())
             .streamType(registration.logicalId().streamType())
-            .metadata(registration.logicalId().metadata());
+            .metadata(registration.logicalId().metadata())
+            .credits(registration.credits());
 
     final var pendingRequest = registration.pendingRequest();
     if (pendingRequest != null) {
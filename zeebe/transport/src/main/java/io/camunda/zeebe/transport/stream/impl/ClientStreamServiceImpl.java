@@ -83,6 +83,21 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
     return actor.call(() -> clientStreamManager.add(streamType, metadata, clientStreamConsumer));
   }
 
+  @Override
+  public ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
+    return actor.call(
+        () -> clientStreamManager.add(streamType, metadata, clientStreamConsumer, credits));
+  }
+
+  @Override
+  public ActorFuture<Void> resume(final ClientStreamId streamId) {
+    return actor.call(() -> clientStreamManager.resume(streamId));
+  }
+
   @Override
   public ActorFuture<Void> remove(final ClientStreamId streamId) {
     return actor.call(() -> clientStreamManager.remove(streamId));
@@ -82,7 +82,19 @@ public final class RemoteStreamApiHandler<M> implements CloseableSilently {
       return failedResponse(sender, errorMessage);
     }
 
-    registry.add(new UnsafeBuffer(request.streamType()), request.streamId(), sender, properties);
+    if (request.credits() < 0) {
+      final String errorMessage =
+          "Expected stream credits to be greater than or equal to 0, but it was %d"
+              .formatted(request.credits());
+      return failedResponse(sender, errorMessage);
+    }
+
+    registry.add(
+        new UnsafeBuffer(request.streamType()),
+        request.streamId(),
+        sender,
+        properties,
+        request.credits());
     LOG.debug("Opened stream {} from {}", request.streamId(), sender);
     return addResponseOK;
   }
@@ -46,35 +46,52 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     if (initialConsumer == null) {
       errorHandler.handleError(
           new StreamExhaustedException(
-              "Failed to push to stream %s, all consumers were removed since it was picked"
+              "Failed to push to stream %s, all consumers were removed or ran out of credits since it was picked"
                   .formatted(stream.logicalId())),
           payload);
       return;
     }
 
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    streamer.pushAsync(payload, retryHandler, initialConsumer.id(), initialConsumer.credits());
   }
 
+  /**
+   * Picks a random consumer, weighted by its available credits (see {@link
+   * StreamCredits#weight(int)}), and acquires one of its credits. Consumers without credits are
+   * never picked. Since credits are consumed concurrently, we retry as long as there is any
+   * consumer with available credits.
+   */
   private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+    // copy to avoid concurrent modifications of the stream consumers list while picking
+    final var consumers = new ArrayList<>(stream.streamConsumers());
+    final var weights = new long[consumers.size()];
+    final var unboundedWeight = StreamCredits.unboundedWeight(stream.largestGrant());
+
+    while (true) {
+      long totalWeight = 0;
+      for (int i = 0; i < consumers.size(); i++) {
+        totalWeight += consumers.get(i).credits().weight(unboundedWeight);
+        weights[i] = totalWeight;
+      }
+
+      if (totalWeight <= 0) {
+        return null;
       }
-    }
 
-    return null;
+      final var target = ThreadLocalRandom.current().nextLong(totalWeight);
+      for (int i = 0; i < consumers.size(); i++) {
+        if (target < weights[i]) {
+          final var consumer = consumers.get(i);
+          if (consumer.credits().tryAcquire()) {
+            return consumer;
+          }
+
+          LOGGER.trace("Stream consumer ran out of credits while picking consumer; retrying");
+          break;
+        }
+      }
+    }
   }
 
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
@@ -111,9 +128,16 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       }
 
       final var client = iterator.next();
+      if (!client.credits().tryAcquire()) {
+        LOGGER.trace("Skipping stream {} on retry, as it has no credits left", client.id());
+        retry(throwable, payload, iterator);
+        return;
+      }
+
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      streamer.pushAsync(
+          payload, (error, data) -> retry(error, data, iterator), client.id(), client.credits());
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
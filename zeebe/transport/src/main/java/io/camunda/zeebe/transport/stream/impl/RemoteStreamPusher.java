@@ -12,6 +12,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
@@ -51,19 +52,42 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    pushAsync(payload, errorHandler, streamId, StreamCredits.unbounded());
+  }
+
+  /**
+   * Pushes the payload to the given stream, consuming one of the given credits, which the caller
+   * must have acquired beforehand. The credit is released once the receiver acknowledged the push,
+   * i.e. handed the payload to one of its consumers, or the push failed. If the receiver reports
+   * that all of its consumers are blocked, the credits are revoked until the receiver grants them
+   * again.
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamCredits credits) {
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
       executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+          () ->
+              push(
+                  payload,
+                  instrumentingErrorHandler(errorHandler, streamId, credits),
+                  streamId,
+                  credits));
     } catch (final Exception e) {
+      credits.release();
       errorHandler.handleError(e, payload);
     }
   }
 
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
-      final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamCredits credits) {
     return (error, payload) -> {
       if (error == null) {
         return;
@@ -72,6 +96,11 @@ final class RemoteStreamPusher<P extends BufferWriter> {
       if (error instanceof final StreamResponseException e) {
         logResponseError(streamId, payload, e);
         e.details().forEach(d -> metrics.pushTryFailed(d.code()));
+
+        if (isBlocked(e)) {
+          LOG.trace("Stream {} is blocked, revoking its credits until granted again", streamId);
+          credits.block();
+        }
       } else {
         pushWarnLogger.warn(
             "Failed to push (size = {}) to stream {}", payload.getLength(), streamId, error);
@@ -103,16 +132,35 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     }
   }
 
+  /**
+   * Returns true if the receiver rejected the push because its consumers are blocked, either
+   * directly or because every consumer it tried was blocked.
+   */
+  private boolean isBlocked(final StreamResponseException e) {
+    return switch (e.code()) {
+      case BLOCKED -> true;
+      case EXHAUSTED ->
+          !e.details().isEmpty()
+              && e.details().stream().allMatch(d -> d.code() == ErrorCode.BLOCKED);
+      default -> false;
+    };
+  }
+
   private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamCredits credits) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, credits, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
+      credits.release();
       errorHandler.handleError(e, payload);
     }
   }
@@ -120,8 +168,14 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamCredits credits,
       final byte[] responseBuffer,
       final Throwable error) {
+    // the payload is not in flight to the receiver anymore; whether the receiver's consumer is done
+    // with it is not tracked, the receiver blocks the stream instead if its consumers cannot keep
+    // up
+    credits.release();
+
     if (error != null) {
       errorHandler.handleError(error, payload);
       return;
@@ -63,9 +63,32 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
       final UUID streamId,
       final MemberId receiver,
       final M properties) {
+    add(streamType, streamId, receiver, properties, 0);
+  }
+
+  /**
+   * Adds a stream receiver that can receive data from the stream with the given streamType, with
+   * the given credits. If the stream already exists, its credits are replaced by the given ones,
+   * which also unblocks it.
+   *
+   * @param streamType type of the stream
+   * @param streamId id of the stream. The pair (receiver, streamId) must uniquely identify the
+   *     stream.
+   * @param receiver The id of the node that receives data from the stream
+   * @param properties properties used by the producer to generate data to be pushed to the stream
+   * @param credits the maximum number of unacknowledged payloads the stream accepts; 0 if unbounded
+   */
+  public void add(
+      final UnsafeBuffer streamType,
+      final UUID streamId,
+      final MemberId receiver,
+      final M properties,
+      final int credits) {
 
     final StreamId uniqueId = new StreamId(streamId, receiver);
-    if (idToConsumer.containsKey(uniqueId)) {
+    final var existing = idToConsumer.get(uniqueId);
+    if (existing != null) {
+      existing.credits().grant(credits);
       return;
     }
 
@@ -83,7 +106,8 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
           return aggregatedStream;
         });
 
-    final var streamConsumer = new StreamConsumer<>(uniqueId, logicalId);
+    final var streamConsumer =
+        new StreamConsumer<>(uniqueId, logicalId, new StreamCredits(credits));
     logicalIdToConsumers.get(logicalId).addConsumer(streamConsumer);
 
     idToConsumer.put(uniqueId, streamConsumer);
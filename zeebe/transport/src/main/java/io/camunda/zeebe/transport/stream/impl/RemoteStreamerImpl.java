@@ -20,11 +20,11 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -75,18 +75,46 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
         .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
   }
 
+  /**
+   * Picks a random stream, weighted by the credits available across its consumers, see {@link
+   * AggregatedRemoteStream#weight(int)}. Streams without any credits are never picked, such that
+   * payloads are not produced for consumers which cannot accept them and would only reject them.
+   * Unbounded consumers weigh as much as the largest grant of all consumers, see {@link
+   * StreamCredits#unboundedWeight(int)}.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
       final Set<AggregatedRemoteStream<M>> consumers) {
-    final var targets = new ArrayList<>(consumers);
-    Collections.shuffle(targets);
+    final var targets = new ArrayList<AggregatedRemoteStream<M>>(consumers.size());
+    final var weights = new long[consumers.size()];
+    long totalWeight = 0;
 
-    for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+    int largestGrant = 0;
+    for (final var target : consumers) {
+      largestGrant = Math.max(largestGrant, target.largestGrant());
+    }
+
+    final var unboundedWeight = StreamCredits.unboundedWeight(largestGrant);
+    for (final var target : consumers) {
+      final var weight = target.weight(unboundedWeight);
+      if (weight > 0) {
+        totalWeight += weight;
+        weights[targets.size()] = totalWeight;
+        targets.add(target);
+      }
+    }
+
+    if (targets.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var pick = ThreadLocalRandom.current().nextLong(totalWeight);
+    for (int i = 0; i < targets.size(); i++) {
+      if (pick < weights[i]) {
+        return Optional.of(targets.get(i));
       }
     }
 
-    return Optional.empty();
+    return Optional.of(targets.getLast());
   }
 
   private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the credits a client granted to one of its remote streams. Each push consumes a credit,
+ * which is returned once the push is acknowledged, successfully or not. A stream without credits
+ * left must not be pushed to, as its client would most likely reject the payload anyway.
+ *
+ * <p>The client acknowledges a push once it handed the payload to one of its consumers, e.g. the
+ * gateway once it wrote a job to a worker's stream. The credits thus bound the payloads in flight
+ * to the client, not the payloads its consumers are still processing.
+ *
+ * <p>A client may also report that all its consumers are blocked, in which case the stream has no
+ * credits left until the client grants them again.
+ *
+ * <p>This class is thread-safe, as credits are acquired by the producers of a stream, and released
+ * by the streamer's actor.
+ */
+final class StreamCredits {
+  private static final int UNBOUNDED = 0;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+  private volatile boolean blocked;
+
+  StreamCredits(final int limit) {
+    this.limit = Math.max(UNBOUNDED, limit);
+  }
+
+  static StreamCredits unbounded() {
+    return new StreamCredits(UNBOUNDED);
+  }
+
+  /**
+   * Returns the number of payloads which can still be pushed to the stream, or {@link
+   * Integer#MAX_VALUE} if the stream is unbounded.
+   */
+  int available() {
+    if (blocked) {
+      return 0;
+    }
+
+    final int currentLimit = limit;
+    if (currentLimit == UNBOUNDED) {
+      return Integer.MAX_VALUE;
+    }
+
+    return Math.max(0, currentLimit - inFlight.get());
+  }
+
+  /**
+   * Returns the weight of the stream when picking a random stream to push to, which is its number
+   * of available credits. Unbounded streams all have the given weight instead, such that they do
+   * not crowd out the bounded streams; streams without credits have a weight of 0.
+   *
+   * @param unboundedWeight the weight of an unbounded stream, see {@link #unboundedWeight(int)}
+   */
+  int weight(final int unboundedWeight) {
+    if (blocked) {
+      return 0;
+    }
+
+    return limit == UNBOUNDED ? unboundedWeight : available();
+  }
+
+  /** Returns the credits granted to the stream, or 0 if it is unbounded. */
+  int granted() {
+    return limit;
+  }
+
+  /**
+   * Returns the weight of unbounded streams when picking among streams with the given largest
+   * grant, see {@link #granted()}. An unbounded stream accepts as many payloads as the most
+   * generous bounded stream with all its credits available. If no stream is bounded, all unbounded
+   * streams weigh the same, and are picked uniformly.
+   *
+   * @param largestGrant the largest grant among the streams to pick from
+   */
+  static int unboundedWeight(final int largestGrant) {
+    return Math.max(1, largestGrant);
+  }
+
+  /**
+   * Consumes a credit, if any is available.
+   *
+   * @return true if a credit was consumed, false otherwise
+   */
+  boolean tryAcquire() {
+    while (true) {
+      if (blocked) {
+        return false;
+      }
+
+      final int currentLimit = limit;
+      final int current = inFlight.get();
+      if (currentLimit != UNBOUNDED && current >= currentLimit) {
+        return false;
+      }
+
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /** Returns a credit previously consumed via {@link #tryAcquire()}. */
+  void release() {
+    inFlight.updateAndGet(current -> Math.max(0, current - 1));
+  }
+
+  /** Revokes all credits until they are granted again via {@link #grant(int)}. */
+  void block() {
+    blocked = true;
+  }
+
+  /**
+   * Grants the given credits to the stream, replacing any previous grant, and unblocks it.
+   *
+   * @param limit the new maximum number of unacknowledged payloads; 0 for unbounded
+   */
+  void grant(final int limit) {
+    this.limit = Math.max(UNBOUNDED, limit);
+    blocked = false;
+  }
+
+  boolean isBlocked() {
+    return blocked;
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{"
+        + "limit="
+        + limit
+        + ", inFlight="
+        + inFlight
+        + ", blocked="
+        + blocked
+        + '}';
+  }
+}
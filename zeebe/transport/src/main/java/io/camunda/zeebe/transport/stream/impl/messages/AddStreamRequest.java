@@ -27,6 +27,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   private final DirectBuffer streamType = new UnsafeBuffer();
 
   private UUID streamId;
+  private int credits;
   private final DirectBuffer metadataReader = new UnsafeBuffer();
   private BufferWriter metadataWriter = new DirectBufferWriter().wrap(metadataReader);
 
@@ -37,6 +38,10 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     messageDecoder.wrapMetadata(metadataReader);
     metadataWriter = new DirectBufferWriter().wrap(metadataReader);
     streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    // older clients do not grant credits, which is equivalent to granting unbounded credits
+    final int decodedCredits = messageDecoder.credits();
+    credits = decodedCredits == AddStreamRequestDecoder.creditsNullValue() ? 0 : decodedCredits;
   }
 
   @Override
@@ -53,6 +58,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   public void write(final MutableDirectBuffer buffer, final int offset) {
     messageEncoder
         .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .credits(credits)
         .putStreamType(streamType, 0, streamType.capacity());
 
     SbeUtil.writeNested(
@@ -103,9 +109,22 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     return this;
   }
 
+  /**
+   * Returns the maximum number of payloads the server may push to the stream without having them
+   * acknowledged. A value of 0 means the stream is unbounded.
+   */
+  public int credits() {
+    return credits;
+  }
+
+  public AddStreamRequest credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(streamType, metadataReader, streamId);
+    return Objects.hash(streamType, metadataReader, streamId, credits);
   }
 
   @Override
@@ -121,7 +140,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     final AddStreamRequest that = (AddStreamRequest) o;
     return streamType.equals(that.streamType)
         && metadataReader.equals(that.metadataReader)
-        && Objects.equals(streamId, that.streamId);
+        && Objects.equals(streamId, that.streamId)
+        && credits == that.credits;
   }
 
   @Override
@@ -133,6 +153,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
         + metadataReader
         + ", streamId="
         + streamId
+        + ", credits="
+        + credits
         + '}';
   }
 }
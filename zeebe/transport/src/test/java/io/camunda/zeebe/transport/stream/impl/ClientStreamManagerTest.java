@@ -9,8 +9,11 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
@@ -18,9 +21,11 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.AddStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
@@ -38,6 +43,7 @@ import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class ClientStreamManagerTest {
 
@@ -324,6 +330,52 @@ class ClientStreamManagerTest {
     assertThat(metrics.getServerCount()).isZero();
   }
 
+  @Test
+  void shouldGrantCreditsOnResumeAfterBlockedPush() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var clientStreamId =
+        clientStreamManager.add(
+            streamType,
+            metadata,
+            p ->
+                CompletableActorFuture.completedExceptionally(new ClientStreamBlockedException("")),
+            4);
+    final var request =
+        new PushStreamRequest()
+            .streamId(getServerStreamId(clientStreamId))
+            .payload(BufferUtil.wrapString("data"));
+    clientStreamManager.onPayloadReceived(request, new TestActorFuture<>());
+
+    // when
+    clientStreamManager.resume(clientStreamId);
+
+    // then
+    final ArgumentCaptor<byte[]> grant = ArgumentCaptor.forClass(byte[].class);
+    verify(mockTransport)
+        .unicast(eq(StreamTopics.ADD.topic()), grant.capture(), any(), eq(server), anyBoolean());
+    final var grantRequest = new AddStreamRequest();
+    grantRequest.wrap(new UnsafeBuffer(grant.getValue()), 0, grant.getValue().length);
+    assertThat(grantRequest.streamId()).isEqualTo(getServerStreamId(clientStreamId));
+    assertThat(grantRequest.credits()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotGrantCreditsOnResumeIfNotBlocked() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var clientStreamId = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER, 4);
+
+    // when
+    clientStreamManager.resume(clientStreamId);
+
+    // then
+    verify(mockTransport, never())
+        .unicast(eq(StreamTopics.ADD.topic()), any(), any(), any(), anyBoolean());
+  }
+
   private UUID getServerStreamId(final ClientStreamId clientStreamId) {
     return registry.getClient(clientStreamId).orElseThrow().serverStream().streamId();
   }
@@ -98,6 +98,76 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldNotPushToConsumersWithoutCredits() {
+    // given
+    final var blocked = aggregatedStream.streamConsumers().get(0);
+    final var exhausted = aggregatedStream.streamConsumers().get(1);
+    final var available = aggregatedStream.streamConsumers().get(2);
+    blocked.credits().block();
+    exhausted.credits().grant(1);
+    exhausted.credits().tryAcquire();
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(available.id().streamId());
+  }
+
+  @Test
+  void shouldFailIfNoConsumerHasCredits() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    aggregatedStream.streamConsumers().forEach(c -> c.credits().block());
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+  }
+
+  @Test
+  void shouldReleaseCreditsAfterPush() {
+    // given
+    aggregatedStream.streamConsumers().forEach(c -> c.credits().grant(1));
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(aggregatedStream.availableCredits()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWeighUnboundedConsumersAsMuchAsLargestGrant() {
+    // given - the first consumer stays unbounded, and weighs as much as the largest grant
+    final var consumers = aggregatedStream.streamConsumers();
+    consumers.get(1).credits().grant(4);
+    consumers.get(2).credits().grant(8);
+    transport.succeedAfterAttempts(0);
+
+    // when
+    for (int i = 0; i < 3_000; i++) {
+      remoteStream.push(payload);
+    }
+
+    // then - consumers are picked by weight 8:4:8, i.e. 1200:600:1200 times on average
+    assertThat(transport.attemptedStreams)
+        .filteredOn(consumers.get(0).id().streamId()::equals)
+        .hasSizeGreaterThan(1000);
+    assertThat(transport.attemptedStreams)
+        .filteredOn(consumers.get(1).id().streamId()::equals)
+        .hasSizeBetween(400, 800);
+    assertThat(transport.attemptedStreams)
+        .filteredOn(consumers.get(2).id().streamId()::equals)
+        .hasSizeGreaterThan(1000);
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
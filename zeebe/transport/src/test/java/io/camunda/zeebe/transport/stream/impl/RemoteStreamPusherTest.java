@@ -149,6 +149,69 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldReleaseCreditOnAcknowledgement() {
+    // given
+    final var payload = new Payload(1);
+    final var credits = new StreamCredits(1);
+    final var response = new CompletableFuture<byte[]>();
+    transport.response = response;
+    credits.tryAcquire();
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId, credits);
+    final var availableInFlight = credits.available();
+    response.complete(BufferUtil.bufferAsArray(new PushStreamResponse()));
+
+    // then
+    assertThat(availableInFlight).isZero();
+    assertThat(credits.available()).isOne();
+  }
+
+  @Test
+  void shouldRevokeCreditsIfAllConsumersAreBlocked() {
+    // given
+    final var payload = new Payload(1);
+    final var credits = new StreamCredits(2);
+    final var errorResponse =
+        new ErrorResponse()
+            .code(ErrorCode.EXHAUSTED)
+            .message("foo")
+            .addDetail(ErrorCode.BLOCKED, "bar")
+            .addDetail(ErrorCode.BLOCKED, "baz");
+    transport.response = CompletableFuture.failedFuture(new StreamResponseException(errorResponse));
+    credits.tryAcquire();
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId, credits);
+
+    // then
+    assertThat(credits.isBlocked()).isTrue();
+    assertThat(credits.available()).isZero();
+  }
+
+  @Test
+  void shouldNotRevokeCreditsIfNotAllConsumersAreBlocked() {
+    // given
+    final var payload = new Payload(1);
+    final var credits = new StreamCredits(2);
+    final var errorResponse =
+        new ErrorResponse()
+            .code(ErrorCode.EXHAUSTED)
+            .message("foo")
+            .addDetail(ErrorCode.BLOCKED, "bar")
+            .addDetail(ErrorCode.INTERNAL, "baz");
+    transport.response = CompletableFuture.failedFuture(new StreamResponseException(errorResponse));
+    credits.tryAcquire();
+
+    // when
+    pusher.pushAsync(payload, new TestErrorHandler(), streamId, credits);
+
+    // then
+    assertThat(credits.isBlocked()).isFalse();
+    assertThat(credits.available()).isEqualTo(2);
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
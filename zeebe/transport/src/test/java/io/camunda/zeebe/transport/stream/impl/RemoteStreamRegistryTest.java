@@ -50,6 +50,24 @@ final class RemoteStreamRegistryTest {
         .containsExactly(new StreamConsumer<>(new StreamId(id2, gateway), streamBar.logicalId()));
   }
 
+  @Test
+  void shouldGrantCreditsToExistingStream() {
+    // given
+    final UUID id = UUID.randomUUID();
+    streamRegistry.add(typeFoo, id, gateway, 1, 2);
+    final var consumer =
+        streamRegistry.get(typeFoo).stream().findFirst().orElseThrow().streamConsumers().getFirst();
+    consumer.credits().block();
+
+    // when
+    streamRegistry.add(typeFoo, id, gateway, 1, 5);
+
+    // then
+    assertThat(streamRegistry.get(typeFoo)).hasSize(1);
+    assertThat(consumer.credits().isBlocked()).isFalse();
+    assertThat(consumer.credits().available()).isEqualTo(5);
+  }
+
   @Test
   void shouldTrackAddedStreams() {
     // given
@@ -44,6 +44,26 @@ final class SerializationTest {
     assertThat(deserialized.metadata()).isEqualTo(BufferUtil.wrapString("bar"));
   }
 
+  @Test
+  void shouldSerializeAddStreamRequestCredits() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"))
+            .credits(32);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(32);
+    assertThat(deserialized).isEqualTo(request);
+  }
+
   @Test
   void shouldSerializeAddStreamRequestWithMetadataWriter() {
     // given